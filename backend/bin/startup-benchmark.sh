@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+#
+# Measures wall-clock time from JVM launch to /health/readiness reporting UP for each startup mode.
+# Build the artifacts first with: ./gradlew cdsArchive
+#
+# Usage: bin/startup-benchmark.sh [runs-per-mode]
+
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-4000}
+CDS_DIR="$(cd "$(dirname "$0")/.." && pwd)/build/cds"
+JAR="${CDS_DIR}/test-backend.jar"
+READINESS_URL="http://localhost:${PORT}/health/readiness"
+
+if [ ! -f "${JAR}" ]; then
+  echo "Missing ${JAR}; run ./gradlew cdsArchive first" >&2
+  exit 1
+fi
+
+declare -A MODES=(
+  [default]=""
+  [lazy]="-Dspring.profiles.active=lazy"
+  [aot]="-Dspring.aot.enabled=true"
+  [cds]="-XX:SharedArchiveFile=${CDS_DIR}/test-backend-plain.jsa"
+  [aot+cds]="-Dspring.aot.enabled=true -XX:SharedArchiveFile=${CDS_DIR}/test-backend-aot.jsa"
+  [aot+cds+lazy]="-Dspring.aot.enabled=true -XX:SharedArchiveFile=${CDS_DIR}/test-backend-aot.jsa -Dspring.profiles.active=lazy"
+)
+
+now_ms() {
+  date +%s%3N
+}
+
+measure() {
+  local flags=$1
+  local start
+  start=$(now_ms)
+  # shellcheck disable=SC2086
+  (cd "${CDS_DIR}" && exec java ${flags} -Dserver.port="${PORT}" -jar "${JAR}" > /dev/null 2>&1) &
+  local pid=$!
+
+  until curl -sf "${READINESS_URL}" 2>/dev/null | grep -q '"status":"UP"'; do
+    if ! kill -0 "${pid}" 2>/dev/null; then
+      echo "failed"
+      return
+    fi
+    sleep 0.02
+  done
+  echo $(($(now_ms) - start))
+
+  kill "${pid}"
+  wait "${pid}" 2>/dev/null || true
+}
+
+printf "%-14s %s\n" "mode" "ms to readiness UP (${RUNS} runs)"
+for mode in default lazy aot cds aot+cds aot+cds+lazy; do
+  results=()
+  for _ in $(seq "${RUNS}"); do
+    results+=("$(measure "${MODES[${mode}]}")")
+  done
+  printf "%-14s %s\n" "${mode}" "${results[*]}"
+done
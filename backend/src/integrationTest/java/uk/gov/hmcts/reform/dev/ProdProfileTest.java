@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.dev;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.ArchivedTask;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.BankHolidayService;
+import uk.gov.hmcts.reform.dev.service.TaskArchiver;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "tasks.warm-up.enabled=false")
+@ActiveProfiles("prod")
+@DisplayName("File-backed prod profile")
+class ProdProfileTest {
+
+    @TempDir
+    static Path dataDirectory;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BankHolidayService bankHolidayService;
+
+    @Autowired
+    private TaskArchiver taskArchiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void dataDirectory(DynamicPropertyRegistry registry) {
+        registry.add("tasks.data-directory", dataDirectory::toString);
+    }
+
+    @Test
+    @DisplayName("Should build the schema from the migrations")
+    void shouldApplyMigrations() {
+        // Then
+        assertEquals(6, jdbcTemplate.queryForObject(
+            "select count(*) from \"flyway_schema_history\" where \"success\"", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+            "select count(*) from information_schema.indexes where index_name = 'IDX_TASKS_DUE_DATE_ID'",
+            Integer.class));
+        assertTrue(Files.exists(dataDirectory.resolve("taskdb.mv.db")));
+    }
+
+    @Test
+    @DisplayName("Should store and read back tasks in the file database")
+    void shouldStoreTasks() {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Durable task")
+            .status(TaskStatus.PENDING)
+            .labels(Set.of("durable"))
+            .dueDate(bankHolidayService.nextWorkingDay(LocalDate.now().plusDays(7)).atTime(12, 0))
+            .build();
+
+        // When
+        TaskResponse created = taskService.createTask(request);
+
+        // Then
+        TaskResponse loaded = taskService.getTaskById(created.getId());
+        assertEquals("Durable task", loaded.getTitle());
+        assertEquals(List.of("durable"), loaded.getLabels());
+    }
+
+    @Test
+    @DisplayName("Should archive a task carrying the longest label list")
+    void shouldArchiveMaximumLabelSet() {
+        // Given
+        Set<String> labels = IntStream.range(0, Task.MAX_LABELS)
+            .mapToObj(i -> String.format("label-%02d-", i))
+            .map(prefix -> prefix + "x".repeat(Task.MAX_LABEL_LENGTH - prefix.length()))
+            .collect(Collectors.toSet());
+        TaskResponse created = taskService.createTask(CreateTaskRequest.builder()
+            .title("Heavily labelled task")
+            .status(TaskStatus.PENDING)
+            .labels(labels)
+            .dueDate(bankHolidayService.nextWorkingDay(LocalDate.now().plusDays(7)).atTime(12, 0))
+            .build());
+        jdbcTemplate.update("update tasks set status = 'COMPLETED', updated_at = ? where id = ?",
+            LocalDateTime.now().minusYears(1), created.getId());
+
+        // When
+        taskArchiver.archiveClosedTasks();
+
+        // Then
+        String archived = jdbcTemplate.queryForObject(
+            "select labels from tasks_archive where id = ?", String.class, created.getId());
+        assertEquals(ArchivedTask.LABELS_LENGTH, archived.length());
+        assertEquals(labels.size(), taskService.getTaskById(created.getId()).getLabels().size());
+    }
+}
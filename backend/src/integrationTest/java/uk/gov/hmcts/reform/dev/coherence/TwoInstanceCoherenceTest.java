@@ -0,0 +1,89 @@
+package uk.gov.hmcts.reform.dev.coherence;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.BankHolidayService;
+import uk.gov.hmcts.reform.dev.service.LabelIndex;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Cache coherence between two instances sharing a database")
+class TwoInstanceCoherenceTest {
+
+    @TempDir
+    static Path dataDirectory;
+
+    private static ConfigurableApplicationContext first;
+    private static ConfigurableApplicationContext second;
+
+    @BeforeAll
+    static void startInstances() {
+        first = start();
+        second = start();
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        second.close();
+        first.close();
+    }
+
+    @Test
+    @DisplayName("Should bring the other instance's label index up to date after a create")
+    void shouldPropagateTaskChanges() {
+        // Given
+        LabelIndex otherIndex = second.getBean(LabelIndex.class);
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Created on the first instance")
+            .status(TaskStatus.PENDING)
+            .labels(Set.of("coherent"))
+            .dueDate(first.getBean(BankHolidayService.class).nextWorkingDay(LocalDate.now().plusDays(7)).atTime(9, 0))
+            .build();
+
+        // When
+        first.getBean(TaskService.class).createTask(request);
+
+        // Then
+        assertEquals(1, first.getBean(LabelIndex.class).labelCounts().get("coherent"));
+        await().atMost(Duration.ofSeconds(10))
+            .untilAsserted(() -> assertEquals(1, otherIndex.labelCounts().get("coherent")));
+    }
+
+    @Test
+    @DisplayName("Should stay within the staleness bound while polling")
+    void shouldReportStaleness() {
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertTrue(
+            second.getBean(CacheCoherenceService.class).staleness().compareTo(Duration.ofSeconds(1)) < 0));
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .profiles("prod")
+            .properties(
+                "tasks.warm-up.enabled=false",
+                "tasks.data-directory=" + dataDirectory,
+                "tasks.coherence.poll-interval=100ms",
+                "tasks.coherence.index-rebuild-interval=200ms",
+                "spring.datasource.hikari.minimum-idle=2")
+            .run();
+    }
+}
@@ -0,0 +1,101 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.dev.datasource.StatementScope;
+import uk.gov.hmcts.reform.dev.datasource.StatementScope.StatementType;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.DueDateIndex;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.dev.datasource.StatementAssertions.assertStatementCount;
+
+@SpringBootTest(properties = "tasks.warm-up.enabled=false")
+@AutoConfigureMockMvc
+@DisplayName("Task endpoint statement counts")
+class TaskEndpointStatementCountTest {
+
+    private static final int TASKS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DueDateIndex dueDateIndex;
+
+    private Long firstId;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        LocalDateTime due = LocalDateTime.now().plusDays(7);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.builder()
+                .title("Counted task " + i)
+                .status(TaskStatus.PENDING)
+                .labels(Set.of("count", "seq-" + i))
+                .dueDate(due.plusMinutes(i))
+                .build());
+        }
+        firstId = taskRepository.saveAll(tasks).getFirst().getId();
+        // The repository writes above publish no task changes, so index them directly
+        dueDateIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should get a task with one statement for the task and one for its labels")
+    void shouldGetTaskInTwoStatements() throws Exception {
+        // When & Then
+        StatementScope scope = assertStatementCount(2, () -> mockMvc.perform(get("/api/tasks/" + firstId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.labels.length()").value(2)));
+        assertEquals(2, scope.statements(StatementType.SELECT));
+    }
+
+    @Test
+    @DisplayName("Should look in the archive for a task that is not live")
+    void shouldCheckArchiveForMissingTask() throws Exception {
+        // When & Then
+        assertStatementCount(2, () -> mockMvc.perform(get("/api/tasks/" + (firstId + 10_000)))
+            .andExpect(status().isNotFound()));
+    }
+
+    @Test
+    @DisplayName("Should list a page of tasks in two statements whatever the page size")
+    void shouldListTasksWithoutNPlusOne() throws Exception {
+        // When & Then
+        assertStatementCount(2, () -> mockMvc.perform(get("/api/tasks").param("size", "5"))
+            .andExpect(jsonPath("$.length()").value(5)));
+        assertStatementCount(2, () -> mockMvc.perform(get("/api/tasks").param("size", "30"))
+            .andExpect(jsonPath("$.length()").value(TASKS)));
+    }
+
+    @Test
+    @DisplayName("Should answer a due-date range from memory and load only the page in one statement")
+    void shouldListDueTasksInOneStatement() throws Exception {
+        // When & Then
+        assertStatementCount(1, () -> mockMvc.perform(get("/api/tasks/due").param("size", "5"))
+            .andExpect(jsonPath("$.total").value(TASKS))
+            .andExpect(jsonPath("$.tasks.length()").value(5))
+            .andExpect(jsonPath("$.tasks[0].labels.length()").value(2)));
+    }
+}
@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Asserts how many JDBC statements a block of code runs on the calling thread.
+ * With MockMvc the whole request runs on the test thread, so wrapping {@code mockMvc.perform(...)} counts every
+ * statement the endpoint runs, including lazy loads while the response is written.
+ */
+public final class StatementAssertions {
+
+    private StatementAssertions() {
+    }
+
+    /**
+     * Runs the action and asserts it ran exactly the expected number of statements.
+     *
+     * @param expected the expected statement count
+     * @param action the code to measure
+     * @return the closed scope, for further assertions on statement kinds or repeats
+     * @throws Exception if the action throws
+     */
+    public static StatementScope assertStatementCount(int expected, Action action) throws Exception {
+        try (StatementScope scope = StatementScope.open()) {
+            action.run();
+            assertEquals(expected, scope.statements(), () -> "Unexpected statement count, repeated statements: "
+                + scope.repeatedStatements(2));
+            return scope;
+        }
+    }
+
+    /**
+     * Code whose statements are counted.
+     */
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.dev.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.BankHolidayService;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "tasks.warm-up.enabled=false")
+@ActiveProfiles("journal")
+@DisplayName("Journal task store profile")
+class JournalProfileTest {
+
+    @TempDir
+    static Path journalDirectory;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskJournal taskJournal;
+
+    @Autowired
+    private BankHolidayService bankHolidayService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void journalProperties(DynamicPropertyRegistry registry) {
+        registry.add("tasks.journal.directory", journalDirectory::toString);
+    }
+
+    @Test
+    @DisplayName("Should store tasks in the journal rather than the database")
+    void shouldStoreTasksInJournal() {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Journal task")
+            .status(TaskStatus.PENDING)
+            .labels(Set.of("edge"))
+            .dueDate(bankHolidayService.nextWorkingDay(LocalDate.now().plusDays(7)).atTime(12, 0))
+            .build();
+
+        // When
+        TaskResponse created = taskService.createTask(request);
+
+        // Then
+        assertInstanceOf(JournalTaskRepository.class, taskRepository);
+        assertTrue(taskJournal.contains(created.getId()));
+        assertEquals("Journal task", taskService.getTaskById(created.getId()).getTitle());
+        assertTrue(taskService.listTasks(TaskStatus.PENDING, 0, 100).stream()
+            .anyMatch(task -> task.getId().equals(created.getId())));
+        assertEquals(List.of(0), jdbcTemplate.queryForList("select count(*) from tasks", Integer.class));
+    }
+}
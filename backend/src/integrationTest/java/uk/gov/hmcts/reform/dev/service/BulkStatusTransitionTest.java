@@ -0,0 +1,151 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusTransitionRequest;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusTransitionResponse;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {"tasks.warm-up.enabled=false", "tasks.bulk-transition.chunk-size=3"})
+@RecordApplicationEvents
+@DisplayName("Bulk status transition")
+class BulkStatusTransitionTest {
+
+    @Autowired
+    private BulkStatusTransitionService bulkStatusTransitionService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should move every matching task across several chunks and bump version and update time")
+    void shouldMoveMatchingTasksAcrossChunks() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.now().plusDays(10);
+        for (int i = 0; i < 7; i++) {
+            taskRepository.save(newTask("Due soon " + i, TaskStatus.PENDING, cutoff.minusDays(1)));
+        }
+        Task dueLater = taskRepository.save(newTask("Due later", TaskStatus.PENDING, cutoff.plusDays(1)));
+        Task inProgress = taskRepository.save(newTask("In progress", TaskStatus.IN_PROGRESS, cutoff.minusDays(1)));
+        LocalDateTime before = LocalDateTime.now();
+
+        // When
+        BulkStatusTransitionResponse response = bulkStatusTransitionService.transition(
+            BulkStatusTransitionRequest.builder()
+                .fromStatuses(Set.of(TaskStatus.PENDING))
+                .toStatus(TaskStatus.CANCELLED)
+                .dueBefore(cutoff)
+                .build()
+        );
+
+        // Then
+        assertEquals(7, response.getUpdated());
+        for (Task task : taskRepository.findAll()) {
+            if (task.getId().equals(dueLater.getId()) || task.getId().equals(inProgress.getId())) {
+                assertEquals(0L, task.getVersion(), task.getTitle() + " should not have been touched");
+            } else {
+                assertEquals(TaskStatus.CANCELLED, task.getStatus());
+                assertEquals(1L, task.getVersion());
+                assertFalse(task.getUpdatedAt().isBefore(before));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should publish a change for every task moved when another writer changes one in the chunk")
+    void shouldPublishMovedTasksWhenChunkRowChangesConcurrently() throws Exception {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.now().plusDays(10);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(taskRepository.save(newTask("Chunk " + i, TaskStatus.PENDING, cutoff.minusDays(1))).getId());
+        }
+        Long contested = ids.get(1);
+        CountDownLatch changed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        // Holds the contested row's lock while the transition reads the chunk, then commits its own change
+        Future<?> writer = executor.submit(() -> new TransactionTemplate(transactionManager)
+            .executeWithoutResult(status -> {
+                jdbcTemplate.update(
+                    "update tasks set status = 'IN_PROGRESS', version = version + 1 where id = ?", contested);
+                changed.countDown();
+                pause();
+            }));
+        assertTrue(changed.await(5, TimeUnit.SECONDS));
+
+        // When
+        BulkStatusTransitionResponse response = bulkStatusTransitionService.transition(
+            BulkStatusTransitionRequest.builder()
+                .fromStatuses(Set.of(TaskStatus.PENDING))
+                .toStatus(TaskStatus.CANCELLED)
+                .dueBefore(cutoff)
+                .build()
+        );
+        writer.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertEquals(2, response.getUpdated());
+        assertEquals(TaskStatus.IN_PROGRESS, taskRepository.findById(contested).orElseThrow().getStatus());
+        List<Long> published = events.stream(TaskChangedEvent.class)
+            .flatMap(event -> event.changes().stream())
+            .map(TaskChangedEvent.Change::taskId)
+            .toList();
+        assertEquals(List.of(ids.get(0), ids.get(2)), published);
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(300);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Task newTask(String title, TaskStatus status, LocalDateTime dueDate) {
+        return Task.builder()
+            .title(title)
+            .status(status)
+            .dueDate(dueDate)
+            .build();
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import uk.gov.hmcts.reform.dev.dto.CaseSummary;
+import uk.gov.hmcts.reform.dev.models.CaseFile;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.CaseFileRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+    "tasks.warm-up.enabled=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("Case summary statement count")
+class CaseSummaryQueryCountTest {
+
+    private static final int CASES = 60;
+    private static final int TASKS_PER_CASE = 4;
+    private static final int STATEMENTS_PER_PAGE = 3;
+
+    @Autowired
+    private CaseService caseService;
+
+    @Autowired
+    private CaseFileRepository caseFileRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        taskRepository.deleteAll();
+        caseFileRepository.deleteAll();
+
+        LocalDateTime due = LocalDateTime.now().plusDays(7);
+        List<Task> tasks = new ArrayList<>();
+        for (int c = 0; c < CASES; c++) {
+            CaseFile caseFile = caseFileRepository.save(CaseFile.builder()
+                .caseNumber(String.format("QC%06d", c))
+                .title("Query count case " + c)
+                .status(CaseStatus.OPEN)
+                .build());
+            for (int t = 0; t < TASKS_PER_CASE; t++) {
+                tasks.add(Task.builder()
+                    .title("Task " + t + " of case " + c)
+                    .status(TaskStatus.values()[t % TaskStatus.values().length])
+                    .labels(Set.of("case-" + c, "seq-" + t))
+                    .caseFile(caseFile)
+                    .dueDate(due.plusHours(t))
+                    .build());
+            }
+        }
+        taskRepository.saveAll(tasks);
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should load a page of 50 case summaries in a fixed number of statements")
+    void shouldLoadFullPageInFixedStatements() {
+        // When
+        List<CaseSummary> page = caseService.listCaseSummaries(0, 50);
+
+        // Then
+        assertEquals(50, page.size());
+        assertEquals(STATEMENTS_PER_PAGE, statistics.getPrepareStatementCount(),
+            "cases, task counts and open tasks with labels should each be one statement");
+        CaseSummary first = page.getFirst();
+        assertEquals(2, first.getOpenTasks().size());
+        assertEquals(1L, first.getTaskCounts().get(TaskStatus.COMPLETED));
+        assertEquals(List.of("case-0", "seq-0"), first.getOpenTasks().getFirst().getLabels());
+    }
+
+    @Test
+    @DisplayName("Should use the same number of statements whatever the page size")
+    void shouldNotScaleStatementsWithPageSize() {
+        // When
+        caseService.listCaseSummaries(0, 5);
+        long smallPage = statistics.getPrepareStatementCount();
+        statistics.clear();
+        caseService.listCaseSummaries(0, 50);
+        long fullPage = statistics.getPrepareStatementCount();
+
+        // Then
+        assertEquals(smallPage, fullPage);
+    }
+
+    @Test
+    @DisplayName("Should load a single case summary in a fixed number of statements")
+    void shouldLoadSingleSummaryInFixedStatements() {
+        // Given
+        Long id = caseFileRepository.findAllByOrderByIdAsc(PageRequest.of(0, 1))
+            .getFirst().getId();
+        statistics.clear();
+
+        // When
+        CaseSummary summary = caseService.getCaseSummary(id);
+
+        // Then
+        assertEquals(2, summary.getOpenTasks().size());
+        assertEquals(STATEMENTS_PER_PAGE, statistics.getPrepareStatementCount());
+    }
+}
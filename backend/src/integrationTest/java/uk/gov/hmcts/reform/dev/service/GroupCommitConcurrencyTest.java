@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {
+    "tasks.warm-up.enabled=false",
+    "tasks.group-commit.enabled=true",
+    "tasks.group-commit.max-wait=2ms"
+})
+@DisplayName("Group-commit task creation")
+class GroupCommitConcurrencyTest {
+
+    private static final int CALLERS = 200;
+    private static final int CREATES_PER_CALLER = 10;
+
+    @Autowired
+    private GroupCommitTaskWriter groupCommitTaskWriter;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BankHolidayService bankHolidayService;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should give every concurrent caller its own committed task")
+    void shouldCompleteEachCallerWithItsOwnTask() throws Exception {
+        // Given
+        Map<Long, String> titlesById = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        List<Future<?>> results = new ArrayList<>(CALLERS);
+        LocalDateTime due = workingDayNoon();
+
+        // When
+        for (int c = 0; c < CALLERS; c++) {
+            int caller = c;
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < CREATES_PER_CALLER; i++) {
+                    String title = "Caller " + caller + " task " + i;
+                    TaskResponse response = groupCommitTaskWriter.createTask(request(title, due, null));
+                    titlesById.put(response.getId(), response.getTitle());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        int expected = CALLERS * CREATES_PER_CALLER;
+        assertEquals(expected, titlesById.size(), "every caller should get a distinct id");
+        Map<Long, String> persisted = taskRepository.findAll().stream()
+            .collect(Collectors.toMap(Task::getId, Task::getTitle));
+        assertEquals(titlesById, persisted, "each id should belong to the task its caller submitted");
+    }
+
+    @Test
+    @DisplayName("Should fail only the request that names a missing case")
+    void shouldFailOnlyTheBadRequest() {
+        // Given
+        LocalDateTime due = workingDayNoon();
+
+        // When / Then
+        assertThrows(CaseNotFoundException.class,
+            () -> groupCommitTaskWriter.createTask(request("Orphan", due, Long.MAX_VALUE)));
+        TaskResponse created = groupCommitTaskWriter.createTask(request("Fine", due, null));
+        assertEquals(Set.of(created.getId()), taskRepository.findAll().stream()
+            .map(Task::getId).collect(Collectors.toSet()));
+    }
+
+    private LocalDateTime workingDayNoon() {
+        return bankHolidayService.nextWorkingDay(LocalDate.now().plusDays(3)).atTime(12, 0);
+    }
+
+    private static CreateTaskRequest request(String title, LocalDateTime due, Long caseId) {
+        return CreateTaskRequest.builder()
+            .title(title)
+            .status(TaskStatus.PENDING)
+            .caseId(caseId)
+            .dueDate(due)
+            .build();
+    }
+}
@@ -0,0 +1,108 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "tasks.warm-up.enabled=false")
+@DisplayName("Concurrent task claiming")
+class TaskClaimConcurrencyTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TaskClaimConcurrencyTest.class);
+    private static final int CLAIMERS = 200;
+    private static final int TASKS = 2_000;
+
+    @Autowired
+    private TaskAssignmentService taskAssignmentService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        List<Task> tasks = new ArrayList<>(TASKS);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.builder()
+                .title("Claimable task " + i)
+                .status(TaskStatus.PENDING)
+                .dueDate(now.plusDays(1 + i % 60))
+                .build());
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @Test
+    @DisplayName("Should assign every task exactly once with 200 concurrent claimers")
+    void shouldNeverDoubleAssign() throws Exception {
+        // Given
+        Map<Long, String> claims = new ConcurrentHashMap<>();
+        Map<Long, String> duplicates = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CLAIMERS);
+        List<Future<Integer>> results = new ArrayList<>(CLAIMERS);
+        for (int i = 0; i < CLAIMERS; i++) {
+            String assignee = "caseworker-" + i;
+            results.add(executor.submit(() -> {
+                start.await();
+                int claimed = 0;
+                Optional<TaskResponse> task;
+                while ((task = taskAssignmentService.claimNext(assignee)).isPresent()) {
+                    String previous = claims.putIfAbsent(task.get().getId(), assignee);
+                    if (previous != null) {
+                        duplicates.put(task.get().getId(), previous + " and " + assignee);
+                    }
+                    claimed++;
+                }
+                return claimed;
+            }));
+        }
+
+        // When
+        long begin = System.nanoTime();
+        start.countDown();
+        int total = 0;
+        for (Future<Integer> result : results) {
+            total += result.get(2, TimeUnit.MINUTES);
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+        executor.shutdown();
+
+        // Then
+        LOG.info("{} claimers claimed {} tasks in {} ms ({} claims/s)", CLAIMERS, total, elapsedNanos / 1_000_000,
+            total * 1_000_000_000L / Math.max(elapsedNanos, 1));
+        assertTrue(duplicates.isEmpty(), "tasks claimed twice: " + duplicates);
+        assertEquals(TASKS, total);
+        assertEquals(TASKS, claims.size());
+        for (Task task : taskRepository.findAll()) {
+            assertEquals(claims.get(task.getId()), task.getAssignee());
+            assertEquals(1L, task.getVersion());
+        }
+        assertNull(taskAssignmentService.claimNext("late-caseworker").orElse(null));
+    }
+}
@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "tasks.warm-up.enabled=false")
+@ActiveProfiles("cache")
+@DisplayName("Task second-level cache")
+class TaskSecondLevelCacheTest {
+
+    private static final int READS = 10;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        taskRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated get-by-id reads from the entity cache")
+    void shouldServeRepeatedReadsFromEntityCache() {
+        // Given
+        Long id = taskRepository.save(newTask("Cached task")).getId();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        // When
+        for (int i = 0; i < READS; i++) {
+            taskService.getTaskById(id);
+        }
+
+        // Then
+        // The first read loads the task and its labels collection; later reads hit both cache regions
+        assertEquals(2, statistics.getPrepareStatementCount(), "only the first read should reach the database");
+        assertEquals(2 * (READS - 1), statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("Should serve repeated listings from the query cache")
+    void shouldServeRepeatedListingsFromQueryCache() {
+        // Given
+        taskRepository.save(newTask("First task"));
+        taskRepository.save(newTask("Second task"));
+        statistics.clear();
+
+        // When
+        for (int i = 0; i < READS; i++) {
+            taskService.listTasks(TaskStatus.PENDING, 0, 20);
+        }
+
+        // Then
+        // The first listing runs the query and one batch fetch of the tasks' labels
+        assertEquals(2, statistics.getPrepareStatementCount(), "only the first listing should reach the database");
+        assertEquals(READS - 1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("Should invalidate cached listings when a task is written")
+    void shouldInvalidateListingsOnWrite() {
+        // Given
+        taskRepository.save(newTask("First task"));
+        assertEquals(1, taskService.listTasks(TaskStatus.PENDING, 0, 20).size());
+
+        // When
+        taskRepository.save(newTask("Second task"));
+
+        // Then
+        assertEquals(2, taskService.listTasks(TaskStatus.PENDING, 0, 20).size());
+    }
+
+    private static Task newTask(String title) {
+        return Task.builder()
+            .title(title)
+            .status(TaskStatus.PENDING)
+            .dueDate(LocalDateTime.now().plusDays(7))
+            .build();
+    }
+}
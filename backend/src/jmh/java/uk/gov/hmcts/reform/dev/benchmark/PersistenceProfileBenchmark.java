@@ -0,0 +1,126 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.BankHolidayService;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup time and create throughput of the default in-memory profile against the file-backed {@code prod} profile.
+ * Startup is measured from a cold context to ready, with warm-up disabled; under {@code prod} the first start
+ * applies the migrations and later starts reopen the existing database. Creates run from 16 callers so the
+ * connection pool size shows up in the result.
+ */
+@State(Scope.Benchmark)
+public class PersistenceProfileBenchmark {
+
+    @Param({"default", "prod"})
+    public String profile;
+
+    private Path dataDirectory;
+
+    @Setup(Level.Trial)
+    public void createDataDirectory() throws IOException {
+        dataDirectory = Files.createTempDirectory("profile-benchmark");
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteDataDirectory() throws IOException {
+        FileSystemUtils.deleteRecursively(dataDirectory);
+    }
+
+    ConfigurableApplicationContext start() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "tasks.warm-up.enabled=false",
+                "tasks.data-directory=" + dataDirectory.toAbsolutePath()
+            );
+        if (!"default".equals(profile)) {
+            builder.profiles(profile);
+        }
+        return builder.run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Startup {
+
+        private ConfigurableApplicationContext context;
+
+        @TearDown(Level.Invocation)
+        public void stopApplication() {
+            context.close();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Running {
+
+        private ConfigurableApplicationContext context;
+        private TaskService taskService;
+        private CreateTaskRequest request;
+
+        @Setup(Level.Trial)
+        public void startApplication(PersistenceProfileBenchmark benchmark) {
+            context = benchmark.start();
+            taskService = context.getBean(TaskService.class);
+            LocalDate due = context.getBean(BankHolidayService.class).nextWorkingDay(LocalDate.now().plusDays(7));
+            request = CreateTaskRequest.builder()
+                .title("Benchmark task")
+                .description("Created by PersistenceProfileBenchmark")
+                .status(TaskStatus.PENDING)
+                .dueDate(due.atTime(17, 0))
+                .build();
+        }
+
+        @TearDown(Level.Trial)
+        public void stopApplication() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 10)
+    public ConfigurableApplicationContext startup(Startup startup) {
+        startup.context = start();
+        return startup.context;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Threads(16)
+    public TaskResponse create(Running running) {
+        return running.taskService.createTask(running.request);
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import uk.gov.hmcts.reform.dev.dto.SlaReportRow;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskSlaRow;
+import uk.gov.hmcts.reform.dev.service.SlaReportEngine;
+import uk.gov.hmcts.reform.dev.service.WorkingDayCalendar;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SLA report aggregation time over rows already in memory, so the database is left out and only the engine's
+ * scaling across cores is measured. Compare {@code parallelism=1} with higher values; the speed-up should track
+ * the number of physical cores until the single feeding thread becomes the bottleneck.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SlaReportBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"1000000"})
+    public int tasks;
+
+    @Param({"10000"})
+    public int chunkSize;
+
+    private final List<TaskSlaRow> rows = new ArrayList<>();
+    private WorkingDayCalendar calendar;
+    private LocalDateTime asOf;
+    private SlaReportEngine engine;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        TaskStatus[] statuses = TaskStatus.values();
+        asOf = LocalDateTime.of(2026, 6, 1, 12, 0);
+        for (int i = 0; i < tasks; i++) {
+            LocalDateTime due = asOf.minusDays(random.nextInt(3 * 365)).plusMinutes(random.nextInt(24 * 60));
+            LocalDateTime updated = due.plusHours(random.nextInt(400) - 100);
+            rows.add(new TaskSlaRow(statuses[random.nextInt(statuses.length)], due, updated));
+        }
+        List<LocalDate> holidays = new ArrayList<>();
+        for (int year = 2023; year <= 2026; year++) {
+            holidays.add(LocalDate.of(year, 1, 1));
+            holidays.add(LocalDate.of(year, 5, 1));
+            holidays.add(LocalDate.of(year, 8, 28));
+            holidays.add(LocalDate.of(year, 12, 25));
+            holidays.add(LocalDate.of(year, 12, 26));
+        }
+        calendar = WorkingDayCalendar.of(holidays);
+        engine = new SlaReportEngine(parallelism, chunkSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.close();
+    }
+
+    @Benchmark
+    public List<SlaReportRow> report() {
+        SlaReportEngine.Run run = engine.start(calendar, asOf);
+        rows.forEach(run);
+        return run.finish();
+    }
+}
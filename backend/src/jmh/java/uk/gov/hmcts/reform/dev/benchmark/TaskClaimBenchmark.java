@@ -0,0 +1,122 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.TaskAssignmentService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Claim throughput with 200 concurrent claimers against the in-memory database.
+ * Every iteration starts from a freshly seeded pool of unassigned tasks; the {@code claimed} and {@code empty}
+ * counters show whether the pool ran dry during the iteration. Compare {@code candidateWindow=1} (strict
+ * due-date order, all claimers contend on one row) with wider windows.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(200)
+@State(Scope.Benchmark)
+public class TaskClaimBenchmark {
+
+    @Param({"1", "8", "32"})
+    public int candidateWindow;
+
+    @Param({"100000"})
+    public int tasksPerIteration;
+
+    private ConfigurableApplicationContext context;
+    private TaskAssignmentService taskAssignmentService;
+    private TaskRepository taskRepository;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Claims {
+        private static final AtomicInteger CLAIMERS = new AtomicInteger();
+
+        public long claimed;
+        public long empty;
+        private String assignee;
+
+        @Setup(Level.Trial)
+        public void name() {
+            assignee = "claimer-" + CLAIMERS.incrementAndGet();
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            claimed = 0;
+            empty = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "tasks.warm-up.enabled=false",
+                "tasks.claim.candidate-window=" + candidateWindow,
+                "spring.jpa.show-sql=false",
+                "spring.datasource.hikari.maximum-pool-size=20"
+            )
+            .run();
+        taskAssignmentService = context.getBean(TaskAssignmentService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void seedTasks() {
+        taskRepository.deleteAllInBatch();
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>(tasksPerIteration);
+        for (int i = 0; i < tasksPerIteration; i++) {
+            tasks.add(Task.builder()
+                .title("Benchmark task " + i)
+                .status(TaskStatus.PENDING)
+                .dueDate(now.plusDays(1 + i % 90))
+                .build());
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean claim(Claims claims) {
+        boolean claimed = taskAssignmentService.claimNext(claims.assignee).isPresent();
+        if (claimed) {
+            claims.claimed++;
+        } else {
+            claims.empty++;
+        }
+        return claimed;
+    }
+}
@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.BankHolidayService;
+import uk.gov.hmcts.reform.dev.service.GroupCommitTaskWriter;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Task creation with 200 concurrent callers, one transaction per request versus group commit.
+ * Throughput mode gives creates per second; sample mode gives the latency distribution each caller sees,
+ * which under group commit includes the wait for its batch to fill or time out.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(200)
+@State(Scope.Benchmark)
+public class TaskCreateBenchmark {
+
+    @Param({"false", "true"})
+    public boolean groupCommit;
+
+    @Param({"64"})
+    public int maxBatchSize;
+
+    @Param({"500us"})
+    public String maxWait;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private Function<CreateTaskRequest, TaskResponse> creator;
+    private CreateTaskRequest request;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "tasks.warm-up.enabled=false",
+                "tasks.group-commit.enabled=" + groupCommit,
+                "tasks.group-commit.max-batch-size=" + maxBatchSize,
+                "tasks.group-commit.max-wait=" + maxWait,
+                "spring.jpa.show-sql=false",
+                "spring.datasource.hikari.maximum-pool-size=20"
+            )
+            .run();
+        taskRepository = context.getBean(TaskRepository.class);
+        creator = groupCommit
+            ? context.getBean(GroupCommitTaskWriter.class)::createTask
+            : context.getBean(TaskService.class)::createTask;
+
+        LocalDate due = context.getBean(BankHolidayService.class).nextWorkingDay(LocalDate.now().plusDays(7));
+        request = CreateTaskRequest.builder()
+            .title("Benchmark task")
+            .description("Created by TaskCreateBenchmark")
+            .status(TaskStatus.PENDING)
+            .dueDate(due.atTime(17, 0))
+            .build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTasks() {
+        taskRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponse create() {
+        return creator.apply(request);
+    }
+}
@@ -0,0 +1,87 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskResponseSerializer;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective Jackson path with the fast-path {@link TaskResponseSerializer}.
+ * Run with the gc profiler (the default in build.gradle) to see allocation rate per operation;
+ * the {@code bytes} counter reports output bytes per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TaskResponseSerializationBenchmark {
+
+    private ObjectMapper reflectiveMapper;
+    private ObjectMapper fastPathMapper;
+    private Task task;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        reflectiveMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        SimpleModule fastPath = new SimpleModule();
+        fastPath.addSerializer(TaskResponse.class, new TaskResponseSerializer());
+        fastPathMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(fastPath)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        LocalDateTime now = LocalDateTime.of(2026, 3, 2, 9, 15, 30, 123_456_000);
+        task = Task.builder()
+            .id(42L)
+            .title("Review case documents")
+            .description("Review all submitted documents for case ABC123")
+            .status(TaskStatus.PENDING)
+            .dueDate(now.plusDays(7))
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+
+    @Benchmark
+    public byte[] reflective(Bytes counter) throws Exception {
+        byte[] json = reflectiveMapper.writeValueAsBytes(TaskResponse.fromEntity(task));
+        counter.bytes += json.length;
+        return json;
+    }
+
+    @Benchmark
+    public byte[] fastPath(Bytes counter) throws Exception {
+        byte[] json = fastPathMapper.writeValueAsBytes(TaskResponse.fromEntity(task));
+        counter.bytes += json.length;
+        return json;
+    }
+}
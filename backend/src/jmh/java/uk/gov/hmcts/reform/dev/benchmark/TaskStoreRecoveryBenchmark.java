@@ -0,0 +1,168 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+import uk.gov.hmcts.reform.dev.journal.TaskJournal;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from opening a store holding {@code tasks} tasks until it can answer a lookup.
+ * {@code journal-snapshot} loads the index snapshot written on the last clean close, {@code journal-replay} has no
+ * snapshot and rebuilds the index by scanning every segment, and {@code h2-file} opens a file-backed H2 database with
+ * an equivalent tasks table.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@State(Scope.Benchmark)
+public class TaskStoreRecoveryBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"journal-snapshot", "journal-replay", "h2-file"})
+    public String store;
+
+    @Param({"100000"})
+    public int tasks;
+
+    private Path directory;
+    private TaskJournal journal;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void populate() throws IOException, SQLException {
+        directory = Files.createTempDirectory("recovery-benchmark");
+        if ("h2-file".equals(store)) {
+            populateDatabase();
+        } else {
+            populateJournal();
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeStore() throws IOException, SQLException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+            if ("journal-replay".equals(store)) {
+                Files.deleteIfExists(directory.resolve(TaskJournal.SNAPSHOT_FILE));
+            }
+        }
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public Object open() throws IOException, SQLException {
+        if ("h2-file".equals(store)) {
+            connection = DriverManager.getConnection(databaseUrl(), "sa", "");
+            try (PreparedStatement select = connection.prepareStatement("select title from tasks where id = ?")) {
+                select.setLong(1, tasks);
+                try (ResultSet rows = select.executeQuery()) {
+                    return rows.next() ? rows.getString(1) : null;
+                }
+            }
+        }
+        journal = TaskJournal.open(directory, 64L * 1024 * 1024, false);
+        return journal.get(tasks).orElse(null);
+    }
+
+    private void populateJournal() throws IOException {
+        LocalDateTime now = LocalDateTime.now();
+        try (TaskJournal seed = TaskJournal.open(directory, 64L * 1024 * 1024, false)) {
+            List<Task> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < tasks; i++) {
+                batch.add(Task.builder()
+                    .id(seed.allocateId())
+                    .title("Recovery task " + i)
+                    .description("Created by TaskStoreRecoveryBenchmark")
+                    .status(TaskStatus.PENDING)
+                    .dueDate(now.plusDays(7))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .version(0L)
+                    .build());
+                if (batch.size() == BATCH_SIZE) {
+                    seed.put(batch);
+                    batch.clear();
+                }
+            }
+            seed.put(batch);
+        }
+        if ("journal-replay".equals(store)) {
+            Files.deleteIfExists(directory.resolve(TaskJournal.SNAPSHOT_FILE));
+        }
+    }
+
+    private void populateDatabase() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp due = Timestamp.valueOf(LocalDateTime.now().plusDays(7));
+        try (Connection seed = DriverManager.getConnection(databaseUrl(), "sa", "")) {
+            try (Statement ddl = seed.createStatement()) {
+                ddl.execute("create table tasks (id bigint primary key, title varchar(255) not null, "
+                    + "description varchar(1000), status varchar(20) not null, assignee varchar(100), "
+                    + "case_id bigint, due_date timestamp not null, created_at timestamp not null, "
+                    + "updated_at timestamp not null, version bigint not null)");
+            }
+            seed.setAutoCommit(false);
+            try (PreparedStatement insert = seed.prepareStatement(
+                "insert into tasks (id, title, description, status, due_date, created_at, updated_at, version) "
+                    + "values (?, ?, ?, 'PENDING', ?, ?, ?, 0)")) {
+                for (int i = 1; i <= tasks; i++) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "Recovery task " + i);
+                    insert.setString(3, "Created by TaskStoreRecoveryBenchmark");
+                    insert.setTimestamp(4, due);
+                    insert.setTimestamp(5, now);
+                    insert.setTimestamp(6, now);
+                    insert.addBatch();
+                    if (i % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        seed.commit();
+                    }
+                }
+                insert.executeBatch();
+                seed.commit();
+            }
+        }
+    }
+
+    private String databaseUrl() {
+        return "jdbc:h2:file:" + directory.resolve("tasks").toAbsolutePath();
+    }
+}
@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+import uk.gov.hmcts.reform.dev.Application;
+import uk.gov.hmcts.reform.dev.journal.JournalTaskRepository;
+import uk.gov.hmcts.reform.dev.journal.TaskJournal;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-caller task writes per second through {@link TaskRepository#save}, comparing the JPA repository on the
+ * in-memory database with the append-only journal, with and without an fsync per write. The journal numbers with
+ * {@code journal-sync} are bounded by the device's fsync latency; {@code journal-nosync} shows the cost of the
+ * append and index update alone.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class TaskStoreWriteBenchmark {
+
+    @Param({"h2", "journal-sync", "journal-nosync"})
+    public String store;
+
+    private ConfigurableApplicationContext context;
+    private TaskJournal journal;
+    private Path directory;
+    private TaskRepository taskRepository;
+    private LocalDateTime dueDate;
+
+    @Setup(Level.Trial)
+    public void openStore() throws IOException {
+        dueDate = LocalDateTime.now().plusDays(7);
+        if ("h2".equals(store)) {
+            context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties("tasks.warm-up.enabled=false", "spring.jpa.show-sql=false")
+                .run();
+            taskRepository = context.getBean(TaskRepository.class);
+        } else {
+            directory = Files.createTempDirectory("journal-benchmark");
+            journal = TaskJournal.open(directory, 64L * 1024 * 1024, "journal-sync".equals(store));
+            taskRepository = new JournalTaskRepository(journal);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closeStore() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        if (journal != null) {
+            journal.close();
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    public Task save() {
+        return taskRepository.save(Task.builder()
+            .title("Benchmark task")
+            .description("Created by TaskStoreWriteBenchmark")
+            .status(TaskStatus.PENDING)
+            .dueDate(dueDate)
+            .build());
+    }
+}
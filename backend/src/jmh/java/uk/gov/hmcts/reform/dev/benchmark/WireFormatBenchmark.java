@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.dev.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Payload size and encode/decode throughput of JSON versus CBOR for a page of task responses.
+ * The {@code bytes} counter reports encoded bytes per second; divide by ops/s for payload size.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<List<TaskResponse>> TASK_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"1", "500"})
+    public int tasks;
+
+    private ObjectMapper mapper;
+    private List<TaskResponse> page;
+    private byte[] encoded;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        mapper = "cbor".equals(format) ? new CBORMapper() : new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        LocalDateTime now = LocalDateTime.of(2026, 3, 2, 9, 15, 30);
+        page = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            page.add(new TaskResponse(
+                (long) i,
+                "Review case documents " + i,
+                "Review all submitted documents for case ABC" + i,
+                TaskStatus.values()[i % TaskStatus.values().length],
+                i % 2 == 0 ? "caseworker" + i % 20 : null,
+                i % 3 == 0 ? List.of("jurisdiction:family", "urgent") : List.of(),
+                i % 4 == 0 ? (long) i / 4 : null,
+                now.plusDays(i % 90),
+                now,
+                now
+            ));
+        }
+        encoded = mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] encode(Bytes counter) throws Exception {
+        byte[] bytes = mapper.writeValueAsBytes(page);
+        counter.bytes += bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public List<TaskResponse> decode(Bytes counter) throws Exception {
+        counter.bytes += encoded.length;
+        return mapper.readValue(encoded, TASK_LIST);
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.coherence;
+
+import uk.gov.hmcts.reform.dev.service.BankHolidayService;
+
+import java.util.Collection;
+
+/**
+ * Reloads the bank holiday calendar when another instance finds it has changed, so that every instance
+ * validates due dates against the same holidays rather than whatever each fetched on its own schedule.
+ */
+public class BankHolidayCache implements CoherentCache {
+
+    private final BankHolidayService bankHolidayService;
+
+    public BankHolidayCache(BankHolidayService bankHolidayService) {
+        this.bankHolidayService = bankHolidayService;
+    }
+
+    @Override
+    public String name() {
+        return CacheCoherenceService.BANK_HOLIDAYS;
+    }
+
+    @Override
+    public void evict(Collection<String> keys) {
+        evictAll();
+    }
+
+    @Override
+    public void evictAll() {
+        bankHolidayService.refreshHolidayIndex();
+    }
+}
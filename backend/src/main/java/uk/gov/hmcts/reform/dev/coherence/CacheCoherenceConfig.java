@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.dev.coherence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import uk.gov.hmcts.reform.dev.service.BankHolidayService;
+import uk.gov.hmcts.reform.dev.service.CapacityScheduler;
+import uk.gov.hmcts.reform.dev.service.DueDateIndex;
+import uk.gov.hmcts.reform.dev.service.DueDateWorkloadService;
+import uk.gov.hmcts.reform.dev.service.DuplicateTaskDetector;
+import uk.gov.hmcts.reform.dev.service.LabelIndex;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Sets up cache coherence between application instances sharing a database. Off by default, as a single instance
+ * has nothing to be coherent with; the {@code prod} profile turns it on.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasks.coherence.enabled", havingValue = "true")
+public class CacheCoherenceConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(InvalidationTransport.class)
+    public ChangeTableTransport changeTableTransport(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        Clock clock,
+        @Value("${tasks.coherence.gap-timeout:30s}") Duration gapTimeout,
+        @Value("${tasks.coherence.retention:1h}") Duration retention,
+        @Value("${tasks.coherence.batch-size:1000}") int batchSize) {
+        return new ChangeTableTransport(jdbcTemplate, transactionManager, clock, gapTimeout, retention, batchSize);
+    }
+
+    @Bean
+    public HibernateTaskCache hibernateTaskCache(EntityManagerFactory entityManagerFactory) {
+        return new HibernateTaskCache(entityManagerFactory);
+    }
+
+    @Bean
+    public TaskIndexCache taskIndexCache(LabelIndex labelIndex,
+                                         DueDateIndex dueDateIndex,
+                                         DueDateWorkloadService workloadService,
+                                         CapacityScheduler capacityScheduler,
+                                         DuplicateTaskDetector duplicateTaskDetector) {
+        return new TaskIndexCache(labelIndex, dueDateIndex, workloadService, capacityScheduler, duplicateTaskDetector);
+    }
+
+    @Bean
+    public BankHolidayCache bankHolidayCache(BankHolidayService bankHolidayService) {
+        return new BankHolidayCache(bankHolidayService);
+    }
+
+    @Bean
+    public CacheCoherenceService cacheCoherenceService(
+        InvalidationTransport transport,
+        List<CoherentCache> caches,
+        Clock clock,
+        MeterRegistry meterRegistry,
+        @Value("${tasks.coherence.poll-interval:1s}") Duration pollInterval,
+        @Value("${tasks.coherence.max-staleness:10s}") Duration maxStaleness,
+        @Value("${tasks.coherence.evict-all-threshold:100}") int evictAllThreshold) {
+        return new CacheCoherenceService(
+            transport, caches, clock, meterRegistry, pollInterval, maxStaleness, evictAllThreshold);
+    }
+}
@@ -0,0 +1,338 @@
+package uk.gov.hmcts.reform.dev.coherence;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.events.HolidayCalendarChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps in-process caches coherent across application instances.
+ * The instance that changes a task publishes invalidations through the {@link InvalidationTransport}; its own caches
+ * are already current, as the write updated them. A transactional transport is written to in the transaction making
+ * the change, so the invalidations commit with it or not at all; any other is written to once the change commits.
+ * Every instance polls the transport each {@code pollInterval}, on a thread of its own so that slow scheduled jobs
+ * cannot hold it up, and hands invalidations from other instances to the {@link CoherentCache}s with that name.
+ *
+ * <p>Staleness is bounded: a change committed on one instance reaches the others within about one poll interval.
+ * If an instance cannot reach the transport for longer than {@code maxStaleness}, it clears every coherent cache,
+ * again every {@code maxStaleness} while contact is lost, and once more when it returns, so no entry is served
+ * more than about {@code maxStaleness} plus one poll after the data behind it changed. Health is reported DOWN for
+ * as long as the last contact is older than {@code maxStaleness}. Invalidations published outside a transaction
+ * that fail are queued in memory and retried on the next poll; inside one, the failure rolls the change back.
+ */
+public class CacheCoherenceService implements HealthIndicator {
+
+    public static final String TASKS = "tasks";
+    public static final String BANK_HOLIDAYS = "bank-holidays";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheCoherenceService.class);
+
+    private final String origin = UUID.randomUUID().toString();
+    private final InvalidationTransport transport;
+    private final Map<String, List<CoherentCache>> caches;
+    private final Clock clock;
+    private final Duration pollInterval;
+    private final Duration maxStaleness;
+    private final int evictAllThreshold;
+    private final ConcurrentLinkedQueue<Invalidation> unpublished = new ConcurrentLinkedQueue<>();
+    // Set while applying remote invalidations, so that caches reloading in response do not echo them back
+    private final ThreadLocal<Boolean> applyingRemote = ThreadLocal.withInitial(() -> false);
+
+    private volatile Instant lastContact;
+    private volatile boolean outOfContact;
+    private Instant lastOutageEviction;
+    private ScheduledExecutorService poller;
+
+    public CacheCoherenceService(InvalidationTransport transport,
+                                 Collection<CoherentCache> caches,
+                                 Clock clock,
+                                 MeterRegistry meterRegistry,
+                                 Duration pollInterval,
+                                 Duration maxStaleness,
+                                 int evictAllThreshold) {
+        this.transport = transport;
+        this.caches = caches.stream().collect(Collectors.groupingBy(CoherentCache::name));
+        this.clock = clock;
+        this.pollInterval = pollInterval;
+        this.maxStaleness = maxStaleness;
+        this.evictAllThreshold = evictAllThreshold;
+        this.lastContact = clock.instant();
+        Gauge.builder("tasks.cache.coherence.staleness", this, service -> service.staleness().toMillis() / 1000.0)
+            .description("Time since this instance last heard from the invalidation transport")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Tells other instances that the given entries of a cache have changed.
+     *
+     * @param cache the cache name
+     * @param keys the changed entries; above the evict-all threshold the whole cache is invalidated instead
+     */
+    public void invalidate(String cache, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        publish(invalidations(cache, keys));
+    }
+
+    /**
+     * Tells other instances that everything in a cache has changed.
+     *
+     * @param cache the cache name
+     */
+    public void invalidateAll(String cache) {
+        publish(List.of(new Invalidation(cache, null, origin)));
+    }
+
+    /**
+     * Invalidates the changed tasks in the transaction making the change, if the transport is transactional.
+     * A failure to publish propagates, so the change rolls back rather than commit without its invalidations.
+     *
+     * @param event the task changes
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTaskChanging(TaskChangedEvent event) {
+        if (transport.isTransactional() && !applyingRemote.get()) {
+            transport.publish(invalidations(TASKS, taskIds(event)));
+        }
+    }
+
+    /**
+     * Invalidates the changed tasks once the change has committed, if the transport is not transactional.
+     *
+     * @param event the task changes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!transport.isTransactional()) {
+            invalidate(TASKS, taskIds(event));
+        }
+    }
+
+    /**
+     * Invalidates the holiday calendar when a refresh finds it has changed.
+     *
+     * @param event the calendar change
+     */
+    @EventListener
+    public void onHolidayCalendarChanged(HolidayCalendarChangedEvent event) {
+        invalidateAll(BANK_HOLIDAYS);
+    }
+
+    /**
+     * Starts polling the transport on a dedicated thread.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public synchronized void start() {
+        if (poller != null) {
+            return;
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-coherence");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long delay = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(this::pollQuietly, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops polling.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+            poller = null;
+        }
+    }
+
+    /**
+     * Retries unpublished invalidations, then applies those received from other instances.
+     */
+    public void poll() {
+        List<Invalidation> received;
+        try {
+            retryUnpublished();
+            received = transport.poll();
+        } catch (RuntimeException e) {
+            onLostContact(e);
+            return;
+        }
+        lastContact = clock.instant();
+        if (outOfContact) {
+            outOfContact = false;
+            LOG.info("Invalidation transport reachable again, clearing coherent caches once more");
+            evictEverything();
+        }
+        apply(received);
+    }
+
+    /**
+     * Gets the time since the transport was last reached.
+     *
+     * @return the staleness bound currently in effect for this instance
+     */
+    public Duration staleness() {
+        return Duration.between(lastContact, clock.instant());
+    }
+
+    @Override
+    public Health health() {
+        Duration staleness = staleness();
+        Health.Builder builder = staleness.compareTo(maxStaleness) > 0 ? Health.down() : Health.up();
+        return builder
+            .withDetail("staleness", staleness.toString())
+            .withDetail("maxStaleness", maxStaleness.toString())
+            .build();
+    }
+
+    String origin() {
+        return origin;
+    }
+
+    private void pollQuietly() {
+        // An exception escaping a fixed-delay task would cancel every later poll
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to poll for cache invalidations", e);
+        }
+    }
+
+    private List<Invalidation> invalidations(String cache, Collection<String> keys) {
+        if (keys.size() > evictAllThreshold) {
+            return List.of(new Invalidation(cache, null, origin));
+        }
+        return keys.stream().map(key -> new Invalidation(cache, key, origin)).toList();
+    }
+
+    private static Set<String> taskIds(TaskChangedEvent event) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (TaskChangedEvent.Change change : event.changes()) {
+            ids.add(change.taskId().toString());
+        }
+        return ids;
+    }
+
+    private void publish(List<Invalidation> invalidations) {
+        if (applyingRemote.get()) {
+            return;
+        }
+        try {
+            transport.publish(invalidations);
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to publish {} cache invalidations, will retry", invalidations.size(), e);
+            unpublished.addAll(invalidations);
+        }
+    }
+
+    private void retryUnpublished() {
+        List<Invalidation> retry = new ArrayList<>();
+        Invalidation next;
+        while ((next = unpublished.poll()) != null) {
+            retry.add(next);
+        }
+        if (retry.isEmpty()) {
+            return;
+        }
+        try {
+            transport.publish(retry);
+        } catch (RuntimeException e) {
+            unpublished.addAll(retry);
+            throw e;
+        }
+    }
+
+    private void onLostContact(RuntimeException e) {
+        Duration staleness = staleness();
+        if (staleness.compareTo(maxStaleness) <= 0) {
+            LOG.debug("Invalidation transport unreachable for {}", staleness, e);
+            return;
+        }
+        Instant now = clock.instant();
+        if (!outOfContact) {
+            outOfContact = true;
+            LOG.warn("Invalidation transport unreachable for {}, clearing coherent caches until it returns",
+                staleness, e);
+        } else if (Duration.between(lastOutageEviction, now).compareTo(maxStaleness) < 0) {
+            return;
+        }
+        lastOutageEviction = now;
+        evictEverything();
+    }
+
+    private void apply(List<Invalidation> received) {
+        Map<String, Set<String>> keysByCache = new LinkedHashMap<>();
+        Set<String> evictAll = new LinkedHashSet<>();
+        for (Invalidation invalidation : received) {
+            if (origin.equals(invalidation.origin())) {
+                continue;
+            }
+            if (invalidation.isAll()) {
+                evictAll.add(invalidation.cache());
+            } else {
+                keysByCache.computeIfAbsent(invalidation.cache(), cache -> new LinkedHashSet<>())
+                    .add(invalidation.key());
+            }
+        }
+        applyingRemote.set(true);
+        try {
+            evictAll.forEach(cache -> forEachCache(cache, CoherentCache::evictAll));
+            keysByCache.forEach((cache, keys) -> {
+                if (!evictAll.contains(cache)) {
+                    forEachCache(cache, coherentCache -> coherentCache.evict(keys));
+                }
+            });
+        } finally {
+            applyingRemote.remove();
+        }
+    }
+
+    private void evictEverything() {
+        applyingRemote.set(true);
+        try {
+            caches.keySet().forEach(cache -> forEachCache(cache, CoherentCache::evictAll));
+        } finally {
+            applyingRemote.remove();
+        }
+    }
+
+    private void forEachCache(String name, Consumer<CoherentCache> action) {
+        for (CoherentCache cache : caches.getOrDefault(name, List.of())) {
+            try {
+                action.accept(cache);
+            } catch (RuntimeException e) {
+                LOG.warn("Failed to invalidate coherent cache {}", name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package uk.gov.hmcts.reform.dev.coherence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Carries invalidations through the {@code cache_invalidations} table in the shared database.
+ * Publishing inserts rows in the caller's transaction, or in one of its own if there is none, so invalidations
+ * commit with the change they describe and are never lost between the two. Polling tails the table by id, starting
+ * from the highest id present when the instance first polls.
+ *
+ * <p>Ids are handed out when a row is inserted but become visible when its transaction commits, so a poll can see
+ * id 12 before 11. Ids skipped over are remembered as gaps and looked for again on each poll until
+ * {@code gapTimeout} has passed, after which they are taken to be rolled back. Rows are deleted once older than
+ * {@code retention}, which must comfortably exceed the gap timeout.
+ */
+public class ChangeTableTransport implements InvalidationTransport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChangeTableTransport.class);
+
+    static final String INSERT_SQL = "insert into cache_invalidations (cache_name, cache_key, origin, created_at) "
+        + "values (?, ?, ?, ?)";
+    static final String SELECT_SQL = "select id, cache_name, cache_key, origin from cache_invalidations "
+        + "where id > ? order by id limit ?";
+    static final String MAX_ID_SQL = "select coalesce(max(id), 0) from cache_invalidations";
+    static final String PURGE_SQL = "delete from cache_invalidations where created_at < ?";
+
+    // A jump this large means ids were skipped in bulk, e.g. by a sequence cache, rather than by open transactions
+    private static final int MAX_TRACKED_GAPS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration gapTimeout;
+    private final Duration retention;
+    private final int batchSize;
+
+    private final NavigableMap<Long, Instant> gaps = new TreeMap<>();
+    private long maxSeen = -1;
+
+    public ChangeTableTransport(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                Clock clock,
+                                Duration gapTimeout,
+                                Duration retention,
+                                int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void publish(List<Invalidation> invalidations) {
+        if (invalidations.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(INSERT_SQL, invalidations, invalidations.size(), (statement, invalidation) -> {
+                statement.setString(1, invalidation.cache());
+                statement.setString(2, invalidation.key());
+                statement.setString(3, invalidation.origin());
+                statement.setTimestamp(4, now);
+            }));
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return true;
+    }
+
+    @Override
+    public synchronized List<Invalidation> poll() {
+        if (maxSeen < 0) {
+            // A new instance starts with empty caches, so older invalidations are of no interest
+            Long max = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class);
+            maxSeen = max == null ? 0 : max;
+            return List.of();
+        }
+        Instant now = clock.instant();
+        gaps.values().removeIf(noticed -> noticed.plus(gapTimeout).isBefore(now));
+
+        List<Invalidation> received = new ArrayList<>();
+        long after = gaps.isEmpty() ? maxSeen : gaps.firstKey() - 1;
+        int fetched;
+        do {
+            List<Row> rows = jdbcTemplate.query(SELECT_SQL, (resultSet, rowNum) -> new Row(
+                resultSet.getLong("id"),
+                new Invalidation(
+                    resultSet.getString("cache_name"),
+                    resultSet.getString("cache_key"),
+                    resultSet.getString("origin"))
+            ), after, batchSize);
+            for (Row row : rows) {
+                accept(row, now, received);
+            }
+            fetched = rows.size();
+            if (fetched > 0) {
+                after = rows.getLast().id();
+            }
+        } while (fetched == batchSize);
+        return received;
+    }
+
+    private void accept(Row row, Instant now, List<Invalidation> received) {
+        if (row.id() <= maxSeen) {
+            // Either a gap filling in or a row already delivered
+            if (gaps.remove(row.id()) != null) {
+                received.add(row.invalidation());
+            }
+            return;
+        }
+        for (long missing = maxSeen + 1; missing < row.id() && gaps.size() < MAX_TRACKED_GAPS; missing++) {
+            gaps.put(missing, now);
+        }
+        maxSeen = row.id();
+        received.add(row.invalidation());
+    }
+
+    /**
+     * Deletes rows older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${tasks.coherence.purge-interval:10m}")
+    public void purge() {
+        int deleted = jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(LocalDateTime.now(clock).minus(retention)));
+        if (deleted > 0) {
+            LOG.debug("Purged {} cache invalidations older than {}", deleted, retention);
+        }
+    }
+
+    /**
+     * Gets the number of skipped ids still being looked for.
+     *
+     * @return the number of open gaps
+     */
+    synchronized int openGaps() {
+        return gaps.size();
+    }
+
+    private record Row(long id, Invalidation invalidation) {
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.coherence;
+
+import java.util.Collection;
+
+/**
+ * An in-process cache that drops entries when another instance changes the data behind them.
+ * Several caches can share a name; an invalidation for that name reaches all of them.
+ */
+public interface CoherentCache {
+
+    /**
+     * Gets the name invalidations for this cache are sent under.
+     *
+     * @return the cache name
+     */
+    String name();
+
+    /**
+     * Drops the given entries.
+     *
+     * @param keys the entry keys
+     */
+    void evict(Collection<String> keys);
+
+    /**
+     * Drops every entry.
+     */
+    void evictAll();
+}
@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.dev.coherence;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.util.Collection;
+
+/**
+ * Drops changed tasks from the Hibernate second-level cache, which the {@code cache} profile turns on.
+ * Cached query results may include any task, so every invalidation also clears the query cache. Without the
+ * second-level cache these calls do nothing.
+ */
+public class HibernateTaskCache implements CoherentCache {
+
+    static final String LABELS_ROLE = Task.class.getName() + ".labels";
+
+    private final Cache cache;
+
+    public HibernateTaskCache(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @Override
+    public String name() {
+        return CacheCoherenceService.TASKS;
+    }
+
+    @Override
+    public void evict(Collection<String> keys) {
+        for (String key : keys) {
+            Long id = Long.valueOf(key);
+            cache.evictEntityData(Task.class, id);
+            cache.evictCollectionData(LABELS_ROLE, id);
+        }
+        cache.evictQueryRegions();
+    }
+
+    @Override
+    public void evictAll() {
+        cache.evictEntityData(Task.class);
+        cache.evictCollectionData(LABELS_ROLE);
+        cache.evictQueryRegions();
+    }
+}
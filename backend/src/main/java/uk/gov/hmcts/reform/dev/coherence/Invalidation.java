@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.coherence;
+
+/**
+ * A message telling other instances to drop an entry, or all entries, of one of their caches.
+ *
+ * @param cache the cache name
+ * @param key the entry to drop, or null to drop the whole cache
+ * @param origin the id of the instance that sent it
+ */
+public record Invalidation(String cache, String key, String origin) {
+
+    boolean isAll() {
+        return key == null;
+    }
+}
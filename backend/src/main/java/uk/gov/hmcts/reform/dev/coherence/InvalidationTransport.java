@@ -0,0 +1,38 @@
+package uk.gov.hmcts.reform.dev.coherence;
+
+import java.util.List;
+
+/**
+ * Carries invalidations between application instances.
+ * {@link CacheCoherenceService} publishes with each change, inside its transaction if the transport is transactional
+ * and after it commits otherwise, and polls on a fixed delay, so a push-based transport only needs to buffer what it
+ * receives until the next poll. The default is {@link ChangeTableTransport};
+ * declare another bean of this type to replace it.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Sends invalidations to every other instance.
+     *
+     * @param invalidations the invalidations
+     * @throws RuntimeException if the transport could not take them
+     */
+    void publish(List<Invalidation> invalidations);
+
+    /**
+     * Tells whether {@link #publish} joins the caller's transaction, so invalidations commit or roll back with it.
+     *
+     * @return true if publishing is transactional; false by default
+     */
+    default boolean isTransactional() {
+        return false;
+    }
+
+    /**
+     * Takes the invalidations received since the last poll, including this instance's own.
+     *
+     * @return the invalidations in the order they were published, as far as the transport can tell
+     * @throws RuntimeException if the transport cannot be reached
+     */
+    List<Invalidation> poll();
+}
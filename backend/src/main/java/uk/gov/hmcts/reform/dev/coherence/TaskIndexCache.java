@@ -0,0 +1,83 @@
+package uk.gov.hmcts.reform.dev.coherence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import uk.gov.hmcts.reform.dev.service.CapacityScheduler;
+import uk.gov.hmcts.reform.dev.service.DueDateIndex;
+import uk.gov.hmcts.reform.dev.service.DueDateWorkloadService;
+import uk.gov.hmcts.reform.dev.service.DuplicateTaskDetector;
+import uk.gov.hmcts.reform.dev.service.LabelIndex;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the in-memory task indexes in step with changes made on other instances.
+ * The label bitmaps, due-date buckets, workload counts, capacity tree and duplicate-task filter are only told about
+ * local changes, and a remote invalidation carries no before and after state to adjust them with, so they are
+ * rebuilt from the database instead. Rebuilds scan every task, so however many invalidations arrive they run at
+ * most once per {@code tasks.coherence.index-rebuild-interval}, which adds to the staleness bound for these indexes.
+ */
+public class TaskIndexCache implements CoherentCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TaskIndexCache.class);
+
+    private final LabelIndex labelIndex;
+    private final DueDateIndex dueDateIndex;
+    private final DueDateWorkloadService workloadService;
+    private final CapacityScheduler capacityScheduler;
+    private final DuplicateTaskDetector duplicateTaskDetector;
+    private final AtomicBoolean stale = new AtomicBoolean();
+
+    public TaskIndexCache(LabelIndex labelIndex,
+                          DueDateIndex dueDateIndex,
+                          DueDateWorkloadService workloadService,
+                          CapacityScheduler capacityScheduler,
+                          DuplicateTaskDetector duplicateTaskDetector) {
+        this.labelIndex = labelIndex;
+        this.dueDateIndex = dueDateIndex;
+        this.workloadService = workloadService;
+        this.capacityScheduler = capacityScheduler;
+        this.duplicateTaskDetector = duplicateTaskDetector;
+    }
+
+    @Override
+    public String name() {
+        return CacheCoherenceService.TASKS;
+    }
+
+    @Override
+    public void evict(Collection<String> keys) {
+        stale.set(true);
+    }
+
+    @Override
+    public void evictAll() {
+        stale.set(true);
+    }
+
+    /**
+     * Rebuilds the indexes if another instance has changed tasks since the last rebuild.
+     */
+    @Scheduled(fixedDelayString = "${tasks.coherence.index-rebuild-interval:30s}")
+    public void rebuildIfStale() {
+        if (!stale.getAndSet(false)) {
+            return;
+        }
+        try {
+            labelIndex.rebuild();
+            dueDateIndex.rebuild();
+            workloadService.reconcile();
+            capacityScheduler.rebuild();
+            duplicateTaskDetector.rebuild();
+        } catch (RuntimeException e) {
+            stale.set(true);
+            LOG.warn("Failed to rebuild task indexes after remote changes, will retry", e);
+        }
+    }
+
+    boolean isStale() {
+        return stale.get();
+    }
+}
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.service.AdaptiveConcurrencyLimiter;
+
+import java.time.Duration;
+
+/**
+ * Sets up adaptive concurrency limits for the task API, one per kind of request.
+ * Reads are cheap and plentiful, single-task writes take row locks and call out for bank holidays, and bulk
+ * transitions hold connections for many chunks, so each group starts from and is capped at its own limit.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasks.concurrency.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    private final int minLimit;
+    private final double backoffRatio;
+    private final double tolerance;
+
+    public ConcurrencyLimitConfig(@Value("${tasks.concurrency.min-limit:1}") int minLimit,
+                                  @Value("${tasks.concurrency.backoff-ratio:0.9}") double backoffRatio,
+                                  @Value("${tasks.concurrency.latency-tolerance:2.0}") double tolerance) {
+        this.minLimit = minLimit;
+        this.backoffRatio = backoffRatio;
+        this.tolerance = tolerance;
+    }
+
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(
+        MeterRegistry meterRegistry,
+        ObjectMapper objectMapper,
+        @Value("${tasks.concurrency.retry-after:1s}") Duration retryAfter,
+        @Value("${tasks.concurrency.read.initial-limit:50}") int readInitialLimit,
+        @Value("${tasks.concurrency.read.max-limit:400}") int readMaxLimit,
+        @Value("${tasks.concurrency.read.max-latency:1s}") Duration readMaxLatency,
+        @Value("${tasks.concurrency.write.initial-limit:20}") int writeInitialLimit,
+        @Value("${tasks.concurrency.write.max-limit:200}") int writeMaxLimit,
+        @Value("${tasks.concurrency.write.max-latency:2s}") Duration writeMaxLatency,
+        @Value("${tasks.concurrency.bulk.initial-limit:2}") int bulkInitialLimit,
+        @Value("${tasks.concurrency.bulk.max-limit:8}") int bulkMaxLimit,
+        @Value("${tasks.concurrency.bulk.max-latency:60s}") Duration bulkMaxLatency) {
+        return new ConcurrencyLimitFilter(
+            limiter("read", readInitialLimit, readMaxLimit, readMaxLatency),
+            limiter("write", writeInitialLimit, writeMaxLimit, writeMaxLatency),
+            limiter("bulk", bulkInitialLimit, bulkMaxLimit, bulkMaxLatency),
+            meterRegistry,
+            objectMapper,
+            retryAfter);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(String name, int initialLimit, int maxLimit, Duration maxLatency) {
+        return new AdaptiveConcurrencyLimiter(
+            name, initialLimit, minLimit, maxLimit, backoffRatio, tolerance, maxLatency);
+    }
+}
@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import uk.gov.hmcts.reform.dev.dto.ErrorResponse;
+import uk.gov.hmcts.reform.dev.service.AdaptiveConcurrencyLimiter;
+import uk.gov.hmcts.reform.dev.service.AdaptiveConcurrencyLimiter.Permit;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sheds load on the task API before it queues up behind a slow database or bank holiday lookup.
+ * Requests are split into reads, writes and bulk transitions, each with its own {@link AdaptiveConcurrencyLimiter},
+ * so a backlog of slow bulk updates cannot starve single-task reads. A request over its group's limit is refused
+ * immediately with 503 and a {@code Retry-After} header. Runs ahead of the other application filters so refused
+ * requests cost next to nothing.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements Ordered {
+
+    static final String PATH_PREFIX = "/api/tasks";
+    static final String BULK_PATH_PREFIX = "/api/tasks/bulk";
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final AdaptiveConcurrencyLimiter bulkLimiter;
+    private final Map<AdaptiveConcurrencyLimiter, Counter> rejections;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter readLimiter,
+                                  AdaptiveConcurrencyLimiter writeLimiter,
+                                  AdaptiveConcurrencyLimiter bulkLimiter,
+                                  MeterRegistry meterRegistry,
+                                  ObjectMapper objectMapper,
+                                  Duration retryAfter) {
+        this.readLimiter = readLimiter;
+        this.writeLimiter = writeLimiter;
+        this.bulkLimiter = bulkLimiter;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+        this.rejections = Map.of(
+            readLimiter, registerMetrics(meterRegistry, readLimiter),
+            writeLimiter, registerMetrics(meterRegistry, writeLimiter),
+            bulkLimiter, registerMetrics(meterRegistry, bulkLimiter));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !path(request).startsWith(PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = limiterFor(request);
+        Optional<Permit> permit = limiter.tryAcquire();
+        if (permit.isEmpty()) {
+            rejections.get(limiter).increment();
+            reject(response, limiter);
+            return;
+        }
+
+        boolean succeeded = false;
+        try {
+            chain.doFilter(request, response);
+            succeeded = response.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            if (succeeded) {
+                permit.get().success();
+            } else {
+                permit.get().failure();
+            }
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter limiterFor(HttpServletRequest request) {
+        if (path(request).startsWith(BULK_PATH_PREFIX)) {
+            return bulkLimiter;
+        }
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method)
+            ? readLimiter
+            : writeLimiter;
+    }
+
+    private void reject(HttpServletResponse response, AdaptiveConcurrencyLimiter limiter) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .message("Service overloaded")
+            .errors(List.of(String.format("Too many concurrent %s requests, please retry later", limiter.getName())))
+            .timestamp(LocalDateTime.now())
+            .build();
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Registers the limiter's gauges and returns its rejection counter.
+     */
+    private static Counter registerMetrics(MeterRegistry meterRegistry, AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("tasks.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+            .description("Current adaptive concurrency limit")
+            .tag("group", limiter.getName())
+            .register(meterRegistry);
+        Gauge.builder("tasks.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+            .description("Requests currently holding a permit")
+            .tag("group", limiter.getName())
+            .register(meterRegistry);
+        return Counter.builder("tasks.concurrency.rejected")
+            .description("Requests refused because the concurrency limit was reached")
+            .tag("group", limiter.getName())
+            .register(meterRegistry);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,227 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import uk.gov.hmcts.reform.dev.dto.ErrorResponse;
+import uk.gov.hmcts.reform.dev.service.IdempotencyStore;
+import uk.gov.hmcts.reform.dev.service.IdempotencyStore.Claim;
+import uk.gov.hmcts.reform.dev.service.IdempotencyStore.StoredResponse;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Makes the task write endpoints safe to retry by honouring an {@code Idempotency-Key} header.
+ * The first request with a key runs as normal and its response is recorded in the {@link IdempotencyStore};
+ * a retry with the same key and body gets the recorded response back without reaching the controller, and one
+ * that arrives while the first is still running waits for it. Reusing a key for a different body is rejected.
+ * Server errors are not recorded, so a request that failed that way can be retried for real.
+ * The body is read into memory to fingerprint it, so a keyed request with a body over
+ * {@code tasks.idempotency.max-body-size} is refused with 413 rather than read.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final Set<String> paths;
+    private final int maxBodySize;
+
+    public IdempotencyFilter(IdempotencyStore store,
+                             ObjectMapper objectMapper,
+                             @Value("${tasks.idempotency.paths:/api/tasks,/api/tasks/bulk/status}")
+                             List<String> paths,
+                             @Value("${tasks.idempotency.max-body-size:1MB}") DataSize maxBodySize) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.paths = Set.copyOf(paths);
+        this.maxBodySize = Math.toIntExact(maxBodySize.toBytes());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+            || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+            || !paths.contains(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Invalid idempotency key",
+                String.format("%s must be between 1 and %d characters", IDEMPOTENCY_KEY_HEADER, MAX_KEY_LENGTH));
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = CachedBodyRequest.read(request, maxBodySize);
+        if (cachedRequest == null) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large",
+                String.format("Requests with an %s must have a body of at most %d bytes",
+                    IDEMPOTENCY_KEY_HEADER, maxBodySize));
+            return;
+        }
+        String scopedKey = request.getMethod() + " " + path(request) + " " + key;
+        String requestHash = fingerprint(request.getContentType(), cachedRequest.body);
+
+        switch (store.claim(scopedKey, requestHash)) {
+            case Claim.Replay replay -> writeReplay(response, replay.response());
+            case Claim.Mismatch mismatch -> writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                "Idempotency key reused", String.format("Idempotency key %s was used for a different request", key));
+            case Claim.InProgress inProgress -> writeError(response, HttpStatus.CONFLICT,
+                "Idempotency key in use", String.format("A request with idempotency key %s is still in progress", key));
+            case Claim.Acquired acquired -> process(cachedRequest, response, chain, scopedKey, requestHash);
+        }
+    }
+
+    private void process(CachedBodyRequest request, HttpServletResponse response, FilterChain chain,
+                         String scopedKey, String requestHash) throws ServletException, IOException {
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean recorded = false;
+        try {
+            chain.doFilter(request, cachingResponse);
+            if (cachingResponse.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                store.complete(scopedKey, requestHash, cachingResponse.getStatus(),
+                    cachingResponse.getContentType(), cachingResponse.getContentAsByteArray());
+                recorded = true;
+            }
+        } finally {
+            if (!recorded) {
+                store.release(scopedKey);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void writeReplay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message, String error)
+        throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .status(status.value())
+            .message(message)
+            .errors(List.of(error))
+            .timestamp(LocalDateTime.now())
+            .build();
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    static String fingerprint(String contentType, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (contentType != null) {
+                digest.update(contentType.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0);
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Reads the request body up front so it can be fingerprinted and still be read by the controller.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        /**
+         * Reads the body, up to one byte past the limit.
+         *
+         * @return the request with its body cached, or null if the body is over the limit
+         */
+        static CachedBodyRequest read(HttpServletRequest request, int maxBodySize) throws IOException {
+            if (request.getContentLengthLong() > maxBodySize) {
+                return null;
+            }
+            byte[] body = request.getInputStream().readNBytes(maxBodySize + 1);
+            return body.length > maxBodySize ? null : new CachedBodyRequest(request, body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding() == null ? StandardCharsets.UTF_8.name() : getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(), encoding));
+        }
+    }
+}
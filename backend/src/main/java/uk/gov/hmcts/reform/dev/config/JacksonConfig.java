@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskResponseSerializer;
+
+/**
+ * Jackson customisations for the task API.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Registers the hand-written {@link TaskResponseSerializer} in place of the reflective bean serializer.
+     * Spring Boot adds every {@link Module} bean to the auto-configured ObjectMapper.
+     *
+     * @return module carrying the fast-path serializer
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tasks.serialization.fast-path.enabled", havingValue = "true")
+    public Module taskResponseFastPathModule() {
+        SimpleModule module = new SimpleModule("TaskResponseFastPath");
+        module.addSerializer(TaskResponse.class, new TaskResponseSerializer());
+        return module;
+    }
+}
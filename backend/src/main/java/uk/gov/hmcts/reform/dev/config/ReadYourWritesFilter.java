@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+import uk.gov.hmcts.reform.dev.datasource.ReadYourWritesScope;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Carries the time of a client's last write between its requests, so each client reads its own writes
+ * without holding every other client's reads on the primary.
+ * A request that commits a write gets back a {@value #COOKIE} cookie holding the commit time in epoch
+ * milliseconds, which lasts as long as the stickiness window. The cookie sent with a later request opens the
+ * {@link ReadYourWritesScope} its reads are routed by. A missing or malformed cookie counts as no recent write.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "tasks-last-write";
+
+    private final Duration stickiness;
+
+    public ReadYourWritesFilter(Duration stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        try (ReadYourWritesScope scope = ReadYourWritesScope.open(lastWrite(request),
+            committedAt -> setCookie(response, committedAt))) {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private static Instant lastWrite(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return Instant.MIN;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Instant.ofEpochMilli(Long.parseLong(cookie.getValue()));
+                } catch (NumberFormatException e) {
+                    return Instant.MIN;
+                }
+            }
+        }
+        return Instant.MIN;
+    }
+
+    private void setCookie(HttpServletResponse response, Instant committedAt) {
+        if (response.isCommitted()) {
+            return;
+        }
+        ResponseCookie cookie = ResponseCookie.from(COOKIE, Long.toString(committedAt.toEpochMilli()))
+            .path("/")
+            .maxAge(stickiness.plusSeconds(1))
+            .httpOnly(true)
+            .sameSite("Lax")
+            .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
@@ -0,0 +1,14 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs. They share a pool of {@code spring.task.scheduling.pool.size}
+ * threads, so a slow job only holds up the others once every thread is busy. Cache coherence polls on a thread of
+ * its own rather than here, as its staleness bound depends on it running on time.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import uk.gov.hmcts.reform.dev.dto.SlaReport;
+import uk.gov.hmcts.reform.dev.dto.SlaReportRow;
+import uk.gov.hmcts.reform.dev.service.SlaReportEngine;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes an {@link SlaReport} as CSV, one line per due week and status, for clients that ask for
+ * {@code Accept: text/csv}. Only the rows are written; the totals can be summed from them.
+ */
+public class SlaReportCsvConverter extends AbstractHttpMessageConverter<SlaReport> {
+
+    public static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public SlaReportCsvConverter() {
+        super(TEXT_CSV);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SlaReport.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected SlaReport readInternal(Class<? extends SlaReport> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("SLA reports cannot be read from CSV", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(SlaReport report, HttpOutputMessage outputMessage) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputMessage.getBody(), StandardCharsets.UTF_8));
+        writer.write("week_starting,status,tasks,on_time,late,working_days_late,max_working_days_late");
+        for (String range : SlaReportEngine.LATE_RANGES) {
+            writer.write(",late_" + range.replace('-', '_').replace("+", "_plus"));
+        }
+        writer.write("\r\n");
+        for (SlaReportRow row : report.getRows()) {
+            writer.write(row.getWeekStarting() + "," + row.getStatus() + "," + row.getTasks() + "," + row.getOnTime()
+                + "," + row.getLate() + "," + row.getWorkingDaysLate() + "," + row.getMaxWorkingDaysLate());
+            for (String range : SlaReportEngine.LATE_RANGES) {
+                writer.write("," + row.getLateByWorkingDays().getOrDefault(range, 0L));
+            }
+            writer.write("\r\n");
+        }
+        writer.flush();
+    }
+}
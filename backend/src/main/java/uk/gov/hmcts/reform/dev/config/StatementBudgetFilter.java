@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import uk.gov.hmcts.reform.dev.datasource.StatementScope;
+
+import java.io.IOException;
+
+/**
+ * Counts the JDBC statements each request runs and holds them to a budget.
+ * In {@link Mode#WARN} mode a request over budget is logged; in {@link Mode#FAIL} mode the first statement over
+ * budget throws, failing the request with 500, which is meant for development and test runs. Either way, a statement
+ * repeated {@code repeatThreshold} times within one request is logged as a likely N+1 query.
+ */
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StatementBudgetFilter.class);
+
+    private final int budget;
+    private final Mode mode;
+    private final int repeatThreshold;
+    private final DistributionSummary statementsPerRequest;
+
+    public StatementBudgetFilter(int budget, Mode mode, int repeatThreshold, MeterRegistry meterRegistry) {
+        this.budget = budget;
+        this.mode = mode;
+        this.repeatThreshold = repeatThreshold;
+        this.statementsPerRequest = DistributionSummary.builder("tasks.jdbc.statements")
+            .description("JDBC statements run per HTTP request")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        try (StatementScope scope = StatementScope.open(mode == Mode.FAIL ? budget : StatementScope.UNLIMITED)) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                report(request, scope);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, StatementScope scope) {
+        if (scope.statements() == 0) {
+            return;
+        }
+        statementsPerRequest.record(scope.statements());
+        if (scope.statements() > budget) {
+            LOG.warn("{} {} ran {} statements, over its budget of {}",
+                request.getMethod(), request.getRequestURI(), scope.statements(), budget);
+        }
+        scope.repeatedStatements(repeatThreshold).forEach((sql, count) ->
+            LOG.warn("Possible N+1 query in {} {}: {} runs of {}",
+                request.getMethod(), request.getRequestURI(), count, sql));
+    }
+
+    /**
+     * What to do with a request that goes over its statement budget.
+     */
+    public enum Mode {
+        WARN, FAIL
+    }
+}
@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Adds CBOR as a binary wire format alongside JSON.
+ * Clients opt in with {@code Content-Type: application/cbor} and {@code Accept: application/cbor};
+ * everything else keeps getting JSON because the CBOR converter is always ordered after the JSON one.
+ * Also adds CSV output for SLA reports, for clients that send {@code Accept: text/csv}.
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    public WireFormatConfig(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    /**
+     * Replaces Spring's default CBOR converter with one built from the Boot-configured Jackson builder,
+     * so CBOR and JSON share modules (including the TaskResponse fast path) and date handling.
+     *
+     * @param converters the configured message converters
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(MappingJackson2CborHttpMessageConverter.class::isInstance);
+
+        MappingJackson2CborHttpMessageConverter cbor = new MappingJackson2CborHttpMessageConverter(
+            objectMapperBuilder.factory(new CBORFactory()).build()
+        );
+
+        int insertAt = converters.size();
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                insertAt = i + 1;
+            }
+        }
+        converters.add(insertAt, cbor);
+        converters.add(new SlaReportCsvConverter());
+    }
+}
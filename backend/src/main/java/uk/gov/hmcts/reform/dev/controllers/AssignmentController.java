@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.TaskAssignmentService;
+
+import java.util.List;
+
+/**
+ * REST Controller for caseworker work queues.
+ */
+@RestController
+@RequestMapping("/api/assignees/{assignee}")
+@CrossOrigin(origins = "*")
+@Tag(name = "Assignments", description = "Caseworker work queue API")
+public class AssignmentController {
+
+    private final TaskAssignmentService taskAssignmentService;
+
+    public AssignmentController(TaskAssignmentService taskAssignmentService) {
+        this.taskAssignmentService = taskAssignmentService;
+    }
+
+    /**
+     * Lists the tasks assigned to a caseworker.
+     *
+     * @param assignee the caseworker
+     * @param status optional status filter
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return the tasks on the requested page with HTTP 200 status
+     */
+    @GetMapping(value = "/tasks", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(
+        summary = "Caseworker work queue",
+        description = "Lists the tasks assigned to a caseworker ordered by due date, optionally filtered by status."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Page of assigned tasks",
+        content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class))
+        )
+    )
+    public ResponseEntity<List<TaskResponse>> getQueue(
+        @PathVariable @NotBlank @Size(max = 100) String assignee,
+        @RequestParam(required = false) TaskStatus status,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(taskAssignmentService.getQueue(assignee, status, page, size));
+    }
+
+    /**
+     * Claims the most urgent unassigned task for a caseworker.
+     *
+     * @param assignee the caseworker
+     * @return the claimed task with HTTP 200 status, or HTTP 204 if there is nothing to claim
+     */
+    @PostMapping(value = "/claim", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(
+        summary = "Claim next task",
+        description = "Assigns one of the unassigned PENDING tasks due soonest to the caseworker. "
+            + "Safe to call concurrently: a task is never assigned to two caseworkers."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Task claimed",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskResponse.class)
+            )
+        ),
+        @ApiResponse(responseCode = "204", description = "No unassigned tasks left to claim")
+    })
+    public ResponseEntity<TaskResponse> claimNext(@PathVariable @NotBlank @Size(max = 100) String assignee) {
+        return taskAssignmentService.claimNext(assignee)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+}
@@ -1,21 +1,131 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import uk.gov.hmcts.reform.dev.models.ExampleCase;
+import uk.gov.hmcts.reform.dev.dto.CaseSummary;
+import uk.gov.hmcts.reform.dev.dto.CreateCaseRequest;
+import uk.gov.hmcts.reform.dev.dto.ErrorResponse;
+import uk.gov.hmcts.reform.dev.service.CaseService;
 
-import java.time.LocalDateTime;
-
-import static org.springframework.http.ResponseEntity.ok;
+import java.util.List;
 
+/**
+ * REST Controller for cases and their task summaries.
+ */
 @RestController
+@RequestMapping("/api/cases")
+@CrossOrigin(origins = "*")
+@Tag(name = "Cases", description = "Case management API")
 public class CaseController {
 
-    @GetMapping(value = "/get-example-case", produces = "application/json")
-    public ResponseEntity<ExampleCase> getExampleCase() {
-        return ok(new ExampleCase(1, "ABC12345", "Case Title",
-                                  "Case Description", "Case Status", LocalDateTime.now()
-        ));
+    private final CaseService caseService;
+
+    public CaseController(CaseService caseService) {
+        this.caseService = caseService;
+    }
+
+    /**
+     * Creates a case.
+     *
+     * @param request the case creation request
+     * @return the created case with HTTP 201 status
+     */
+    @PostMapping(
+        consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE},
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE}
+    )
+    @Operation(summary = "Create a case", description = "Creates an open case that tasks can be attached to.")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Case created",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CaseSummary.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request - validation errors",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "A case with the same case number already exists",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<CaseSummary> createCase(@Valid @RequestBody CreateCaseRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(caseService.createCase(request));
+    }
+
+    /**
+     * Gets a case with its open tasks and task counts.
+     *
+     * @param id the case id
+     * @return the case summary with HTTP 200 status
+     */
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(
+        summary = "Get a case summary",
+        description = "Retrieves a case with its PENDING and IN_PROGRESS tasks and the number of tasks in each status."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Case found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = CaseSummary.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No case exists with the given id",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    public ResponseEntity<CaseSummary> getCaseSummary(@PathVariable Long id) {
+        return ResponseEntity.ok(caseService.getCaseSummary(id));
+    }
+
+    /**
+     * Lists case summaries, oldest case first.
+     *
+     * @param page the zero-based page number
+     * @param size the page size, at most {@value CaseService#MAX_PAGE_SIZE}
+     * @return the case summaries with HTTP 200 status
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(
+        summary = "List case summaries",
+        description = "Lists cases with their open tasks and task counts. A page is loaded in a fixed number "
+            + "of queries however many cases and tasks it holds."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Case summaries on the requested page",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = CaseSummary.class))
+            )
+        )
+    })
+    public ResponseEntity<List<CaseSummary>> listCaseSummaries(
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(caseService.listCaseSummaries(page, size));
     }
 }
@@ -0,0 +1,84 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.dto.LabelFilterResult;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.LabelIndex;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * REST Controller for task labels.
+ */
+@RestController
+@RequestMapping("/api/labels")
+@CrossOrigin(origins = "*")
+@Tag(name = "Labels", description = "Task label API")
+public class LabelController {
+
+    private final LabelIndex labelIndex;
+
+    public LabelController(LabelIndex labelIndex) {
+        this.labelIndex = labelIndex;
+    }
+
+    /**
+     * Lists every label in use with the number of tasks carrying it.
+     *
+     * @return task counts keyed by label with HTTP 200 status
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(summary = "Label counts", description = "Lists every label in use with the number of tasks carrying it.")
+    @ApiResponse(responseCode = "200", description = "Task counts keyed by label")
+    public ResponseEntity<SortedMap<String, Integer>> getLabelCounts() {
+        return ResponseEntity.ok(labelIndex.labelCounts());
+    }
+
+    /**
+     * Finds the tasks matching a combination of labels.
+     *
+     * @param all labels a task must have every one of
+     * @param any labels a task must have at least one of
+     * @param none labels a task must not have
+     * @param status statuses to restrict to
+     * @param page the zero-based page number of ids
+     * @param size the page size
+     * @return the match counts and a page of task ids with HTTP 200 status
+     */
+    @GetMapping(value = "/filter", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(
+        summary = "Filter tasks by label",
+        description = "Counts the tasks that have all of the 'all' labels, at least one of the 'any' labels and "
+            + "none of the 'none' labels, optionally restricted to some statuses, and returns one page of their "
+            + "ids. Answered from in-memory bitmap indexes without querying the database."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Matching task counts and ids",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = LabelFilterResult.class)
+        )
+    )
+    public ResponseEntity<LabelFilterResult> filter(
+        @RequestParam(required = false) List<String> all,
+        @RequestParam(required = false) List<String> any,
+        @RequestParam(required = false) List<String> none,
+        @RequestParam(required = false) List<TaskStatus> status,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(labelIndex.filter(all, any, none, status, page, size));
+    }
+}
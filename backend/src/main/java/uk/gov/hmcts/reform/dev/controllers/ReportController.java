@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.config.SlaReportCsvConverter;
+import uk.gov.hmcts.reform.dev.dto.SlaReport;
+import uk.gov.hmcts.reform.dev.service.SlaReportService;
+
+import java.time.LocalDate;
+
+/**
+ * REST Controller for management reports.
+ */
+@RestController
+@RequestMapping("/api/reports")
+@CrossOrigin(origins = "*")
+@Tag(name = "Reports", description = "Management reporting API")
+public class ReportController {
+
+    private final SlaReportService slaReportService;
+
+    public ReportController(SlaReportService slaReportService) {
+        this.slaReportService = slaReportService;
+    }
+
+    /**
+     * Reports task lateness by due week and status.
+     *
+     * @param from first due date to include
+     * @param to last due date to include
+     * @return the report with HTTP 200 status
+     */
+    @GetMapping(
+        value = "/sla",
+        produces = {
+            MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, SlaReportCsvConverter.TEXT_CSV_VALUE
+        }
+    )
+    @Operation(
+        summary = "SLA report",
+        description = "Counts the live and archived tasks due in each week, by status, and how many of them were "
+            + "late and by how many working days, skipping weekends and bank holidays. Completed tasks are "
+            + "measured to when they were completed, open tasks to now; cancelled tasks are never late. "
+            + "Either bound may be left out. Returns JSON by default, or CSV rows with Accept: text/csv."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Lateness by due week and status",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = SlaReport.class)
+        )
+    )
+    public ResponseEntity<SlaReport> getSlaReport(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(slaReportService.report(from, to));
+    }
+}
@@ -1,24 +1,42 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusTransitionRequest;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusTransitionResponse;
 import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.DueTaskPage;
 import uk.gov.hmcts.reform.dev.dto.ErrorResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskHistoryEntry;
 import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.BulkStatusTransitionService;
+import uk.gov.hmcts.reform.dev.service.GroupCommitTaskWriter;
+import uk.gov.hmcts.reform.dev.service.TaskAuditService;
 import uk.gov.hmcts.reform.dev.service.TaskService;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * REST Controller for task management operations.
  */
@@ -29,9 +47,19 @@ import uk.gov.hmcts.reform.dev.service.TaskService;
 public class TaskController {
 
     private final TaskService taskService;
+    private final BulkStatusTransitionService bulkStatusTransitionService;
+    private final TaskAuditService taskAuditService;
+    private final GroupCommitTaskWriter groupCommitTaskWriter;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService,
+                          BulkStatusTransitionService bulkStatusTransitionService,
+                          TaskAuditService taskAuditService,
+                          ObjectProvider<GroupCommitTaskWriter> groupCommitTaskWriter) {
         this.taskService = taskService;
+        this.bulkStatusTransitionService = bulkStatusTransitionService;
+        this.taskAuditService = taskAuditService;
+        // Only present when tasks.group-commit.enabled is true
+        this.groupCommitTaskWriter = groupCommitTaskWriter.getIfAvailable();
     }
 
     /**
@@ -40,11 +68,17 @@ public class TaskController {
      * @param request the task creation request containing title, description, status, and due date
      * @return the created task with HTTP 201 status
      */
-    @PostMapping
+    @PostMapping(
+        consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE},
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE}
+    )
     @Operation(
         summary = "Create a new task",
         description = "Creates a new task for caseworkers with the provided details. "
-            + "Tasks cannot be created with due dates that fall on UK bank holidays."
+            + "Tasks cannot be created with due dates that fall on UK bank holidays. "
+            + "A task with the same title, description and due date as an existing one is rejected, logged or "
+            + "merged into the existing task, depending on tasks.duplicates.policy. "
+            + "Accepts and returns JSON by default, or CBOR when requested via Content-Type/Accept."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -62,10 +96,189 @@ public class TaskController {
                 mediaType = "application/json",
                 schema = @Schema(implementation = ErrorResponse.class)
             )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Duplicates an existing task, under the reject duplicate policy",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
         )
     })
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody CreateTaskRequest request) {
-        TaskResponse response = taskService.createTask(request);
+        TaskResponse response = groupCommitTaskWriter == null
+            ? taskService.createTask(request)
+            : groupCommitTaskWriter.createTask(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    /**
+     * Gets a task by id.
+     *
+     * @param id the task id
+     * @return the task with HTTP 200 status
+     */
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(summary = "Get a task", description = "Retrieves a single task by its id.")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Task found",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No task exists with the given id",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<TaskResponse> getTask(@PathVariable Long id) {
+        return ResponseEntity.ok(taskService.getTaskById(id));
+    }
+
+    /**
+     * Gets a task's audit history.
+     *
+     * @param id the task id
+     * @return the task's changes, oldest first, with HTTP 200 status
+     */
+    @GetMapping(
+        value = "/{id}/history",
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE}
+    )
+    @Operation(
+        summary = "Get a task's history",
+        description = "Lists every recorded change to the task, oldest first, including changes made by background "
+            + "jobs. History is kept after the task is archived."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "The task's changes",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = TaskHistoryEntry.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No history exists for the given id",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<List<TaskHistoryEntry>> getTaskHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(taskAuditService.getHistory(id));
+    }
+
+    /**
+     * Lists tasks ordered by due date.
+     *
+     * @param status optional status filter
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return the tasks on the requested page with HTTP 200 status
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(
+        summary = "List tasks",
+        description = "Lists tasks ordered by due date, optionally filtered by status. "
+            + "The page size is capped at " + TaskService.MAX_PAGE_SIZE + "."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Page of tasks",
+        content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class))
+        )
+    )
+    public ResponseEntity<List<TaskResponse>> listTasks(
+        @RequestParam(required = false) TaskStatus status,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(taskService.listTasks(status, page, size));
+    }
+
+    /**
+     * Lists the open tasks due in a range, soonest first.
+     *
+     * @param from start of the range, inclusive
+     * @param to end of the range, exclusive
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return the total count and the tasks on the requested page with HTTP 200 status
+     */
+    @GetMapping(value = "/due", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(
+        summary = "List open tasks due in a range",
+        description = "Counts the pending and in-progress tasks due from 'from' (inclusive) to 'to' (exclusive), "
+            + "either of which may be left open, and returns one page of them ordered by due date. The range is "
+            + "answered from an in-memory index to the minute; only the tasks on the page are read from the "
+            + "database. The page size is capped at " + TaskService.MAX_PAGE_SIZE + "."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Count and page of open tasks due in the range",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = DueTaskPage.class)
+        )
+    )
+    public ResponseEntity<DueTaskPage> listTasksDueBetween(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(taskService.listTasksDueBetween(from, to, page, size));
+    }
+
+    /**
+     * Moves every task matching the request to a new status.
+     *
+     * @param request the statuses to move from and to, and an optional due date filter
+     * @return the number of tasks moved with HTTP 200 status
+     */
+    @PostMapping(
+        value = "/bulk/status",
+        consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE},
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE}
+    )
+    @Operation(
+        summary = "Bulk status transition",
+        description = "Moves all tasks in the given statuses, optionally only those due before a date, "
+            + "to the target status. Completed and cancelled tasks cannot be moved. "
+            + "Tasks are updated in chunks, so a large transition may be partly applied if it fails midway."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Tasks moved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = BulkStatusTransitionResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request or a requested transition is not allowed",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<BulkStatusTransitionResponse> transitionStatus(
+        @Valid @RequestBody BulkStatusTransitionRequest request) {
+        return ResponseEntity.ok(bulkStatusTransitionService.transition(request));
+    }
 }
@@ -0,0 +1,183 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskTemplateRequest;
+import uk.gov.hmcts.reform.dev.dto.ErrorResponse;
+import uk.gov.hmcts.reform.dev.dto.TaskTemplateResponse;
+import uk.gov.hmcts.reform.dev.dto.TemplateOccurrence;
+import uk.gov.hmcts.reform.dev.service.TaskTemplateService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST Controller for recurring task templates.
+ */
+@RestController
+@RequestMapping("/api/templates")
+@CrossOrigin(origins = "*")
+@Tag(name = "Templates", description = "Recurring task template API")
+public class TaskTemplateController {
+
+    private final TaskTemplateService taskTemplateService;
+
+    public TaskTemplateController(TaskTemplateService taskTemplateService) {
+        this.taskTemplateService = taskTemplateService;
+    }
+
+    /**
+     * Creates a recurring task template.
+     *
+     * @param request the template creation request
+     * @return the created template with HTTP 201 status
+     */
+    @PostMapping(
+        consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE},
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE}
+    )
+    @Operation(
+        summary = "Create a recurring task template",
+        description = "Creates a template whose occurrences are generated as PENDING tasks in the background, "
+            + "a rolling window ahead. Occurrences on a bank holiday are due on the next working day instead."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Template created",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskTemplateResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request - validation errors or an unsupported recurrence rule",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<TaskTemplateResponse> createTemplate(@Valid @RequestBody CreateTaskTemplateRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(taskTemplateService.createTemplate(request));
+    }
+
+    /**
+     * Gets a template by id.
+     *
+     * @param id the template id
+     * @return the template with HTTP 200 status
+     */
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(summary = "Get a task template", description = "Retrieves a single task template by its id.")
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Template found",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskTemplateResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No template exists with the given id",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<TaskTemplateResponse> getTemplate(@PathVariable Long id) {
+        return ResponseEntity.ok(taskTemplateService.getTemplate(id));
+    }
+
+    /**
+     * Lists a template's upcoming occurrences without generating tasks.
+     *
+     * @param id the template id
+     * @param from first rule date, defaults to today
+     * @param to last rule date, defaults to 28 days from {@code from}
+     * @return the occurrences with HTTP 200 status
+     */
+    @GetMapping(
+        value = "/{id}/occurrences",
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE}
+    )
+    @Operation(
+        summary = "Preview template occurrences",
+        description = "Expands the template's rule over a date range, at most a year, showing where bank "
+            + "holidays move an occurrence to the next working day. No tasks are created."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Occurrences in the range",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = TemplateOccurrence.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No template exists with the given id",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<List<TemplateOccurrence>> previewOccurrences(
+        @PathVariable Long id,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(taskTemplateService.previewOccurrences(id, from, to));
+    }
+
+    /**
+     * Stops a template generating further tasks.
+     *
+     * @param id the template id
+     * @return HTTP 204 status
+     */
+    @DeleteMapping("/{id}")
+    @Operation(
+        summary = "Deactivate a task template",
+        description = "Stops the template generating further tasks. Tasks it already generated are kept."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Template deactivated"),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No template exists with the given id",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<Void> deactivateTemplate(@PathVariable Long id) {
+        taskTemplateService.deactivateTemplate(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,107 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.dto.DailyWorkload;
+import uk.gov.hmcts.reform.dev.dto.ErrorResponse;
+import uk.gov.hmcts.reform.dev.dto.SlotSuggestion;
+import uk.gov.hmcts.reform.dev.service.CapacityScheduler;
+import uk.gov.hmcts.reform.dev.service.DueDateWorkloadService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST Controller for workload planning views.
+ */
+@RestController
+@RequestMapping("/api/workload")
+@CrossOrigin(origins = "*")
+@Tag(name = "Workload", description = "Workload planning API for team leads")
+public class WorkloadController {
+
+    private final DueDateWorkloadService dueDateWorkloadService;
+    private final CapacityScheduler capacityScheduler;
+
+    public WorkloadController(DueDateWorkloadService dueDateWorkloadService, CapacityScheduler capacityScheduler) {
+        this.dueDateWorkloadService = dueDateWorkloadService;
+        this.capacityScheduler = capacityScheduler;
+    }
+
+    /**
+     * Gets the number of tasks due on each day of a date range.
+     *
+     * @param from first day, defaults to today
+     * @param to last day, defaults to 90 days from {@code from}
+     * @return one entry per day with HTTP 200 status
+     */
+    @GetMapping(value = "/due-dates", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(
+        summary = "Daily due-date workload",
+        description = "Returns the number of tasks due on each day, split by status, with weekends and "
+            + "bank holidays marked. Served from pre-aggregated counts; ranges are limited to the maintained "
+            + "window around today."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Workload per day",
+        content = @Content(
+            mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = DailyWorkload.class))
+        )
+    )
+    public ResponseEntity<List<DailyWorkload>> getDueDateWorkload(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(dueDateWorkloadService.getWorkload(from, to));
+    }
+
+    /**
+     * Suggests the earliest working day at or after a requested due date with free capacity.
+     *
+     * @param requested the requested due date
+     * @return the suggested due date with HTTP 200 status
+     */
+    @GetMapping(value = "/next-slot", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(
+        summary = "Next available due date",
+        description = "Returns the earliest working day, skipping weekends and bank holidays, at or after the "
+            + "requested due date that has fewer open tasks due than the daily capacity."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Suggested due date",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = SlotSuggestion.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No working day within the scheduling horizon has free capacity",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<SlotSuggestion> suggestSlot(
+        @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime requested) {
+        return ResponseEntity.ok(capacityScheduler.suggestSlot(requested));
+    }
+}
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.config.StatementBudgetFilter;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's datasource in a proxy that counts and times every statement, and adds the per-request
+ * statement budget. Only the {@code dataSource} bean is wrapped; with read replicas enabled that is the routing
+ * datasource, so statements sent to the primary are not counted twice.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasks.query-guard.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryGuardConfig {
+
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(
+        @Value("${tasks.query-guard.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        StatementListener listener = new StatementListener(slowQueryThreshold);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                    && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                        .name(DATA_SOURCE_BEAN)
+                        .listener(listener)
+                        .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public StatementBudgetFilter statementBudgetFilter(
+        MeterRegistry meterRegistry,
+        @Value("${tasks.query-guard.statement-budget:20}") int budget,
+        @Value("${tasks.query-guard.budget-mode:warn}") StatementBudgetFilter.Mode mode,
+        @Value("${tasks.query-guard.repeat-threshold:10}") int repeatThreshold) {
+        return new StatementBudgetFilter(budget, mode, repeatThreshold, meterRegistry);
+    }
+}
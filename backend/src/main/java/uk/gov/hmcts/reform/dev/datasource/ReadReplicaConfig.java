@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import uk.gov.hmcts.reform.dev.config.ReadYourWritesFilter;
+
+import java.time.Clock;
+import javax.sql.DataSource;
+
+/**
+ * Replaces the auto-configured datasource with a primary/replica routing datasource
+ * when {@code tasks.datasource.read-replicas.enabled} is true.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tasks.datasource.read-replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    /**
+     * The primary pool, configured from the standard {@code spring.datasource} properties.
+     *
+     * @param properties the standard datasource properties
+     * @return the primary datasource
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * The replica pools; also exposed as the {@code replicas} health contributor.
+     *
+     * @param properties the replica configuration
+     * @return the replica pool
+     */
+    @Bean
+    public ReplicaPool replicas(ReadReplicaProperties properties) {
+        return ReplicaPool.fromProperties(properties);
+    }
+
+    /**
+     * The datasource used by JPA and JDBC.
+     *
+     * @param primaryDataSource the primary datasource
+     * @param replicas the replica pool
+     * @param properties the replica configuration
+     * @return a lazy proxy over the routing datasource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicas,
+                                 ReadReplicaProperties properties) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+            primaryDataSource, replicas, properties.getStickiness(), Clock.systemUTC()
+        );
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Hands each client the time of its last write and routes its reads by the time it sends back.
+     *
+     * @param properties the replica configuration
+     * @return the filter
+     */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReadReplicaProperties properties) {
+        return new ReadYourWritesFilter(properties.getStickiness());
+    }
+}
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for routing read-only transactions to replica databases.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tasks.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    /**
+     * Whether read-only transactions are routed to replicas at all.
+     */
+    private boolean enabled;
+
+    /**
+     * How a replica is picked for each read-only transaction.
+     */
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    /**
+     * How long a client's reads stay on the primary after one of its writes commits, so it reads its own writes
+     * while replicas catch up. Should exceed the expected replication lag plus any clock skew between instances.
+     */
+    private Duration stickiness = Duration.ofSeconds(2);
+
+    /**
+     * How often each replica is probed; a replica failing the probe is skipped until it passes again.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    private List<Node> nodes = new ArrayList<>();
+
+    /**
+     * Replica selection strategies.
+     */
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_LOADED
+    }
+
+    /**
+     * Connection settings for a single replica.
+     */
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
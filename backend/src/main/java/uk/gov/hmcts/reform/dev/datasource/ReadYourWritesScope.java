@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * The last write commit a client has seen, which {@link ReplicaRoutingDataSource} uses to keep that client's
+ * reads on the primary until replicas have caught up.
+ * A request opens a scope with the commit time the client sent back, and every write committed on the request's
+ * thread moves it forward and is passed on, so it can be returned to the client. A thread with no open scope,
+ * such as a scheduled job, gets one of its own that only covers its own writes.
+ */
+public final class ReadYourWritesScope implements AutoCloseable {
+
+    private static final ThreadLocal<ReadYourWritesScope> CURRENT =
+        ThreadLocal.withInitial(() -> new ReadYourWritesScope(Instant.MIN, committed -> { }));
+
+    private final Consumer<Instant> onWrite;
+    private Instant lastWrite;
+
+    private ReadYourWritesScope(Instant lastWrite, Consumer<Instant> onWrite) {
+        this.lastWrite = lastWrite;
+        this.onWrite = onWrite;
+    }
+
+    /**
+     * Opens a scope on the current thread.
+     *
+     * @param lastWrite the last write commit the client has seen, {@link Instant#MIN} if none
+     * @param onWrite called with the commit time of each write committed while the scope is open
+     * @return the open scope, to be closed on the same thread
+     */
+    public static ReadYourWritesScope open(Instant lastWrite, Consumer<Instant> onWrite) {
+        ReadYourWritesScope scope = new ReadYourWritesScope(lastWrite, onWrite);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * The last write commit seen by the current thread's client.
+     *
+     * @return the commit time, {@link Instant#MIN} if none
+     */
+    public static Instant lastWrite() {
+        return CURRENT.get().lastWrite;
+    }
+
+    /**
+     * Records a write committed for the current thread's client, including one committed for it on another
+     * thread.
+     *
+     * @param committedAt when the write committed
+     */
+    public static void recordWrite(Instant committedAt) {
+        ReadYourWritesScope scope = CURRENT.get();
+        if (committedAt.isAfter(scope.lastWrite)) {
+            scope.lastWrite = committedAt;
+            scope.onWrite.accept(committedAt);
+        }
+    }
+
+    @Override
+    public void close() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,152 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+/**
+ * Set of replica datasources that read-only transactions can be routed to.
+ * Replicas are probed periodically and unhealthy ones are skipped until they recover.
+ * Also reported under the {@code replicas} health contributor.
+ */
+public class ReplicaPool implements HealthIndicator, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReplicaPool.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final List<Replica> replicas;
+    private final ReadReplicaProperties.Selection selection;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPool(List<DataSource> dataSources, ReadReplicaProperties.Selection selection) {
+        this.replicas = new ArrayList<>(dataSources.size());
+        for (int i = 0; i < dataSources.size(); i++) {
+            replicas.add(new Replica("replica-" + i, dataSources.get(i)));
+        }
+        this.selection = selection;
+    }
+
+    /**
+     * Creates a pool with one Hikari pool per configured replica.
+     *
+     * @param properties the replica configuration
+     * @return the replica pool
+     */
+    public static ReplicaPool fromProperties(ReadReplicaProperties properties) {
+        List<DataSource> dataSources = new ArrayList<>();
+        for (int i = 0; i < properties.getNodes().size(); i++) {
+            ReadReplicaProperties.Node node = properties.getNodes().get(i);
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(node.getUrl());
+            config.setUsername(node.getUsername());
+            config.setPassword(node.getPassword());
+            config.setMaximumPoolSize(node.getMaximumPoolSize());
+            config.setReadOnly(true);
+            dataSources.add(new HikariDataSource(config));
+        }
+        return new ReplicaPool(dataSources, properties.getSelection());
+    }
+
+    /**
+     * Picks a healthy replica.
+     *
+     * @return the selected replica, or null if none is healthy
+     */
+    public DataSource select() {
+        List<Replica> healthy = replicas.stream().filter(Replica::isHealthy).toList();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        if (selection == ReadReplicaProperties.Selection.LEAST_LOADED) {
+            return healthy.stream()
+                .min(Comparator.comparingInt(Replica::activeConnections))
+                .map(Replica::dataSource)
+                .orElse(null);
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size())).dataSource();
+    }
+
+    /**
+     * Probes every replica and updates its health.
+     */
+    @Scheduled(fixedDelayString = "${tasks.datasource.read-replicas.health-check-interval:5s}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource().getConnection()) {
+                healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (healthy != replica.isHealthy()) {
+                LOG.warn("Replica {} is now {}", replica.name(), healthy ? "healthy" : "unhealthy");
+            }
+            replica.setHealthy(healthy);
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = replicas.stream().anyMatch(Replica::isHealthy) ? Health.up() : Health.down();
+        replicas.forEach(replica -> builder.withDetail(replica.name(), replica.isHealthy() ? "UP" : "DOWN"));
+        return builder.build();
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        String name() {
+            return name;
+        }
+
+        DataSource dataSource() {
+            return dataSource;
+        }
+
+        boolean isHealthy() {
+            return healthy;
+        }
+
+        void setHealthy(boolean healthy) {
+            this.healthy = healthy;
+        }
+
+        int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool == null ? 0 : pool.getActiveConnections();
+            }
+            return 0;
+        }
+    }
+}
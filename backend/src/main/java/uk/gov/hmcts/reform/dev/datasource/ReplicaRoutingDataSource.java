@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import javax.sql.DataSource;
+
+/**
+ * Routes read-only transactions to a replica and everything else to the primary.
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, otherwise the
+ * connection is fetched before the transaction's read-only flag is known.
+ *
+ * <p>Read-your-writes: once a client's write transaction commits, that client's reads go to the primary for the
+ * configured stickiness window so it never reads an older state than it just wrote. Which client a read is for,
+ * and when it last wrote, come from the thread's {@link ReadYourWritesScope}; other clients' reads keep going to
+ * the replicas.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final ReplicaPool replicas;
+    private final Duration stickiness;
+    private final Clock clock;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicas, Duration stickiness, Clock clock) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.stickiness = stickiness;
+        this.clock = clock;
+        setTargetDataSources(Map.of(PRIMARY, primary));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return PRIMARY;
+    }
+
+    @Override
+    protected DataSource determineTargetDataSource() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return primary;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            return primary;
+        }
+        if (withinStickinessWindow()) {
+            return primary;
+        }
+        DataSource replica = replicas.select();
+        return replica == null ? primary : replica;
+    }
+
+    private boolean withinStickinessWindow() {
+        Instant lastWrite = ReadYourWritesScope.lastWrite();
+        return lastWrite != Instant.MIN && clock.instant().isBefore(lastWrite.plus(stickiness));
+    }
+
+    private void recordWriteOnCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ReadYourWritesScope.recordWrite(clock.instant());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Feeds every statement run through the application's datasource to the open {@link StatementScope}s and logs slow
+ * statements. The slow query log shows the SQL and the type of each bind parameter, never its value, so it is safe
+ * to ship from production.
+ */
+public class StatementListener implements QueryExecutionListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StatementListener.class);
+
+    private final long slowQueryMillis;
+
+    public StatementListener(Duration slowQueryThreshold) {
+        this.slowQueryMillis = slowQueryThreshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+        StatementScope.checkLimits();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+        long elapsed = execution.getElapsedTime();
+        for (QueryInfo query : queries) {
+            StatementScope.record(query.getQuery(), elapsed);
+            if (elapsed >= slowQueryMillis) {
+                LOG.warn("Slow statement took {} ms{}: {} parameters {}",
+                    elapsed,
+                    execution.isBatch() ? " for a batch of " + execution.getBatchSize() : "",
+                    query.getQuery(),
+                    parameterShape(query));
+            }
+        }
+    }
+
+    /**
+     * Describes the bind parameters of a statement by type, in position order.
+     * A batch repeats the same shape for every row, so only the first row is described.
+     *
+     * @param query the statement
+     * @return the parameter types, such as {@code [Long, String, null]}
+     */
+    static String parameterShape(QueryInfo query) {
+        List<List<ParameterSetOperation>> parameters = query.getParametersList();
+        if (parameters.isEmpty()) {
+            return "[]";
+        }
+        return parameters.getFirst().stream()
+            .sorted(Comparator.comparing(StatementListener::position))
+            .map(StatementListener::typeOf)
+            .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String position(ParameterSetOperation operation) {
+        Object position = operation.getArgs()[0];
+        // Pad numeric positions so that 10 sorts after 9; named parameters sort by name
+        return position instanceof Integer index ? String.format("%010d", index) : String.valueOf(position);
+    }
+
+    private static String typeOf(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        if ("setNull".equals(operation.getMethod().getName()) || args.length < 2 || args[1] == null) {
+            return "null";
+        }
+        return args[1].getClass().getSimpleName();
+    }
+}
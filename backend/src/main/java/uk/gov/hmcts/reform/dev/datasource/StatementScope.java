@@ -0,0 +1,168 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import uk.gov.hmcts.reform.dev.exception.StatementBudgetExceededException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Counts the JDBC statements the current thread runs while the scope is open.
+ * Scopes nest, and a statement counts towards every scope open on the thread, so a test can open one around a
+ * request that also has its own per-request scope. A batch counts as one statement, as it is one round trip.
+ *
+ * <p>Scopes are fed by {@link StatementListener}, which only sees statements run through the application's
+ * datasource; statements run on other threads, such as the audit writer, never count.
+ */
+public final class StatementScope implements AutoCloseable {
+
+    /** Limit for a scope that only counts. */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final ThreadLocal<Deque<StatementScope>> OPEN = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final int limit;
+    private final Map<StatementType, Integer> byType = new EnumMap<>(StatementType.class);
+    private final Map<String, Integer> bySql = new LinkedHashMap<>();
+    private int statements;
+    private long elapsedMillis;
+
+    private StatementScope(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Opens a scope that counts statements without limiting them.
+     *
+     * @return the open scope, to be closed on the same thread
+     */
+    public static StatementScope open() {
+        return open(UNLIMITED);
+    }
+
+    /**
+     * Opens a scope that fails any statement beyond the limit with {@link StatementBudgetExceededException}.
+     *
+     * @param limit the most statements the scope allows
+     * @return the open scope, to be closed on the same thread
+     */
+    public static StatementScope open(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative");
+        }
+        StatementScope scope = new StatementScope(limit);
+        OPEN.get().push(scope);
+        return scope;
+    }
+
+    /**
+     * Refuses the next statement if it would take any open scope over its limit.
+     *
+     * @throws StatementBudgetExceededException if a scope has used its whole limit
+     */
+    static void checkLimits() {
+        for (StatementScope scope : OPEN.get()) {
+            if (scope.statements >= scope.limit) {
+                throw new StatementBudgetExceededException(scope.limit);
+            }
+        }
+    }
+
+    /**
+     * Counts a statement towards every scope open on the current thread.
+     *
+     * @param sql the statement text
+     * @param elapsedMillis how long it took
+     */
+    static void record(String sql, long elapsedMillis) {
+        Deque<StatementScope> open = OPEN.get();
+        if (open.isEmpty()) {
+            return;
+        }
+        StatementType type = StatementType.of(sql);
+        for (StatementScope scope : open) {
+            scope.statements++;
+            scope.elapsedMillis += elapsedMillis;
+            scope.byType.merge(type, 1, Integer::sum);
+            scope.bySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Gets the number of statements run in the scope.
+     *
+     * @return the statement count
+     */
+    public int statements() {
+        return statements;
+    }
+
+    /**
+     * Gets the number of statements of one kind run in the scope.
+     *
+     * @param type the kind of statement
+     * @return the statement count
+     */
+    public int statements(StatementType type) {
+        return byType.getOrDefault(type, 0);
+    }
+
+    /**
+     * Gets the total time spent running statements in the scope.
+     *
+     * @return the elapsed time in milliseconds
+     */
+    public long elapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Finds statements run at least {@code threshold} times, the usual sign of an N+1 query.
+     *
+     * @param threshold the number of runs that counts as repeated
+     * @return each repeated statement with its run count, in the order first seen
+     */
+    public Map<String, Integer> repeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        bySql.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+
+    @Override
+    public void close() {
+        Deque<StatementScope> open = OPEN.get();
+        open.remove(this);
+        if (open.isEmpty()) {
+            OPEN.remove();
+        }
+    }
+
+    /**
+     * The kind of a statement, taken from its first keyword.
+     */
+    public enum StatementType {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static StatementType of(String sql) {
+            String trimmed = sql.stripLeading();
+            int end = 0;
+            while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+                end++;
+            }
+            return switch (trimmed.substring(0, end).toLowerCase(Locale.ROOT)) {
+                case "select", "with" -> SELECT;
+                case "insert" -> INSERT;
+                case "update" -> UPDATE;
+                case "delete" -> DELETE;
+                default -> OTHER;
+            };
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Data Transfer Object for moving every matching task to a new status in one request.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "Request body for a bulk status transition")
+public class BulkStatusTransitionRequest {
+
+    @NotEmpty(message = "At least one current status is required")
+    @Schema(description = "Only tasks currently in one of these statuses are moved", example = "[\"PENDING\"]",
+        required = true)
+    private Set<TaskStatus> fromStatuses;
+
+    @NotNull(message = "Target status is required")
+    @Schema(description = "The status to move matching tasks to", example = "CANCELLED", required = true)
+    private TaskStatus toStatus;
+
+    @Schema(description = "Optional filter: only tasks due strictly before this time are moved",
+        example = "2025-12-31T00:00:00")
+    private LocalDateTime dueBefore;
+}
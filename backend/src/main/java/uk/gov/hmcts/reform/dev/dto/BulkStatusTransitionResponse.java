@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object reporting the outcome of a bulk status transition.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "Number of tasks moved by a bulk status transition")
+public class BulkStatusTransitionResponse {
+
+    @Schema(description = "The status the tasks were moved to", example = "CANCELLED")
+    private TaskStatus toStatus;
+
+    @Schema(description = "Total number of tasks moved", example = "1250")
+    private long updated;
+
+    @Schema(description = "Number of tasks moved, keyed by the status they were moved from")
+    private Map<TaskStatus, Long> updatedByFromStatus;
+}
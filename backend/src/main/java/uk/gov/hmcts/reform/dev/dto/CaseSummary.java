@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for a case with its open tasks and task counts.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "A case with its open tasks and the number of tasks in each status")
+public class CaseSummary {
+
+    @Schema(description = "Unique identifier of the case", example = "12")
+    private Long id;
+
+    @Schema(description = "The unique case number", example = "ABC12345")
+    private String caseNumber;
+
+    @Schema(description = "The title of the case", example = "Smith v Jones")
+    private String title;
+
+    @Schema(description = "Optional description of the case", example = "Contact arrangements dispute")
+    private String description;
+
+    @Schema(description = "The case status", example = "OPEN")
+    private CaseStatus status;
+
+    @Schema(description = "Timestamp when the case was created", example = "2025-12-06T10:30:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "Number of tasks on the case, keyed by status")
+    private Map<TaskStatus, Long> taskCounts;
+
+    @Schema(description = "The case's PENDING and IN_PROGRESS tasks, ordered by due date")
+    private List<TaskResponse> openTasks;
+}
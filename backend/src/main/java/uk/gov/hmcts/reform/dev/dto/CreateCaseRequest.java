@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object for creating a case.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "Request body for creating a case")
+public class CreateCaseRequest {
+
+    @NotBlank(message = "Case number is required")
+    @Pattern(regexp = "[A-Z0-9-]{1,20}", message = "Case number must be 1-20 capital letters, digits or '-'")
+    @Schema(description = "The unique case number", example = "ABC12345", required = true)
+    private String caseNumber;
+
+    @NotBlank(message = "Title is required")
+    @Size(min = 1, max = 255, message = "Title must be between 1 and 255 characters")
+    @Schema(description = "The title of the case", example = "Smith v Jones", required = true)
+    private String title;
+
+    @Size(max = 1000, message = "Description must not exceed 1000 characters")
+    @Schema(description = "Optional description of the case", example = "Contact arrangements dispute")
+    private String description;
+}
@@ -4,15 +4,18 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import uk.gov.hmcts.reform.dev.models.Task;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 /**
  * Data Transfer Object for creating a new task.
@@ -38,6 +41,20 @@ public class CreateTaskRequest {
     @Schema(description = "The current status of the task", example = "PENDING", required = true)
     private TaskStatus status;
 
+    @Size(max = 100, message = "Assignee must not exceed 100 characters")
+    @Schema(description = "Optional caseworker to assign the task to", example = "jane.smith")
+    private String assignee;
+
+    @Size(max = Task.MAX_LABELS, message = "A task can have at most 20 labels")
+    @Schema(description = "Optional labels, stored lower-cased", example = "[\"urgent\", \"jurisdiction:family\"]")
+    private Set<@Pattern(
+        regexp = "[A-Za-z0-9][A-Za-z0-9:._-]{0,49}",
+        message = "Labels must be 1-50 letters, digits, ':', '.', '_' or '-' and start with a letter or digit"
+    ) String> labels;
+
+    @Schema(description = "Optional id of the case the task belongs to", example = "12")
+    private Long caseId;
+
     @NotNull(message = "Due date is required")
     @Future(message = "Due date must be in the future")
     @Schema(description = "The due date and time for the task", example = "2025-12-31T17:00:00", required = true)
@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Data Transfer Object for creating a recurring task template.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "Request body for creating a recurring task template")
+public class CreateTaskTemplateRequest {
+
+    @NotBlank(message = "Title is required")
+    @Size(min = 1, max = 255, message = "Title must be between 1 and 255 characters")
+    @Schema(description = "The title of each generated task", example = "Weekly case review", required = true)
+    private String title;
+
+    @Size(max = 1000, message = "Description must not exceed 1000 characters")
+    @Schema(description = "Optional description of each generated task", example = "Review open cases")
+    private String description;
+
+    @Size(max = 100, message = "Assignee must not exceed 100 characters")
+    @Schema(description = "Optional caseworker to assign each generated task to", example = "jane.smith")
+    private String assignee;
+
+    @NotBlank(message = "Recurrence rule is required")
+    @Size(max = 255, message = "Recurrence rule must not exceed 255 characters")
+    @Schema(
+        description = "RRULE subset: FREQ=DAILY|WEEKLY|MONTHLY with optional INTERVAL, BYDAY (weekly), "
+            + "BYMONTHDAY (monthly, -1 for the last day) and UNTIL",
+        example = "FREQ=WEEKLY;BYDAY=MO",
+        required = true
+    )
+    private String recurrenceRule;
+
+    @NotNull(message = "Start date is required")
+    @FutureOrPresent(message = "Start date must be today or later")
+    @Schema(description = "The first day an occurrence can fall on", example = "2026-01-05", required = true)
+    private LocalDate startDate;
+
+    @NotNull(message = "Due time is required")
+    @Schema(description = "The time of day each generated task is due", example = "17:00:00", required = true)
+    private LocalTime dueTime;
+}
@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the number of tasks due on one day.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "Number of tasks due on one day, split by status")
+public class DailyWorkload {
+
+    @Schema(description = "The day", example = "2026-03-02")
+    private LocalDate date;
+
+    @Schema(description = "Total number of tasks due on the day", example = "42")
+    private int total;
+
+    @Schema(description = "Number of tasks due on the day, keyed by status")
+    private Map<TaskStatus, Integer> byStatus;
+
+    @Schema(description = "Whether the day falls on a Saturday or Sunday", example = "false")
+    private boolean weekend;
+
+    @Schema(description = "Name of the England and Wales bank holiday on the day, if any", example = "Easter Monday")
+    private String bankHoliday;
+}
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of the open tasks due in a range.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "Open tasks due in a range, with the total count and one page of tasks")
+public class DueTaskPage {
+
+    @Schema(description = "Total number of open tasks due in the range", example = "128")
+    private long total;
+
+    @Schema(description = "The open tasks on the requested page, soonest due first")
+    private List<TaskResponse> tasks;
+
+    @Schema(description = "The zero-based page number", example = "0")
+    private int page;
+
+    @Schema(description = "The page size", example = "20")
+    private int size;
+}
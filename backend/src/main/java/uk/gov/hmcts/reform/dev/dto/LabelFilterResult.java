@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the tasks matching a label filter.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "Tasks matching a label filter, counted by status, with one page of matching ids")
+public class LabelFilterResult {
+
+    @Schema(description = "Total number of matching tasks", example = "128")
+    private long total;
+
+    @Schema(description = "Number of matching tasks, keyed by status")
+    private Map<TaskStatus, Long> byStatus;
+
+    @Schema(description = "Ids of the matching tasks on the requested page, in ascending order")
+    private List<Long> taskIds;
+
+    @Schema(description = "The zero-based page number", example = "0")
+    private int page;
+
+    @Schema(description = "The page size", example = "20")
+    private int size;
+}
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a service-level report of task lateness.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "How many tasks were late, and by how many working days, by due week and status")
+public class SlaReport {
+
+    @Schema(description = "The time open tasks were measured against", example = "2026-03-09T12:00:00")
+    private LocalDateTime asOf;
+
+    @Schema(description = "First due date covered, or null for no lower bound", example = "2026-01-01")
+    private LocalDate from;
+
+    @Schema(description = "Last due date covered, or null for no upper bound", example = "2026-03-31")
+    private LocalDate to;
+
+    @Schema(description = "Number of tasks covered, live and archived", example = "1250000")
+    private long tasks;
+
+    @Schema(description = "Number of late tasks covered", example = "48211")
+    private long late;
+
+    @Schema(description = "One row per due week and status that has tasks, oldest week first")
+    private List<SlaReportRow> rows;
+}
@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the lateness of the tasks in one status due in one week.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "Lateness of the tasks in one status due in one week")
+public class SlaReportRow {
+
+    @Schema(description = "The Monday of the week the tasks were due in", example = "2026-03-02")
+    private LocalDate weekStarting;
+
+    @Schema(description = "The tasks' status", example = "COMPLETED")
+    private TaskStatus status;
+
+    @Schema(description = "Number of tasks", example = "120")
+    private long tasks;
+
+    @Schema(description = "Number of tasks completed, or still open, by their due date", example = "104")
+    private long onTime;
+
+    @Schema(description = "Number of tasks completed after their due date, or still open past it", example = "16")
+    private long late;
+
+    @Schema(description = "Working days late, summed over the late tasks", example = "37")
+    private long workingDaysLate;
+
+    @Schema(description = "The most working days any one task was late", example = "9")
+    private long maxWorkingDaysLate;
+
+    @Schema(
+        description = "Number of late tasks by working days late; '0' is late on the due day itself",
+        example = "{\"0\": 3, \"1\": 5, \"2-5\": 6, \"6-10\": 2, \"11+\": 0}"
+    )
+    private Map<String, Long> lateByWorkingDays;
+}
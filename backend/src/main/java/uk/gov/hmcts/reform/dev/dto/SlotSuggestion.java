@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the earliest due date with free capacity.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "Earliest working day at or after the requested due date that still has capacity")
+public class SlotSuggestion {
+
+    @Schema(description = "The requested due date", example = "2026-04-03T17:00:00")
+    private LocalDateTime requested;
+
+    @Schema(description = "The suggested due date, keeping the requested time of day", example = "2026-04-07T17:00:00")
+    private LocalDateTime suggested;
+
+    @Schema(description = "Number of open tasks already due on the suggested day", example = "12")
+    private int openTasks;
+
+    @Schema(description = "Daily capacity for open tasks", example = "50")
+    private int capacity;
+}
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.reform.dev.models.AuditChangeType;
+import uk.gov.hmcts.reform.dev.models.TaskAudit;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one change in a task's audit history.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "One change in a task's audit history")
+public class TaskHistoryEntry {
+
+    @Schema(description = "What kind of change this was", example = "UPDATED")
+    private AuditChangeType changeType;
+
+    @Schema(description = "Who made the change: the X-Actor header, 'anonymous', or 'system' for background jobs",
+        example = "jane.smith")
+    private String actor;
+
+    @Schema(description = "Status before the change", example = "PENDING")
+    private TaskStatus oldStatus;
+
+    @Schema(description = "Status after the change", example = "IN_PROGRESS")
+    private TaskStatus newStatus;
+
+    @Schema(description = "The fields that changed", example = "status: PENDING -> IN_PROGRESS; assignee: null -> jane")
+    private String changes;
+
+    @Schema(description = "When the change was made", example = "2026-03-02T09:15:30")
+    private LocalDateTime changedAt;
+
+    /**
+     * Converts an audit record to a history entry.
+     *
+     * @param audit the audit record
+     * @return the history entry
+     */
+    public static TaskHistoryEntry fromEntity(TaskAudit audit) {
+        return new TaskHistoryEntry(
+            audit.getChangeType(),
+            audit.getActor(),
+            audit.getOldStatus(),
+            audit.getNewStatus(),
+            audit.getChanges(),
+            audit.getChangedAt()
+        );
+    }
+}
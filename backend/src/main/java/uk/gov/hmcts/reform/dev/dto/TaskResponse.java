@@ -6,10 +6,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import uk.gov.hmcts.reform.dev.models.ArchivedTask;
 import uk.gov.hmcts.reform.dev.models.Task;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Data Transfer Object for task responses.
@@ -34,6 +36,15 @@ public class TaskResponse {
     @Schema(description = "The current status of the task", example = "PENDING")
     private TaskStatus status;
 
+    @Schema(description = "The caseworker the task is assigned to, if any", example = "jane.smith")
+    private String assignee;
+
+    @Schema(description = "Labels on the task, sorted", example = "[\"jurisdiction:family\", \"urgent\"]")
+    private List<String> labels;
+
+    @Schema(description = "The id of the case the task belongs to, if any", example = "12")
+    private Long caseId;
+
     @Schema(description = "The due date and time for the task", example = "2025-12-31T17:00:00")
     private LocalDateTime dueDate;
 
@@ -50,14 +61,40 @@ public class TaskResponse {
      * @return the task response DTO
      */
     public static TaskResponse fromEntity(Task task) {
-        return TaskResponse.builder()
-            .id(task.getId())
-            .title(task.getTitle())
-            .description(task.getDescription())
-            .status(task.getStatus())
-            .dueDate(task.getDueDate())
-            .createdAt(task.getCreatedAt())
-            .updatedAt(task.getUpdatedAt())
-            .build();
+        // Called for every response, so skip the intermediate builder allocation
+        return new TaskResponse(
+            task.getId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getStatus(),
+            task.getAssignee(),
+            task.getLabels().stream().sorted().toList(),
+            // Reading the id of a lazy case reference does not load the case
+            task.getCaseFile() == null ? null : task.getCaseFile().getId(),
+            task.getDueDate(),
+            task.getCreatedAt(),
+            task.getUpdatedAt()
+        );
+    }
+
+    /**
+     * Creates a TaskResponse from an archived task.
+     *
+     * @param task the archived task
+     * @return the task response DTO
+     */
+    public static TaskResponse fromArchive(ArchivedTask task) {
+        return new TaskResponse(
+            task.getId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getStatus(),
+            task.getAssignee(),
+            task.getLabels() == null ? List.of() : List.of(task.getLabels().split(",")),
+            task.getCaseId(),
+            task.getDueDate(),
+            task.getCreatedAt(),
+            task.getUpdatedAt()
+        );
     }
 }
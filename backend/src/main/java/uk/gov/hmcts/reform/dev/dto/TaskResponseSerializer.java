@@ -0,0 +1,148 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Hand-written Jackson serializer for {@link TaskResponse}.
+ * Field names are pre-encoded once and timestamps are formatted into a per-thread scratch buffer,
+ * so a response is written without bean introspection or intermediate strings.
+ * The output is byte-for-byte identical to the default bean serializer.
+ */
+public class TaskResponseSerializer extends StdSerializer<TaskResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString ASSIGNEE = new SerializedString("assignee");
+    private static final SerializableString LABELS = new SerializedString("labels");
+    private static final SerializableString CASE_ID = new SerializedString("caseId");
+    private static final SerializableString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    // Longest ISO_LOCAL_DATE_TIME value for a four digit year: yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final int MAX_TIMESTAMP_LENGTH = 29;
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[MAX_TIMESTAMP_LENGTH]);
+
+    public TaskResponseSerializer() {
+        super(TaskResponse.class);
+    }
+
+    @Override
+    public void serialize(TaskResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+
+        gen.writeFieldName(ID);
+        if (value.getId() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.getId());
+        }
+
+        gen.writeFieldName(TITLE);
+        gen.writeString(value.getTitle());
+
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(value.getDescription());
+
+        gen.writeFieldName(STATUS);
+        if (value.getStatus() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value.getStatus().name());
+        }
+
+        gen.writeFieldName(ASSIGNEE);
+        gen.writeString(value.getAssignee());
+
+        gen.writeFieldName(LABELS);
+        if (value.getLabels() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(value.getLabels(), value.getLabels().size());
+            for (String label : value.getLabels()) {
+                gen.writeString(label);
+            }
+            gen.writeEndArray();
+        }
+
+        gen.writeFieldName(CASE_ID);
+        if (value.getCaseId() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.getCaseId());
+        }
+
+        writeTimestamp(gen, DUE_DATE, value.getDueDate());
+        writeTimestamp(gen, CREATED_AT, value.getCreatedAt());
+        writeTimestamp(gen, UPDATED_AT, value.getUpdatedAt());
+
+        gen.writeEndObject();
+    }
+
+    private static void writeTimestamp(JsonGenerator gen, SerializableString name, LocalDateTime value)
+        throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        if (value.getYear() < 0 || value.getYear() > 9999) {
+            gen.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] buffer = SCRATCH.get();
+        int length = formatIsoLocalDateTime(value, buffer);
+        gen.writeString(buffer, 0, length);
+    }
+
+    /**
+     * Formats a timestamp exactly as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} does for four digit years.
+     *
+     * @param value the timestamp to format
+     * @param buffer destination with room for at least 29 characters
+     * @return the number of characters written
+     */
+    static int formatIsoLocalDateTime(LocalDateTime value, char[] buffer) {
+        int pos = writeDigits(buffer, 0, value.getYear(), 4);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, value.getMonthValue(), 2);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, value.getDayOfMonth(), 2);
+        buffer[pos++] = 'T';
+        pos = writeDigits(buffer, pos, value.getHour(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, value.getMinute(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, value.getSecond(), 2);
+
+        int nano = value.getNano();
+        if (nano != 0) {
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buffer[pos++] = '.';
+            pos = writeDigits(buffer, pos, nano, digits);
+        }
+        return pos;
+    }
+
+    private static int writeDigits(char[] buffer, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.reform.dev.models.TaskTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Data Transfer Object for task template responses.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "Response body containing task template details")
+public class TaskTemplateResponse {
+
+    @Schema(description = "Unique identifier of the template", example = "1")
+    private Long id;
+
+    @Schema(description = "The title of each generated task", example = "Weekly case review")
+    private String title;
+
+    @Schema(description = "Optional description of each generated task", example = "Review open cases")
+    private String description;
+
+    @Schema(description = "The caseworker each generated task is assigned to, if any", example = "jane.smith")
+    private String assignee;
+
+    @Schema(description = "The recurrence rule", example = "FREQ=WEEKLY;BYDAY=MO")
+    private String recurrenceRule;
+
+    @Schema(description = "The first day an occurrence can fall on", example = "2026-01-05")
+    private LocalDate startDate;
+
+    @Schema(description = "The time of day each generated task is due", example = "17:00:00")
+    private LocalTime dueTime;
+
+    @Schema(description = "Whether the template still generates tasks", example = "true")
+    private boolean active;
+
+    @Schema(description = "The last rule date already generated as a task", example = "2026-02-02")
+    private LocalDate materializedThrough;
+
+    @Schema(description = "Timestamp when the template was created", example = "2025-12-06T10:30:00")
+    private LocalDateTime createdAt;
+
+    /**
+     * Creates a TaskTemplateResponse from a TaskTemplate entity.
+     *
+     * @param template the template entity
+     * @return the template response DTO
+     */
+    public static TaskTemplateResponse fromEntity(TaskTemplate template) {
+        return TaskTemplateResponse.builder()
+            .id(template.getId())
+            .title(template.getTitle())
+            .description(template.getDescription())
+            .assignee(template.getAssignee())
+            .recurrenceRule(template.getRecurrenceRule())
+            .startDate(template.getStartDate())
+            .dueTime(template.getDueTime())
+            .active(template.isActive())
+            .materializedThrough(template.getMaterializedThrough())
+            .createdAt(template.getCreatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one occurrence of a task template.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+@Schema(description = "One occurrence of a task template")
+public class TemplateOccurrence {
+
+    @Schema(description = "The date the recurrence rule falls on", example = "2026-04-03")
+    private LocalDate ruleDate;
+
+    @Schema(description = "The due date of the generated task", example = "2026-04-07T17:00:00")
+    private LocalDateTime dueDate;
+
+    @Schema(description = "The bank holiday the occurrence was moved off, if any", example = "Good Friday")
+    private String movedFromBankHoliday;
+}
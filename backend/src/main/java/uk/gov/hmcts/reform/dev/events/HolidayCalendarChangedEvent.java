@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Published when a refresh of the bank holiday calendar finds different holidays from the ones already loaded.
+ * Not published for the first load.
+ *
+ * @param holidays the England and Wales bank holidays now in use
+ */
+public record HolidayCalendarChangedEvent(Set<LocalDate> holidays) {
+}
@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import java.util.List;
+
+/**
+ * Published by every write path that creates, updates or removes tasks, inside the writing transaction.
+ * Listeners that maintain derived state should use {@code @TransactionalEventListener} so they only see
+ * committed changes. Set-based writes publish one event per chunk rather than one per task.
+ *
+ * @param changes the task changes made by one write
+ */
+public record TaskChangedEvent(List<Change> changes) {
+
+    /**
+     * Creates an event for a single task.
+     *
+     * @param taskId the task id
+     * @param before the task before the write, or null if it was created
+     * @param after the task after the write, or null if it was removed
+     * @return the event
+     */
+    public static TaskChangedEvent of(Long taskId, TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangedEvent(List.of(new Change(taskId, before, after)));
+    }
+
+    /**
+     * One task's change.
+     *
+     * @param taskId the task id
+     * @param before the task before the write, or null if it was created
+     * @param after the task after the write, or null if it was removed from the hot table
+     * @param actor who made the change, or null if it was made for the request or job on the publishing thread
+     */
+    public record Change(Long taskId, TaskSnapshot before, TaskSnapshot after, String actor) {
+
+        /**
+         * Creates a change made for the request or job on the publishing thread.
+         *
+         * @param taskId the task id
+         * @param before the task before the write, or null if it was created
+         * @param after the task after the write, or null if it was removed from the hot table
+         */
+        public Change(Long taskId, TaskSnapshot before, TaskSnapshot after) {
+            this(taskId, before, after, null);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * The fields of a task that derived views (counters, indexes, caches) key on, captured at one point in time.
+ *
+ * @param status the task status
+ * @param dueDate the task due date
+ * @param assignee the caseworker the task is assigned to, or null
+ * @param labels the task labels, or null when the write did not read or change them
+ */
+public record TaskSnapshot(TaskStatus status, LocalDateTime dueDate, String assignee, Set<String> labels) {
+
+    /**
+     * Captures the current state of a task.
+     *
+     * @param task the task
+     * @return the snapshot
+     */
+    public static TaskSnapshot of(Task task) {
+        return new TaskSnapshot(task.getStatus(), task.getDueDate(), task.getAssignee(), Set.copyOf(task.getLabels()));
+    }
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+/**
+ * Exception thrown when a case with the requested id does not exist.
+ */
+public class CaseNotFoundException extends RuntimeException {
+
+    private final Long caseId;
+
+    public CaseNotFoundException(Long caseId) {
+        super(String.format("Case not found: %d", caseId));
+        this.caseId = caseId;
+    }
+
+    public Long getCaseId() {
+        return caseId;
+    }
+}
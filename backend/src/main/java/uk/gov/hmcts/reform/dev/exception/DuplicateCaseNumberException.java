@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+/**
+ * Exception thrown when creating a case with a case number that is already taken.
+ */
+public class DuplicateCaseNumberException extends RuntimeException {
+
+    private final String caseNumber;
+
+    public DuplicateCaseNumberException(String caseNumber) {
+        super(String.format("A case with number %s already exists", caseNumber));
+        this.caseNumber = caseNumber;
+    }
+
+    public String getCaseNumber() {
+        return caseNumber;
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+/**
+ * Exception thrown when creating a task with the same title, description and due date as an existing task.
+ */
+public class DuplicateTaskException extends RuntimeException {
+
+    private final Long existingTaskId;
+
+    public DuplicateTaskException(Long existingTaskId) {
+        this(existingTaskId, existingTaskId == null
+            ? "A task with the same title, description and due date already exists"
+            : String.format("Task %d has the same title, description and due date", existingTaskId));
+    }
+
+    public DuplicateTaskException(Long existingTaskId, String message) {
+        super(message);
+        this.existingTaskId = existingTaskId;
+    }
+
+    /**
+     * The task this one duplicates.
+     *
+     * @return its id, or null if the duplicate was only caught by the unique index and its id is not known
+     */
+    public Long getExistingTaskId() {
+        return existingTaskId;
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import uk.gov.hmcts.reform.dev.dto.ErrorResponse;
 
 import java.time.LocalDateTime;
@@ -41,6 +42,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * Handles validation errors on path variables and request parameters.
+     *
+     * @param ex the method validation exception
+     * @return error response with validation details
+     */
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<ErrorResponse> handleMethodValidationException(HandlerMethodValidationException ex) {
+        List<String> errors = ex.getParameterValidationResults()
+            .stream()
+            .flatMap(result -> result.getResolvableErrors().stream()
+                .map(error -> result.getMethodParameter().getParameterName() + ": " + error.getDefaultMessage()))
+            .collect(Collectors.toList());
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .status(HttpStatus.BAD_REQUEST.value())
+            .message("Validation failed")
+            .errors(errors)
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
     /**
      * Handles bank holiday validation exceptions.
      *
@@ -59,6 +84,150 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
 
+    /**
+     * Handles lookups of tasks that do not exist.
+     *
+     * @param ex the task not found exception
+     * @return error response with HTTP 404 status
+     */
+    @ExceptionHandler(TaskNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleTaskNotFoundException(TaskNotFoundException ex) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .status(HttpStatus.NOT_FOUND.value())
+            .message("Task not found")
+            .errors(List.of(ex.getMessage()))
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * Handles requests to move tasks to a status they cannot reach.
+     *
+     * @param ex the invalid status transition exception
+     * @return error response with the rejected transition
+     */
+    @ExceptionHandler(InvalidStatusTransitionException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidStatusTransitionException(InvalidStatusTransitionException ex) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .status(HttpStatus.BAD_REQUEST.value())
+            .message("Invalid status transition")
+            .errors(List.of(ex.getMessage()))
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Handles slot suggestions that found no working day with free capacity.
+     *
+     * @param ex the no available slot exception
+     * @return error response with HTTP 404 status
+     */
+    @ExceptionHandler(NoAvailableSlotException.class)
+    public ResponseEntity<ErrorResponse> handleNoAvailableSlotException(NoAvailableSlotException ex) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .status(HttpStatus.NOT_FOUND.value())
+            .message("No available slot")
+            .errors(List.of(ex.getMessage()))
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * Handles task templates with a recurrence rule that cannot be parsed.
+     *
+     * @param ex the invalid recurrence rule exception
+     * @return error response with the parse failure
+     */
+    @ExceptionHandler(InvalidRecurrenceRuleException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRecurrenceRuleException(InvalidRecurrenceRuleException ex) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .status(HttpStatus.BAD_REQUEST.value())
+            .message("Invalid recurrence rule")
+            .errors(List.of(ex.getMessage()))
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    /**
+     * Handles lookups of task templates that do not exist.
+     *
+     * @param ex the task template not found exception
+     * @return error response with HTTP 404 status
+     */
+    @ExceptionHandler(TaskTemplateNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleTaskTemplateNotFoundException(TaskTemplateNotFoundException ex) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .status(HttpStatus.NOT_FOUND.value())
+            .message("Task template not found")
+            .errors(List.of(ex.getMessage()))
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * Handles lookups of cases that do not exist.
+     *
+     * @param ex the case not found exception
+     * @return error response with HTTP 404 status
+     */
+    @ExceptionHandler(CaseNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCaseNotFoundException(CaseNotFoundException ex) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .status(HttpStatus.NOT_FOUND.value())
+            .message("Case not found")
+            .errors(List.of(ex.getMessage()))
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * Handles creating a case with a case number that is already taken.
+     *
+     * @param ex the duplicate case number exception
+     * @return error response with HTTP 409 status
+     */
+    @ExceptionHandler(DuplicateCaseNumberException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateCaseNumberException(DuplicateCaseNumberException ex) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .status(HttpStatus.CONFLICT.value())
+            .message("Duplicate case number")
+            .errors(List.of(ex.getMessage()))
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles duplicate task exceptions.
+     *
+     * @param ex the duplicate task exception
+     * @return error response with HTTP 409 status
+     */
+    @ExceptionHandler(DuplicateTaskException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateTaskException(DuplicateTaskException ex) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+            .status(HttpStatus.CONFLICT.value())
+            .message("Duplicate task")
+            .errors(List.of(ex.getMessage()))
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * Handles generic exceptions.
      *
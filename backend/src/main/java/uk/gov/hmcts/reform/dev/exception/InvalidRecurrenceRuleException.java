@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+/**
+ * Exception thrown when a task template's recurrence rule cannot be parsed.
+ */
+public class InvalidRecurrenceRuleException extends RuntimeException {
+
+    private final String rule;
+
+    public InvalidRecurrenceRuleException(String rule, String reason) {
+        super(String.format("Invalid recurrence rule '%s': %s", rule, reason));
+        this.rule = rule;
+    }
+
+    public String getRule() {
+        return rule;
+    }
+}
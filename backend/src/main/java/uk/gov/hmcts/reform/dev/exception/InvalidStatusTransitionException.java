@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+/**
+ * Exception thrown when a task is asked to move to a status it cannot reach from its current status.
+ */
+public class InvalidStatusTransitionException extends RuntimeException {
+
+    private final TaskStatus fromStatus;
+    private final TaskStatus toStatus;
+
+    public InvalidStatusTransitionException(TaskStatus fromStatus, TaskStatus toStatus) {
+        super(String.format("Cannot move tasks from %s to %s", fromStatus, toStatus));
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+    }
+
+    public TaskStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public TaskStatus getToStatus() {
+        return toStatus;
+    }
+}
@@ -0,0 +1,20 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+import java.time.LocalDateTime;
+
+/**
+ * Exception thrown when no working day within the scheduling horizon has free capacity.
+ */
+public class NoAvailableSlotException extends RuntimeException {
+
+    private final LocalDateTime requested;
+
+    public NoAvailableSlotException(LocalDateTime requested) {
+        super(String.format("No working day with free capacity at or after %s", requested));
+        this.requested = requested;
+    }
+
+    public LocalDateTime getRequested() {
+        return requested;
+    }
+}
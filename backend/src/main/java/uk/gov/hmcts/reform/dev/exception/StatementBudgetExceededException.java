@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+/**
+ * Exception thrown when a request tries to run more JDBC statements than its budget allows.
+ */
+public class StatementBudgetExceededException extends RuntimeException {
+
+    private final int budget;
+
+    public StatementBudgetExceededException(int budget) {
+        super(String.format("Statement budget of %d exceeded", budget));
+        this.budget = budget;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+/**
+ * Exception thrown when a task with the requested id does not exist.
+ */
+public class TaskNotFoundException extends RuntimeException {
+
+    private final Long taskId;
+
+    public TaskNotFoundException(Long taskId) {
+        super(String.format("Task not found: %d", taskId));
+        this.taskId = taskId;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.dev.exception;
+
+/**
+ * Exception thrown when a task template with the requested id does not exist.
+ */
+public class TaskTemplateNotFoundException extends RuntimeException {
+
+    private final Long templateId;
+
+    public TaskTemplateNotFoundException(Long templateId) {
+        super(String.format("Task template not found: %d", templateId));
+        this.templateId = templateId;
+    }
+
+    public Long getTemplateId() {
+        return templateId;
+    }
+}
@@ -0,0 +1,58 @@
+package uk.gov.hmcts.reform.dev.journal;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.io.IOException;
+
+/**
+ * Stores tasks in an append-only journal on local disk instead of the database when the {@code journal} profile
+ * is active. The journal repository is primary, so every service that takes a {@link TaskRepository} uses it;
+ * cases, templates, archived tasks and audit history stay in the database.
+ */
+@Configuration
+@Profile("journal")
+@EnableConfigurationProperties(JournalProperties.class)
+public class JournalConfig {
+
+    /**
+     * Opens the journal, recovering any tasks already on disk.
+     *
+     * @param properties the journal configuration
+     * @return the open journal, snapshotted and closed with the application context
+     * @throws IOException if the journal directory cannot be read or written
+     */
+    @Bean(destroyMethod = "close")
+    public TaskJournal taskJournal(JournalProperties properties) throws IOException {
+        return TaskJournal.open(
+            properties.getDirectory(), properties.getSegmentSize().toBytes(), properties.isSyncOnWrite());
+    }
+
+    /**
+     * The task repository used in place of the JPA one.
+     *
+     * @param taskJournal the journal
+     * @return the journal-backed repository
+     */
+    @Bean
+    @Primary
+    public TaskRepository journalTaskRepository(TaskJournal taskJournal) {
+        return new JournalTaskRepository(taskJournal);
+    }
+
+    /**
+     * Takes periodic snapshots and compacts the journal in the background.
+     *
+     * @param taskJournal the journal
+     * @param properties the journal configuration
+     * @return the maintenance job
+     */
+    @Bean
+    public JournalMaintenance journalMaintenance(TaskJournal taskJournal, JournalProperties properties) {
+        return new JournalMaintenance(taskJournal, properties.getCompactionThreshold());
+    }
+}
@@ -0,0 +1,54 @@
+package uk.gov.hmcts.reform.dev.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Background snapshots and compaction for the {@link TaskJournal}. Failures are logged and retried on the next run;
+ * the journal stays correct without either, recovery just replays more of it.
+ */
+public class JournalMaintenance {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JournalMaintenance.class);
+
+    private final TaskJournal journal;
+    private final double compactionThreshold;
+
+    public JournalMaintenance(TaskJournal journal, double compactionThreshold) {
+        this.journal = journal;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Snapshots the journal index.
+     */
+    @Scheduled(
+        initialDelayString = "${tasks.journal.snapshot-interval:5m}",
+        fixedDelayString = "${tasks.journal.snapshot-interval:5m}"
+    )
+    public void snapshot() {
+        try {
+            journal.snapshot();
+        } catch (UncheckedIOException e) {
+            LOG.warn("Failed to snapshot the task journal", e);
+        }
+    }
+
+    /**
+     * Compacts the journal's sealed segments if enough of them is dead.
+     */
+    @Scheduled(
+        initialDelayString = "${tasks.journal.compaction-interval:10m}",
+        fixedDelayString = "${tasks.journal.compaction-interval:10m}"
+    )
+    public void compact() {
+        try {
+            journal.compact(compactionThreshold);
+        } catch (UncheckedIOException e) {
+            LOG.warn("Failed to compact the task journal", e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.dev.journal;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for the journal task store used by the {@code journal} profile.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tasks.journal")
+public class JournalProperties {
+
+    /**
+     * Directory holding the journal segments and snapshot.
+     */
+    private Path directory = Path.of("data", "journal");
+
+    /**
+     * Size at which the active segment is sealed and a new one started.
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Whether every write is forced to disk before it returns. When false, writes are only as durable as the
+     * operating system's page cache until the next snapshot.
+     */
+    private boolean syncOnWrite = true;
+
+    /**
+     * How often the primary-key index is snapshotted, so recovery only replays the journal written since.
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+
+    /**
+     * How often sealed segments are checked for compaction.
+     */
+    private Duration compactionInterval = Duration.ofMinutes(10);
+
+    /**
+     * Fraction of sealed segment bytes that must be superseded or deleted records before they are compacted.
+     */
+    private double compactionThreshold = 0.5;
+}
@@ -0,0 +1,155 @@
+package uk.gov.hmcts.reform.dev.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One file of the journal. The active segment is appended to through its {@link FileChannel}; once sealed it is
+ * never written again and is read through a read-only memory mapping. Only the journal's writer appends, truncates,
+ * seals or deletes; reads may come from any thread.
+ */
+final class JournalSegment {
+
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+
+    private final long id;
+    private final Path path;
+    private final FileChannel channel;
+    private volatile MappedByteBuffer mapped;
+    private long size;
+    private long liveBytes;
+
+    private JournalSegment(long id, Path path, FileChannel channel, long size) {
+        this.id = id;
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    static JournalSegment open(Path directory, long id) throws IOException {
+        Path path = directory.resolve(String.format("%s%016d%s", PREFIX, id, SUFFIX));
+        FileChannel channel = FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new JournalSegment(id, path, channel, channel.size());
+    }
+
+    /**
+     * Parses a segment id from a file name.
+     *
+     * @param fileName the file name
+     * @return the segment id, or -1 if the file is not a segment
+     */
+    static long parseId(String fileName) {
+        if (!fileName.startsWith(PREFIX) || !fileName.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(fileName.substring(PREFIX.length(), fileName.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    long id() {
+        return id;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long size() {
+        return size;
+    }
+
+    long liveBytes() {
+        return liveBytes;
+    }
+
+    void addLiveBytes(long delta) {
+        liveBytes += delta;
+    }
+
+    /**
+     * Appends a record at the end of the segment.
+     *
+     * @param record the encoded record
+     * @return the offset the record was written at
+     */
+    long append(ByteBuffer record) throws IOException {
+        long offset = size;
+        long position = offset;
+        while (record.hasRemaining()) {
+            position += channel.write(record, position);
+        }
+        size = position;
+        return offset;
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Reads bytes from the segment. Safe to call concurrently with appends.
+     *
+     * @param offset the position to read from
+     * @param length the number of bytes
+     * @return a buffer positioned at the start of the bytes
+     */
+    ByteBuffer read(long offset, int length) throws IOException {
+        MappedByteBuffer mapping = mapped;
+        if (mapping != null) {
+            return mapping.slice(Math.toIntExact(offset), length);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException(String.format("Unexpected end of %s at %d", path, position));
+            }
+            position += read;
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Cuts off a torn record left at the end of the segment by a crash.
+     *
+     * @param length the length to keep
+     */
+    void truncate(long length) throws IOException {
+        channel.truncate(length);
+        channel.force(true);
+        size = length;
+    }
+
+    /**
+     * Marks the segment read-only and switches reads to a memory mapping.
+     */
+    void seal() throws IOException {
+        channel.force(true);
+        if (size > 0) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Closes and removes the segment file. Readers holding a slice of the mapping can still finish reading it.
+     */
+    void delete() throws IOException {
+        channel.close();
+        Files.deleteIfExists(path);
+    }
+}
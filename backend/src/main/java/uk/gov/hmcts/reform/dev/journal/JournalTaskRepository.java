@@ -0,0 +1,509 @@
+package uk.gov.hmcts.reform.dev.journal;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskFingerprint;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.CaseStatusCount;
+import uk.gov.hmcts.reform.dev.repository.DailyStatusCount;
+import uk.gov.hmcts.reform.dev.repository.TaskDueDate;
+import uk.gov.hmcts.reform.dev.repository.TaskIdStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskLabel;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskSlaRow;
+import uk.gov.hmcts.reform.dev.repository.TransitionCandidate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link TaskRepository} backed by a {@link TaskJournal} instead of the database, for the {@code journal} profile.
+ *
+ * <p>Lookups by id go through the journal's primary-key index; every other query scans the live tasks, which suits
+ * the few thousand tasks of an edge deployment. Writes that the JPA repository does as conditional updates, such as
+ * claims and status transitions, read, check and write under one lock so they keep their compare-and-set behaviour,
+ * and saves check the task's version like JPA's optimistic locking.
+ *
+ * <p>The journal takes no part in Spring transactions: each write is durable as soon as it returns and is not undone
+ * if the surrounding transaction rolls back. Query by example is not supported.
+ */
+public class JournalTaskRepository implements TaskRepository {
+
+    private static final Comparator<Task> BY_DUE_DATE = Comparator
+        .comparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparing(Task::getId);
+    private static final Comparator<Task> BY_ID = Comparator.comparing(Task::getId);
+    private static final Map<String, Comparator<Task>> SORTABLE = Map.of(
+        "id", BY_ID,
+        "title", Comparator.comparing(Task::getTitle, Comparator.nullsLast(Comparator.naturalOrder())),
+        "status", Comparator.comparing(Task::getStatus, Comparator.nullsLast(Comparator.naturalOrder())),
+        "assignee", Comparator.comparing(Task::getAssignee, Comparator.nullsLast(Comparator.naturalOrder())),
+        "dueDate", Comparator.comparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder())),
+        "createdAt", Comparator.comparing(Task::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder())),
+        "updatedAt", Comparator.comparing(Task::getUpdatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+    );
+
+    private final TaskJournal journal;
+    private final Object writeMonitor = new Object();
+
+    public JournalTaskRepository(TaskJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public List<Task> findAllByOrderByDueDateAscIdAsc(Pageable pageable) {
+        return page(journal.stream(), BY_DUE_DATE, pageable);
+    }
+
+    @Override
+    public List<Task> findByStatusOrderByDueDateAscIdAsc(TaskStatus status, Pageable pageable) {
+        return page(journal.stream().filter(task -> task.getStatus() == status), BY_DUE_DATE, pageable);
+    }
+
+    @Override
+    public List<Long> findIdsByStatusUpdatedBefore(Collection<TaskStatus> statuses, LocalDateTime cutoff,
+                                                   Pageable pageable) {
+        Stream<Task> matching = journal.stream()
+            .filter(task -> statuses.contains(task.getStatus()))
+            .filter(task -> task.getUpdatedAt() != null && task.getUpdatedAt().isBefore(cutoff));
+        return ids(page(matching, BY_ID, pageable));
+    }
+
+    @Override
+    public int deleteAllByIdIn(Collection<Long> ids) {
+        synchronized (writeMonitor) {
+            return journal.delete(ids);
+        }
+    }
+
+    @Override
+    public List<TransitionCandidate> findTransitionCandidates(TaskStatus status, LocalDateTime dueBefore,
+                                                              long afterId, Pageable pageable) {
+        Stream<Task> matching = journal.stream()
+            .filter(task -> task.getStatus() == status && task.getId() > afterId)
+            .filter(task -> dueBefore == null || task.getDueDate().isBefore(dueBefore));
+        return page(matching, BY_ID, pageable).stream()
+            .map(task -> new TransitionCandidate(task.getId(), task.getDueDate(), task.getAssignee()))
+            .toList();
+    }
+
+    /**
+     * Finds those of the given tasks still in a status. The journal takes no row locks, so a concurrent write can
+     * still change them before {@link #transitionStatus} runs; that re-checks the status itself.
+     */
+    @Override
+    public List<Long> lockIdsInStatus(Collection<Long> ids, TaskStatus status) {
+        return new HashSet<>(ids).stream()
+            .map(journal::get)
+            .flatMap(Optional::stream)
+            .filter(task -> task.getStatus() == status)
+            .map(Task::getId)
+            .toList();
+    }
+
+    @Override
+    public int transitionStatus(Collection<Long> ids, TaskStatus fromStatus, TaskStatus toStatus,
+                                LocalDateTime updatedAt) {
+        synchronized (writeMonitor) {
+            List<Task> updated = new ArrayList<>();
+            for (Long id : new HashSet<>(ids)) {
+                journal.get(id)
+                    .filter(task -> task.getStatus() == fromStatus)
+                    .ifPresent(task -> {
+                        task.setStatus(toStatus);
+                        task.setUpdatedAt(updatedAt);
+                        task.setVersion(task.getVersion() + 1);
+                        updated.add(task);
+                    });
+            }
+            journal.put(updated);
+            return updated.size();
+        }
+    }
+
+    @Override
+    public List<Long> findIdsTransitionedAt(Collection<Long> ids, TaskStatus status, LocalDateTime updatedAt) {
+        return new HashSet<>(ids).stream()
+            .map(journal::get)
+            .flatMap(Optional::stream)
+            .filter(task -> task.getStatus() == status && updatedAt.equals(task.getUpdatedAt()))
+            .map(Task::getId)
+            .toList();
+    }
+
+    @Override
+    public List<DailyStatusCount> countByDueDayAndStatus(LocalDateTime from, LocalDateTime to) {
+        Map<LocalDate, Map<TaskStatus, Long>> counts = journal.stream()
+            .filter(task -> !task.getDueDate().isBefore(from) && task.getDueDate().isBefore(to))
+            .collect(Collectors.groupingBy(
+                task -> task.getDueDate().toLocalDate(),
+                Collectors.groupingBy(Task::getStatus, Collectors.counting())));
+        List<DailyStatusCount> rows = new ArrayList<>();
+        counts.forEach((day, byStatus) ->
+            byStatus.forEach((status, count) -> rows.add(new DailyStatusCount(day, status, count))));
+        return rows;
+    }
+
+    @Override
+    public List<Task> findByAssigneeOrderByDueDateAscIdAsc(String assignee, Pageable pageable) {
+        return page(journal.stream().filter(task -> Objects.equals(task.getAssignee(), assignee)),
+            BY_DUE_DATE, pageable);
+    }
+
+    @Override
+    public List<Task> findByAssigneeAndStatusOrderByDueDateAscIdAsc(String assignee, TaskStatus status,
+                                                                    Pageable pageable) {
+        Stream<Task> matching = journal.stream()
+            .filter(task -> Objects.equals(task.getAssignee(), assignee) && task.getStatus() == status);
+        return page(matching, BY_DUE_DATE, pageable);
+    }
+
+    @Override
+    public List<Long> findClaimCandidates(TaskStatus status, Pageable pageable) {
+        Stream<Task> matching = journal.stream()
+            .filter(task -> task.getAssignee() == null && task.getStatus() == status);
+        return ids(page(matching, BY_DUE_DATE, pageable));
+    }
+
+    @Override
+    public int claim(Long id, TaskStatus status, String assignee, LocalDateTime updatedAt) {
+        synchronized (writeMonitor) {
+            Optional<Task> claimable = journal.get(id)
+                .filter(task -> task.getAssignee() == null && task.getStatus() == status);
+            if (claimable.isEmpty()) {
+                return 0;
+            }
+            Task task = claimable.get();
+            task.setAssignee(assignee);
+            task.setUpdatedAt(updatedAt);
+            task.setVersion(task.getVersion() + 1);
+            journal.put(List.of(task));
+            return 1;
+        }
+    }
+
+    @Override
+    public List<TaskIdStatus> findAllIdsAndStatuses() {
+        return journal.stream().map(task -> new TaskIdStatus(task.getId(), task.getStatus())).toList();
+    }
+
+    @Override
+    public List<TaskLabel> findAllLabels() {
+        return journal.stream()
+            .flatMap(task -> task.getLabels().stream().map(label -> new TaskLabel(task.getId(), label)))
+            .toList();
+    }
+
+    @Override
+    public List<TaskDueDate> findDueDatesByStatusIn(Collection<TaskStatus> statuses) {
+        return journal.stream()
+            .filter(task -> statuses.contains(task.getStatus()))
+            .map(task -> new TaskDueDate(task.getId(), task.getDueDate()))
+            .toList();
+    }
+
+    @Override
+    public List<Task> findAllWithLabelsByIdIn(Collection<Long> ids) {
+        return findAllById(ids);
+    }
+
+    @Override
+    public Stream<TaskSlaRow> streamSlaRows(LocalDateTime from, LocalDateTime to) {
+        return journal.stream()
+            .filter(task -> (from == null || !task.getDueDate().isBefore(from))
+                && (to == null || task.getDueDate().isBefore(to)))
+            .map(task -> new TaskSlaRow(task.getStatus(), task.getDueDate(), task.getUpdatedAt()));
+    }
+
+    @Override
+    public Optional<Long> findIdByFingerprint(String fingerprint) {
+        // The journal does not store fingerprints; they are recomputed from the fields they hash
+        return journal.stream()
+            .filter(task -> fingerprint.equals(TaskFingerprint.of(task)))
+            .map(Task::getId)
+            .findFirst();
+    }
+
+    @Override
+    public Stream<String> streamFingerprints() {
+        return journal.stream().map(TaskFingerprint::of);
+    }
+
+    @Override
+    public List<CaseStatusCount> countByCaseAndStatus(Collection<Long> caseIds) {
+        Set<Long> cases = new HashSet<>(caseIds);
+        Map<Long, Map<TaskStatus, Long>> counts = journal.stream()
+            .filter(task -> task.getCaseFile() != null && cases.contains(task.getCaseFile().getId()))
+            .collect(Collectors.groupingBy(
+                task -> task.getCaseFile().getId(),
+                Collectors.groupingBy(Task::getStatus, Collectors.counting())));
+        List<CaseStatusCount> rows = new ArrayList<>();
+        counts.forEach((caseId, byStatus) ->
+            byStatus.forEach((status, count) -> rows.add(new CaseStatusCount(caseId, status, count))));
+        return rows;
+    }
+
+    @Override
+    public List<Task> findByCaseIdsAndStatusesWithLabels(Collection<Long> caseIds, Collection<TaskStatus> statuses) {
+        Set<Long> cases = new HashSet<>(caseIds);
+        return journal.stream()
+            .filter(task -> task.getCaseFile() != null && cases.contains(task.getCaseFile().getId()))
+            .filter(task -> statuses.contains(task.getStatus()))
+            .sorted(BY_DUE_DATE)
+            .toList();
+    }
+
+    @Override
+    public <S extends Task> S save(S entity) {
+        saveAll(List.of(entity));
+        return entity;
+    }
+
+    @Override
+    public <S extends Task> List<S> saveAll(Iterable<S> entities) {
+        List<S> tasks = toList(entities);
+        synchronized (writeMonitor) {
+            LocalDateTime now = LocalDateTime.now();
+            for (Task task : tasks) {
+                prepareForWrite(task, now);
+            }
+            journal.put(new ArrayList<Task>(tasks));
+        }
+        return tasks;
+    }
+
+    @Override
+    public <S extends Task> S saveAndFlush(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends Task> List<S> saveAllAndFlush(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public void flush() {
+        // Every write is in the journal as soon as it returns
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        return journal.get(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return journal.contains(id);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return journal.stream().sorted(BY_ID).toList();
+    }
+
+    @Override
+    public List<Task> findAllById(Iterable<Long> ids) {
+        return StreamSupport.stream(ids.spliterator(), false)
+            .distinct()
+            .map(journal::get)
+            .flatMap(Optional::stream)
+            .toList();
+    }
+
+    @Override
+    public List<Task> findAll(Sort sort) {
+        return journal.stream().sorted(comparator(sort)).toList();
+    }
+
+    @Override
+    public Page<Task> findAll(Pageable pageable) {
+        List<Task> content = page(journal.stream(), comparator(pageable.getSort()), pageable);
+        return new PageImpl<>(content, pageable, journal.size());
+    }
+
+    @Override
+    public long count() {
+        return journal.size();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        deleteAllByIdIn(List.of(id));
+    }
+
+    @Override
+    public void delete(Task entity) {
+        deleteAllByIdIn(List.of(entity.getId()));
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        List<Long> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        deleteAllByIdIn(idList);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Task> entities) {
+        List<Long> idList = new ArrayList<>();
+        entities.forEach(task -> idList.add(task.getId()));
+        deleteAllByIdIn(idList);
+    }
+
+    @Override
+    public void deleteAll() {
+        deleteAllByIdIn(journal.stream().map(Task::getId).toList());
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<Task> entities) {
+        deleteAll(entities);
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<Long> ids) {
+        deleteAllById(ids);
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        deleteAll();
+    }
+
+    @Override
+    @Deprecated
+    public Task getOne(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    @Deprecated
+    public Task getById(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    public Task getReferenceById(Long id) {
+        return journal.get(id).orElseThrow(() -> new EntityNotFoundException("Task not found: " + id));
+    }
+
+    @Override
+    public <S extends Task> Optional<S> findOne(Example<S> example) {
+        throw queryByExampleUnsupported();
+    }
+
+    @Override
+    public <S extends Task> List<S> findAll(Example<S> example) {
+        throw queryByExampleUnsupported();
+    }
+
+    @Override
+    public <S extends Task> List<S> findAll(Example<S> example, Sort sort) {
+        throw queryByExampleUnsupported();
+    }
+
+    @Override
+    public <S extends Task> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw queryByExampleUnsupported();
+    }
+
+    @Override
+    public <S extends Task> long count(Example<S> example) {
+        throw queryByExampleUnsupported();
+    }
+
+    @Override
+    public <S extends Task> boolean exists(Example<S> example) {
+        throw queryByExampleUnsupported();
+    }
+
+    @Override
+    public <S extends Task, R> R findBy(Example<S> example,
+                                        Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw queryByExampleUnsupported();
+    }
+
+    /**
+     * Assigns ids, versions and timestamps the way JPA would on persist or update, and checks the version of an
+     * existing task against the stored one.
+     */
+    private void prepareForWrite(Task task, LocalDateTime now) {
+        if (task.getId() == null) {
+            task.setId(journal.allocateId());
+            task.setVersion(0L);
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            return;
+        }
+        Optional<Task> stored = journal.get(task.getId());
+        if (stored.isEmpty()) {
+            task.setVersion(task.getVersion() == null ? 0L : task.getVersion());
+            task.setCreatedAt(task.getCreatedAt() == null ? now : task.getCreatedAt());
+            task.setUpdatedAt(now);
+            return;
+        }
+        Task current = stored.get();
+        if (task.getVersion() != null && !task.getVersion().equals(current.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, task.getId());
+        }
+        task.setVersion(current.getVersion() + 1);
+        task.setCreatedAt(current.getCreatedAt());
+        task.setUpdatedAt(now);
+    }
+
+    private static List<Task> page(Stream<Task> tasks, Comparator<Task> order, Pageable pageable) {
+        Stream<Task> sorted = tasks.sorted(order);
+        if (pageable.isPaged()) {
+            sorted = sorted.skip(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+        return sorted.toList();
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).toList();
+    }
+
+    private static Comparator<Task> comparator(Sort sort) {
+        Comparator<Task> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Task> property = SORTABLE.get(order.getProperty());
+            if (property == null) {
+                throw new IllegalArgumentException("Cannot sort tasks by " + order.getProperty());
+            }
+            property = order.isAscending() ? property : property.reversed();
+            comparator = comparator == null ? property : comparator.thenComparing(property);
+        }
+        return comparator == null ? BY_ID : comparator.thenComparing(BY_ID);
+    }
+
+    private static <S> List<S> toList(Iterable<S> items) {
+        List<S> list = new ArrayList<>();
+        items.forEach(list::add);
+        return list;
+    }
+
+    private static UnsupportedOperationException queryByExampleUnsupported() {
+        return new UnsupportedOperationException("Query by example is not supported by the journal task store");
+    }
+}
@@ -0,0 +1,626 @@
+package uk.gov.hmcts.reform.dev.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Append-only, segmented journal of tasks with an in-memory primary-key index.
+ *
+ * <p>Every write appends a record to the active segment: a put carrying the whole encoded task, or a delete carrying
+ * its id. Each record is framed as {@code [payload length][CRC32][type][payload]}. The index maps each live task id to
+ * the location of its latest put, so a read is one index lookup and one read from the segment, through a memory
+ * mapping once the segment is sealed. Writes are serialised by a single lock; reads take no lock.
+ *
+ * <p>Recovery loads the latest index snapshot, if it is intact and its segments still exist, and replays the journal
+ * written after it; without one it replays every segment. A torn record at the end of a segment, left by a crash
+ * mid-write, fails its length or checksum test and is cut off.
+ *
+ * <p>Compaction copies the live records of all sealed segments to the head of the journal, snapshots the index and
+ * then deletes those segments. Segments are only ever deleted as a whole prefix of the journal, so a delete record is
+ * never dropped while an older put it cancels is still on disk.
+ */
+public final class TaskJournal implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TaskJournal.class);
+
+    /** Name of the index snapshot inside the journal directory. */
+    public static final String SNAPSHOT_FILE = "index.snapshot";
+
+    static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final int SNAPSHOT_MAGIC = 0x544a4e4c;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final boolean syncOnWrite;
+    private final ConcurrentHashMap<Long, Location> index = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, JournalSegment> segments = new ConcurrentSkipListMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Object maintenanceLock = new Object();
+
+    private volatile JournalSegment active;
+    private long writesSinceSnapshot;
+    private RecoveryStats recoveryStats;
+
+    private TaskJournal(Path directory, long segmentSize, boolean syncOnWrite) {
+        if (segmentSize < HEADER_BYTES || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be between " + HEADER_BYTES + " bytes and 2GB");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncOnWrite = syncOnWrite;
+    }
+
+    /**
+     * Opens the journal in a directory, creating it if needed and recovering whatever it already holds.
+     *
+     * @param directory the directory holding the segments and snapshot
+     * @param segmentSize the size at which the active segment is sealed
+     * @param syncOnWrite whether each write is forced to disk before returning
+     * @return the open journal
+     * @throws IOException if the directory cannot be read or written
+     */
+    public static TaskJournal open(Path directory, long segmentSize, boolean syncOnWrite) throws IOException {
+        TaskJournal journal = new TaskJournal(directory, segmentSize, syncOnWrite);
+        journal.recover();
+        return journal;
+    }
+
+    /**
+     * Reserves an id for a new task.
+     *
+     * @return an id no task in the journal has had
+     */
+    public long allocateId() {
+        return nextId.getAndIncrement();
+    }
+
+    /**
+     * Writes tasks, replacing any earlier version with the same id. The tasks must already have ids.
+     * With sync on write, the journal is forced to disk once for the whole batch.
+     *
+     * @param tasks the tasks to write
+     */
+    public void put(Collection<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            for (Task task : tasks) {
+                long id = task.getId();
+                Location location = append(PUT, TaskRecordCodec.encode(task));
+                replace(id, location);
+                nextId.accumulateAndGet(id + 1, Math::max);
+            }
+            afterWrite(tasks.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Deletes tasks by id. Ids with no live task are ignored.
+     *
+     * @param ids the ids to delete
+     * @return the number of tasks deleted
+     */
+    public int delete(Collection<Long> ids) {
+        writeLock.lock();
+        try {
+            int deleted = 0;
+            for (Long id : ids) {
+                if (id == null || !index.containsKey(id)) {
+                    continue;
+                }
+                append(DELETE, ByteBuffer.allocate(Long.BYTES).putLong(id).array());
+                replace(id, null);
+                deleted++;
+            }
+            if (deleted > 0) {
+                afterWrite(deleted);
+            }
+            return deleted;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Reads the latest version of a task.
+     *
+     * @param id the task id
+     * @return the task, or empty if there is no live task with the id
+     */
+    public Optional<Task> get(long id) {
+        while (true) {
+            Location location = index.get(id);
+            if (location == null) {
+                return Optional.empty();
+            }
+            JournalSegment segment = segments.get(location.segmentId());
+            try {
+                if (segment != null) {
+                    return Optional.of(read(segment, location));
+                }
+            } catch (ClosedChannelException e) {
+                if (segments.containsKey(location.segmentId())) {
+                    throw new UncheckedIOException(e);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // Compacted away between the index lookup and the read; the index now points at the copy
+        }
+    }
+
+    public boolean contains(long id) {
+        return index.containsKey(id);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Streams the latest version of every live task, in no particular order. Tasks written or deleted while the
+     * stream is consumed may or may not be included.
+     *
+     * @return the tasks
+     */
+    public Stream<Task> stream() {
+        return index.keySet().stream()
+            .map(this::get)
+            .flatMap(Optional::stream);
+    }
+
+    /**
+     * Writes a snapshot of the index, so recovery only has to replay what is written after it.
+     * Does nothing if nothing has been written since the last snapshot.
+     */
+    public void snapshot() {
+        synchronized (maintenanceLock) {
+            Map<Long, Location> entries;
+            long snapshotNextId;
+            long segmentId;
+            long offset;
+            writeLock.lock();
+            try {
+                if (writesSinceSnapshot == 0 && Files.exists(directory.resolve(SNAPSHOT_FILE))) {
+                    return;
+                }
+                active.force();
+                entries = new HashMap<>(index);
+                snapshotNextId = nextId.get();
+                segmentId = active.id();
+                offset = active.size();
+                writesSinceSnapshot = 0;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                writeLock.unlock();
+            }
+            try {
+                writeSnapshot(entries, snapshotNextId, segmentId, offset);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Compacts the sealed segments if enough of their bytes are superseded or deleted records.
+     * Live records are copied to the head one at a time, so writers are only held up for one record at a time.
+     *
+     * @param threshold the fraction of dead bytes that triggers compaction
+     * @return the number of segments deleted
+     */
+    public int compact(double threshold) {
+        synchronized (maintenanceLock) {
+            long headId;
+            List<Long> candidates = new ArrayList<>();
+            writeLock.lock();
+            try {
+                headId = active.id();
+                Collection<JournalSegment> sealed = segments.headMap(headId).values();
+                long total = sealed.stream().mapToLong(JournalSegment::size).sum();
+                long live = sealed.stream().mapToLong(JournalSegment::liveBytes).sum();
+                if (total == 0 || live > 0 && (double) (total - live) / total < threshold) {
+                    return 0;
+                }
+                index.forEach((id, location) -> {
+                    if (location.segmentId() < headId) {
+                        candidates.add(id);
+                    }
+                });
+            } finally {
+                writeLock.unlock();
+            }
+
+            try {
+                for (Long id : candidates) {
+                    copyToHead(id, headId);
+                }
+                writeLock.lock();
+                try {
+                    active.force();
+                    writesSinceSnapshot++;
+                } finally {
+                    writeLock.unlock();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            snapshot();
+            List<JournalSegment> doomed = new ArrayList<>(segments.headMap(headId).values());
+            deleteSegments(doomed);
+            LOG.info("Compacted {} journal segments, moving {} live tasks", doomed.size(), candidates.size());
+            return doomed.size();
+        }
+    }
+
+    public RecoveryStats recoveryStats() {
+        return recoveryStats;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Snapshots the index and closes the segment files.
+     */
+    @Override
+    public void close() throws IOException {
+        snapshot();
+        closeFiles();
+    }
+
+    /**
+     * Closes the segment files without a final snapshot, leaving the directory as a crash would.
+     */
+    void closeFiles() throws IOException {
+        writeLock.lock();
+        try {
+            for (JournalSegment segment : segments.values()) {
+                segment.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void afterWrite(int records) throws IOException {
+        if (syncOnWrite) {
+            active.force();
+        }
+        writesSinceSnapshot += records;
+    }
+
+    private Location append(byte type, byte[] payload) throws IOException {
+        return append(frame(type, payload));
+    }
+
+    private Location append(ByteBuffer record) throws IOException {
+        int length = record.remaining();
+        if (active.size() > 0 && active.size() + length > segmentSize) {
+            roll();
+        }
+        long offset = active.append(record);
+        return new Location(active.id(), offset, length);
+    }
+
+    private void roll() throws IOException {
+        JournalSegment sealed = active;
+        sealed.seal();
+        JournalSegment next = JournalSegment.open(directory, sealed.id() + 1);
+        segments.put(next.id(), next);
+        active = next;
+    }
+
+    private void replace(long id, Location location) {
+        Location previous = location == null ? index.remove(id) : index.put(id, location);
+        if (previous != null) {
+            JournalSegment segment = segments.get(previous.segmentId());
+            if (segment != null) {
+                segment.addLiveBytes(-previous.length());
+            }
+        }
+        if (location != null) {
+            segments.get(location.segmentId()).addLiveBytes(location.length());
+        }
+    }
+
+    private void copyToHead(Long id, long headId) throws IOException {
+        writeLock.lock();
+        try {
+            Location location = index.get(id);
+            if (location == null || location.segmentId() >= headId) {
+                return;
+            }
+            ByteBuffer source = segments.get(location.segmentId()).read(location.offset(), location.length());
+            ByteBuffer copy = ByteBuffer.allocate(location.length()).put(source).flip();
+            replace(id, append(copy));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static Task read(JournalSegment segment, Location location) throws IOException {
+        ByteBuffer buffer = segment.read(location.offset() + HEADER_BYTES, location.length() - HEADER_BYTES);
+        byte[] payload = new byte[buffer.remaining()];
+        buffer.get(payload);
+        return TaskRecordCodec.decode(payload);
+    }
+
+    private static ByteBuffer frame(byte type, byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+        return ByteBuffer.allocate(HEADER_BYTES + payload.length)
+            .putInt(payload.length)
+            .putInt((int) crc.getValue())
+            .put(type)
+            .put(payload)
+            .flip();
+    }
+
+    private void recover() throws IOException {
+        long started = System.nanoTime();
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                long id = JournalSegment.parseId(file.getFileName().toString());
+                if (id >= 0) {
+                    segments.put(id, JournalSegment.open(directory, id));
+                }
+            }
+        }
+        if (segments.isEmpty()) {
+            JournalSegment first = JournalSegment.open(directory, 1);
+            segments.put(first.id(), first);
+        }
+
+        Snapshot snapshot = readSnapshot();
+        long replayFromSegment = segments.firstKey();
+        long replayFromOffset = 0;
+        if (snapshot != null) {
+            index.putAll(snapshot.entries());
+            nextId.set(snapshot.nextId());
+            replayFromSegment = snapshot.segmentId();
+            replayFromOffset = snapshot.offset();
+        }
+
+        long replayed = 0;
+        for (JournalSegment segment : segments.tailMap(replayFromSegment).values()) {
+            replayed += replay(segment, segment.id() == replayFromSegment ? replayFromOffset : 0);
+        }
+
+        active = segments.lastEntry().getValue();
+        for (JournalSegment segment : segments.headMap(active.id()).values()) {
+            segment.seal();
+        }
+        index.values().forEach(location -> segments.get(location.segmentId()).addLiveBytes(location.length()));
+        deleteDeadPrefix();
+        writesSinceSnapshot = replayed;
+
+        recoveryStats = new RecoveryStats(
+            snapshot != null, replayed, index.size(), Duration.ofNanos(System.nanoTime() - started));
+        LOG.info("Recovered {} tasks from journal in {}ms ({} records replayed, from snapshot: {})",
+            index.size(), recoveryStats.duration().toMillis(), replayed, snapshot != null);
+    }
+
+    private long replay(JournalSegment segment, long fromOffset) throws IOException {
+        long size = segment.size();
+        long position = fromOffset;
+        long replayed = 0;
+        try (FileChannel channel = FileChannel.open(segment.path(), StandardOpenOption.READ)) {
+            channel.position(fromOffset);
+            DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+            while (position + HEADER_BYTES <= size) {
+                int length = in.readInt();
+                int checksum = in.readInt();
+                byte type = in.readByte();
+                if (length < 0 || position + HEADER_BYTES + length > size) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                CRC32 crc = new CRC32();
+                crc.update(type);
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum || type != PUT && type != DELETE) {
+                    break;
+                }
+                apply(type, payload, new Location(segment.id(), position, HEADER_BYTES + length));
+                position += HEADER_BYTES + length;
+                replayed++;
+            }
+        } catch (EOFException e) {
+            // A record header or payload ran past the end of the file; treat it as torn
+        }
+        if (position < size) {
+            LOG.warn("Truncating torn record at offset {} of journal segment {}", position, segment.id());
+            segment.truncate(position);
+        }
+        return replayed;
+    }
+
+    private void apply(byte type, byte[] payload, Location location) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        if (type == PUT) {
+            long id = buffer.getLong(1);
+            index.put(id, location);
+            nextId.accumulateAndGet(id + 1, Math::max);
+        } else {
+            index.remove(buffer.getLong(0));
+        }
+    }
+
+    private void deleteDeadPrefix() throws IOException {
+        List<JournalSegment> dead = new ArrayList<>();
+        for (JournalSegment segment : segments.headMap(active.id()).values()) {
+            if (segment.liveBytes() > 0) {
+                break;
+            }
+            dead.add(segment);
+        }
+        deleteSegments(dead);
+    }
+
+    private void deleteSegments(List<JournalSegment> doomed) {
+        for (JournalSegment segment : doomed) {
+            segments.remove(segment.id());
+            try {
+                segment.delete();
+            } catch (IOException e) {
+                LOG.warn("Failed to delete journal segment {}", segment.id(), e);
+            }
+        }
+    }
+
+    private void writeSnapshot(Map<Long, Location> entries, long snapshotNextId, long segmentId, long offset)
+        throws IOException {
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        CRC32 crc = new CRC32();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(temporary), 1 << 16), crc))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(snapshotNextId);
+            out.writeLong(segmentId);
+            out.writeLong(offset);
+            out.writeInt(entries.size());
+            for (Map.Entry<Long, Location> entry : entries.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeLong(entry.getValue().segmentId());
+                out.writeLong(entry.getValue().offset());
+                out.writeInt(entry.getValue().length());
+            }
+            out.writeInt((int) crc.getValue());
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(SNAPSHOT_FILE),
+            StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Snapshot readSnapshot() throws IOException {
+        Path file = directory.resolve(SNAPSHOT_FILE);
+        CRC32 crc = new CRC32();
+        try (InputStream raw = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new CheckedInputStream(
+                 new BufferedInputStream(raw, 1 << 16), crc))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                LOG.warn("Ignoring journal snapshot with an unknown format");
+                return null;
+            }
+            long snapshotNextId = in.readLong();
+            long segmentId = in.readLong();
+            long offset = in.readLong();
+            int count = in.readInt();
+            Map<Long, Location> entries = new HashMap<>(Math.max(16, count * 4 / 3 + 1));
+            for (int i = 0; i < count; i++) {
+                entries.put(in.readLong(), new Location(in.readLong(), in.readLong(), in.readInt()));
+            }
+            int expected = (int) crc.getValue();
+            if (in.readInt() != expected) {
+                LOG.warn("Ignoring journal snapshot with a bad checksum");
+                return null;
+            }
+            Snapshot snapshot = new Snapshot(snapshotNextId, segmentId, offset, entries);
+            if (!isConsistent(snapshot)) {
+                LOG.warn("Ignoring journal snapshot that refers to missing journal data");
+                return null;
+            }
+            return snapshot;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (EOFException e) {
+            LOG.warn("Ignoring truncated journal snapshot");
+            return null;
+        }
+    }
+
+    private boolean isConsistent(Snapshot snapshot) {
+        JournalSegment position = segments.get(snapshot.segmentId());
+        if (position == null || position.size() < snapshot.offset()) {
+            return false;
+        }
+        return snapshot.entries().values().stream()
+            .map(location -> segments.get(location.segmentId()))
+            .allMatch(Objects::nonNull);
+    }
+
+    /**
+     * Where a record lives in the journal.
+     *
+     * @param segmentId the segment holding the record
+     * @param offset the offset of the record's header in the segment
+     * @param length the length of the record including its header
+     */
+    record Location(long segmentId, long offset, int length) {
+    }
+
+    private record Snapshot(long nextId, long segmentId, long offset, Map<Long, Location> entries) {
+    }
+
+    /**
+     * What recovery found when the journal was opened.
+     *
+     * @param fromSnapshot whether an index snapshot was loaded
+     * @param recordsReplayed the number of journal records replayed
+     * @param liveTasks the number of live tasks recovered
+     * @param duration how long recovery took
+     */
+    public record RecoveryStats(boolean fromSnapshot, long recordsReplayed, int liveTasks, Duration duration) {
+    }
+}
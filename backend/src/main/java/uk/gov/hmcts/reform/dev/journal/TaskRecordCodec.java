@@ -0,0 +1,113 @@
+package uk.gov.hmcts.reform.dev.journal;
+
+import uk.gov.hmcts.reform.dev.models.CaseFile;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Binary encoding of a task for the journal.
+ * Fields are written in a fixed order with a leading format version, nullable fields behind a presence flag, and
+ * timestamps as UTC epoch seconds plus nanos. The case is stored by id only; a decoded task's case is a reference
+ * that carries nothing but that id.
+ */
+final class TaskRecordCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private TaskRecordCodec() {
+    }
+
+    static byte[] encode(Task task) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(task.getId());
+            out.writeLong(task.getVersion());
+            out.writeUTF(task.getTitle());
+            writeNullableString(out, task.getDescription());
+            out.writeUTF(task.getStatus().name());
+            writeNullableString(out, task.getAssignee());
+            boolean hasCase = task.getCaseFile() != null && task.getCaseFile().getId() != null;
+            out.writeBoolean(hasCase);
+            if (hasCase) {
+                out.writeLong(task.getCaseFile().getId());
+            }
+            writeNullableTime(out, task.getDueDate());
+            writeNullableTime(out, task.getCreatedAt());
+            writeNullableTime(out, task.getUpdatedAt());
+            Set<String> labels = task.getLabels() == null ? Set.of() : task.getLabels();
+            out.writeShort(labels.size());
+            for (String label : labels) {
+                out.writeUTF(label);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Task decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unknown task record format version: " + version);
+            }
+            Task task = new Task();
+            task.setId(in.readLong());
+            task.setVersion(in.readLong());
+            task.setTitle(in.readUTF());
+            task.setDescription(readNullableString(in));
+            task.setStatus(TaskStatus.valueOf(in.readUTF()));
+            task.setAssignee(readNullableString(in));
+            if (in.readBoolean()) {
+                task.setCaseFile(CaseFile.builder().id(in.readLong()).build());
+            }
+            task.setDueDate(readNullableTime(in));
+            task.setCreatedAt(readNullableTime(in));
+            task.setUpdatedAt(readNullableTime(in));
+            int labelCount = in.readUnsignedShort();
+            Set<String> labels = new HashSet<>(labelCount * 2);
+            for (int i = 0; i < labelCount; i++) {
+                labels.add(in.readUTF());
+            }
+            task.setLabels(labels);
+            return task;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeNullableTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readNullableTime(DataInputStream in) throws IOException {
+        return in.readBoolean() ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC) : null;
+    }
+}
@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.TreeSet;
+
+/**
+ * A closed task moved out of the hot {@code tasks} table by the archiver.
+ * Keeps the original id so lookups by id work the same for live and archived tasks.
+ * Labels are kept as a sorted comma-separated list since archived tasks are never filtered by label; the column
+ * holds the longest list a task can carry.
+ */
+@Entity
+@Table(name = "tasks_archive")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ArchivedTask {
+
+    /**
+     * Length of the labels column: every label at its longest, with a comma between each.
+     */
+    public static final int LABELS_LENGTH = Task.MAX_LABELS * (Task.MAX_LABEL_LENGTH + 1) - 1;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Column(length = 100)
+    private String assignee;
+
+    @Column(length = LABELS_LENGTH)
+    private String labels;
+
+    @Column(name = "case_id")
+    private Long caseId;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDateTime dueDate;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * Creates an archive copy of a task.
+     *
+     * @param task the task being archived
+     * @param archivedAt when the task was archived
+     * @return the archived copy
+     */
+    public static ArchivedTask fromTask(Task task, LocalDateTime archivedAt) {
+        return ArchivedTask.builder()
+            .id(task.getId())
+            .title(task.getTitle())
+            .description(task.getDescription())
+            .status(task.getStatus())
+            .assignee(task.getAssignee())
+            .labels(task.getLabels().isEmpty() ? null : String.join(",", new TreeSet<>(task.getLabels())))
+            .caseId(task.getCaseFile() == null ? null : task.getCaseFile().getId())
+            .dueDate(task.getDueDate())
+            .createdAt(task.getCreatedAt())
+            .updatedAt(task.getUpdatedAt())
+            .archivedAt(archivedAt)
+            .build();
+    }
+}
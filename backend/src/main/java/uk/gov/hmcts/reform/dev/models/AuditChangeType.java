@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.models;
+
+/**
+ * The kind of change an audit record describes.
+ */
+public enum AuditChangeType {
+    CREATED,
+    UPDATED,
+    REMOVED
+}
@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry in the cache invalidation change table that application instances tail to keep their caches coherent.
+ * Rows are written and read with plain JDBC by {@link uk.gov.hmcts.reform.dev.coherence.ChangeTableTransport};
+ * the entity only defines the table.
+ */
+@Entity
+@Table(
+    name = "cache_invalidations",
+    indexes = @Index(name = "idx_cache_invalidations_created_at", columnList = "created_at")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_name", nullable = false, length = 50)
+    private String cacheName;
+
+    // Null invalidates the whole cache
+    @Column(name = "cache_key", length = 100)
+    private String cacheKey;
+
+    @Column(nullable = false, length = 36)
+    private String origin;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
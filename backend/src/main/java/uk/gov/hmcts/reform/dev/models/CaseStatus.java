@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.dev.models;
+
+/**
+ * Lifecycle status of a case.
+ */
+public enum CaseStatus {
+    OPEN,
+    CLOSED
+}
@@ -1,22 +0,0 @@
-package uk.gov.hmcts.reform.dev.models;
-
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-import java.time.LocalDateTime;
-
-@NoArgsConstructor
-@AllArgsConstructor
-@Getter
-@Setter
-public class ExampleCase {
-
-    private int id;
-    private String caseNumber;
-    private String title;
-    private String description;
-    private String status;
-    private LocalDateTime createdDate;
-}
@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * The stored response to a request made with an {@code Idempotency-Key}, replayed when the request is retried.
+ * Keyed by method, path and key so the same key can be used against different endpoints.
+ * A row with {@link #PLACEHOLDER_STATUS} and no body marks a key claimed by a request still being processed.
+ */
+@Entity
+@Table(
+    name = "idempotency_keys",
+    indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class IdempotencyRecord {
+
+    /**
+     * The response status of a placeholder row.
+     */
+    public static final int PLACEHOLDER_STATUS = 0;
+
+    @Id
+    @Column(name = "scoped_key", length = 400)
+    private String scopedKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "response_status", nullable = false)
+    private int responseStatus;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Lob
+    @Column(name = "response_body")
+    private byte[] responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * Whether the row only claims its key, with no response recorded yet.
+     *
+     * @return true for a placeholder
+     */
+    public boolean isPlaceholder() {
+        return responseStatus == PLACEHOLDER_STATUS;
+    }
+}
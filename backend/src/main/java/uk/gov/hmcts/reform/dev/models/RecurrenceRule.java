@@ -0,0 +1,215 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import uk.gov.hmcts.reform.dev.exception.InvalidRecurrenceRuleException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A parsed recurrence rule, using the subset of RFC 5545 RRULE syntax that caseworker duties need.
+ * Supported parts are {@code FREQ} (DAILY, WEEKLY or MONTHLY), {@code INTERVAL}, {@code BYDAY} (weekly
+ * rules only), {@code BYMONTHDAY} (monthly rules only, 1 to 31 or -1 for the last day of the month) and
+ * {@code UNTIL} (a date, inclusive). As in RFC 5545, a monthly rule skips months that lack its day.
+ * Occurrences are computed on demand for a date range, so a rule never has to be expanded in full.
+ *
+ * @param frequency how often the rule repeats
+ * @param interval the number of frequency periods between repeats
+ * @param byDay the weekdays a weekly rule falls on, empty to use the start date's weekday
+ * @param byMonthDay the day of the month a monthly rule falls on, or null to use the start date's day
+ * @param until the last date an occurrence can fall on, or null for no end
+ */
+public record RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDay, Integer byMonthDay,
+                             LocalDate until) {
+
+    private static final int MAX_INTERVAL = 366;
+    private static final Map<String, DayOfWeek> DAYS = Map.of(
+        "MO", DayOfWeek.MONDAY, "TU", DayOfWeek.TUESDAY, "WE", DayOfWeek.WEDNESDAY, "TH", DayOfWeek.THURSDAY,
+        "FR", DayOfWeek.FRIDAY, "SA", DayOfWeek.SATURDAY, "SU", DayOfWeek.SUNDAY
+    );
+
+    /**
+     * How often a rule repeats.
+     */
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY
+    }
+
+    /**
+     * Parses a rule such as {@code FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH}. An optional {@code RRULE:} prefix is
+     * ignored.
+     *
+     * @param rule the rule text
+     * @return the parsed rule
+     * @throws InvalidRecurrenceRuleException if the rule is malformed or uses unsupported parts
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new InvalidRecurrenceRuleException(rule, "rule is empty");
+        }
+        String text = rule.trim().toUpperCase(Locale.ROOT);
+        if (text.startsWith("RRULE:")) {
+            text = text.substring("RRULE:".length());
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        Integer byMonthDay = null;
+        LocalDate until = null;
+        Set<String> seen = new HashSet<>();
+        for (String part : text.split(";")) {
+            int equals = part.indexOf('=');
+            if (equals <= 0) {
+                throw new InvalidRecurrenceRuleException(rule, "expected NAME=VALUE but found '" + part + "'");
+            }
+            String name = part.substring(0, equals);
+            String value = part.substring(equals + 1);
+            if (!seen.add(name)) {
+                throw new InvalidRecurrenceRuleException(rule, name + " is given more than once");
+            }
+            switch (name) {
+                case "FREQ" -> frequency = parseFrequency(rule, value);
+                case "INTERVAL" -> interval = parseInt(rule, name, value, 1, MAX_INTERVAL);
+                case "BYDAY" -> byDay.addAll(parseDays(rule, value));
+                case "BYMONTHDAY" -> byMonthDay = parseMonthDay(rule, value);
+                case "UNTIL" -> until = parseUntil(rule, value);
+                default -> throw new InvalidRecurrenceRuleException(rule, name + " is not supported");
+            }
+        }
+
+        if (frequency == null) {
+            throw new InvalidRecurrenceRuleException(rule, "FREQ is required");
+        }
+        if (!byDay.isEmpty() && frequency != Frequency.WEEKLY) {
+            throw new InvalidRecurrenceRuleException(rule, "BYDAY is only supported with FREQ=WEEKLY");
+        }
+        if (byMonthDay != null && frequency != Frequency.MONTHLY) {
+            throw new InvalidRecurrenceRuleException(rule, "BYMONTHDAY is only supported with FREQ=MONTHLY");
+        }
+        return new RecurrenceRule(frequency, interval, Collections.unmodifiableSet(byDay), byMonthDay, until);
+    }
+
+    /**
+     * Lists the dates the rule falls on within a range.
+     *
+     * @param start the date the rule starts from; the first occurrence is on or after it
+     * @param after only dates after this one are returned
+     * @param through only dates on or before this one are returned
+     * @return the occurrence dates in ascending order
+     */
+    public List<LocalDate> occurrences(LocalDate start, LocalDate after, LocalDate through) {
+        LocalDate first = after.isBefore(start) ? start : after.plusDays(1);
+        LocalDate last = until != null && until.isBefore(through) ? until : through;
+        List<LocalDate> dates = new ArrayList<>();
+        if (first.isAfter(last)) {
+            return dates;
+        }
+
+        switch (frequency) {
+            case DAILY -> {
+                long offset = ceilToInterval(ChronoUnit.DAYS.between(start, first));
+                for (LocalDate date = start.plusDays(offset); !date.isAfter(last); date = date.plusDays(interval)) {
+                    dates.add(date);
+                }
+            }
+            case WEEKLY -> {
+                Set<DayOfWeek> days = byDay.isEmpty() ? EnumSet.of(start.getDayOfWeek()) : byDay;
+                LocalDate firstWeek = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                long offset = ceilToInterval(ChronoUnit.WEEKS.between(firstWeek,
+                    first.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))));
+                for (LocalDate week = firstWeek.plusWeeks(offset); !week.isAfter(last);
+                     week = week.plusWeeks(interval)) {
+                    for (DayOfWeek day : days) {
+                        LocalDate date = week.with(TemporalAdjusters.nextOrSame(day));
+                        if (!date.isBefore(first) && !date.isAfter(last)) {
+                            dates.add(date);
+                        }
+                    }
+                }
+            }
+            case MONTHLY -> {
+                int dayOfMonth = byMonthDay == null ? start.getDayOfMonth() : byMonthDay;
+                YearMonth firstMonth = YearMonth.from(start);
+                long offset = ceilToInterval(ChronoUnit.MONTHS.between(firstMonth, YearMonth.from(first)));
+                for (YearMonth month = firstMonth.plusMonths(offset); !month.atDay(1).isAfter(last);
+                     month = month.plusMonths(interval)) {
+                    if (dayOfMonth == -1 || month.isValidDay(dayOfMonth)) {
+                        LocalDate date = dayOfMonth == -1 ? month.atEndOfMonth() : month.atDay(dayOfMonth);
+                        if (!date.isBefore(first) && !date.isAfter(last)) {
+                            dates.add(date);
+                        }
+                    }
+                }
+            }
+            default -> throw new IllegalStateException("Unhandled frequency " + frequency);
+        }
+        return dates;
+    }
+
+    private long ceilToInterval(long periods) {
+        return Math.ceilDiv(Math.max(periods, 0), interval) * (long) interval;
+    }
+
+    private static Frequency parseFrequency(String rule, String value) {
+        try {
+            return Frequency.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRecurrenceRuleException(rule, "FREQ must be DAILY, WEEKLY or MONTHLY");
+        }
+    }
+
+    private static Set<DayOfWeek> parseDays(String rule, String value) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String code : value.split(",")) {
+            DayOfWeek day = DAYS.get(code);
+            if (day == null) {
+                throw new InvalidRecurrenceRuleException(rule, "BYDAY values must be MO, TU, WE, TH, FR, SA or SU");
+            }
+            days.add(day);
+        }
+        return days;
+    }
+
+    private static int parseMonthDay(String rule, String value) {
+        int day = parseInt(rule, "BYMONTHDAY", value, -1, 31);
+        if (day == 0) {
+            throw new InvalidRecurrenceRuleException(rule, "BYMONTHDAY must be between 1 and 31, or -1");
+        }
+        return day;
+    }
+
+    private static LocalDate parseUntil(String rule, String value) {
+        try {
+            // A date-time UNTIL is cut to its date
+            String date = value.length() > 8 ? value.substring(0, 8) : value;
+            return LocalDate.parse(date, DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            throw new InvalidRecurrenceRuleException(rule, "UNTIL must be a date such as 20261231");
+        }
+    }
+
+    private static int parseInt(String rule, String name, String value, int min, int max) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= min && parsed <= max) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below with the accepted range
+        }
+        throw new InvalidRecurrenceRuleException(rule, name + " must be a whole number from " + min + " to " + max);
+    }
+}
@@ -1,13 +1,22 @@
 package uk.gov.hmcts.reform.dev.models;
 
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -17,14 +26,36 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Entity representing a caseworker task in the system.
+ * Cached in the {@code tasks} second-level cache region, and its labels in {@code task-labels}, when the
+ * {@code cache} profile is active.
  */
 @Entity
-@Table(name = "tasks")
+@Table(
+    name = "tasks",
+    indexes = {
+        @Index(name = "idx_tasks_due_date_id", columnList = "due_date, id"),
+        @Index(name = "idx_tasks_status_due_date_id", columnList = "status, due_date, id"),
+        @Index(name = "idx_tasks_status_id", columnList = "status, id"),
+        @Index(name = "idx_tasks_status_updated_at", columnList = "status, updated_at"),
+        @Index(name = "idx_tasks_assignee_status_due_date", columnList = "assignee, status, due_date"),
+        @Index(name = "idx_tasks_case_id_status", columnList = "case_id, status"),
+        @Index(name = TaskFingerprint.UNIQUE_INDEX, columnList = "fingerprint", unique = true)
+    }
+)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks")
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -32,8 +63,20 @@ import java.time.LocalDateTime;
 @Builder
 public class Task {
 
+    /**
+     * Most labels a task can carry.
+     */
+    public static final int MAX_LABELS = 20;
+
+    /**
+     * Longest label, in characters.
+     */
+    public static final int MAX_LABEL_LENGTH = 50;
+
+    // A pooled sequence rather than IDENTITY so Hibernate can batch inserts; ids are handed out 50 at a time
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -47,20 +90,49 @@ public class Task {
 
     @NotNull(message = "Status is required")
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     private TaskStatus status;
 
+    @Size(max = 100, message = "Assignee must not exceed 100 characters")
+    @Column(length = 100)
+    private String assignee;
+
+    @ElementCollection
+    @CollectionTable(
+        name = "task_labels",
+        joinColumns = @JoinColumn(name = "task_id"),
+        indexes = @Index(name = "idx_task_labels_label", columnList = "label")
+    )
+    @Column(name = "label", length = MAX_LABEL_LENGTH, nullable = false)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task-labels")
+    @Builder.Default
+    private Set<String> labels = new HashSet<>();
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "case_id")
+    private CaseFile caseFile;
+
     @NotNull(message = "Due date is required")
     @Future(message = "Due date must be in the future")
     @Column(name = "due_date", nullable = false)
     private LocalDateTime dueDate;
 
+    // Null for tasks created before fingerprinting and for duplicates let through under the warn policy
+    @Column(length = TaskFingerprint.LENGTH, updatable = false)
+    private String fingerprint;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * Sets creation timestamp before persisting.
      */
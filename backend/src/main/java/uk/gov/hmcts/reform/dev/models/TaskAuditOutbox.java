@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * An audit record committed with its task change and waiting to be relayed to {@code task_audit}.
+ * Rows are written, relayed and deleted with plain JDBC by {@link uk.gov.hmcts.reform.dev.service.TaskAuditWriter};
+ * the entity only defines the table. It has no index beyond its key, so staging a record costs the writing
+ * transaction as little as possible.
+ */
+@Entity
+@Table(name = "task_audit_outbox")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class TaskAuditOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private AuditChangeType changeType;
+
+    @Column(nullable = false, length = 100)
+    private String actor;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "old_status", length = 20)
+    private TaskStatus oldStatus;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(name = "new_status", length = 20)
+    private TaskStatus newStatus;
+
+    @Column(length = 1000)
+    private String changes;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
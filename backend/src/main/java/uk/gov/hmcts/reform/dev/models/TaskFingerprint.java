@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * The fingerprint two tasks share when they are the same piece of work entered twice.
+ * Title and description are compared after Unicode compatibility normalisation, case folding and collapsing runs
+ * of whitespace, so {@code "Review  Bundle"} and {@code "review bundle "} match; a missing description matches a
+ * blank one. Due dates are compared to the minute, so the same time sent with or without seconds matches.
+ * The normalised fields are hashed with SHA-256, which gives a fixed-width key for the unique index on
+ * {@code tasks.fingerprint} and evenly spread bits for the Bloom filter in front of it.
+ */
+public final class TaskFingerprint {
+
+    /**
+     * Length of a fingerprint: a SHA-256 hash in lower-case hex.
+     */
+    public static final int LENGTH = 64;
+
+    /**
+     * Name of the unique index on fingerprints.
+     */
+    public static final String UNIQUE_INDEX = "ux_tasks_fingerprint";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final HexFormat HEX = HexFormat.of();
+
+    private TaskFingerprint() {
+    }
+
+    /**
+     * Computes the fingerprint of a task.
+     *
+     * @param task the task
+     * @return the fingerprint
+     */
+    public static String of(Task task) {
+        return of(task.getTitle(), task.getDescription(), task.getDueDate());
+    }
+
+    /**
+     * Computes the fingerprint of a task's content.
+     *
+     * @param title the title
+     * @param description the description, may be null
+     * @param dueDate the due date
+     * @return the fingerprint
+     */
+    public static String of(String title, String description, LocalDateTime dueDate) {
+        String due = dueDate == null ? "" : dueDate.truncatedTo(ChronoUnit.MINUTES).toString();
+        // NUL cannot appear in a normalised field, so no two different tasks join to the same text
+        String key = normalize(title) + '\0' + normalize(description) + '\0' + due;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HEX.formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).replace('\0', ' ');
+        return WHITESPACE.matcher(normalized.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
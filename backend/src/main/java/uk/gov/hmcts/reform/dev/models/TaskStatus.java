@@ -18,4 +18,19 @@ public enum TaskStatus {
     public String getDisplayName() {
         return displayName;
     }
+
+    /**
+     * Whether a task in this status may be moved to the target status.
+     * Open tasks can move between PENDING and IN_PROGRESS or be closed; COMPLETED and CANCELLED are final.
+     *
+     * @param target the status to move to
+     * @return true if the transition is allowed
+     */
+    public boolean canTransitionTo(TaskStatus target) {
+        return switch (this) {
+            case PENDING -> target == IN_PROGRESS || target == COMPLETED || target == CANCELLED;
+            case IN_PROGRESS -> target == PENDING || target == COMPLETED || target == CANCELLED;
+            case COMPLETED, CANCELLED -> false;
+        };
+    }
 }
@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * A recurring task: a recurrence rule plus the fields every generated task gets.
+ * Occurrences are turned into tasks a rolling window at a time; {@code materializedThrough} records how far
+ * the rule has been expanded so each occurrence becomes exactly one task.
+ */
+@Entity
+@Table(
+    name = "task_templates",
+    indexes = @Index(name = "idx_task_templates_active_materialized", columnList = "active, materialized_through")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class TaskTemplate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Column(length = 100)
+    private String assignee;
+
+    @Column(name = "recurrence_rule", nullable = false)
+    private String recurrenceRule;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "due_time", nullable = false)
+    private LocalTime dueTime;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    /**
+     * The last rule date that has been turned into a task, or the day before the start date.
+     */
+    @Column(name = "materialized_through", nullable = false)
+    private LocalDate materializedThrough;
+
+    /**
+     * The latest due day generated so far, after any bank holiday move, so an occurrence moved past the end
+     * of one window is not generated again by the next.
+     */
+    @Column(name = "last_due_date")
+    private LocalDate lastDueDate;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Sets creation timestamp before persisting.
+     */
+    @jakarta.persistence.PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Updates timestamp before updating.
+     */
+    @jakarta.persistence.PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
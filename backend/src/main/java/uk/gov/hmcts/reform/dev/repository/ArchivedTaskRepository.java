@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.models.ArchivedTask;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for archived tasks.
+ */
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    /**
+     * Streams the report fields of archived tasks, optionally only those due in a window.
+     * Must be called in a transaction and the stream closed after use.
+     *
+     * @param from start of the window, inclusive, or null for no lower bound
+     * @param to end of the window, exclusive, or null for no upper bound
+     * @return one row per matching archived task, in no particular order
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new uk.gov.hmcts.reform.dev.repository.TaskSlaRow(t.status, t.dueDate, t.updatedAt) "
+        + "from ArchivedTask t where (:from is null or t.dueDate >= :from) and (:to is null or t.dueDate < :to)")
+    Stream<TaskSlaRow> streamSlaRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,31 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.models.CaseFile;
+
+import java.util.List;
+
+/**
+ * Repository interface for CaseFile entity.
+ */
+@Repository
+public interface CaseFileRepository extends JpaRepository<CaseFile, Long> {
+
+    /**
+     * Finds a page of cases, oldest first.
+     *
+     * @param pageable the page to load
+     * @return cases on the requested page
+     */
+    List<CaseFile> findAllByOrderByIdAsc(Pageable pageable);
+
+    /**
+     * Checks whether a case number is already taken.
+     *
+     * @param caseNumber the case number
+     * @return true if a case has the number
+     */
+    boolean existsByCaseNumber(String caseNumber);
+}
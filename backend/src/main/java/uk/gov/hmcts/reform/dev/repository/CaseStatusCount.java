@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+/**
+ * The number of tasks in one status belonging to one case.
+ *
+ * @param caseId the case id
+ * @param status the task status
+ * @param count the number of tasks
+ */
+public record CaseStatusCount(Long caseId, TaskStatus status, Long count) {
+}
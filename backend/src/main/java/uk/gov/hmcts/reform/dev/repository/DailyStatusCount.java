@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Number of tasks in one status due on one day.
+ *
+ * @param day the due day
+ * @param status the task status
+ * @param count the number of tasks
+ */
+public record DailyStatusCount(LocalDate day, TaskStatus status, Long count) {
+}
@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.models.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for IdempotencyRecord entity.
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Deletes stored responses whose time to live has passed.
+     *
+     * @param now the current time
+     * @return the number of records deleted
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from IdempotencyRecord r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    /**
+     * Claims a key by inserting a placeholder row for it.
+     *
+     * @param key the scoped idempotency key
+     * @param requestHash the fingerprint of the request claiming it
+     * @param now the current time
+     * @param expiresAt when the claim lapses if it is never completed or released
+     * @return the number of rows inserted
+     * @throws org.springframework.dao.DataIntegrityViolationException if the key already has a row
+     */
+    @Transactional
+    @Modifying
+    @Query(
+        value = "insert into idempotency_keys (scoped_key, request_hash, response_status, created_at, expires_at) "
+            + "values (:key, :requestHash, " + IdempotencyRecord.PLACEHOLDER_STATUS + ", :now, :expiresAt)",
+        nativeQuery = true
+    )
+    int insertPlaceholder(@Param("key") String key, @Param("requestHash") String requestHash,
+                          @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Deletes a key's placeholder, leaving a recorded response alone.
+     *
+     * @param key the scoped idempotency key
+     * @return the number of records deleted
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from IdempotencyRecord r where r.scopedKey = :key and r.responseStatus = "
+        + IdempotencyRecord.PLACEHOLDER_STATUS)
+    int deletePlaceholder(@Param("key") String key);
+
+    /**
+     * Deletes a key's record if it has expired, so the key can be claimed again.
+     *
+     * @param key the scoped idempotency key
+     * @param now the current time
+     * @return the number of records deleted
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from IdempotencyRecord r where r.scopedKey = :key and r.expiresAt <= :now")
+    int deleteExpiredKey(@Param("key") String key, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.models.TaskAudit;
+
+import java.util.List;
+
+/**
+ * Repository interface for TaskAudit entity.
+ */
+@Repository
+public interface TaskAuditRepository extends JpaRepository<TaskAudit, Long> {
+
+    /**
+     * Finds a task's audit history, oldest change first.
+     *
+     * @param taskId the task id
+     * @return the task's audit records
+     */
+    List<TaskAudit> findByTaskIdOrderByChangedAtAscIdAsc(Long taskId);
+}
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * The due date of one task, read without loading the entity.
+ *
+ * @param id the task id
+ * @param dueDate the task due date
+ */
+public record TaskDueDate(Long id, LocalDateTime dueDate) {
+}
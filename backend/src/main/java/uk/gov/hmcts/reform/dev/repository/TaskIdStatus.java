@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+/**
+ * The status of one task, read without loading the entity.
+ *
+ * @param id the task id
+ * @param status the task status
+ */
+public record TaskIdStatus(Long id, TaskStatus status) {
+}
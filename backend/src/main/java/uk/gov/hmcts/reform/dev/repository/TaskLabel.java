@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+/**
+ * One label on one task, read without loading the entity.
+ *
+ * @param taskId the task id
+ * @param label the label
+ */
+public record TaskLabel(Long taskId, String label) {
+}
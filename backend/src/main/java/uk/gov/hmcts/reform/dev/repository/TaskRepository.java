@@ -1,13 +1,287 @@
 package uk.gov.hmcts.reform.dev.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Task entity.
  * Provides CRUD operations for tasks.
+ * Listing queries are marked cacheable; they only use the query cache when the second-level cache is enabled.
  */
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    /**
+     * Finds a page of tasks ordered by due date.
+     *
+     * @param pageable the page to load
+     * @return tasks on the requested page
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Task> findAllByOrderByDueDateAscIdAsc(Pageable pageable);
+
+    /**
+     * Finds a page of tasks with the given status ordered by due date.
+     *
+     * @param status the status to filter by
+     * @param pageable the page to load
+     * @return tasks on the requested page
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Task> findByStatusOrderByDueDateAscIdAsc(TaskStatus status, Pageable pageable);
+
+    /**
+     * Finds ids of tasks in the given statuses last updated before the cutoff, oldest ids first.
+     *
+     * @param statuses the statuses to match
+     * @param cutoff tasks updated at or after this time are excluded
+     * @param pageable limits the number of ids returned
+     * @return matching task ids
+     */
+    @Query("select t.id from Task t where t.status in :statuses and t.updatedAt < :cutoff order by t.id")
+    List<Long> findIdsByStatusUpdatedBefore(@Param("statuses") Collection<TaskStatus> statuses,
+                                            @Param("cutoff") LocalDateTime cutoff,
+                                            Pageable pageable);
+
+    /**
+     * Deletes tasks by id in a single statement.
+     * Runs through Hibernate, so cached entities and query results for tasks are invalidated, and the tasks'
+     * rows in the {@code task_labels} collection table are deleted first.
+     *
+     * @param ids the ids to delete
+     * @return the number of rows deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.id in :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds ids and due dates of tasks in the given status after the given id, optionally only those due
+     * before a time. Used to walk a bulk transition in id order without revisiting rows.
+     *
+     * @param status the current status to match
+     * @param dueBefore only tasks due strictly before this time, or null for any due date
+     * @param afterId only ids greater than this
+     * @param pageable limits the number of rows returned
+     * @return matching tasks in ascending id order
+     */
+    @Query("select new uk.gov.hmcts.reform.dev.repository.TransitionCandidate(t.id, t.dueDate, t.assignee) from Task t "
+        + "where t.status = :status and t.id > :afterId "
+        + "and (:dueBefore is null or t.dueDate < :dueBefore) order by t.id")
+    List<TransitionCandidate> findTransitionCandidates(@Param("status") TaskStatus status,
+                                               @Param("dueBefore") LocalDateTime dueBefore,
+                                               @Param("afterId") long afterId,
+                                               Pageable pageable);
+
+    /**
+     * Locks those of the given tasks still in a status until the transaction ends, so nobody else can change
+     * them before a bulk transition updates them.
+     *
+     * @param ids the ids to lock
+     * @param status the status the tasks must still be in
+     * @return ids of the tasks locked
+     */
+    @Query(value = "select id from tasks where id in (:ids) and status = :#{#status.name()} for update",
+        nativeQuery = true)
+    List<Long> lockIdsInStatus(@Param("ids") Collection<Long> ids, @Param("status") TaskStatus status);
+
+    /**
+     * Moves the given tasks from one status to another in a single statement, bumping their version and
+     * update time. Rows whose status changed since their ids were read are left alone.
+     *
+     * @param ids the ids to update
+     * @param fromStatus the status the tasks must still be in
+     * @param toStatus the status to move them to
+     * @param updatedAt the new update time
+     * @return the number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.status = :toStatus, t.updatedAt = :updatedAt, t.version = t.version + 1 "
+        + "where t.id in :ids and t.status = :fromStatus")
+    int transitionStatus(@Param("ids") Collection<Long> ids,
+                         @Param("fromStatus") TaskStatus fromStatus,
+                         @Param("toStatus") TaskStatus toStatus,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Finds which of the given tasks were moved to a status by a specific transition, identified by the
+     * update time it wrote. Only needed when a transition updated fewer rows than it locked, which a store that
+     * takes no row locks can do.
+     *
+     * @param ids the ids the transition selected
+     * @param status the status the transition moved tasks to
+     * @param updatedAt the update time the transition wrote
+     * @return ids of the tasks the transition actually updated
+     */
+    @Query("select t.id from Task t where t.id in :ids and t.status = :status and t.updatedAt = :updatedAt")
+    List<Long> findIdsTransitionedAt(@Param("ids") Collection<Long> ids,
+                                     @Param("status") TaskStatus status,
+                                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Counts tasks per due day and status for tasks due in the given window.
+     *
+     * @param from start of the window, inclusive
+     * @param to end of the window, exclusive
+     * @return one row per day and status that has at least one task
+     */
+    @Query("select new uk.gov.hmcts.reform.dev.repository.DailyStatusCount("
+        + "cast(t.dueDate as LocalDate), t.status, count(t)) from Task t "
+        + "where t.dueDate >= :from and t.dueDate < :to "
+        + "group by cast(t.dueDate as LocalDate), t.status")
+    List<DailyStatusCount> countByDueDayAndStatus(@Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+
+    /**
+     * Finds a page of tasks assigned to a caseworker ordered by due date.
+     *
+     * @param assignee the caseworker
+     * @param pageable the page to load
+     * @return tasks on the requested page
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Task> findByAssigneeOrderByDueDateAscIdAsc(String assignee, Pageable pageable);
+
+    /**
+     * Finds a page of tasks assigned to a caseworker with the given status ordered by due date.
+     *
+     * @param assignee the caseworker
+     * @param status the status to filter by
+     * @param pageable the page to load
+     * @return tasks on the requested page
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Task> findByAssigneeAndStatusOrderByDueDateAscIdAsc(String assignee, TaskStatus status, Pageable pageable);
+
+    /**
+     * Finds ids of the unassigned tasks in the given status that are due soonest.
+     *
+     * @param status the status a claimable task must be in
+     * @param pageable limits the number of ids returned
+     * @return candidate ids, highest priority first
+     */
+    @Query("select t.id from Task t where t.assignee is null and t.status = :status order by t.dueDate, t.id")
+    List<Long> findClaimCandidates(@Param("status") TaskStatus status, Pageable pageable);
+
+    /**
+     * Assigns a task only if it is still unassigned and in the expected status, bumping its version.
+     * Acts as a compare-and-set: of several concurrent claims on the same task exactly one updates a row.
+     *
+     * @param id the task id
+     * @param status the status the task must still be in
+     * @param assignee the caseworker claiming the task
+     * @param updatedAt the new update time
+     * @return 1 if the claim won, 0 if the task was taken or changed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.assignee = :assignee, t.updatedAt = :updatedAt, t.version = t.version + 1 "
+        + "where t.id = :id and t.assignee is null and t.status = :status")
+    int claim(@Param("id") Long id,
+              @Param("status") TaskStatus status,
+              @Param("assignee") String assignee,
+              @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Reads the id and status of every task, for rebuilding in-memory indexes.
+     *
+     * @return one row per task
+     */
+    @Query("select new uk.gov.hmcts.reform.dev.repository.TaskIdStatus(t.id, t.status) from Task t")
+    List<TaskIdStatus> findAllIdsAndStatuses();
+
+    /**
+     * Reads every task label, for rebuilding in-memory indexes.
+     *
+     * @return one row per task and label
+     */
+    @Query("select new uk.gov.hmcts.reform.dev.repository.TaskLabel(t.id, l) from Task t join t.labels l")
+    List<TaskLabel> findAllLabels();
+
+    /**
+     * Reads the id and due date of every task in the given statuses, for rebuilding in-memory indexes.
+     *
+     * @param statuses the statuses to match
+     * @return one row per matching task
+     */
+    @Query("select new uk.gov.hmcts.reform.dev.repository.TaskDueDate(t.id, t.dueDate) from Task t "
+        + "where t.status in :statuses")
+    List<TaskDueDate> findDueDatesByStatusIn(@Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Loads the given tasks with their labels fetched in the same statement.
+     *
+     * @param ids the ids to load
+     * @return the tasks that exist, in no particular order
+     */
+    @Query("select distinct t from Task t left join fetch t.labels where t.id in :ids")
+    List<Task> findAllWithLabelsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Streams the report fields of tasks, optionally only those due in a window.
+     * Must be called in a transaction and the stream closed after use.
+     *
+     * @param from start of the window, inclusive, or null for no lower bound
+     * @param to end of the window, exclusive, or null for no upper bound
+     * @return one row per matching task, in no particular order
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new uk.gov.hmcts.reform.dev.repository.TaskSlaRow(t.status, t.dueDate, t.updatedAt) "
+        + "from Task t where (:from is null or t.dueDate >= :from) and (:to is null or t.dueDate < :to)")
+    Stream<TaskSlaRow> streamSlaRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Finds a task by its duplicate-detection fingerprint.
+     *
+     * @param fingerprint the fingerprint
+     * @return the id of the task with that fingerprint, if there is one
+     */
+    @Query("select t.id from Task t where t.fingerprint = :fingerprint")
+    Optional<Long> findIdByFingerprint(@Param("fingerprint") String fingerprint);
+
+    /**
+     * Streams every stored fingerprint, for rebuilding the duplicate-detection Bloom filter.
+     * Must be called in a transaction and the stream closed after use.
+     *
+     * @return the fingerprints, in no particular order
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select t.fingerprint from Task t where t.fingerprint is not null")
+    Stream<String> streamFingerprints();
+
+    /**
+     * Counts the tasks of each case by status.
+     *
+     * @param caseIds the cases to count tasks for
+     * @return one row per case and status that has tasks
+     */
+    @Query("select new uk.gov.hmcts.reform.dev.repository.CaseStatusCount(t.caseFile.id, t.status, count(t)) "
+        + "from Task t where t.caseFile.id in :caseIds group by t.caseFile.id, t.status")
+    List<CaseStatusCount> countByCaseAndStatus(@Param("caseIds") Collection<Long> caseIds);
+
+    /**
+     * Finds the tasks of the given cases in the given statuses, with their labels fetched in the same statement.
+     *
+     * @param caseIds the cases to load tasks for
+     * @param statuses the statuses to match
+     * @return matching tasks ordered by due date
+     */
+    @Query("select t from Task t left join fetch t.labels "
+        + "where t.caseFile.id in :caseIds and t.status in :statuses order by t.dueDate, t.id")
+    List<Task> findByCaseIdsAndStatusesWithLabels(@Param("caseIds") Collection<Long> caseIds,
+                                                  @Param("statuses") Collection<TaskStatus> statuses);
 }
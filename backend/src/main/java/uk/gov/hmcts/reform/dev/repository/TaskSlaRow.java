@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The fields of one task that service-level reports need, read without loading the entity.
+ *
+ * @param status the task status
+ * @param dueDate the task due date
+ * @param updatedAt when the task was last changed, which for a closed task is when it was closed; may be null
+ */
+public record TaskSlaRow(TaskStatus status, LocalDateTime dueDate, LocalDateTime updatedAt) {
+}
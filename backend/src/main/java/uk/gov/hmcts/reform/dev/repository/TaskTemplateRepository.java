@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.dev.models.TaskTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for TaskTemplate entity.
+ */
+@Repository
+public interface TaskTemplateRepository extends JpaRepository<TaskTemplate, Long> {
+
+    /**
+     * Finds active templates not yet expanded up to the horizon, walking by id.
+     *
+     * @param horizon the last day tasks should exist for
+     * @param afterId only templates with a greater id are returned
+     * @param pageable limits the number of templates returned
+     * @return templates with occurrences still to materialize, in id order
+     */
+    @Query("select t from TaskTemplate t where t.active = true and t.materializedThrough < :horizon "
+        + "and t.id > :afterId order by t.id")
+    List<TaskTemplate> findDueForMaterialization(@Param("horizon") LocalDate horizon,
+                                                 @Param("afterId") long afterId,
+                                                 Pageable pageable);
+}
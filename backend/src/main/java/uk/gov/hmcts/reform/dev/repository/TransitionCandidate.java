@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task selected for a bulk status transition, read without loading the entity.
+ *
+ * @param id the task id
+ * @param dueDate the task due date
+ * @param assignee the caseworker the task is assigned to, or null
+ */
+public record TransitionCandidate(Long id, LocalDateTime dueDate, String assignee) {
+}
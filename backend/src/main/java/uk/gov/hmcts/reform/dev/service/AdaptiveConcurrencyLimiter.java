@@ -0,0 +1,153 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that adapts to observed latency, in the style of TCP congestion control (AIMD).
+ * Each request takes a permit and reports its latency when it finishes. While requests complete within tolerance of
+ * the smoothed baseline latency and the limit is actually being used, the limit grows by one; when a request is slow
+ * (beyond the tolerance or the absolute maximum) or fails, the limit is cut by the backoff ratio. Only a request that
+ * started after the last cut can cause another one, so a burst of slow requests shrinks the limit once rather than
+ * once per request. Requests beyond the limit are refused straight away rather than queued.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    private static final double BASELINE_SMOOTHING = 0.05;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double tolerance;
+    private final long maxLatencyNanos;
+    private final LongSupplier nanoClock;
+
+    private double limit;
+    private int inFlight;
+    private double baselineNanos;
+    private long lastDecreaseNanos = Long.MIN_VALUE;
+
+    /**
+     * Creates a limiter.
+     *
+     * @param name the name reported in metrics
+     * @param initialLimit the limit to start from
+     * @param minLimit the lowest the limit can be cut to
+     * @param maxLimit the highest the limit can grow to
+     * @param backoffRatio the factor the limit is multiplied by when a request is slow or fails
+     * @param tolerance how many times the baseline latency a request may take before it counts as slow
+     * @param maxLatency the latency beyond which a request always counts as slow
+     */
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, double tolerance, Duration maxLatency) {
+        this(name, initialLimit, minLimit, maxLimit, backoffRatio, tolerance, maxLatency, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                               double backoffRatio, double tolerance, Duration maxLatency, LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(String.format(
+                "Limits must satisfy 1 <= min <= initial <= max: %d, %d, %d", minLimit, initialLimit, maxLimit));
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1 || tolerance < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Backoff ratio must be in (0, 1) and tolerance at least 1: %s, %s", backoffRatio, tolerance));
+        }
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.tolerance = tolerance;
+        this.maxLatencyNanos = maxLatency.toNanos();
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Takes a permit if the limit allows another request.
+     *
+     * @return the permit, to be released when the request finishes, or empty if the limit has been reached
+     */
+    public Optional<Permit> tryAcquire() {
+        synchronized (this) {
+            if (inFlight >= (int) limit) {
+                return Optional.empty();
+            }
+            inFlight++;
+        }
+        return Optional.of(new Permit(nanoClock.getAsLong()));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private synchronized void release(long startNanos, boolean failed) {
+        long endNanos = nanoClock.getAsLong();
+        long latencyNanos = endNanos - startNanos;
+        int inFlightBefore = inFlight;
+        inFlight--;
+
+        boolean slow = latencyNanos > maxLatencyNanos
+            || baselineNanos > 0 && latencyNanos > baselineNanos * tolerance;
+        if (failed || slow) {
+            if (startNanos > lastDecreaseNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseNanos = endNanos;
+            }
+        } else if (inFlightBefore * 2 >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+
+        if (!failed) {
+            baselineNanos = baselineNanos == 0
+                ? latencyNanos
+                : baselineNanos + (latencyNanos - baselineNanos) * BASELINE_SMOOTHING;
+        }
+    }
+
+    /**
+     * A slot taken from the limiter, which must be released exactly once.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Releases the permit after the request completed, feeding its latency back into the limit.
+         */
+        public void success() {
+            release(false);
+        }
+
+        /**
+         * Releases the permit after the request failed in a way that suggests overload, which cuts the limit.
+         */
+        public void failure() {
+            release(true);
+        }
+
+        private void release(boolean failed) {
+            if (released) {
+                throw new IllegalStateException("Permit already released");
+            }
+            released = true;
+            AdaptiveConcurrencyLimiter.this.release(startNanos, failed);
+        }
+    }
+}
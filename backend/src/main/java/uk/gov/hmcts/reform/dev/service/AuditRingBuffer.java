@@ -0,0 +1,134 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer queue, after Dmitry Vyukov's bounded MPMC queue.
+ * Each slot carries a sequence number that tells producers and consumers whether it is free for the
+ * current lap, so a claim is a single CAS on the shared position and no thread ever blocks.
+ * {@link #offer} fails rather than waits when the buffer is full, leaving the caller to decide what to do.
+ *
+ * @param <T> the element type
+ */
+public final class AuditRingBuffer<T> {
+
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    /**
+     * Creates a buffer.
+     *
+     * @param capacity the number of slots, rounded up to a power of two
+     */
+    public AuditRingBuffer(int capacity) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 2 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element if there is room.
+     *
+     * @param element the element, not null
+     * @return false if the buffer was full
+     */
+    public boolean offer(T element) {
+        long position = enqueuePosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    // Publishes the element: consumers only read the slot once they see this sequence
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element.
+     *
+     * @return the element, or null if the buffer was empty
+     */
+    public T poll() {
+        long position = dequeuePosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    T element = slots.get(index);
+                    slots.lazySet(index, null);
+                    // Hands the slot back to producers for the next lap
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+                position = dequeuePosition.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = dequeuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code max} elements into {@code target}, oldest first.
+     *
+     * @param target the list to add to
+     * @param max the most elements to move
+     * @return the number of elements moved
+     */
+    public int drainTo(List<? super T> target, int max) {
+        int drained = 0;
+        while (drained < max) {
+            T element = poll();
+            if (element == null) {
+                break;
+            }
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * The approximate number of elements in the buffer; exact only when no other thread is using it.
+     *
+     * @return the element count
+     */
+    public int size() {
+        long size = enqueuePosition.get() - dequeuePosition.get();
+        return Math.clamp(size, 0, capacity());
+    }
+
+    /**
+     * The number of slots.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -2,34 +2,67 @@ package uk.gov.hmcts.reform.dev.service;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.dev.dto.BankHolidayResponse;
+import uk.gov.hmcts.reform.dev.events.HolidayCalendarChangedEvent;
 import uk.gov.hmcts.reform.dev.exception.BankHolidayException;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Service for fetching and checking bank holidays from GOV.UK API.
+ * Calls to the API time out after {@code tasks.bank-holidays.connect-timeout} and
+ * {@code tasks.bank-holidays.read-timeout}. Only one thread refreshes the index at a time; while it does, other
+ * callers keep the expired index. A failed refresh is not retried for {@code tasks.bank-holidays.retry-backoff},
+ * during which the expired index, or none, is served.
  */
 @Service
-public class BankHolidayService {
+public class BankHolidayService implements ApplicationEventPublisherAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(BankHolidayService.class);
     private static final String BANK_HOLIDAYS_URL = "https://www.gov.uk/bank-holidays.json";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final Duration INDEX_TTL = Duration.ofHours(24);
+    private static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofMinutes(1);
 
     private final RestTemplate restTemplate;
+    private final Duration retryBackoff;
+    private final ReentrantLock refreshLock = new ReentrantLock();
 
-    public BankHolidayService() {
-        this.restTemplate = new RestTemplate();
+    private volatile HolidayIndex holidayIndex;
+    private volatile Instant retryAfter = Instant.MIN;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public BankHolidayService(@Value("${tasks.bank-holidays.connect-timeout:2s}") Duration connectTimeout,
+                              @Value("${tasks.bank-holidays.read-timeout:5s}") Duration readTimeout,
+                              @Value("${tasks.bank-holidays.retry-backoff:1m}") Duration retryBackoff) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.retryBackoff = retryBackoff;
     }
 
     /**
@@ -38,7 +71,23 @@ public class BankHolidayService {
      * @param restTemplate the RestTemplate to use for API calls
      */
     public BankHolidayService(RestTemplate restTemplate) {
+        this(restTemplate, DEFAULT_RETRY_BACKOFF);
+    }
+
+    /**
+     * Constructor for dependency injection (useful for testing).
+     *
+     * @param restTemplate the RestTemplate to use for API calls
+     * @param retryBackoff how long to wait after a failed fetch before trying the API again
+     */
+    public BankHolidayService(RestTemplate restTemplate, Duration retryBackoff) {
         this.restTemplate = restTemplate;
+        this.retryBackoff = retryBackoff;
+    }
+
+    @Override
+    public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -64,19 +113,13 @@ public class BankHolidayService {
      * @return Optional containing the bank holiday event if it's a holiday, empty otherwise
      */
     public Optional<BankHolidayResponse.Event> isBankHoliday(LocalDateTime dateTime) {
-        LocalDate date = dateTime.toLocalDate();
-        String dateString = date.format(DATE_FORMATTER);
-
-        BankHolidayResponse response = fetchBankHolidays();
-        if (response == null || response.getEnglandAndWales() == null
-            || response.getEnglandAndWales().getEvents() == null) {
+        Map<LocalDate, BankHolidayResponse.Event> index = getHolidayIndex();
+        if (index.isEmpty()) {
             LOG.warn("Unable to validate bank holidays - API unavailable or returned null");
             return Optional.empty();
         }
 
-        return response.getEnglandAndWales().getEvents().stream()
-            .filter(event -> dateString.equals(event.getDate()))
-            .findFirst();
+        return Optional.ofNullable(index.get(dateTime.toLocalDate()));
     }
 
     /**
@@ -94,6 +137,33 @@ public class BankHolidayService {
         }
     }
 
+    /**
+     * Checks whether a date is a working day: a weekday that is not an England and Wales bank holiday.
+     *
+     * @param date the date to check
+     * @return true if the date is a working day
+     */
+    public boolean isWorkingDay(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek != DayOfWeek.SATURDAY
+            && dayOfWeek != DayOfWeek.SUNDAY
+            && !getHolidayIndex().containsKey(date);
+    }
+
+    /**
+     * Finds the first working day on or after a date.
+     *
+     * @param date the date to start from
+     * @return the date itself if it is a working day, otherwise the next working day
+     */
+    public LocalDate nextWorkingDay(LocalDate date) {
+        LocalDate day = date;
+        while (!isWorkingDay(day)) {
+            day = day.plusDays(1);
+        }
+        return day;
+    }
+
     /**
      * Gets all bank holiday dates for England and Wales as a Set.
      *
@@ -101,14 +171,94 @@ public class BankHolidayService {
      */
     public Set<String> getAllBankHolidayDates() {
         Set<String> holidays = new HashSet<>();
+        getHolidayIndex().keySet().forEach(date -> holidays.add(date.format(DATE_FORMATTER)));
+        return holidays;
+    }
+
+    /**
+     * Gets the England and Wales bank holidays indexed by date.
+     * The index is built on first use and rebuilt once it is older than a day. If another thread is already
+     * rebuilding it, an expired index is returned as it is, and a caller with no index waits for the rebuild.
+     * A failed fetch is retried once the retry backoff has passed.
+     *
+     * @return map of bank holiday date to event, empty if the API is unavailable
+     */
+    public Map<LocalDate, BankHolidayResponse.Event> getHolidayIndex() {
+        HolidayIndex current = holidayIndex;
+        if (current != null && !current.isExpired()) {
+            return current.events();
+        }
+        if (Instant.now().isBefore(retryAfter)) {
+            return current == null ? Map.of() : current.events();
+        }
+        if (current != null && !refreshLock.tryLock()) {
+            return current.events();
+        }
+        if (current == null) {
+            refreshLock.lock();
+        }
+        try {
+            HolidayIndex latest = holidayIndex;
+            if (latest != current || Instant.now().isBefore(retryAfter)) {
+                // Refreshed, or failed, by another thread while this one waited
+                return latest == null ? Map.of() : latest.events();
+            }
+            return refreshHolidayIndex();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Fetches the bank holidays and rebuilds the date index.
+     * Publishes a {@link HolidayCalendarChangedEvent} if the holidays differ from those previously loaded.
+     *
+     * @return the rebuilt index, or the previous one if the API is unavailable
+     */
+    public Map<LocalDate, BankHolidayResponse.Event> refreshHolidayIndex() {
+        refreshLock.lock();
+        try {
+            return rebuildHolidayIndex();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Map<LocalDate, BankHolidayResponse.Event> rebuildHolidayIndex() {
         BankHolidayResponse response = fetchBankHolidays();
+        if (response == null || response.getEnglandAndWales() == null
+            || response.getEnglandAndWales().getEvents() == null) {
+            retryAfter = Instant.now().plus(retryBackoff);
+            HolidayIndex previous = holidayIndex;
+            return previous == null ? Map.of() : previous.events();
+        }
 
-        if (response != null && response.getEnglandAndWales() != null
-            && response.getEnglandAndWales().getEvents() != null) {
-            response.getEnglandAndWales().getEvents()
-                .forEach(event -> holidays.add(event.getDate()));
+        Map<LocalDate, BankHolidayResponse.Event> events = new HashMap<>();
+        for (BankHolidayResponse.Event event : response.getEnglandAndWales().getEvents()) {
+            if (event.getDate() == null) {
+                continue;
+            }
+            try {
+                events.putIfAbsent(LocalDate.parse(event.getDate(), DATE_FORMATTER), event);
+            } catch (DateTimeParseException e) {
+                LOG.warn("Ignoring bank holiday with unparseable date: {}", event.getDate());
+            }
         }
 
-        return holidays;
+        HolidayIndex previous = holidayIndex;
+        HolidayIndex rebuilt = new HolidayIndex(Map.copyOf(events), Instant.now().plus(INDEX_TTL));
+        holidayIndex = rebuilt;
+        retryAfter = Instant.MIN;
+        if (previous != null && eventPublisher != null && !previous.events().keySet().equals(events.keySet())) {
+            eventPublisher.publishEvent(new HolidayCalendarChangedEvent(Set.copyOf(events.keySet())));
+        }
+        return rebuilt.events();
+    }
+
+    private record HolidayIndex(Map<LocalDate, BankHolidayResponse.Event> events, Instant expiresAt) {
+
+        boolean isExpired() {
+            return Instant.now().isAfter(expiresAt);
+        }
     }
 }
@@ -0,0 +1,148 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusTransitionRequest;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusTransitionResponse;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.exception.InvalidStatusTransitionException;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TransitionCandidate;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Moves every task matching a filter to a new status without loading the entities.
+ * Matching ids are walked in id order and each chunk is updated with one set-based statement in its own
+ * short transaction, so only a chunk's rows are ever locked and concurrent writers are never blocked for long.
+ * Before updating, a chunk locks those of its rows still in the source status with {@code select ... for update},
+ * so tasks changed by someone else mid-run are skipped and the update moves exactly the rows it locked.
+ * Each chunk publishes one {@link TaskChangedEvent} covering the tasks it actually moved.
+ */
+@Service
+public class BulkStatusTransitionService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkStatusTransitionService.class);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final int chunkSize;
+
+    public BulkStatusTransitionService(TaskRepository taskRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       ApplicationEventPublisher eventPublisher,
+                                       Clock clock,
+                                       @Value("${tasks.bulk-transition.chunk-size:1000}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Moves all tasks in the requested statuses, and due before the optional cutoff, to the target status.
+     * Every requested transition is checked before any row is touched.
+     *
+     * @param request the statuses to move from and to, and the optional due date filter
+     * @return the number of tasks moved, in total and per original status
+     * @throws InvalidStatusTransitionException if any requested status cannot move to the target status
+     */
+    public BulkStatusTransitionResponse transition(BulkStatusTransitionRequest request) {
+        TaskStatus toStatus = request.getToStatus();
+        for (TaskStatus fromStatus : request.getFromStatuses()) {
+            if (!fromStatus.canTransitionTo(toStatus)) {
+                throw new InvalidStatusTransitionException(fromStatus, toStatus);
+            }
+        }
+
+        Map<TaskStatus, Long> updatedByFromStatus = new EnumMap<>(TaskStatus.class);
+        long updated = 0;
+        for (TaskStatus fromStatus : request.getFromStatuses()) {
+            long moved = transitionAll(fromStatus, toStatus, request.getDueBefore());
+            updatedByFromStatus.put(fromStatus, moved);
+            updated += moved;
+        }
+
+        LOG.info("Bulk transition to {} moved {} tasks {}", toStatus, updated, updatedByFromStatus);
+        return BulkStatusTransitionResponse.builder()
+            .toStatus(toStatus)
+            .updated(updated)
+            .updatedByFromStatus(updatedByFromStatus)
+            .build();
+    }
+
+    private long transitionAll(TaskStatus fromStatus, TaskStatus toStatus, LocalDateTime dueBefore) {
+        long updated = 0;
+        long afterId = 0;
+        while (true) {
+            long lastSeen = afterId;
+            ChunkResult chunk = transactionTemplate.execute(
+                status -> transitionChunk(fromStatus, toStatus, dueBefore, lastSeen)
+            );
+            if (chunk == null) {
+                return updated;
+            }
+            updated += chunk.updated();
+            afterId = chunk.lastId();
+            if (chunk.selected() < chunkSize) {
+                return updated;
+            }
+        }
+    }
+
+    private ChunkResult transitionChunk(TaskStatus fromStatus, TaskStatus toStatus,
+                                        LocalDateTime dueBefore, long afterId) {
+        List<TransitionCandidate> candidates = taskRepository.findTransitionCandidates(
+            fromStatus, dueBefore, afterId, PageRequest.of(0, chunkSize)
+        );
+        if (candidates.isEmpty()) {
+            return new ChunkResult(0, afterId, 0);
+        }
+
+        List<Long> ids = candidates.stream().map(TransitionCandidate::id).toList();
+        List<Long> locked = taskRepository.lockIdsInStatus(ids, fromStatus);
+        if (locked.isEmpty()) {
+            return new ChunkResult(ids.size(), ids.getLast(), 0);
+        }
+        // Truncated to the column's precision, so the stored time still equals the one written
+        LocalDateTime updatedAt = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MICROS);
+        int rows = taskRepository.transitionStatus(locked, fromStatus, toStatus, updatedAt);
+
+        // A store without row locks can still lose a row to a concurrent change; only report the tasks really moved
+        Set<Long> moved = Set.copyOf(
+            rows == locked.size() ? locked : taskRepository.findIdsTransitionedAt(locked, toStatus, updatedAt)
+        );
+        List<TaskChangedEvent.Change> changes = candidates.stream()
+            .filter(candidate -> moved.contains(candidate.id()))
+            .map(candidate -> new TaskChangedEvent.Change(
+                candidate.id(),
+                new TaskSnapshot(fromStatus, candidate.dueDate(), candidate.assignee(), null),
+                new TaskSnapshot(toStatus, candidate.dueDate(), candidate.assignee(), null)
+            ))
+            .toList();
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new TaskChangedEvent(changes));
+        }
+        return new ChunkResult(ids.size(), ids.getLast(), rows);
+    }
+
+    private record ChunkResult(int selected, long lastId, int updated) {
+    }
+}
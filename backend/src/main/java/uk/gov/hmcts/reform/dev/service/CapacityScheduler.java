@@ -0,0 +1,224 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.dto.SlotSuggestion;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.exception.NoAvailableSlotException;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.DailyStatusCount;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Suggests the earliest working day at or after a requested due date that still has capacity for
+ * another open task.
+ * Per-day open task counts for the scheduling horizon are held in a max segment tree over free capacity,
+ * where weekends and bank holidays have none, so finding the next free day is a single O(log n) descent
+ * instead of a day-by-day scan. The tree is adjusted by committed task changes and rebuilt from the
+ * database on a schedule, which also picks up bank holiday changes and rolls the horizon forward.
+ * Capacity is a single pool shared by all tasks.
+ */
+@Service
+public class CapacityScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CapacityScheduler.class);
+    private static final Set<TaskStatus> OPEN_STATUSES = Set.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS);
+
+    private final TaskRepository taskRepository;
+    private final BankHolidayService bankHolidayService;
+    private final Clock clock;
+    private final int dailyCapacity;
+    private final int daysAhead;
+
+    private volatile CapacityTree tree;
+
+    public CapacityScheduler(TaskRepository taskRepository,
+                             BankHolidayService bankHolidayService,
+                             Clock clock,
+                             @Value("${tasks.scheduling.daily-capacity:50}") int dailyCapacity,
+                             @Value("${tasks.scheduling.days-ahead:365}") int daysAhead) {
+        this.taskRepository = taskRepository;
+        this.bankHolidayService = bankHolidayService;
+        this.clock = clock;
+        this.dailyCapacity = dailyCapacity;
+        this.daysAhead = daysAhead;
+    }
+
+    /**
+     * Finds the earliest working day at or after the requested due date with free capacity.
+     * Requests in the past are treated as requests for now.
+     *
+     * @param requested the requested due date
+     * @return the suggested due date, keeping the requested time of day
+     * @throws NoAvailableSlotException if no day within the horizon has free capacity
+     */
+    public SlotSuggestion suggestSlot(LocalDateTime requested) {
+        CapacityTree current = tree();
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime from = requested.isBefore(now) ? now : requested;
+
+        int offset = current.firstFree(current.offset(from.toLocalDate()));
+        if (offset < 0) {
+            throw new NoAvailableSlotException(requested);
+        }
+
+        LocalDate day = current.firstDay.plusDays(offset);
+        return SlotSuggestion.builder()
+            .requested(requested)
+            .suggested(day.equals(from.toLocalDate()) ? from : day.atTime(from.toLocalTime()))
+            .openTasks(current.load(offset))
+            .capacity(dailyCapacity)
+            .build();
+    }
+
+    /**
+     * Applies committed task changes to the open task counts.
+     *
+     * @param event the task changes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        CapacityTree current = tree;
+        if (current == null) {
+            return;
+        }
+        for (TaskChangedEvent.Change change : event.changes()) {
+            adjust(current, change.before(), -1);
+            adjust(current, change.after(), 1);
+        }
+    }
+
+    /**
+     * Rebuilds the tree for the horizon starting today from the database and the holiday calendar.
+     */
+    @Scheduled(fixedDelayString = "${tasks.scheduling.rebuild-interval:5m}")
+    public void rebuild() {
+        LocalDate firstDay = LocalDate.now(clock);
+        int days = daysAhead + 1;
+        int[] load = new int[days];
+        boolean[] working = new boolean[days];
+        for (int i = 0; i < days; i++) {
+            working[i] = bankHolidayService.isWorkingDay(firstDay.plusDays(i));
+        }
+        for (DailyStatusCount row : taskRepository.countByDueDayAndStatus(
+            firstDay.atStartOfDay(), firstDay.plusDays(days).atStartOfDay())) {
+            if (OPEN_STATUSES.contains(row.status())) {
+                load[(int) (row.day().toEpochDay() - firstDay.toEpochDay())] += Math.toIntExact(row.count());
+            }
+        }
+        tree = new CapacityTree(firstDay, load, working, dailyCapacity);
+        LOG.debug("Rebuilt capacity tree for {} days from {}", days, firstDay);
+    }
+
+    private CapacityTree tree() {
+        CapacityTree current = tree;
+        if (current == null) {
+            rebuild();
+            current = tree;
+        }
+        return current;
+    }
+
+    private static void adjust(CapacityTree current, TaskSnapshot snapshot, int delta) {
+        if (snapshot == null || snapshot.dueDate() == null || !OPEN_STATUSES.contains(snapshot.status())) {
+            return;
+        }
+        LocalDate day = snapshot.dueDate().toLocalDate();
+        if (day.isBefore(current.firstDay())) {
+            // Overdue tasks were never counted, and offset() would put them on today
+            return;
+        }
+        current.adjust(current.offset(day), delta);
+    }
+
+    /**
+     * Max segment tree over per-day free capacity. Leaves past the horizon and non-working days hold zero.
+     */
+    static final class CapacityTree {
+
+        private final LocalDate firstDay;
+        private final int days;
+        private final int leaves;
+        private final int capacity;
+        private final int[] load;
+        private final boolean[] working;
+        private final int[] maxFree;
+
+        CapacityTree(LocalDate firstDay, int[] load, boolean[] working, int capacity) {
+            this.firstDay = firstDay;
+            this.days = load.length;
+            this.leaves = Integer.highestOneBit(Math.max(1, days - 1)) << 1;
+            this.capacity = capacity;
+            this.load = load;
+            this.working = working;
+            this.maxFree = new int[2 * leaves];
+            for (int i = 0; i < days; i++) {
+                maxFree[leaves + i] = free(i);
+            }
+            for (int node = leaves - 1; node > 0; node--) {
+                maxFree[node] = Math.max(maxFree[2 * node], maxFree[2 * node + 1]);
+            }
+        }
+
+        LocalDate firstDay() {
+            return firstDay;
+        }
+
+        int offset(LocalDate day) {
+            long offset = day.toEpochDay() - firstDay.toEpochDay();
+            return offset < 0 ? 0 : (int) Math.min(offset, days);
+        }
+
+        synchronized int load(int offset) {
+            return load[offset];
+        }
+
+        synchronized void adjust(int offset, int delta) {
+            if (offset >= days) {
+                return;
+            }
+            load[offset] += delta;
+            int node = leaves + offset;
+            maxFree[node] = free(offset);
+            for (node >>= 1; node > 0; node >>= 1) {
+                maxFree[node] = Math.max(maxFree[2 * node], maxFree[2 * node + 1]);
+            }
+        }
+
+        /**
+         * Finds the first day at or after the given offset with free capacity.
+         *
+         * @param from the offset to start from
+         * @return the offset of the first free day, or -1 if there is none within the horizon
+         */
+        synchronized int firstFree(int from) {
+            return from >= days ? -1 : firstFree(1, 0, leaves - 1, from);
+        }
+
+        private int firstFree(int node, int low, int high, int from) {
+            if (high < from || maxFree[node] <= 0) {
+                return -1;
+            }
+            if (low == high) {
+                return low;
+            }
+            int mid = (low + high) >>> 1;
+            int left = firstFree(2 * node, low, mid, from);
+            return left >= 0 ? left : firstFree(2 * node + 1, mid + 1, high, from);
+        }
+
+        private int free(int offset) {
+            return working[offset] ? capacity - load[offset] : 0;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.dto.CaseSummary;
+import uk.gov.hmcts.reform.dev.dto.CreateCaseRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.exception.DuplicateCaseNumberException;
+import uk.gov.hmcts.reform.dev.models.CaseFile;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.CaseFileRepository;
+import uk.gov.hmcts.reform.dev.repository.CaseStatusCount;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service class for case operations.
+ * Summaries are assembled from three statements whatever the number of cases: the cases themselves,
+ * their task counts grouped by status, and their open tasks with labels fetched in the same join.
+ * Walking {@link CaseFile#getTasks()} per case would cost a statement per case and another per task's labels.
+ */
+@Service
+public class CaseService {
+
+    public static final int MAX_PAGE_SIZE = 50;
+
+    static final Set<TaskStatus> OPEN_STATUSES = Set.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS);
+
+    private final CaseFileRepository caseFileRepository;
+    private final TaskRepository taskRepository;
+
+    public CaseService(CaseFileRepository caseFileRepository, TaskRepository taskRepository) {
+        this.caseFileRepository = caseFileRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Creates a new, open case.
+     *
+     * @param request the case creation request
+     * @return the summary of the created case, which has no tasks yet
+     * @throws DuplicateCaseNumberException if the case number is already taken
+     */
+    @Transactional
+    public CaseSummary createCase(CreateCaseRequest request) {
+        if (caseFileRepository.existsByCaseNumber(request.getCaseNumber())) {
+            throw new DuplicateCaseNumberException(request.getCaseNumber());
+        }
+
+        CaseFile caseFile = CaseFile.builder()
+            .caseNumber(request.getCaseNumber())
+            .title(request.getTitle())
+            .description(request.getDescription())
+            .status(CaseStatus.OPEN)
+            .build();
+
+        try {
+            caseFile = caseFileRepository.saveAndFlush(caseFile);
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent create of the same number; the unique constraint is the real check
+            throw new DuplicateCaseNumberException(request.getCaseNumber());
+        }
+        return toSummary(caseFile, Map.of(), List.of());
+    }
+
+    /**
+     * Gets a case with its open tasks and task counts.
+     *
+     * @param id the case id
+     * @return the case summary
+     * @throws CaseNotFoundException if no case has the given id
+     */
+    @Transactional(readOnly = true)
+    public CaseSummary getCaseSummary(Long id) {
+        CaseFile caseFile = caseFileRepository.findById(id).orElseThrow(() -> new CaseNotFoundException(id));
+        return summarise(List.of(caseFile)).getFirst();
+    }
+
+    /**
+     * Lists cases oldest first, each with its open tasks and task counts.
+     *
+     * @param page the zero-based page number
+     * @param size the page size, capped at {@value #MAX_PAGE_SIZE}
+     * @return the case summaries on the requested page
+     */
+    @Transactional(readOnly = true)
+    public List<CaseSummary> listCaseSummaries(int page, int size) {
+        List<CaseFile> cases = caseFileRepository.findAllByOrderByIdAsc(
+            PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, MAX_PAGE_SIZE))
+        );
+        return cases.isEmpty() ? List.of() : summarise(cases);
+    }
+
+    private List<CaseSummary> summarise(List<CaseFile> cases) {
+        List<Long> caseIds = cases.stream().map(CaseFile::getId).toList();
+
+        Map<Long, Map<TaskStatus, Long>> countsByCase = new HashMap<>();
+        for (CaseStatusCount row : taskRepository.countByCaseAndStatus(caseIds)) {
+            countsByCase.computeIfAbsent(row.caseId(), id -> new EnumMap<>(TaskStatus.class))
+                .put(row.status(), row.count());
+        }
+
+        Map<Long, List<TaskResponse>> openTasksByCase = new HashMap<>();
+        for (Task task : taskRepository.findByCaseIdsAndStatusesWithLabels(caseIds, OPEN_STATUSES)) {
+            openTasksByCase.computeIfAbsent(task.getCaseFile().getId(), id -> new ArrayList<>())
+                .add(TaskResponse.fromEntity(task));
+        }
+
+        return cases.stream()
+            .map(caseFile -> toSummary(
+                caseFile,
+                countsByCase.getOrDefault(caseFile.getId(), Map.of()),
+                openTasksByCase.getOrDefault(caseFile.getId(), List.of())
+            ))
+            .toList();
+    }
+
+    private static CaseSummary toSummary(CaseFile caseFile, Map<TaskStatus, Long> counts,
+                                         List<TaskResponse> openTasks) {
+        Map<TaskStatus, Long> taskCounts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            taskCounts.put(status, counts.getOrDefault(status, 0L));
+        }
+
+        return CaseSummary.builder()
+            .id(caseFile.getId())
+            .caseNumber(caseFile.getCaseNumber())
+            .title(caseFile.getTitle())
+            .description(caseFile.getDescription())
+            .status(caseFile.getStatus())
+            .createdAt(caseFile.getCreatedAt())
+            .taskCounts(taskCounts)
+            .openTasks(openTasks)
+            .build();
+    }
+}
@@ -0,0 +1,439 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskDueDate;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Answers "open tasks due between two times" range and count queries from memory, so a dashboard only goes to
+ * the database to load the page of tasks it shows.
+ * Open tasks are held in one bucket per due day. A bucket is a pair of parallel primitive long arrays, due
+ * minutes since the epoch and task ids, sorted by minute then id, so the ends of a range are binary searches and
+ * a count adds up whole bucket sizes in between. The days themselves are a sorted array searched the same way.
+ * Like {@link LabelIndex}, the buckets are built from the database when the application is ready and then kept
+ * up to date from committed task changes, with changes committed during a rebuild replayed on top of it, and
+ * only one rebuild runs at a time. Adding an entry that is present or removing one that is absent does nothing,
+ * so a replayed change is harmless. Due times are truncated to the minute: range bounds are compared to the
+ * minute, and tasks due in the same minute are ordered by id.
+ */
+@Service
+public class DueDateIndex {
+
+    /**
+     * Statuses of the tasks the index holds.
+     */
+    public static final Set<TaskStatus> OPEN_STATUSES = EnumSet.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS);
+
+    private static final Logger LOG = LoggerFactory.getLogger(DueDateIndex.class);
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final TaskRepository taskRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private Buckets buckets = Buckets.empty();
+    private List<TaskChangedEvent.Change> pending;
+    private boolean built;
+
+    public DueDateIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Counts the open tasks due in a range.
+     *
+     * @param from start of the range, inclusive, or null for no lower bound
+     * @param to end of the range, exclusive, or null for no upper bound
+     * @return the number of open tasks due in the range
+     */
+    public long count(LocalDateTime from, LocalDateTime to) {
+        ensureBuilt();
+        lock.readLock().lock();
+        try {
+            return buckets.count(lowerMinute(from), upperMinute(to));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds one page of the open tasks due in a range, soonest first.
+     *
+     * @param from start of the range, inclusive, or null for no lower bound
+     * @param to end of the range, exclusive, or null for no upper bound
+     * @param page the zero-based page number
+     * @param size the page size, capped at {@value TaskService#MAX_PAGE_SIZE}
+     * @return ids of the tasks on the page, ordered by due minute then id
+     */
+    public List<Long> find(LocalDateTime from, LocalDateTime to, int page, int size) {
+        ensureBuilt();
+        int pageSize = Math.clamp(size, 1, TaskService.MAX_PAGE_SIZE);
+        long offset = (long) Math.max(page, 0) * pageSize;
+        lock.readLock().lock();
+        try {
+            return buckets.ids(lowerMinute(from), upperMinute(to), offset, pageSize);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies committed task changes to the buckets.
+     *
+     * @param event the task changes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!built && pending == null) {
+                // Nothing to adjust yet; the first rebuild will read the change from the database
+                return;
+            }
+            for (TaskChangedEvent.Change change : event.changes()) {
+                apply(buckets, change);
+            }
+            if (pending != null) {
+                pending.addAll(event.changes());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the buckets from the database.
+     * Runs once the application is ready, and on first use if that has not happened yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        // Each rebuild replays its own list, so a rebuild that failed or finished cannot take another's away
+        List<TaskChangedEvent.Change> replay = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            pending = replay;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<TaskDueDate> tasks;
+        try {
+            tasks = taskRepository.findDueDatesByStatusIn(OPEN_STATUSES);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        List<Entry> entries = new ArrayList<>(tasks.size());
+        for (TaskDueDate task : tasks) {
+            if (task.dueDate() != null) {
+                entries.add(new Entry(epochMinute(task.dueDate()), task.id()));
+            }
+        }
+        entries.sort(Entry.ORDER);
+        Buckets rebuilt = Buckets.of(entries);
+
+        lock.writeLock().lock();
+        try {
+            for (TaskChangedEvent.Change change : replay) {
+                apply(rebuilt, change);
+            }
+            buckets = rebuilt;
+            pending = null;
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        LOG.info("Built due-date index for {} open tasks over {} days", entries.size(), rebuilt.dayCount);
+    }
+
+    private void ensureBuilt() {
+        if (isBuilt()) {
+            return;
+        }
+        synchronized (this) {
+            if (!isBuilt()) {
+                rebuild();
+            }
+        }
+    }
+
+    private boolean isBuilt() {
+        lock.readLock().lock();
+        try {
+            return built;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void apply(Buckets buckets, TaskChangedEvent.Change change) {
+        TaskSnapshot before = change.before();
+        TaskSnapshot after = change.after();
+        if (isIndexed(before)) {
+            buckets.remove(epochMinute(before.dueDate()), change.taskId());
+        }
+        if (isIndexed(after)) {
+            buckets.add(epochMinute(after.dueDate()), change.taskId());
+        }
+    }
+
+    private static boolean isIndexed(TaskSnapshot snapshot) {
+        return snapshot != null && snapshot.dueDate() != null && OPEN_STATUSES.contains(snapshot.status());
+    }
+
+    private static long lowerMinute(LocalDateTime from) {
+        return from == null ? Long.MIN_VALUE : epochMinute(from);
+    }
+
+    private static long upperMinute(LocalDateTime to) {
+        return to == null ? Long.MAX_VALUE : epochMinute(to);
+    }
+
+    private static long epochMinute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static long day(long minute) {
+        return Math.floorDiv(minute, MINUTES_PER_DAY);
+    }
+
+    /**
+     * Returns the index of the first entry not before the given minute and id.
+     */
+    private static int lowerBound(long[] minutes, long[] ids, int size, long minute, long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (minutes[mid] < minute || minutes[mid] == minute && ids[mid] < id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element not less than the key.
+     */
+    private static int lowerBound(long[] values, int size, long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * An open task's due minute and id, used only while rebuilding.
+     */
+    private record Entry(long minute, long id) {
+
+        static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::minute).thenComparingLong(Entry::id);
+    }
+
+    /**
+     * Per-day buckets of entries sorted by due minute then id, with the days held in parallel sorted arrays.
+     * Each bucket is a pair of parallel arrays, one of due minutes and one of task ids.
+     * Not thread safe; the index guards it with its lock.
+     */
+    private static final class Buckets {
+
+        private static final int MIN_CAPACITY = 4;
+
+        private long[] days;
+        private long[][] minutes;
+        private long[][] ids;
+        private int[] sizes;
+        private int dayCount;
+
+        private Buckets(int capacity) {
+            days = new long[capacity];
+            minutes = new long[capacity][];
+            ids = new long[capacity][];
+            sizes = new int[capacity];
+        }
+
+        static Buckets empty() {
+            return new Buckets(MIN_CAPACITY);
+        }
+
+        /**
+         * Splits sorted entries into day buckets.
+         */
+        static Buckets of(List<Entry> sorted) {
+            Buckets buckets = empty();
+            int count = sorted.size();
+            int start = 0;
+            while (start < count) {
+                long day = day(sorted.get(start).minute());
+                int end = start + 1;
+                while (end < count && day(sorted.get(end).minute()) == day) {
+                    end++;
+                }
+                int slot = buckets.insertDay(buckets.dayCount, day, end - start);
+                for (int index = start; index < end; index++) {
+                    buckets.minutes[slot][index - start] = sorted.get(index).minute();
+                    buckets.ids[slot][index - start] = sorted.get(index).id();
+                }
+                buckets.sizes[slot] = end - start;
+                start = end;
+            }
+            return buckets;
+        }
+
+        void add(long minute, long id) {
+            long day = day(minute);
+            int slot = Arrays.binarySearch(days, 0, dayCount, day);
+            if (slot < 0) {
+                slot = insertDay(-slot - 1, day, MIN_CAPACITY);
+            }
+            int size = sizes[slot];
+            int index = lowerBound(minutes[slot], ids[slot], size, minute, id);
+            if (index < size && minutes[slot][index] == minute && ids[slot][index] == id) {
+                return;
+            }
+            if (size == minutes[slot].length) {
+                minutes[slot] = Arrays.copyOf(minutes[slot], size * 2);
+                ids[slot] = Arrays.copyOf(ids[slot], size * 2);
+            }
+            System.arraycopy(minutes[slot], index, minutes[slot], index + 1, size - index);
+            System.arraycopy(ids[slot], index, ids[slot], index + 1, size - index);
+            minutes[slot][index] = minute;
+            ids[slot][index] = id;
+            sizes[slot] = size + 1;
+        }
+
+        void remove(long minute, long id) {
+            int slot = Arrays.binarySearch(days, 0, dayCount, day(minute));
+            if (slot < 0) {
+                return;
+            }
+            int size = sizes[slot];
+            int index = lowerBound(minutes[slot], ids[slot], size, minute, id);
+            if (index == size || minutes[slot][index] != minute || ids[slot][index] != id) {
+                return;
+            }
+            if (size == 1) {
+                removeDay(slot);
+                return;
+            }
+            System.arraycopy(minutes[slot], index + 1, minutes[slot], index, size - index - 1);
+            System.arraycopy(ids[slot], index + 1, ids[slot], index, size - index - 1);
+            sizes[slot] = size - 1;
+        }
+
+        long count(long fromMinute, long toMinute) {
+            if (fromMinute >= toMinute) {
+                return 0;
+            }
+            long fromDay = day(fromMinute);
+            long lastDay = day(toMinute - 1);
+            long count = 0;
+            for (int slot = lowerBound(days, dayCount, fromDay); slot < dayCount && days[slot] <= lastDay; slot++) {
+                count += end(slot, lastDay, toMinute) - start(slot, fromDay, fromMinute);
+            }
+            return count;
+        }
+
+        List<Long> ids(long fromMinute, long toMinute, long offset, int limit) {
+            if (fromMinute >= toMinute) {
+                return List.of();
+            }
+            long fromDay = day(fromMinute);
+            long lastDay = day(toMinute - 1);
+            long skip = offset;
+            List<Long> found = new ArrayList<>(limit);
+            for (int slot = lowerBound(days, dayCount, fromDay);
+                 slot < dayCount && days[slot] <= lastDay && found.size() < limit; slot++) {
+                int start = start(slot, fromDay, fromMinute);
+                int end = end(slot, lastDay, toMinute);
+                if (skip >= end - start) {
+                    skip -= end - start;
+                    continue;
+                }
+                long[] bucket = ids[slot];
+                for (int index = start + (int) skip; index < end && found.size() < limit; index++) {
+                    found.add(bucket[index]);
+                }
+                skip = 0;
+            }
+            return found;
+        }
+
+        /**
+         * Where the range starts in a bucket; only the first day of the range can start part way through.
+         */
+        private int start(int slot, long fromDay, long fromMinute) {
+            return days[slot] == fromDay ? lowerBound(minutes[slot], sizes[slot], fromMinute) : 0;
+        }
+
+        /**
+         * Where the range ends in a bucket; only the last day of the range can end part way through.
+         */
+        private int end(int slot, long lastDay, long toMinute) {
+            return days[slot] == lastDay ? lowerBound(minutes[slot], sizes[slot], toMinute) : sizes[slot];
+        }
+
+        private int insertDay(int slot, long day, int capacity) {
+            if (dayCount == days.length) {
+                int grown = days.length * 2;
+                days = Arrays.copyOf(days, grown);
+                minutes = Arrays.copyOf(minutes, grown);
+                ids = Arrays.copyOf(ids, grown);
+                sizes = Arrays.copyOf(sizes, grown);
+            }
+            System.arraycopy(days, slot, days, slot + 1, dayCount - slot);
+            System.arraycopy(minutes, slot, minutes, slot + 1, dayCount - slot);
+            System.arraycopy(ids, slot, ids, slot + 1, dayCount - slot);
+            System.arraycopy(sizes, slot, sizes, slot + 1, dayCount - slot);
+            days[slot] = day;
+            minutes[slot] = new long[Math.max(capacity, MIN_CAPACITY)];
+            ids[slot] = new long[Math.max(capacity, MIN_CAPACITY)];
+            sizes[slot] = 0;
+            dayCount++;
+            return slot;
+        }
+
+        private void removeDay(int slot) {
+            System.arraycopy(days, slot + 1, days, slot, dayCount - slot - 1);
+            System.arraycopy(minutes, slot + 1, minutes, slot, dayCount - slot - 1);
+            System.arraycopy(ids, slot + 1, ids, slot, dayCount - slot - 1);
+            System.arraycopy(sizes, slot + 1, sizes, slot, dayCount - slot - 1);
+            dayCount--;
+            minutes[dayCount] = null;
+            ids[dayCount] = null;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.dto.BankHolidayResponse;
+import uk.gov.hmcts.reform.dev.dto.DailyWorkload;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.DailyStatusCount;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Keeps per-day, per-status counts of task due dates so the workload calendar never has to aggregate
+ * the tasks table on a page view.
+ * The counts cover a window around today held in a flat array, one slot per day and status. Committed
+ * task changes adjust the counts incrementally, and the whole window is rebuilt from the database on a
+ * schedule, which also rolls the window forward and repairs any drift from changes made while a rebuild
+ * was running.
+ */
+@Service
+public class DueDateWorkloadService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DueDateWorkloadService.class);
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final int DEFAULT_RANGE_DAYS = 90;
+
+    private final TaskRepository taskRepository;
+    private final BankHolidayService bankHolidayService;
+    private final Clock clock;
+    private final int daysBack;
+    private final int daysAhead;
+
+    private volatile Buckets buckets;
+
+    public DueDateWorkloadService(TaskRepository taskRepository,
+                                  BankHolidayService bankHolidayService,
+                                  Clock clock,
+                                  @Value("${tasks.workload.days-back:30}") int daysBack,
+                                  @Value("${tasks.workload.days-ahead:365}") int daysAhead) {
+        this.taskRepository = taskRepository;
+        this.bankHolidayService = bankHolidayService;
+        this.clock = clock;
+        this.daysBack = daysBack;
+        this.daysAhead = daysAhead;
+    }
+
+    /**
+     * Gets the number of tasks due on each day of a range, with weekends and bank holidays marked.
+     * The range is limited to the maintained window.
+     *
+     * @param from first day, inclusive, or null for today
+     * @param to last day, inclusive, or null for 90 days from {@code from}
+     * @return one entry per day in the range, empty if the range lies outside the window
+     */
+    public List<DailyWorkload> getWorkload(LocalDate from, LocalDate to) {
+        Buckets current = buckets();
+        LocalDate start = from == null ? LocalDate.now(clock) : from;
+        LocalDate end = to == null ? start.plusDays(DEFAULT_RANGE_DAYS - 1) : to;
+        if (start.isBefore(current.firstDay)) {
+            start = current.firstDay;
+        }
+        if (end.isAfter(current.lastDay())) {
+            end = current.lastDay();
+        }
+        if (start.isAfter(end)) {
+            return List.of();
+        }
+
+        Map<LocalDate, BankHolidayResponse.Event> holidays = bankHolidayService.getHolidayIndex();
+        List<DailyWorkload> days = new ArrayList<>((int) ChronoUnit.DAYS.between(start, end) + 1);
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            int base = current.slot(day, STATUSES[0]);
+            Map<TaskStatus, Integer> byStatus = new EnumMap<>(TaskStatus.class);
+            int total = 0;
+            for (TaskStatus status : STATUSES) {
+                int count = current.counts.get(base + status.ordinal());
+                byStatus.put(status, count);
+                total += count;
+            }
+            BankHolidayResponse.Event holiday = holidays.get(day);
+            days.add(DailyWorkload.builder()
+                .date(day)
+                .total(total)
+                .byStatus(byStatus)
+                .weekend(day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY)
+                .bankHoliday(holiday == null ? null : holiday.getTitle())
+                .build());
+        }
+        return days;
+    }
+
+    /**
+     * Applies committed task changes to the counts.
+     *
+     * @param event the task changes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Buckets current = buckets;
+        if (current == null) {
+            // Nothing to adjust yet; the first rebuild will read the change from the database
+            return;
+        }
+        for (TaskChangedEvent.Change change : event.changes()) {
+            current.add(change.before(), -1);
+            current.add(change.after(), 1);
+        }
+    }
+
+    /**
+     * Rebuilds the counts for the window around today from the database.
+     */
+    @Scheduled(fixedDelayString = "${tasks.workload.reconcile-interval:5m}")
+    public void reconcile() {
+        LocalDate firstDay = LocalDate.now(clock).minusDays(daysBack);
+        Buckets rebuilt = new Buckets(firstDay, daysBack + daysAhead + 1);
+        List<DailyStatusCount> rows = taskRepository.countByDueDayAndStatus(
+            firstDay.atStartOfDay(), rebuilt.lastDay().plusDays(1).atStartOfDay()
+        );
+        for (DailyStatusCount row : rows) {
+            rebuilt.counts.set(rebuilt.slot(row.day(), row.status()), Math.toIntExact(row.count()));
+        }
+        buckets = rebuilt;
+        LOG.debug("Rebuilt due-date workload counts from {} rows", rows.size());
+    }
+
+    private Buckets buckets() {
+        Buckets current = buckets;
+        if (current == null) {
+            reconcile();
+            current = buckets;
+        }
+        return current;
+    }
+
+    private static final class Buckets {
+
+        private final LocalDate firstDay;
+        private final long firstEpochDay;
+        private final int days;
+        private final AtomicIntegerArray counts;
+
+        Buckets(LocalDate firstDay, int days) {
+            this.firstDay = firstDay;
+            this.firstEpochDay = firstDay.toEpochDay();
+            this.days = days;
+            this.counts = new AtomicIntegerArray(days * STATUSES.length);
+        }
+
+        LocalDate lastDay() {
+            return firstDay.plusDays(days - 1L);
+        }
+
+        int slot(LocalDate day, TaskStatus status) {
+            return (int) (day.toEpochDay() - firstEpochDay) * STATUSES.length + status.ordinal();
+        }
+
+        void add(TaskSnapshot snapshot, int delta) {
+            if (snapshot == null || snapshot.dueDate() == null || snapshot.status() == null) {
+                return;
+            }
+            long offset = snapshot.dueDate().toLocalDate().toEpochDay() - firstEpochDay;
+            if (offset >= 0 && offset < days) {
+                counts.addAndGet((int) offset * STATUSES.length + snapshot.status().ordinal(), delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Finds existing tasks with the same {@link uk.gov.hmcts.reform.dev.models.TaskFingerprint fingerprint} as a task
+ * about to be created.
+ * The unique index on {@code tasks.fingerprint} is the real check; this class keeps the common case, a task that
+ * is not a duplicate, from paying a query for it. A Bloom filter of every stored fingerprint answers "definitely
+ * new" from memory, and only a "maybe" goes to the database. A fingerprint the filter has not heard of, such as
+ * one written by another instance since the last rebuild, is still caught by the index when the task is inserted.
+ * The filter is built from the database when the application is ready, sized for
+ * {@code tasks.duplicates.expected-tasks} or twice the stored fingerprints if more, and rebuilt larger once it
+ * holds more than that. Fingerprints recorded while a rebuild is reading the database are replayed on top of it.
+ */
+@Service
+public class DuplicateTaskDetector {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DuplicateTaskDetector.class);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Policy policy;
+    private final long expectedTasks;
+    private final double falsePositiveRate;
+    private final Object lock = new Object();
+
+    private volatile FingerprintBloomFilter filter;
+    // Guarded by lock
+    private List<String> pending;
+
+    public DuplicateTaskDetector(TaskRepository taskRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${tasks.duplicates.policy:reject}") Policy policy,
+                                 @Value("${tasks.duplicates.expected-tasks:1000000}") long expectedTasks,
+                                 @Value("${tasks.duplicates.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.policy = policy;
+        this.expectedTasks = expectedTasks;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * What to do when a new task duplicates an existing one.
+     *
+     * @return the configured policy
+     */
+    public Policy policy() {
+        return policy;
+    }
+
+    /**
+     * Finds a stored task with the given fingerprint. Queries the database only if the Bloom filter may hold it.
+     *
+     * @param fingerprint the fingerprint of the task about to be created
+     * @return the id of an existing task with that fingerprint, if there is one
+     */
+    public Optional<Long> findDuplicate(String fingerprint) {
+        if (!ensureBuilt().mightContain(fingerprint)) {
+            return Optional.empty();
+        }
+        return taskRepository.findIdByFingerprint(fingerprint);
+    }
+
+    /**
+     * Adds the fingerprint of a task being stored to the Bloom filter.
+     * Called before the task commits; if it then rolls back, the fingerprint only costs a query on a later match.
+     *
+     * @param fingerprint the fingerprint
+     */
+    public void record(String fingerprint) {
+        synchronized (lock) {
+            if (pending != null) {
+                pending.add(fingerprint);
+            }
+            if (filter != null) {
+                filter.add(fingerprint);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the Bloom filter from the database.
+     * Runs once the application is ready, and on first use if that has not happened yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        synchronized (lock) {
+            pending = new ArrayList<>();
+        }
+
+        FingerprintBloomFilter rebuilt;
+        try {
+            rebuilt = transactionTemplate.execute(status -> {
+                FingerprintBloomFilter bloom = FingerprintBloomFilter.create(
+                    Math.max(expectedTasks, 2 * taskRepository.count()), falsePositiveRate);
+                try (Stream<String> fingerprints = taskRepository.streamFingerprints()) {
+                    fingerprints.forEach(bloom::add);
+                }
+                return bloom;
+            });
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                pending = null;
+            }
+            throw e;
+        }
+
+        long replayed;
+        synchronized (lock) {
+            replayed = pending.size();
+            pending.forEach(rebuilt::add);
+            filter = rebuilt;
+            pending = null;
+        }
+        LOG.info("Built duplicate task filter of {} bits with {} hashes for {} fingerprints",
+            rebuilt.bits(), rebuilt.hashes(), rebuilt.size() - replayed);
+    }
+
+    /**
+     * Rebuilds the Bloom filter if it holds more fingerprints than it was sized for, at which point its
+     * false-positive rate, and so the share of creates that query the database, starts to climb.
+     */
+    @Scheduled(
+        fixedDelayString = "${tasks.duplicates.resize-check-interval:10m}",
+        initialDelayString = "${tasks.duplicates.resize-check-interval:10m}"
+    )
+    public void rebuildIfFull() {
+        FingerprintBloomFilter current = filter;
+        if (current != null && current.isFull()) {
+            rebuild();
+        }
+    }
+
+    private FingerprintBloomFilter ensureBuilt() {
+        FingerprintBloomFilter current = filter;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (filter == null) {
+                rebuild();
+            }
+            return filter;
+        }
+    }
+
+    /**
+     * What to do with a new task that duplicates an existing one.
+     */
+    public enum Policy {
+        /**
+         * Refuse the new task.
+         */
+        REJECT,
+        /**
+         * Log the duplicate and create the task anyway, without a fingerprint.
+         */
+        WARN,
+        /**
+         * Create nothing and return the existing task, with the new task's labels added to it.
+         */
+        MERGE
+    }
+}
@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A Bloom filter over task fingerprints: answers "definitely not seen" or "maybe seen" from a bit array.
+ * Fingerprints are already SHA-256 hashes, so the probe positions are derived from the first 128 bits of the
+ * fingerprint itself by double hashing rather than by hashing again. Bits are set with compare-and-set, so
+ * concurrent adds and lookups need no lock. Nothing can be removed; a deleted task's bits just add to the
+ * false-positive rate until the filter is rebuilt.
+ */
+final class FingerprintBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final long capacity;
+    private final LongAdder added = new LongAdder();
+
+    private FingerprintBloomFilter(long bits, int hashes, long capacity) {
+        this.words = new AtomicLongArray(Math.toIntExact((bits + 63) / 64));
+        this.bits = bits;
+        this.hashes = hashes;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates a filter sized for an expected number of fingerprints at a target false-positive rate.
+     *
+     * @param expected the number of fingerprints the filter should hold
+     * @param falsePositiveRate the chance of a "maybe" for a fingerprint never added, once full
+     * @return the empty filter
+     */
+    static FingerprintBloomFilter create(long expected, double falsePositiveRate) {
+        long n = Math.max(expected, 1);
+        double p = Math.clamp(falsePositiveRate, 1e-9, 0.5);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(p) / (LN2 * LN2)));
+        int hashes = Math.clamp(Math.round((double) bits / n * LN2), 1, 16);
+        return new FingerprintBloomFilter(bits, hashes, n);
+    }
+
+    void add(String fingerprint) {
+        added.increment();
+        long h1 = high(fingerprint);
+        long h2 = low(fingerprint);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    boolean mightContain(String fingerprint) {
+        long h1 = high(fingerprint);
+        long h2 = low(fingerprint);
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether more fingerprints have been added than the filter was sized for.
+     */
+    boolean isFull() {
+        return added.sum() > capacity;
+    }
+
+    long size() {
+        return added.sum();
+    }
+
+    long bits() {
+        return bits;
+    }
+
+    int hashes() {
+        return hashes;
+    }
+
+    private static long high(String fingerprint) {
+        return Long.parseUnsignedLong(fingerprint, 0, 16, 16);
+    }
+
+    private static long low(String fingerprint) {
+        // Forced odd so the probe step is never zero and the probes never all land on one bit
+        return Long.parseUnsignedLong(fingerprint, 16, 32, 16) | 1;
+    }
+}
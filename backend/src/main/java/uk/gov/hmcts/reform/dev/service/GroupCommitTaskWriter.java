@@ -0,0 +1,305 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.datasource.ReadYourWritesScope;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.exception.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.models.CaseFile;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskFingerprint;
+import uk.gov.hmcts.reform.dev.repository.CaseFileRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Group commit for task creation: concurrent creates are queued and written together, up to
+ * {@code tasks.group-commit.max-batch-size} tasks or {@code tasks.group-commit.max-wait} after the first one
+ * arrives, in one transaction with batched inserts. Each caller blocks until its batch commits and gets back its
+ * own task. Under heavy concurrency this trades a small wait for far fewer commits; when the queue is full, or
+ * after the writer has stopped, callers fall back to {@link TaskService#createTask}.
+ * If a batch fails as a whole, each caller retries its own task through {@link TaskService#createTask}, so one bad
+ * request cannot fail the rest. Creates that duplicate an existing task, or an earlier one in the same batch, are
+ * also handed back to their callers once the batch commits, so they are handled by the same duplicate policy.
+ * Either way the retry runs on the caller's thread, where the request it came from is still current.
+ * Batched tasks are written on the writer thread, so the actor each caller would be audited as is captured when
+ * the create is queued and carried on its change.
+ * No caller waits forever: a create queued just as the writer stops is withdrawn and created directly, a writer
+ * that dies hands back everything it holds, and a caller gives up after {@code tasks.group-commit.result-timeout}.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.group-commit.enabled", havingValue = "true")
+public class GroupCommitTaskWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GroupCommitTaskWriter.class);
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final TaskService taskService;
+    private final TaskRepository taskRepository;
+    private final CaseFileRepository caseFileRepository;
+    private final BankHolidayService bankHolidayService;
+    private final DuplicateTaskDetector duplicateTaskDetector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingCreate> queue;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Duration resultTimeout;
+    private final Thread writerThread;
+
+    private volatile boolean running = true;
+
+    public GroupCommitTaskWriter(TaskService taskService,
+                                 TaskRepository taskRepository,
+                                 CaseFileRepository caseFileRepository,
+                                 BankHolidayService bankHolidayService,
+                                 DuplicateTaskDetector duplicateTaskDetector,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${tasks.group-commit.max-batch-size:64}") int maxBatchSize,
+                                 @Value("${tasks.group-commit.max-wait:500us}") Duration maxWait,
+                                 @Value("${tasks.group-commit.queue-capacity:4096}") int queueCapacity,
+                                 @Value("${tasks.group-commit.result-timeout:30s}") Duration resultTimeout) {
+        this.taskService = taskService;
+        this.taskRepository = taskRepository;
+        this.caseFileRepository = caseFileRepository;
+        this.bankHolidayService = bankHolidayService;
+        this.duplicateTaskDetector = duplicateTaskDetector;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.resultTimeout = resultTimeout;
+        this.writerThread = new Thread(this::run, "task-group-commit");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Creates a task as part of the next group commit.
+     *
+     * @param request the task creation request
+     * @return the created task response
+     * @throws uk.gov.hmcts.reform.dev.exception.BankHolidayException if due date is on a bank holiday
+     * @throws CaseNotFoundException if the request names a case that does not exist
+     * @throws IllegalStateException if the writer took the request but did not finish it within the result timeout
+     */
+    public TaskResponse createTask(CreateTaskRequest request) {
+        // Fail fast on the caller's thread rather than queueing a request that cannot succeed
+        bankHolidayService.validateNotBankHoliday(request.getDueDate());
+
+        PendingCreate pending = new PendingCreate(request, TaskAuditService.currentActor(), new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            return taskService.createTask(request);
+        }
+        if ((!running || !writerThread.isAlive()) && queue.remove(pending)) {
+            // Queued after the writer stopped or shutdown drained the queue, so nothing would ever take it
+            return taskService.createTask(request);
+        }
+        TaskResponse response;
+        try {
+            response = pending.result().get(resultTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            if (queue.remove(pending)) {
+                // Still queued behind a stalled writer, so it cannot be committed twice
+                return taskService.createTask(request);
+            }
+            throw new IllegalStateException("Timed out after " + resultTimeout + " waiting for a group commit", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (queue.remove(pending)) {
+                return taskService.createTask(request);
+            }
+            throw new IllegalStateException("Interrupted while waiting for a group commit", e);
+        }
+        if (response == null) {
+            // Handed back: a duplicate, or part of a batch that failed
+            return taskService.createTask(request);
+        }
+        // Committed on the writer thread, so the caller's client has to be told about the write here
+        ReadYourWritesScope.recordWrite(Instant.now());
+        return response;
+    }
+
+    /**
+     * Stops taking new requests and commits whatever is already queued. Callers that queue a request after this
+     * drains the queue see the writer stopped and withdraw it themselves.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        List<PendingCreate> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            commit(remaining);
+        }
+    }
+
+    private void run() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatchSize);
+        try {
+            // Polls rather than blocks so shutdown never has to interrupt a thread that may be inside a transaction
+            while (running || !queue.isEmpty()) {
+                batch = new ArrayList<>(maxBatchSize);
+                PendingCreate first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    // Take whatever is already queued without waiting, then wait out the rest of the window
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commit(batch);
+            }
+        } catch (InterruptedException e) {
+            // Nothing interrupts this thread itself; stop and hand back whatever it holds
+            Thread.currentThread().interrupt();
+        } finally {
+            // Whatever stopped the writer, including an Error, leaves nobody waiting on it
+            running = false;
+            handBack(batch);
+            List<PendingCreate> queued = new ArrayList<>();
+            queue.drainTo(queued);
+            handBack(queued);
+        }
+    }
+
+    void commit(List<PendingCreate> batch) {
+        try {
+            List<TaskResponse> responses = transactionTemplate.execute(status -> write(batch));
+            for (int i = 0; i < batch.size(); i++) {
+                PendingCreate pending = batch.get(i);
+                if (pending.result().isDone()) {
+                    continue;
+                }
+                // Null hands the create back to its caller
+                pending.result().complete(Objects.requireNonNull(responses).get(i));
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Group commit of {} tasks failed, handing them back to be created one by one", batch.size(), e);
+        } finally {
+            // Completes every create the batch did not, including when it failed with an Error
+            handBack(batch);
+        }
+    }
+
+    private static void handBack(List<PendingCreate> creates) {
+        for (PendingCreate pending : creates) {
+            pending.result().complete(null);
+        }
+    }
+
+    /**
+     * Writes one batch. Requests naming a missing case are failed straight away and left out, and requests that
+     * duplicate an existing task or an earlier request in the batch are left out for the caller to create alone.
+     * Each task's change carries the actor of the request that created it.
+     *
+     * @return one response per request, null where the request was failed or left out
+     */
+    private List<TaskResponse> write(List<PendingCreate> batch) {
+        List<Long> caseIds = batch.stream()
+            .map(pending -> pending.request().getCaseId())
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        Map<Long, CaseFile> cases = new HashMap<>();
+        if (!caseIds.isEmpty()) {
+            caseFileRepository.findAllById(caseIds).forEach(caseFile -> cases.put(caseFile.getId(), caseFile));
+        }
+
+        List<Task> tasks = new ArrayList<>(batch.size());
+        List<String> actors = new ArrayList<>(batch.size());
+        Set<String> fingerprints = new HashSet<>();
+        for (PendingCreate pending : batch) {
+            CreateTaskRequest request = pending.request();
+            Long caseId = request.getCaseId();
+            if (caseId != null && !cases.containsKey(caseId)) {
+                pending.result().completeExceptionally(new CaseNotFoundException(caseId));
+                tasks.add(null);
+                continue;
+            }
+            String fingerprint = TaskFingerprint.of(request.getTitle(), request.getDescription(), request.getDueDate());
+            if (!fingerprints.add(fingerprint) || duplicateTaskDetector.findDuplicate(fingerprint).isPresent()) {
+                tasks.add(null);
+            } else {
+                Task task = TaskService.newTask(request, caseId == null ? null : cases.get(caseId));
+                task.setFingerprint(fingerprint);
+                tasks.add(task);
+                actors.add(pending.actor());
+            }
+        }
+
+        List<Task> toSave = tasks.stream().filter(Objects::nonNull).toList();
+        if (!toSave.isEmpty()) {
+            taskRepository.saveAll(toSave);
+            taskRepository.flush();
+            toSave.forEach(task -> duplicateTaskDetector.record(task.getFingerprint()));
+            List<TaskChangedEvent.Change> changes = new ArrayList<>(toSave.size());
+            for (int i = 0; i < toSave.size(); i++) {
+                Task task = toSave.get(i);
+                changes.add(new TaskChangedEvent.Change(task.getId(), null, TaskSnapshot.of(task), actors.get(i)));
+            }
+            eventPublisher.publishEvent(new TaskChangedEvent(changes));
+        }
+
+        List<TaskResponse> responses = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            responses.add(task == null ? null : TaskResponse.fromEntity(task));
+        }
+        return responses;
+    }
+
+    /**
+     * A create waiting for its group commit.
+     *
+     * @param request the task creation request
+     * @param actor who the task is audited as created by, captured on the caller's thread
+     * @param result completed with the created task once its batch commits, or with null if the caller has to
+     *               create it itself
+     */
+    record PendingCreate(CreateTaskRequest request, String actor, CompletableFuture<TaskResponse> result) {
+    }
+}
@@ -0,0 +1,306 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.models.IdempotencyRecord;
+import uk.gov.hmcts.reform.dev.repository.IdempotencyRecordRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Remembers the responses to requests made with an {@code Idempotency-Key} so retries can be answered without
+ * running the request again.
+ * Completed responses are kept in a bounded, least-recently-used in-memory map in front of the
+ * {@code idempotency_keys} table; a retry normally hits the map, and the table covers restarts and entries the map
+ * has evicted. Both expire after the configured time to live.
+ * A key is claimed by inserting a placeholder row for it, so only one request across all instances can hold it.
+ * A duplicate on another instance finds the placeholder and polls the table every
+ * {@code tasks.idempotency.poll-interval} until the response is recorded; one on the same instance waits on the
+ * holder's in-flight future instead.
+ * Placeholders expire after {@code tasks.idempotency.lease}, so a key held by an instance that died is freed.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private final IdempotencyRecordRepository repository;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Duration lease;
+    private final Duration pollInterval;
+    private final Map<String, StoredResponse> completed;
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            Clock clock,
+                            @Value("${tasks.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${tasks.idempotency.max-entries:10000}") int maxEntries,
+                            @Value("${tasks.idempotency.wait-timeout:10s}") Duration waitTimeout,
+                            @Value("${tasks.idempotency.lease:5m}") Duration lease,
+                            @Value("${tasks.idempotency.poll-interval:100ms}") Duration pollInterval) {
+        this.repository = repository;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.lease = lease;
+        this.pollInterval = pollInterval;
+        this.completed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Claims a key for a request, or finds the response already recorded for it.
+     * If another request holds the key, waits for it to finish first. A caller that gets {@link Claim.Acquired}
+     * must finish with {@link #complete} or {@link #release}.
+     *
+     * @param key the idempotency key, scoped to the endpoint it was sent to
+     * @param requestHash a fingerprint of the request, so a key reused for a different request is caught
+     * @return the outcome of the claim
+     */
+    public Claim claim(String key, String requestHash) {
+        while (true) {
+            Optional<StoredResponse> cached = lookup(key);
+            if (cached.isPresent()) {
+                return replay(cached.get(), requestHash);
+            }
+
+            CompletableFuture<StoredResponse> pending = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> existing = inFlight.putIfAbsent(key, pending);
+            if (existing == null) {
+                return claimOwned(key, requestHash);
+            }
+
+            StoredResponse response;
+            try {
+                response = existing.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return new Claim.InProgress();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Claim.InProgress();
+            } catch (ExecutionException e) {
+                continue;
+            }
+            if (response != null) {
+                return replay(response, requestHash);
+            }
+            // The first request was released without a response, so try to claim the key again.
+        }
+    }
+
+    /**
+     * Records the response to a claimed key and hands it to any requests waiting on it.
+     *
+     * @param key the idempotency key
+     * @param requestHash the fingerprint of the request
+     * @param status the HTTP status of the response
+     * @param contentType the content type of the response, if any
+     * @param body the response body
+     */
+    public void complete(String key, String requestHash, int status, String contentType, byte[] body) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        StoredResponse response = new StoredResponse(requestHash, status, contentType, body, now.plus(ttl));
+        try {
+            repository.save(IdempotencyRecord.builder()
+                .scopedKey(key)
+                .requestHash(requestHash)
+                .responseStatus(status)
+                .contentType(contentType)
+                .responseBody(body)
+                .createdAt(now)
+                .expiresAt(response.expiresAt())
+                .build());
+        } catch (DataAccessException e) {
+            LOG.warn("Failed to persist idempotency key, it will only be remembered by this instance", e);
+        }
+        synchronized (completed) {
+            completed.put(key, response);
+        }
+        finish(key, response);
+    }
+
+    /**
+     * Gives up a claimed key without recording a response, so the request can be retried.
+     *
+     * @param key the idempotency key
+     */
+    public void release(String key) {
+        try {
+            repository.deletePlaceholder(key);
+        } catch (DataAccessException e) {
+            LOG.warn("Failed to release idempotency key, it stays claimed until its lease runs out", e);
+        }
+        finish(key, null);
+    }
+
+    /**
+     * Forgets expired responses, in memory and in the table.
+     *
+     * @return the number of persisted records deleted
+     */
+    @Scheduled(fixedDelayString = "${tasks.idempotency.purge-interval:10m}")
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        synchronized (completed) {
+            completed.values().removeIf(response -> !response.expiresAt().isAfter(now));
+        }
+        return repository.deleteExpired(now);
+    }
+
+    int cachedEntries() {
+        synchronized (completed) {
+            return completed.size();
+        }
+    }
+
+    /**
+     * Claims a key this instance holds no in-flight future for, by inserting its placeholder row.
+     * Replays a response another instance recorded, and polls while another instance's placeholder is live.
+     */
+    private Claim claimOwned(String key, String requestHash) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        try {
+            while (true) {
+                LocalDateTime now = LocalDateTime.now(clock);
+                Optional<IdempotencyRecord> record = repository.findById(key);
+                if (record.isPresent() && record.get().getExpiresAt().isAfter(now)) {
+                    if (!record.get().isPlaceholder()) {
+                        StoredResponse persisted = StoredResponse.fromRecord(record.get());
+                        synchronized (completed) {
+                            completed.put(key, persisted);
+                        }
+                        finish(key, persisted);
+                        return replay(persisted, requestHash);
+                    }
+                    if (!record.get().getRequestHash().equals(requestHash)) {
+                        finish(key, null);
+                        return new Claim.Mismatch();
+                    }
+                    if (System.nanoTime() >= deadline || !sleep(pollInterval)) {
+                        finish(key, null);
+                        return new Claim.InProgress();
+                    }
+                    continue;
+                }
+                if (record.isPresent()) {
+                    repository.deleteExpiredKey(key, now);
+                }
+                try {
+                    repository.insertPlaceholder(key, requestHash, now, now.plus(lease));
+                    return new Claim.Acquired();
+                } catch (DataIntegrityViolationException e) {
+                    // Another instance claimed the key first; look at its row
+                }
+            }
+        } catch (DataAccessException e) {
+            finish(key, null);
+            throw e;
+        }
+    }
+
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Optional<StoredResponse> lookup(String key) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        synchronized (completed) {
+            StoredResponse response = completed.get(key);
+            if (response != null && !response.expiresAt().isAfter(now)) {
+                completed.remove(key);
+                return Optional.empty();
+            }
+            return Optional.ofNullable(response);
+        }
+    }
+
+    private void finish(String key, StoredResponse response) {
+        CompletableFuture<StoredResponse> pending = inFlight.remove(key);
+        if (pending != null) {
+            pending.complete(response);
+        }
+    }
+
+    private static Claim replay(StoredResponse response, String requestHash) {
+        return response.requestHash().equals(requestHash) ? new Claim.Replay(response) : new Claim.Mismatch();
+    }
+
+    /**
+     * A recorded response, held as raw bytes so replays do not need to serialise anything.
+     *
+     * @param requestHash the fingerprint of the request that produced it
+     * @param status the HTTP status
+     * @param contentType the content type, or null if the response had none
+     * @param body the response body
+     * @param expiresAt when the response stops being replayed
+     */
+    public record StoredResponse(String requestHash, int status, String contentType, byte[] body,
+                                 LocalDateTime expiresAt) {
+
+        static StoredResponse fromRecord(IdempotencyRecord record) {
+            byte[] body = record.getResponseBody() == null ? new byte[0] : record.getResponseBody();
+            return new StoredResponse(
+                record.getRequestHash(), record.getResponseStatus(), record.getContentType(), body,
+                record.getExpiresAt());
+        }
+    }
+
+    /**
+     * The outcome of {@link #claim}.
+     */
+    public sealed interface Claim {
+
+        /**
+         * The caller holds the key and should process the request.
+         */
+        record Acquired() implements Claim {
+        }
+
+        /**
+         * The key has a recorded response for the same request, which should be returned as it is.
+         *
+         * @param response the recorded response
+         */
+        record Replay(StoredResponse response) implements Claim {
+        }
+
+        /**
+         * The key has already been used for a different request.
+         */
+        record Mismatch() implements Claim {
+        }
+
+        /**
+         * Another request still holds the key after the wait timeout.
+         */
+        record InProgress() implements Claim {
+        }
+    }
+}
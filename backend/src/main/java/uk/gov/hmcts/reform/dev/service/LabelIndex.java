@@ -0,0 +1,331 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.roaringbitmap.longlong.PeekableLongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.dto.LabelFilterResult;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskIdStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskLabel;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Answers label filter queries (all of, any of, none of, by status) from compressed bitmaps of task ids
+ * instead of joining the {@code task_labels} table.
+ * Holds one Roaring bitmap per label and one per status. A filter is a handful of bitmap ANDs, ORs and
+ * AND-NOTs, and the per-status counts are AND cardinalities, so neither touches the database.
+ * The bitmaps are built from the database when the application is ready and then kept up to date from
+ * committed task changes. Changes committed while a rebuild is reading the database are buffered and
+ * replayed on top of it; applying a change sets the task's bits to its new state, so replaying one the
+ * rebuild already saw is harmless. Only one rebuild runs at a time.
+ * The bitmaps hold 64-bit task ids, so they cover every id the tasks table can hand out.
+ */
+@Service
+public class LabelIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LabelIndex.class);
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final TaskRepository taskRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private Map<String, Roaring64Bitmap> byLabel = new HashMap<>();
+    private Roaring64Bitmap[] byStatus = emptyStatusBitmaps();
+    private List<TaskChangedEvent.Change> pending;
+    private boolean built;
+
+    public LabelIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Normalises labels for storage and lookup: trimmed and lower-cased, with blanks and duplicates dropped.
+     *
+     * @param labels the labels as supplied, may be null
+     * @return the normalised labels, never null
+     */
+    public static Set<String> normalize(Collection<String> labels) {
+        Set<String> normalized = new HashSet<>();
+        if (labels != null) {
+            for (String label : labels) {
+                if (label != null && !label.isBlank()) {
+                    normalized.add(label.trim().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return normalized;
+    }
+
+    /**
+     * Finds the tasks matching a label filter.
+     * Labels are matched case-insensitively; a label no task carries matches nothing.
+     *
+     * @param all labels a task must have every one of, may be empty
+     * @param any labels a task must have at least one of, ignored when empty
+     * @param none labels a task must have none of, may be empty
+     * @param statuses statuses to restrict to, or empty for all
+     * @param page the zero-based page number of ids to return
+     * @param size the page size, capped at {@value TaskService#MAX_PAGE_SIZE}
+     * @return the match count, counts by status and one page of matching task ids
+     */
+    public LabelFilterResult filter(Collection<String> all, Collection<String> any, Collection<String> none,
+                                    Collection<TaskStatus> statuses, int page, int size) {
+        ensureBuilt();
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.clamp(size, 1, TaskService.MAX_PAGE_SIZE);
+
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap matches = union(
+                statuses == null || statuses.isEmpty()
+                    ? Arrays.asList(byStatus)
+                    : statuses.stream().distinct().map(status -> byStatus[status.ordinal()]).toList()
+            );
+            for (String label : normalize(all)) {
+                Roaring64Bitmap tasks = byLabel.get(label);
+                if (tasks == null) {
+                    matches.clear();
+                    break;
+                }
+                matches.and(tasks);
+            }
+            Set<String> anyLabels = normalize(any);
+            if (!anyLabels.isEmpty()) {
+                matches.and(union(anyLabels.stream().map(this::tasksWithLabel).toList()));
+            }
+            for (String label : normalize(none)) {
+                Roaring64Bitmap tasks = byLabel.get(label);
+                if (tasks != null) {
+                    matches.andNot(tasks);
+                }
+            }
+
+            Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : STATUSES) {
+                Roaring64Bitmap withStatus = union(List.of(matches));
+                withStatus.and(byStatus[status.ordinal()]);
+                counts.put(status, withStatus.getLongCardinality());
+            }
+
+            return LabelFilterResult.builder()
+                .total(matches.getLongCardinality())
+                .byStatus(counts)
+                .taskIds(page(matches, (long) pageNumber * pageSize, pageSize))
+                .page(pageNumber)
+                .size(pageSize)
+                .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the tasks carrying each label.
+     *
+     * @return task counts keyed by label, in label order
+     */
+    public SortedMap<String, Integer> labelCounts() {
+        ensureBuilt();
+        lock.readLock().lock();
+        try {
+            SortedMap<String, Integer> counts = new TreeMap<>();
+            byLabel.forEach((label, tasks) -> {
+                if (!tasks.isEmpty()) {
+                    counts.put(label, Math.toIntExact(tasks.getLongCardinality()));
+                }
+            });
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies committed task changes to the bitmaps.
+     *
+     * @param event the task changes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!built && pending == null) {
+                // Nothing to adjust yet; the first rebuild will read the change from the database
+                return;
+            }
+            for (TaskChangedEvent.Change change : event.changes()) {
+                apply(byLabel, byStatus, change);
+            }
+            if (pending != null) {
+                pending.addAll(event.changes());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the bitmaps from the database.
+     * Runs once the application is ready, and on first use if that has not happened yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        // Each rebuild replays its own list, so a rebuild that failed or finished cannot take another's away
+        List<TaskChangedEvent.Change> replay = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            pending = replay;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, Roaring64Bitmap> labels = new HashMap<>();
+        Roaring64Bitmap[] statuses = emptyStatusBitmaps();
+        List<TaskIdStatus> tasks;
+        List<TaskLabel> taskLabels;
+        try {
+            tasks = taskRepository.findAllIdsAndStatuses();
+            taskLabels = taskRepository.findAllLabels();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        for (TaskIdStatus task : tasks) {
+            statuses[task.status().ordinal()].addLong(task.id());
+        }
+        for (TaskLabel label : taskLabels) {
+            labels.computeIfAbsent(label.label(), key -> new Roaring64Bitmap()).addLong(label.taskId());
+        }
+        labels.values().forEach(Roaring64Bitmap::runOptimize);
+        Arrays.stream(statuses).forEach(Roaring64Bitmap::runOptimize);
+
+        lock.writeLock().lock();
+        try {
+            for (TaskChangedEvent.Change change : replay) {
+                apply(labels, statuses, change);
+            }
+            byLabel = labels;
+            byStatus = statuses;
+            pending = null;
+            built = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        LOG.info("Built label index for {} tasks and {} labels", tasks.size(), labels.size());
+    }
+
+    private void ensureBuilt() {
+        if (isBuilt()) {
+            return;
+        }
+        synchronized (this) {
+            if (!isBuilt()) {
+                rebuild();
+            }
+        }
+    }
+
+    private boolean isBuilt() {
+        lock.readLock().lock();
+        try {
+            return built;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Roaring64Bitmap tasksWithLabel(String label) {
+        return byLabel.getOrDefault(label, new Roaring64Bitmap());
+    }
+
+    private static Roaring64Bitmap union(Collection<Roaring64Bitmap> bitmaps) {
+        Roaring64Bitmap union = new Roaring64Bitmap();
+        bitmaps.forEach(union::or);
+        return union;
+    }
+
+    private static List<Long> page(Roaring64Bitmap matches, long offset, int size) {
+        if (offset >= matches.getLongCardinality()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(size);
+        PeekableLongIterator iterator = matches.getLongIterator();
+        iterator.advanceIfNeeded(matches.select(offset));
+        while (iterator.hasNext() && ids.size() < size) {
+            ids.add(iterator.next());
+        }
+        return ids;
+    }
+
+    private static void apply(Map<String, Roaring64Bitmap> labels, Roaring64Bitmap[] statuses,
+                              TaskChangedEvent.Change change) {
+        long id = change.taskId();
+        TaskSnapshot after = change.after();
+
+        for (TaskStatus status : STATUSES) {
+            if (after == null || after.status() != status) {
+                statuses[status.ordinal()].removeLong(id);
+            } else {
+                statuses[status.ordinal()].addLong(id);
+            }
+        }
+
+        if (after != null && after.labels() == null) {
+            // The write left the labels alone
+            return;
+        }
+        TaskSnapshot before = change.before();
+        // A new task (no before) has no label bits to clear
+        if (before != null && before.labels() == null) {
+            labels.values().forEach(tasks -> tasks.removeLong(id));
+        } else if (before != null) {
+            for (String label : before.labels()) {
+                Roaring64Bitmap tasks = labels.get(label);
+                if (tasks != null) {
+                    tasks.removeLong(id);
+                }
+            }
+        }
+        if (after != null) {
+            for (String label : after.labels()) {
+                labels.computeIfAbsent(label, key -> new Roaring64Bitmap()).addLong(id);
+            }
+        }
+    }
+
+    private static Roaring64Bitmap[] emptyStatusBitmaps() {
+        Roaring64Bitmap[] statuses = new Roaring64Bitmap[STATUSES.length];
+        for (int i = 0; i < statuses.length; i++) {
+            statuses[i] = new Roaring64Bitmap();
+        }
+        return statuses;
+    }
+}
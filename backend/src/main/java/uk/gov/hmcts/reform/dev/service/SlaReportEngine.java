@@ -0,0 +1,303 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import uk.gov.hmcts.reform.dev.dto.SlaReportRow;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskSlaRow;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * Computes task lateness in working days, by due week and status, in parallel on a fork-join pool.
+ * Rows are fed in one at a time from a database stream and handed to the pool in fixed-size chunks, so reading
+ * the next chunk overlaps with computing the previous ones. Each chunk is split recursively down to small leaves;
+ * every leaf fills its own partial aggregate, and partials are merged pairwise as the splits join and then into
+ * the run's total on the feeding thread, so no two threads ever write to the same counters. At most a few chunks
+ * per worker are in flight, which bounds the rows held in memory however many tasks are read.
+ */
+public final class SlaReportEngine implements AutoCloseable {
+
+    /**
+     * Labels of the working-days-late ranges in {@link SlaReportRow#getLateByWorkingDays()}, in order.
+     */
+    public static final List<String> LATE_RANGES = List.of("0", "1", "2-5", "6-10", "11+");
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final int LEAF_SIZE = 1024;
+    private static final int CHUNKS_IN_FLIGHT_PER_WORKER = 2;
+    // Weeks a leaf may span and still count into a flat array rather than a map, about ten years
+    private static final long MAX_DENSE_WEEKS = 520;
+
+    // Offsets of the counters kept for each week and status
+    private static final int TASKS = 0;
+    private static final int LATE = 1;
+    private static final int DAYS_LATE = 2;
+    private static final int MAX_DAYS_LATE = 3;
+    private static final int FIRST_RANGE = 4;
+    private static final int FIELDS = FIRST_RANGE + 5;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Creates an engine with its own pool.
+     *
+     * @param parallelism the number of worker threads, or zero or less for one per available processor
+     * @param chunkSize the number of rows handed to the pool at a time
+     */
+    public SlaReportEngine(int parallelism, int chunkSize) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.chunkSize = Math.max(chunkSize, LEAF_SIZE);
+    }
+
+    /**
+     * Starts a report. The returned run is fed rows on one thread and then finished on the same thread.
+     *
+     * @param calendar the working-day calendar to count lateness with
+     * @param asOf the time open tasks are measured against
+     * @return the run
+     */
+    public Run start(WorkingDayCalendar calendar, LocalDateTime asOf) {
+        return new Run(calendar, asOf);
+    }
+
+    /**
+     * Gets the number of worker threads.
+     *
+     * @return the pool's parallelism
+     */
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * One report in progress.
+     */
+    public final class Run implements Consumer<TaskSlaRow> {
+
+        private final WorkingDayCalendar calendar;
+        private final LocalDateTime asOf;
+        private final Deque<ForkJoinTask<Partial>> inFlight = new ArrayDeque<>();
+        private final Partial total = new Partial();
+        private TaskSlaRow[] chunk = new TaskSlaRow[chunkSize];
+        private int size;
+
+        private Run(WorkingDayCalendar calendar, LocalDateTime asOf) {
+            this.calendar = calendar;
+            this.asOf = asOf;
+        }
+
+        @Override
+        public void accept(TaskSlaRow row) {
+            chunk[size++] = row;
+            if (size == chunk.length) {
+                submit();
+            }
+        }
+
+        /**
+         * Waits for every submitted chunk and merges the results.
+         *
+         * @return one row per due week and status that has tasks, oldest week first, then by status
+         */
+        public List<SlaReportRow> finish() {
+            if (size > 0) {
+                submit();
+            }
+            while (!inFlight.isEmpty()) {
+                total.merge(inFlight.removeFirst().join());
+            }
+            return total.toRows();
+        }
+
+        private void submit() {
+            inFlight.addLast(pool.submit(new Aggregate(chunk, 0, size, calendar, asOf)));
+            chunk = new TaskSlaRow[chunkSize];
+            size = 0;
+            if (inFlight.size() > pool.getParallelism() * CHUNKS_IN_FLIGHT_PER_WORKER) {
+                total.merge(inFlight.removeFirst().join());
+            }
+        }
+    }
+
+    /**
+     * Aggregates a slice of a chunk, splitting it in half until it is no bigger than a leaf.
+     */
+    private static final class Aggregate extends RecursiveTask<Partial> {
+
+        private final TaskSlaRow[] rows;
+        private final int from;
+        private final int to;
+        private final WorkingDayCalendar calendar;
+        private final LocalDateTime asOf;
+
+        Aggregate(TaskSlaRow[] rows, int from, int to, WorkingDayCalendar calendar, LocalDateTime asOf) {
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.calendar = calendar;
+            this.asOf = asOf;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= LEAF_SIZE) {
+                return leaf();
+            }
+            int middle = (from + to) >>> 1;
+            Aggregate left = new Aggregate(rows, from, middle, calendar, asOf);
+            left.fork();
+            Partial partial = new Aggregate(rows, middle, to, calendar, asOf).compute();
+            partial.merge(left.join());
+            return partial;
+        }
+
+        private Partial leaf() {
+            long minWeek = Long.MAX_VALUE;
+            long maxWeek = Long.MIN_VALUE;
+            for (int i = from; i < to; i++) {
+                long week = week(rows[i].dueDate());
+                minWeek = Math.min(minWeek, week);
+                maxWeek = Math.max(maxWeek, week);
+            }
+            if (maxWeek - minWeek >= MAX_DENSE_WEEKS) {
+                Partial partial = new Partial();
+                for (int i = from; i < to; i++) {
+                    TaskSlaRow row = rows[i];
+                    record(partial.cell(key(week(row.dueDate()), row.status())), 0, row);
+                }
+                return partial;
+            }
+
+            int weeks = (int) (maxWeek - minWeek) + 1;
+            long[] counters = new long[weeks * STATUSES.length * FIELDS];
+            for (int i = from; i < to; i++) {
+                TaskSlaRow row = rows[i];
+                int slot = (int) (week(row.dueDate()) - minWeek) * STATUSES.length + row.status().ordinal();
+                record(counters, slot * FIELDS, row);
+            }
+            return Partial.of(counters, minWeek, weeks);
+        }
+
+        private void record(long[] counters, int base, TaskSlaRow row) {
+            counters[base + TASKS]++;
+            LocalDateTime finishedAt = switch (row.status()) {
+                case COMPLETED -> row.updatedAt();
+                case PENDING, IN_PROGRESS -> asOf;
+                case CANCELLED -> null;
+            };
+            if (finishedAt == null || !finishedAt.isAfter(row.dueDate())) {
+                return;
+            }
+            long daysLate = calendar.workingDaysAfter(
+                row.dueDate().toLocalDate().toEpochDay(), finishedAt.toLocalDate().toEpochDay()
+            );
+            counters[base + LATE]++;
+            counters[base + DAYS_LATE] += daysLate;
+            counters[base + MAX_DAYS_LATE] = Math.max(counters[base + MAX_DAYS_LATE], daysLate);
+            counters[base + FIRST_RANGE + range(daysLate)]++;
+        }
+    }
+
+    /**
+     * Counters for each due week and status seen by one part of a run, keyed by {@link #key(long, TaskStatus)}.
+     * Only ever touched by one thread at a time.
+     */
+    private static final class Partial {
+
+        private final Map<Long, long[]> cells = new HashMap<>();
+
+        static Partial of(long[] counters, long firstWeek, int weeks) {
+            Partial partial = new Partial();
+            for (int week = 0; week < weeks; week++) {
+                for (TaskStatus status : STATUSES) {
+                    int base = (week * STATUSES.length + status.ordinal()) * FIELDS;
+                    if (counters[base + TASKS] > 0) {
+                        long[] cell = new long[FIELDS];
+                        System.arraycopy(counters, base, cell, 0, FIELDS);
+                        partial.cells.put(key(firstWeek + week, status), cell);
+                    }
+                }
+            }
+            return partial;
+        }
+
+        long[] cell(long key) {
+            return cells.computeIfAbsent(key, unused -> new long[FIELDS]);
+        }
+
+        void merge(Partial other) {
+            other.cells.forEach((key, counters) -> {
+                long[] cell = cells.putIfAbsent(key, counters);
+                if (cell == null) {
+                    return;
+                }
+                for (int i = 0; i < FIELDS; i++) {
+                    cell[i] = i == MAX_DAYS_LATE ? Math.max(cell[i], counters[i]) : cell[i] + counters[i];
+                }
+            });
+        }
+
+        List<SlaReportRow> toRows() {
+            List<SlaReportRow> rows = new ArrayList<>(cells.size());
+            cells.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    long key = entry.getKey();
+                    long[] cell = entry.getValue();
+                    Map<String, Long> ranges = new LinkedHashMap<>();
+                    for (int i = 0; i < LATE_RANGES.size(); i++) {
+                        ranges.put(LATE_RANGES.get(i), cell[FIRST_RANGE + i]);
+                    }
+                    rows.add(SlaReportRow.builder()
+                        .weekStarting(LocalDate.ofEpochDay(Math.floorDiv(key, STATUSES.length) * 7 - 3))
+                        .status(STATUSES[Math.floorMod(key, STATUSES.length)])
+                        .tasks(cell[TASKS])
+                        .onTime(cell[TASKS] - cell[LATE])
+                        .late(cell[LATE])
+                        .workingDaysLate(cell[DAYS_LATE])
+                        .maxWorkingDaysLate(cell[MAX_DAYS_LATE])
+                        .lateByWorkingDays(ranges)
+                        .build());
+                });
+            return rows;
+        }
+    }
+
+    /**
+     * Numbers weeks from the Monday before the epoch, so each Monday to Sunday shares a number.
+     */
+    private static long week(LocalDateTime dueDate) {
+        return Math.floorDiv(dueDate.toLocalDate().toEpochDay() + 3, 7);
+    }
+
+    private static long key(long week, TaskStatus status) {
+        return week * STATUSES.length + status.ordinal();
+    }
+
+    private static int range(long daysLate) {
+        if (daysLate <= 1) {
+            return (int) daysLate;
+        }
+        if (daysLate <= 5) {
+            return 2;
+        }
+        return daysLate <= 10 ? 3 : 4;
+    }
+}
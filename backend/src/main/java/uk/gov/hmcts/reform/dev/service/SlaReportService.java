@@ -0,0 +1,96 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.dto.SlaReport;
+import uk.gov.hmcts.reform.dev.dto.SlaReportRow;
+import uk.gov.hmcts.reform.dev.repository.ArchivedTaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskSlaRow;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reports how many tasks were late, and by how many working days, by due week and status.
+ * Live and archived tasks are streamed from the database one query after the other, reading only the fields the
+ * report needs, and aggregated in parallel by a {@link SlaReportEngine}. Completed tasks are measured to their
+ * last update, open tasks to now, and cancelled tasks are never late.
+ */
+@Service
+public class SlaReportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SlaReportService.class);
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final BankHolidayService bankHolidayService;
+    private final Clock clock;
+    private final SlaReportEngine engine;
+
+    public SlaReportService(TaskRepository taskRepository,
+                            ArchivedTaskRepository archivedTaskRepository,
+                            BankHolidayService bankHolidayService,
+                            Clock clock,
+                            @Value("${tasks.reports.parallelism:0}") int parallelism,
+                            @Value("${tasks.reports.chunk-size:10000}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.bankHolidayService = bankHolidayService;
+        this.clock = clock;
+        this.engine = new SlaReportEngine(parallelism, chunkSize);
+    }
+
+    /**
+     * Builds the report for tasks due in a date range.
+     *
+     * @param from first due date to include, or null for no lower bound
+     * @param to last due date to include, or null for no upper bound
+     * @return the report
+     */
+    @Transactional(readOnly = true)
+    public SlaReport report(LocalDate from, LocalDate to) {
+        long started = System.nanoTime();
+        LocalDateTime asOf = LocalDateTime.now(clock);
+        LocalDateTime dueFrom = from == null ? null : from.atStartOfDay();
+        LocalDateTime dueBefore = to == null ? null : to.plusDays(1).atStartOfDay();
+
+        WorkingDayCalendar calendar = WorkingDayCalendar.of(bankHolidayService.getHolidayIndex().keySet());
+        SlaReportEngine.Run run = engine.start(calendar, asOf);
+        try (Stream<TaskSlaRow> rows = taskRepository.streamSlaRows(dueFrom, dueBefore)) {
+            rows.forEach(run);
+        }
+        try (Stream<TaskSlaRow> rows = archivedTaskRepository.streamSlaRows(dueFrom, dueBefore)) {
+            rows.forEach(run);
+        }
+        List<SlaReportRow> reportRows = run.finish();
+
+        SlaReport report = SlaReport.builder()
+            .asOf(asOf)
+            .from(from)
+            .to(to)
+            .tasks(reportRows.stream().mapToLong(SlaReportRow::getTasks).sum())
+            .late(reportRows.stream().mapToLong(SlaReportRow::getLate).sum())
+            .rows(reportRows)
+            .build();
+        LOG.info("Built SLA report over {} tasks on {} threads in {} ms", report.getTasks(), engine.parallelism(),
+            Duration.ofNanos(System.nanoTime() - started).toMillis());
+        return report;
+    }
+
+    /**
+     * Stops the report workers.
+     */
+    @PreDestroy
+    public void shutdown() {
+        engine.close();
+    }
+}
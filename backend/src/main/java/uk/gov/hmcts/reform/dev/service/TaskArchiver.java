@@ -0,0 +1,128 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.ArchivedTask;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves closed tasks out of the hot {@code tasks} table into {@code tasks_archive}.
+ * Tasks that are COMPLETED or CANCELLED and have not changed for the retention window are copied and
+ * deleted in chunks, each in its own short transaction, with a pause between chunks so the archiver never
+ * competes with request traffic for long. Lookups by id fall back to the archive, see
+ * {@link TaskService#getTaskById(Long)}.
+ */
+@Component
+@ConditionalOnProperty(name = "tasks.archive.enabled", havingValue = "true")
+public class TaskArchiver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TaskArchiver.class);
+    static final Set<TaskStatus> CLOSED_STATUSES = Set.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final Duration retention;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration throttle;
+
+    public TaskArchiver(TaskRepository taskRepository,
+                        EntityManager entityManager,
+                        PlatformTransactionManager transactionManager,
+                        ApplicationEventPublisher eventPublisher,
+                        Clock clock,
+                        @Value("${tasks.archive.retention:90d}") Duration retention,
+                        @Value("${tasks.archive.chunk-size:500}") int chunkSize,
+                        @Value("${tasks.archive.max-chunks-per-run:100}") int maxChunksPerRun,
+                        @Value("${tasks.archive.throttle:200ms}") Duration throttle) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.throttle = throttle;
+    }
+
+    /**
+     * Archives eligible tasks, stopping when none are left or the per-run chunk limit is reached.
+     *
+     * @return the number of tasks archived
+     */
+    @Scheduled(
+        fixedDelayString = "${tasks.archive.interval:1h}",
+        initialDelayString = "${tasks.archive.initial-delay:5m}"
+    )
+    public int archiveClosedTasks() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(retention);
+        int archived = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            Integer moved = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            archived += moved == null ? 0 : moved;
+            if (moved == null || moved < chunkSize || !pause()) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            LOG.info("Archived {} closed tasks last updated before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Long> ids = taskRepository.findIdsByStatusUpdatedBefore(
+            CLOSED_STATUSES, cutoff, PageRequest.of(0, chunkSize)
+        );
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime archivedAt = LocalDateTime.now(clock);
+        List<Task> tasks = taskRepository.findAllById(ids);
+        List<TaskChangedEvent.Change> changes = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            entityManager.persist(ArchivedTask.fromTask(task, archivedAt));
+            changes.add(new TaskChangedEvent.Change(task.getId(), TaskSnapshot.of(task), null));
+        }
+        taskRepository.deleteAllByIdIn(ids);
+        eventPublisher.publishEvent(new TaskChangedEvent(changes));
+        return ids.size();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Per-caseworker work queues and claiming of unassigned tasks.
+ * A claim reads a small window of the unassigned PENDING tasks due soonest and assigns one of them with a
+ * conditional UPDATE that only succeeds while the task is still unassigned, so two caseworkers can never
+ * win the same task. Each claimer starts at a random position in the window, so concurrent claimers spread
+ * over several rows instead of queueing on the row lock of the single most urgent task; a window of 1
+ * gives strict due-date order at the cost of that contention.
+ */
+@Service
+public class TaskAssignmentService {
+
+    static final TaskStatus CLAIMABLE_STATUS = TaskStatus.PENDING;
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final int candidateWindow;
+
+    public TaskAssignmentService(TaskRepository taskRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher eventPublisher,
+                                 Clock clock,
+                                 @Value("${tasks.claim.candidate-window:8}") int candidateWindow) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.candidateWindow = candidateWindow;
+    }
+
+    /**
+     * Lists the tasks assigned to a caseworker ordered by due date, optionally filtered by status.
+     *
+     * @param assignee the caseworker
+     * @param status the status to filter by, or null for all statuses
+     * @param page the zero-based page number
+     * @param size the page size, capped at {@value TaskService#MAX_PAGE_SIZE}
+     * @return the tasks on the requested page
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getQueue(String assignee, TaskStatus status, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, TaskService.MAX_PAGE_SIZE));
+        List<Task> tasks = status == null
+            ? taskRepository.findByAssigneeOrderByDueDateAscIdAsc(assignee, pageable)
+            : taskRepository.findByAssigneeAndStatusOrderByDueDateAscIdAsc(assignee, status, pageable);
+        return tasks.stream().map(TaskResponse::fromEntity).toList();
+    }
+
+    /**
+     * Assigns the most urgent unassigned PENDING task to a caseworker.
+     *
+     * @param assignee the caseworker claiming a task
+     * @return the claimed task, or empty if there are no unassigned tasks left
+     */
+    public Optional<TaskResponse> claimNext(String assignee) {
+        while (true) {
+            List<Long> candidates = taskRepository.findClaimCandidates(
+                CLAIMABLE_STATUS, PageRequest.of(0, candidateWindow)
+            );
+            if (candidates.isEmpty()) {
+                return Optional.empty();
+            }
+
+            int start = ThreadLocalRandom.current().nextInt(candidates.size());
+            for (int i = 0; i < candidates.size(); i++) {
+                Long id = candidates.get((start + i) % candidates.size());
+                TaskResponse claimed = transactionTemplate.execute(status -> tryClaim(id, assignee));
+                if (claimed != null) {
+                    return Optional.of(claimed);
+                }
+            }
+            // Every candidate was taken by someone else, so the window has moved on; read it again
+        }
+    }
+
+    private TaskResponse tryClaim(Long id, String assignee) {
+        if (taskRepository.claim(id, CLAIMABLE_STATUS, assignee, LocalDateTime.now(clock)) == 0) {
+            return null;
+        }
+        Task task = taskRepository.findById(id).orElseThrow();
+        // Claiming never touches labels, so leave them out of the snapshots
+        eventPublisher.publishEvent(TaskChangedEvent.of(
+            id,
+            new TaskSnapshot(task.getStatus(), task.getDueDate(), null, null),
+            new TaskSnapshot(task.getStatus(), task.getDueDate(), task.getAssignee(), null)
+        ));
+        // Built inside the transaction so the lazy labels collection can still load
+        return TaskResponse.fromEntity(task);
+    }
+}
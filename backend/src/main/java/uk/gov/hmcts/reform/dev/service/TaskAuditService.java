@@ -0,0 +1,207 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.hmcts.reform.dev.dto.TaskHistoryEntry;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.models.AuditChangeType;
+import uk.gov.hmcts.reform.dev.models.TaskAudit;
+import uk.gov.hmcts.reform.dev.repository.TaskAuditRepository;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+/**
+ * Records an audit trail of every task change and serves it back per task.
+ * Records are built from {@link TaskChangedEvent} just before the writing transaction commits. Normally they are
+ * handed to {@link TaskAuditWriter}'s buffer once the commit succeeds, so the write pays nothing for auditing.
+ * When the buffer is full or the writer is failing they are staged in the writer's outbox in the writing
+ * transaction instead, so they commit or roll back with the change. Setting {@code tasks.audit.durable=true} stages
+ * every record that way, closing the window in which a hard crash loses records still queued in the buffer.
+ * Setting {@code tasks.audit.write-behind=false} inserts them straight into the audit table in the writing
+ * transaction, which makes the history current as soon as the change commits.
+ */
+@Service
+public class TaskAuditService {
+
+    public static final String ACTOR_HEADER = "X-Actor";
+    static final String SYSTEM_ACTOR = "system";
+    static final String ANONYMOUS_ACTOR = "anonymous";
+    private static final int MAX_ACTOR_LENGTH = 100;
+    private static final int MAX_CHANGES_LENGTH = 1000;
+
+    private final TaskAuditWriter writer;
+    private final TaskAuditRepository taskAuditRepository;
+    private final TransactionTemplate requiresNew;
+    private final Clock clock;
+    private final boolean writeBehind;
+    private final boolean durable;
+
+    public TaskAuditService(TaskAuditWriter writer,
+                            TaskAuditRepository taskAuditRepository,
+                            PlatformTransactionManager transactionManager,
+                            Clock clock,
+                            @Value("${tasks.audit.write-behind:true}") boolean writeBehind,
+                            @Value("${tasks.audit.durable:false}") boolean durable) {
+        this.writer = writer;
+        this.taskAuditRepository = taskAuditRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.writeBehind = writeBehind;
+        this.durable = durable;
+    }
+
+    /**
+     * Captures audit records for a write that is about to commit.
+     *
+     * @param event the task changes
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        List<TaskAudit> records = toRecords(event, currentActor(), LocalDateTime.now(clock));
+        if (records.isEmpty()) {
+            return;
+        }
+        if (!writeBehind) {
+            writer.insert(records);
+            return;
+        }
+        if (durable || !writer.hasRoomFor(records.size())) {
+            writer.stage(records);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(records);
+                }
+            });
+        } else {
+            enqueue(records);
+        }
+    }
+
+    /**
+     * Gets a task's audit history, oldest change first, as written to the audit table so far.
+     *
+     * @param taskId the task id
+     * @return the task's history
+     * @throws TaskNotFoundException if the task has no history
+     */
+    public List<TaskHistoryEntry> getHistory(Long taskId) {
+        List<TaskHistoryEntry> history = taskAuditRepository.findByTaskIdOrderByChangedAtAscIdAsc(taskId).stream()
+            .map(TaskHistoryEntry::fromEntity)
+            .toList();
+        if (history.isEmpty()) {
+            throw new TaskNotFoundException(taskId);
+        }
+        return history;
+    }
+
+    private void enqueue(List<TaskAudit> records) {
+        List<TaskAudit> rejected = new ArrayList<>();
+        for (TaskAudit audit : records) {
+            if (!writer.offer(audit)) {
+                rejected.add(audit);
+            }
+        }
+        if (!rejected.isEmpty()) {
+            // Lost the race for the last slots; the original transaction has committed, so stage in a new one
+            requiresNew.executeWithoutResult(status -> writer.stage(rejected));
+        }
+    }
+
+    static List<TaskAudit> toRecords(TaskChangedEvent event, String actor, LocalDateTime changedAt) {
+        List<TaskAudit> records = new ArrayList<>(event.changes().size());
+        for (TaskChangedEvent.Change change : event.changes()) {
+            TaskSnapshot before = change.before();
+            TaskSnapshot after = change.after();
+            if (before == null && after == null) {
+                continue;
+            }
+            AuditChangeType type = before == null
+                ? AuditChangeType.CREATED
+                : after == null ? AuditChangeType.REMOVED : AuditChangeType.UPDATED;
+            String changes = describe(before, after);
+            if (type == AuditChangeType.UPDATED && changes == null) {
+                continue;
+            }
+            records.add(TaskAudit.builder()
+                .taskId(change.taskId())
+                .changeType(type)
+                .actor(change.actor() == null ? actor : change.actor())
+                .oldStatus(before == null ? null : before.status())
+                .newStatus(after == null ? null : after.status())
+                .changes(changes)
+                .changedAt(changedAt)
+                .build());
+        }
+        return records;
+    }
+
+    /**
+     * Describes the fields that differ as {@code field: old -> new}, separated by {@code ; }.
+     * Labels are only compared when both sides carry them.
+     */
+    private static String describe(TaskSnapshot before, TaskSnapshot after) {
+        if (after == null) {
+            return null;
+        }
+        StringJoiner joiner = new StringJoiner("; ");
+        appendIfChanged(joiner, "status", before == null ? null : before.status(), after.status());
+        appendIfChanged(joiner, "dueDate", before == null ? null : before.dueDate(), after.dueDate());
+        appendIfChanged(joiner, "assignee", before == null ? null : before.assignee(), after.assignee());
+        Set<String> oldLabels = before == null ? Set.of() : before.labels();
+        if (oldLabels != null && after.labels() != null) {
+            appendIfChanged(joiner, "labels", new TreeSet<>(oldLabels), new TreeSet<>(after.labels()));
+        }
+        if (joiner.length() == 0) {
+            return null;
+        }
+        String changes = joiner.toString();
+        return changes.length() > MAX_CHANGES_LENGTH ? changes.substring(0, MAX_CHANGES_LENGTH) : changes;
+    }
+
+    private static void appendIfChanged(StringJoiner joiner, String field, Object before, Object after) {
+        if (!Objects.equals(before, after)) {
+            joiner.add(field + ": " + before + " -> " + after);
+        }
+    }
+
+    /**
+     * Who the current thread's changes are made by: the request's {@value #ACTOR_HEADER} header, or
+     * {@value #ANONYMOUS_ACTOR} without one, or {@value #SYSTEM_ACTOR} outside a request.
+     *
+     * @return the actor
+     */
+    static String currentActor() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return SYSTEM_ACTOR;
+        }
+        String header = attributes.getRequest().getHeader(ACTOR_HEADER);
+        if (header == null || header.isBlank()) {
+            return ANONYMOUS_ACTOR;
+        }
+        String actor = header.strip();
+        return actor.length() > MAX_ACTOR_LENGTH ? actor.substring(0, MAX_ACTOR_LENGTH) : actor;
+    }
+}
@@ -0,0 +1,262 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.models.AuditChangeType;
+import uk.gov.hmcts.reform.dev.models.TaskAudit;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Write-behind persistence for task audit records.
+ * Records are queued in a bounded {@link AuditRingBuffer} and written by a background job as JDBC batch inserts,
+ * so request transactions never wait on audit inserts. A batch that fails to insert is kept and retried, and while
+ * it is pending the writer reports itself unhealthy so new records take the outbox rather than piling up behind it.
+ * {@link #stage} is the fallback: it inserts records into the unindexed {@code task_audit_outbox} in the caller's
+ * transaction, so they commit or roll back with the change and survive a crash. The same job relays staged records
+ * to {@code task_audit}, deleting them from the outbox in the same transaction. Relays on several instances may
+ * overlap; each claims a row by deleting it and copies only the rows it deleted, so no record is copied twice.
+ * {@link #insert} writes to {@code task_audit} directly instead.
+ */
+@Component
+public class TaskAuditWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TaskAuditWriter.class);
+
+    static final String INSERT_SQL = "insert into task_audit "
+        + "(task_id, change_type, actor, old_status, new_status, changes, changed_at, recorded_at) "
+        + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String STAGE_SQL = "insert into task_audit_outbox "
+        + "(task_id, change_type, actor, old_status, new_status, changes, changed_at) "
+        + "values (?, ?, ?, ?, ?, ?, ?)";
+    static final String SELECT_STAGED_SQL = "select id, task_id, change_type, actor, old_status, new_status, "
+        + "changes, changed_at from task_audit_outbox order by id limit ?";
+    static final String CLAIM_SQL = "delete from task_audit_outbox where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final AuditRingBuffer<TaskAudit> buffer;
+    private final int batchSize;
+
+    private volatile List<TaskAudit> failedBatch = List.of();
+
+    public TaskAuditWriter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           Clock clock,
+                           @Value("${tasks.audit.buffer-capacity:8192}") int bufferCapacity,
+                           @Value("${tasks.audit.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.buffer = new AuditRingBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Queues a record for the next background flush.
+     *
+     * @param audit the audit record
+     * @return false if the buffer is full or the writer is failing, in which case the record was not queued
+     */
+    public boolean offer(TaskAudit audit) {
+        return isHealthy() && buffer.offer(audit);
+    }
+
+    /**
+     * Whether the buffer has room for {@code count} more records and the last flush succeeded.
+     * Advisory only; concurrent producers may take the room first, so callers must still handle a failed offer.
+     *
+     * @param count the number of records
+     * @return true if the records are likely to be accepted
+     */
+    public boolean hasRoomFor(int count) {
+        return isHealthy() && buffer.capacity() - buffer.size() >= count;
+    }
+
+    /**
+     * Stages records in the outbox for the next background relay, in the caller's transaction if there is one.
+     *
+     * @param records the audit records
+     */
+    public void stage(List<TaskAudit> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(STAGE_SQL, records, records.size(), TaskAuditWriter::setColumns);
+    }
+
+    /**
+     * Inserts records straight into the audit table, in the caller's transaction if there is one.
+     *
+     * @param records the audit records
+     */
+    public void insert(List<TaskAudit> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        Timestamp recordedAt = Timestamp.valueOf(LocalDateTime.now(clock));
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (statement, audit) -> {
+            setColumns(statement, audit);
+            statement.setTimestamp(8, recordedAt);
+        });
+    }
+
+    /**
+     * Writes everything queued so far, then relays everything staged, one batch insert at a time.
+     *
+     * @return the number of records written
+     */
+    @Scheduled(fixedDelayString = "${tasks.audit.flush-interval:200ms}")
+    public synchronized int flush() {
+        return writeQueued() + relayStaged();
+    }
+
+    /**
+     * Writes whatever is still queued before the application context closes, staging in the outbox anything that
+     * cannot be written so it is relayed after the next start.
+     */
+    @PreDestroy
+    public void shutdown() {
+        int written = flush();
+        List<TaskAudit> unwritten = new ArrayList<>(failedBatch);
+        buffer.drainTo(unwritten, Integer.MAX_VALUE);
+        failedBatch = List.of();
+        if (!unwritten.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> stage(unwritten));
+                LOG.warn("Staged {} unwritten audit records in the outbox on shutdown", unwritten.size());
+            } catch (DataAccessException | TransactionException e) {
+                LOG.error("Shutting down with {} audit records unwritten", unwritten.size(), e);
+            }
+        } else if (written > 0) {
+            LOG.info("Wrote {} queued and staged audit records on shutdown", written);
+        }
+    }
+
+    int pending() {
+        return buffer.size() + failedBatch.size();
+    }
+
+    private boolean isHealthy() {
+        return failedBatch.isEmpty();
+    }
+
+    private int writeQueued() {
+        int written = 0;
+        if (!failedBatch.isEmpty()) {
+            if (!write(failedBatch)) {
+                return 0;
+            }
+            written += failedBatch.size();
+            failedBatch = List.of();
+        }
+
+        List<TaskAudit> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            if (!write(batch)) {
+                failedBatch = batch;
+                break;
+            }
+            written += batch.size();
+            batch = new ArrayList<>(batchSize);
+        }
+        return written;
+    }
+
+    private boolean write(List<TaskAudit> batch) {
+        try {
+            insert(batch);
+            return true;
+        } catch (DataAccessException e) {
+            LOG.warn("Failed to write {} audit records, will retry", batch.size(), e);
+            return false;
+        }
+    }
+
+    private int relayStaged() {
+        int relayed = 0;
+        try {
+            while (true) {
+                Batch batch = Objects.requireNonNull(transactionTemplate.execute(status -> relayBatch()));
+                relayed += batch.relayed();
+                if (batch.staged() < batchSize) {
+                    return relayed;
+                }
+            }
+        } catch (DataAccessException | TransactionException e) {
+            LOG.warn("Failed to relay audit records, will retry", e);
+            return relayed;
+        }
+    }
+
+    private Batch relayBatch() {
+        List<StagedAudit> staged = jdbcTemplate.query(SELECT_STAGED_SQL, (resultSet, rowNum) -> new StagedAudit(
+            resultSet.getLong("id"),
+            TaskAudit.builder()
+                .taskId(resultSet.getLong("task_id"))
+                .changeType(AuditChangeType.valueOf(resultSet.getString("change_type")))
+                .actor(resultSet.getString("actor"))
+                .oldStatus(status(resultSet.getString("old_status")))
+                .newStatus(status(resultSet.getString("new_status")))
+                .changes(resultSet.getString("changes"))
+                .changedAt(resultSet.getTimestamp("changed_at").toLocalDateTime())
+                .build()
+        ), batchSize);
+        if (staged.isEmpty()) {
+            return new Batch(0, 0);
+        }
+
+        ParameterizedPreparedStatementSetter<StagedAudit> byId = (statement, audit) -> statement.setLong(1, audit.id());
+        int[] deleted = jdbcTemplate.batchUpdate(CLAIM_SQL, staged, staged.size(), byId)[0];
+        List<TaskAudit> claimed = new ArrayList<>(staged.size());
+        for (int i = 0; i < staged.size(); i++) {
+            // Zero means another relay claimed the row first; drivers that report no count are taken as claimed
+            if (deleted[i] != 0) {
+                claimed.add(staged.get(i).audit());
+            }
+        }
+        insert(claimed);
+        return new Batch(staged.size(), claimed.size());
+    }
+
+    private static void setColumns(PreparedStatement statement, TaskAudit audit) throws SQLException {
+        statement.setLong(1, audit.getTaskId());
+        statement.setString(2, audit.getChangeType().name());
+        statement.setString(3, audit.getActor());
+        statement.setString(4, audit.getOldStatus() == null ? null : audit.getOldStatus().name());
+        statement.setString(5, audit.getNewStatus() == null ? null : audit.getNewStatus().name());
+        statement.setString(6, audit.getChanges());
+        statement.setTimestamp(7, Timestamp.valueOf(audit.getChangedAt()));
+    }
+
+    private static TaskStatus status(String name) {
+        return name == null ? null : TaskStatus.valueOf(name);
+    }
+
+    record StagedAudit(long id, TaskAudit audit) {
+    }
+
+    private record Batch(int staged, int relayed) {
+    }
+}
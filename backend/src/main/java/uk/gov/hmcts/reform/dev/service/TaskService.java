@@ -1,45 +1,291 @@
 package uk.gov.hmcts.reform.dev.service;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.DueTaskPage;
 import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.exception.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.exception.DuplicateTaskException;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.models.CaseFile;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskFingerprint;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.ArchivedTaskRepository;
+import uk.gov.hmcts.reform.dev.repository.CaseFileRepository;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Service class for task operations.
  */
 @Service
 public class TaskService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final Logger LOG = LoggerFactory.getLogger(TaskService.class);
+
     private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final CaseFileRepository caseFileRepository;
     private final BankHolidayService bankHolidayService;
+    private final DueDateIndex dueDateIndex;
+    private final DuplicateTaskDetector duplicateTaskDetector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    public TaskService(TaskRepository taskRepository, BankHolidayService bankHolidayService) {
+    public TaskService(TaskRepository taskRepository,
+                       ArchivedTaskRepository archivedTaskRepository,
+                       CaseFileRepository caseFileRepository,
+                       BankHolidayService bankHolidayService,
+                       DueDateIndex dueDateIndex,
+                       DuplicateTaskDetector duplicateTaskDetector,
+                       ApplicationEventPublisher eventPublisher,
+                       PlatformTransactionManager transactionManager) {
         this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.caseFileRepository = caseFileRepository;
         this.bankHolidayService = bankHolidayService;
+        this.dueDateIndex = dueDateIndex;
+        this.duplicateTaskDetector = duplicateTaskDetector;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Creates a new task.
-     * Validates that the due date does not fall on a bank holiday.
+     * Validates that the due date does not fall on a bank holiday, and checks the task against existing tasks with
+     * the same title, description and due date, handling a duplicate by the configured
+     * {@link DuplicateTaskDetector.Policy}. A create that loses a race with a concurrent create of the same task is
+     * retried once in a new transaction, which finds the task that won and handles it by the same policy.
      *
      * @param request the task creation request
-     * @return the created task response
+     * @return the created task response, or under the merge policy the existing task it duplicates
      * @throws uk.gov.hmcts.reform.dev.exception.BankHolidayException if due date is on a bank holiday
+     * @throws CaseNotFoundException if the request names a case that does not exist
+     * @throws DuplicateTaskException if the task duplicates an existing one under the reject policy, or under the
+     *     merge policy when merging would take the existing task over {@value Task#MAX_LABELS} labels
      */
     public TaskResponse createTask(CreateTaskRequest request) {
         // Validate that the due date is not a bank holiday
         bankHolidayService.validateNotBankHoliday(request.getDueDate());
 
-        Task task = Task.builder()
+        String fingerprint = TaskFingerprint.of(request.getTitle(), request.getDescription(), request.getDueDate());
+        TaskResponse created = tryCreate(request, fingerprint);
+        if (created == null) {
+            // The task that won has committed and the filter now knows it, so this attempt finds it
+            created = tryCreate(request, fingerprint);
+        }
+        if (created == null) {
+            throw new DuplicateTaskException(null);
+        }
+        return created;
+    }
+
+    /**
+     * Creates a task in its own transaction.
+     *
+     * @param request the task creation request
+     * @param fingerprint the request's fingerprint
+     * @return the created or merged task, or null if the insert lost a race on the fingerprint's unique index
+     */
+    private TaskResponse tryCreate(CreateTaskRequest request, String fingerprint) {
+        try {
+            return transactionTemplate.execute(status -> create(request, fingerprint));
+        } catch (DataIntegrityViolationException e) {
+            if (!violates(e, TaskFingerprint.UNIQUE_INDEX)) {
+                throw e;
+            }
+            // Lost a race with a concurrent create of the same task, or one the filter had not heard of yet
+            duplicateTaskDetector.record(fingerprint);
+            return null;
+        }
+    }
+
+    private TaskResponse create(CreateTaskRequest request, String requestFingerprint) {
+        String fingerprint = requestFingerprint;
+        Long duplicateId = duplicateTaskDetector.findDuplicate(fingerprint).orElse(null);
+        if (duplicateId != null) {
+            DuplicateTaskDetector.Policy policy = duplicateTaskDetector.policy();
+            if (policy == DuplicateTaskDetector.Policy.REJECT) {
+                throw new DuplicateTaskException(duplicateId);
+            }
+            if (policy == DuplicateTaskDetector.Policy.MERGE) {
+                // If the task has gone since it was found, this one is created in its place
+                Optional<Task> existing = taskRepository.findById(duplicateId);
+                if (existing.isPresent()) {
+                    return merge(existing.get(), request);
+                }
+            } else {
+                LOG.warn("Creating task \"{}\" due {} although it duplicates task {}",
+                    request.getTitle(), request.getDueDate(), duplicateId);
+                // The unique index would refuse a second row with the same fingerprint
+                fingerprint = null;
+            }
+        }
+
+        CaseFile caseFile = null;
+        if (request.getCaseId() != null) {
+            caseFile = caseFileRepository.findById(request.getCaseId())
+                .orElseThrow(() -> new CaseNotFoundException(request.getCaseId()));
+        }
+
+        Task task = newTask(request, caseFile);
+        task.setFingerprint(fingerprint);
+        Task savedTask = taskRepository.save(task);
+        // Flushed here so a unique index violation surfaces now rather than at commit
+        taskRepository.flush();
+        if (fingerprint != null) {
+            duplicateTaskDetector.record(fingerprint);
+        }
+        eventPublisher.publishEvent(TaskChangedEvent.of(savedTask.getId(), null, TaskSnapshot.of(savedTask)));
+        return TaskResponse.fromEntity(savedTask);
+    }
+
+    /**
+     * Builds an unsaved task from a creation request.
+     *
+     * @param request the task creation request
+     * @param caseFile the case the request names, or null
+     * @return the new task
+     */
+    static Task newTask(CreateTaskRequest request, CaseFile caseFile) {
+        return Task.builder()
             .title(request.getTitle())
             .description(request.getDescription())
             .status(request.getStatus())
+            .assignee(request.getAssignee())
+            .labels(LabelIndex.normalize(request.getLabels()))
+            .caseFile(caseFile)
             .dueDate(request.getDueDate())
             .build();
+    }
 
-        Task savedTask = taskRepository.save(task);
-        return TaskResponse.fromEntity(savedTask);
+    /**
+     * Tells whether a data integrity violation was raised by the named constraint or index.
+     * Uses the constraint name Hibernate extracted where there is one, and the database's messages otherwise.
+     *
+     * @param e the violation
+     * @param constraint the constraint or index name
+     * @return true if the constraint was violated
+     */
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String name = cause instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null ? violation.getConstraintName() : cause.getMessage();
+            if (name != null && name.toLowerCase(Locale.ROOT).contains(constraint)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Folds a duplicate create into the task it duplicates by adding the request's labels to it.
+     *
+     * @param existing the existing task
+     * @param request the duplicate task creation request
+     * @return the existing task
+     * @throws DuplicateTaskException if the merged task would carry more than {@value Task#MAX_LABELS} labels
+     */
+    private TaskResponse merge(Task existing, CreateTaskRequest request) {
+        Set<String> labels = LabelIndex.normalize(request.getLabels());
+        if (!existing.getLabels().containsAll(labels)) {
+            Set<String> merged = new HashSet<>(existing.getLabels());
+            merged.addAll(labels);
+            if (merged.size() > Task.MAX_LABELS) {
+                throw new DuplicateTaskException(existing.getId(), String.format(
+                    "Task %d has the same title, description and due date, and merging would give it %d labels, "
+                        + "more than the %d allowed", existing.getId(), merged.size(), Task.MAX_LABELS));
+            }
+            TaskSnapshot before = TaskSnapshot.of(existing);
+            existing.getLabels().addAll(labels);
+            taskRepository.save(existing);
+            eventPublisher.publishEvent(TaskChangedEvent.of(existing.getId(), before, TaskSnapshot.of(existing)));
+        }
+        return TaskResponse.fromEntity(existing);
+    }
+
+    /**
+     * Gets a task by id, falling back to the archive for closed tasks moved out of the hot table.
+     *
+     * @param id the task id
+     * @return the task response
+     * @throws TaskNotFoundException if no live or archived task has the given id
+     */
+    @Transactional(readOnly = true)
+    public TaskResponse getTaskById(Long id) {
+        return taskRepository.findById(id)
+            .map(TaskResponse::fromEntity)
+            .or(() -> archivedTaskRepository.findById(id).map(TaskResponse::fromArchive))
+            .orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    /**
+     * Lists tasks ordered by due date, optionally filtered by status.
+     *
+     * @param status the status to filter by, or null for all tasks
+     * @param page the zero-based page number
+     * @param size the page size, capped at {@value #MAX_PAGE_SIZE}
+     * @return the tasks on the requested page
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponse> listTasks(TaskStatus status, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.clamp(size, 1, MAX_PAGE_SIZE));
+        List<Task> tasks = status == null
+            ? taskRepository.findAllByOrderByDueDateAscIdAsc(pageable)
+            : taskRepository.findByStatusOrderByDueDateAscIdAsc(status, pageable);
+        return tasks.stream().map(TaskResponse::fromEntity).toList();
+    }
+
+    /**
+     * Lists the open tasks due in a range, soonest first.
+     * The range is resolved and counted by the in-memory {@link DueDateIndex}; only the tasks on the requested
+     * page are loaded from the database. A task closed between the two steps is left off the page.
+     *
+     * @param from start of the range, inclusive, or null for no lower bound
+     * @param to end of the range, exclusive, or null for no upper bound
+     * @param page the zero-based page number
+     * @param size the page size, capped at {@value #MAX_PAGE_SIZE}
+     * @return the total count and the tasks on the requested page
+     */
+    @Transactional(readOnly = true)
+    public DueTaskPage listTasksDueBetween(LocalDateTime from, LocalDateTime to, int page, int size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        List<Long> ids = dueDateIndex.find(from, to, pageNumber, pageSize);
+        Map<Long, Task> tasks = ids.isEmpty()
+            ? Map.of()
+            : taskRepository.findAllWithLabelsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return DueTaskPage.builder()
+            .total(dueDateIndex.count(from, to))
+            .tasks(ids.stream().map(tasks::get).filter(Objects::nonNull).map(TaskResponse::fromEntity).toList())
+            .page(pageNumber)
+            .size(pageSize)
+            .build();
     }
 }
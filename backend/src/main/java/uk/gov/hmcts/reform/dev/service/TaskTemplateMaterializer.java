@@ -0,0 +1,207 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dto.TemplateOccurrence;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.RecurrenceRule;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskFingerprint;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.TaskTemplate;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskTemplateRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns task template occurrences into PENDING tasks for a rolling window of days ahead.
+ * Templates are walked by id in batches, each in its own short transaction that inserts the batch's tasks
+ * and moves the templates' high-water mark together, with a pause between batches, so thousands of
+ * templates never produce one large write. Occurrences missed while the materializer was not running are
+ * skipped rather than backfilled. An occurrence that duplicates an existing task, or another occurrence in the same
+ * batch, is only created under the warn duplicate policy; otherwise the task it duplicates stands in for it.
+ */
+@Component
+public class TaskTemplateMaterializer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TaskTemplateMaterializer.class);
+
+    private final TaskTemplateRepository templateRepository;
+    private final TaskRepository taskRepository;
+    private final TaskTemplateService templateService;
+    private final DuplicateTaskDetector duplicateTaskDetector;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final int horizonDays;
+    private final int batchSize;
+    private final Duration throttle;
+
+    public TaskTemplateMaterializer(TaskTemplateRepository templateRepository,
+                                    TaskRepository taskRepository,
+                                    TaskTemplateService templateService,
+                                    DuplicateTaskDetector duplicateTaskDetector,
+                                    PlatformTransactionManager transactionManager,
+                                    ApplicationEventPublisher eventPublisher,
+                                    Clock clock,
+                                    @Value("${tasks.templates.horizon-days:28}") int horizonDays,
+                                    @Value("${tasks.templates.batch-size:100}") int batchSize,
+                                    @Value("${tasks.templates.throttle:100ms}") Duration throttle) {
+        this.templateRepository = templateRepository;
+        this.taskRepository = taskRepository;
+        this.templateService = templateService;
+        this.duplicateTaskDetector = duplicateTaskDetector;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.horizonDays = horizonDays;
+        this.batchSize = batchSize;
+        this.throttle = throttle;
+    }
+
+    /**
+     * Generates tasks for every active template up to the horizon.
+     *
+     * @return the number of tasks created
+     */
+    @Scheduled(
+        fixedDelayString = "${tasks.templates.interval:15m}",
+        initialDelayString = "${tasks.templates.initial-delay:1m}"
+    )
+    public int materialize() {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate horizon = today.plusDays(horizonDays);
+        long afterId = 0;
+        int created = 0;
+        int duplicates = 0;
+
+        while (true) {
+            long lastId = afterId;
+            Batch batch = transactionTemplate.execute(status -> materializeBatch(today, horizon, lastId));
+            if (batch == null) {
+                break;
+            }
+            created += batch.tasks();
+            duplicates += batch.duplicates();
+            afterId = batch.lastTemplateId();
+            if (batch.templates() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        if (created > 0 || duplicates > 0) {
+            LOG.info("Generated {} tasks from templates up to {}, skipping {} duplicates",
+                created, horizon, duplicates);
+        }
+        return created;
+    }
+
+    private Batch materializeBatch(LocalDate today, LocalDate horizon, long afterId) {
+        List<TaskTemplate> templates = templateRepository.findDueForMaterialization(
+            horizon, afterId, PageRequest.of(0, batchSize)
+        );
+        if (templates.isEmpty()) {
+            return null;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDate yesterday = today.minusDays(1);
+        List<Task> tasks = new ArrayList<>();
+        Set<String> fingerprints = new HashSet<>();
+        int duplicates = 0;
+        for (TaskTemplate template : templates) {
+            LocalDate after = template.getMaterializedThrough().isBefore(yesterday)
+                ? yesterday
+                : template.getMaterializedThrough();
+            for (TemplateOccurrence occurrence : templateService.expand(
+                template, after, horizon, template.getLastDueDate())) {
+                if (occurrence.getDueDate().isAfter(now)) {
+                    Task task = newTask(template, occurrence.getDueDate(), fingerprints);
+                    if (task == null) {
+                        duplicates++;
+                    } else {
+                        tasks.add(task);
+                    }
+                    LocalDate dueDay = occurrence.getDueDate().toLocalDate();
+                    if (template.getLastDueDate() == null || dueDay.isAfter(template.getLastDueDate())) {
+                        template.setLastDueDate(dueDay);
+                    }
+                }
+            }
+            template.setMaterializedThrough(horizon);
+            LocalDate until = RecurrenceRule.parse(template.getRecurrenceRule()).until();
+            if (until != null && !until.isAfter(horizon)) {
+                template.setActive(false);
+            }
+        }
+
+        List<Task> saved = taskRepository.saveAll(tasks);
+        for (Task task : saved) {
+            if (task.getFingerprint() != null) {
+                duplicateTaskDetector.record(task.getFingerprint());
+            }
+        }
+        if (!saved.isEmpty()) {
+            List<TaskChangedEvent.Change> changes = new ArrayList<>(saved.size());
+            for (Task task : saved) {
+                changes.add(new TaskChangedEvent.Change(task.getId(), null, TaskSnapshot.of(task)));
+            }
+            eventPublisher.publishEvent(new TaskChangedEvent(changes));
+        }
+        return new Batch(templates.getLast().getId(), templates.size(), saved.size(), duplicates);
+    }
+
+    /**
+     * Builds the task for an occurrence.
+     *
+     * @param fingerprints the fingerprints of the tasks already built in this batch, added to
+     * @return the task, or null if it duplicates an existing task or one already built and the policy is not to
+     *     create duplicates
+     */
+    private Task newTask(TaskTemplate template, LocalDateTime dueDate, Set<String> fingerprints) {
+        String fingerprint = TaskFingerprint.of(template.getTitle(), template.getDescription(), dueDate);
+        if (!fingerprints.add(fingerprint) || duplicateTaskDetector.findDuplicate(fingerprint).isPresent()) {
+            if (duplicateTaskDetector.policy() != DuplicateTaskDetector.Policy.WARN) {
+                return null;
+            }
+            fingerprint = null;
+        }
+        return Task.builder()
+            .title(template.getTitle())
+            .description(template.getDescription())
+            .status(TaskStatus.PENDING)
+            .assignee(template.getAssignee())
+            .dueDate(dueDate)
+            .fingerprint(fingerprint)
+            .build();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Batch(long lastTemplateId, int templates, int tasks, int duplicates) {
+    }
+}
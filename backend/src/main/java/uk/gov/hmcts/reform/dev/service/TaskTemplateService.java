@@ -0,0 +1,151 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.dto.BankHolidayResponse;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskTemplateRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskTemplateResponse;
+import uk.gov.hmcts.reform.dev.dto.TemplateOccurrence;
+import uk.gov.hmcts.reform.dev.exception.TaskTemplateNotFoundException;
+import uk.gov.hmcts.reform.dev.models.RecurrenceRule;
+import uk.gov.hmcts.reform.dev.models.TaskTemplate;
+import uk.gov.hmcts.reform.dev.repository.TaskTemplateRepository;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service class for recurring task templates.
+ * Templates are stored as rules; {@link TaskTemplateMaterializer} turns their occurrences into tasks a
+ * rolling window at a time. Occurrences that fall on a bank holiday move to the next working day.
+ */
+@Service
+public class TaskTemplateService {
+
+    static final int DEFAULT_PREVIEW_DAYS = 28;
+    static final int MAX_PREVIEW_DAYS = 366;
+
+    private final TaskTemplateRepository templateRepository;
+    private final BankHolidayService bankHolidayService;
+    private final Clock clock;
+
+    public TaskTemplateService(TaskTemplateRepository templateRepository,
+                               BankHolidayService bankHolidayService,
+                               Clock clock) {
+        this.templateRepository = templateRepository;
+        this.bankHolidayService = bankHolidayService;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a template. Its tasks are generated by the next materializer run.
+     *
+     * @param request the template creation request
+     * @return the created template
+     * @throws uk.gov.hmcts.reform.dev.exception.InvalidRecurrenceRuleException if the rule cannot be parsed
+     */
+    @Transactional
+    public TaskTemplateResponse createTemplate(CreateTaskTemplateRequest request) {
+        RecurrenceRule.parse(request.getRecurrenceRule());
+
+        TaskTemplate template = TaskTemplate.builder()
+            .title(request.getTitle())
+            .description(request.getDescription())
+            .assignee(request.getAssignee())
+            .recurrenceRule(request.getRecurrenceRule().trim())
+            .startDate(request.getStartDate())
+            .dueTime(request.getDueTime())
+            .active(true)
+            .materializedThrough(request.getStartDate().minusDays(1))
+            .build();
+        return TaskTemplateResponse.fromEntity(templateRepository.save(template));
+    }
+
+    /**
+     * Gets a template by id.
+     *
+     * @param id the template id
+     * @return the template
+     * @throws TaskTemplateNotFoundException if no template has the given id
+     */
+    @Transactional(readOnly = true)
+    public TaskTemplateResponse getTemplate(Long id) {
+        return TaskTemplateResponse.fromEntity(findTemplate(id));
+    }
+
+    /**
+     * Stops a template generating further tasks. Tasks it has already generated are kept.
+     *
+     * @param id the template id
+     * @throws TaskTemplateNotFoundException if no template has the given id
+     */
+    @Transactional
+    public void deactivateTemplate(Long id) {
+        findTemplate(id).setActive(false);
+    }
+
+    /**
+     * Lists a template's occurrences in a date range without generating any tasks.
+     *
+     * @param id the template id
+     * @param from first rule date, inclusive, or null for today
+     * @param to last rule date, inclusive, or null for 28 days from {@code from}; capped at a year
+     * @return the occurrences in the range, with bank holiday moves applied
+     * @throws TaskTemplateNotFoundException if no template has the given id
+     */
+    @Transactional(readOnly = true)
+    public List<TemplateOccurrence> previewOccurrences(Long id, LocalDate from, LocalDate to) {
+        TaskTemplate template = findTemplate(id);
+        LocalDate start = from == null ? LocalDate.now(clock) : from;
+        LocalDate end = to == null ? start.plusDays(DEFAULT_PREVIEW_DAYS - 1L) : to;
+        LocalDate limit = start.plusDays(MAX_PREVIEW_DAYS - 1L);
+        return expand(template, start.minusDays(1), end.isAfter(limit) ? limit : end, null);
+    }
+
+    /**
+     * Expands a template's rule over a range of rule dates, moving occurrences off bank holidays.
+     * A moved occurrence is dropped when it lands on a day the rule already falls on, or on a day another
+     * occurrence has been moved to, so a holiday never produces two tasks due on the same day.
+     *
+     * @param template the template
+     * @param after only rule dates after this one are expanded
+     * @param through only rule dates on or before this one are expanded
+     * @param lastDueDate the latest due day already generated for the template, or null
+     * @return the occurrences in rule date order
+     */
+    public List<TemplateOccurrence> expand(TaskTemplate template, LocalDate after, LocalDate through,
+                                           LocalDate lastDueDate) {
+        RecurrenceRule rule = RecurrenceRule.parse(template.getRecurrenceRule());
+        Map<LocalDate, BankHolidayResponse.Event> holidays = bankHolidayService.getHolidayIndex();
+        List<TemplateOccurrence> occurrences = new ArrayList<>();
+        Set<LocalDate> dueDays = new HashSet<>();
+        if (lastDueDate != null) {
+            dueDays.add(lastDueDate);
+        }
+
+        for (LocalDate ruleDate : rule.occurrences(template.getStartDate(), after, through)) {
+            BankHolidayResponse.Event holiday = holidays.get(ruleDate);
+            LocalDate due = holiday == null ? ruleDate : bankHolidayService.nextWorkingDay(ruleDate);
+            boolean landsOnOccurrence = holiday != null
+                && !rule.occurrences(template.getStartDate(), due.minusDays(1), due).isEmpty();
+            if (landsOnOccurrence || !dueDays.add(due)) {
+                continue;
+            }
+            occurrences.add(TemplateOccurrence.builder()
+                .ruleDate(ruleDate)
+                .dueDate(due.atTime(template.getDueTime()))
+                .movedFromBankHoliday(holiday == null ? null : holiday.getTitle())
+                .build());
+        }
+        return occurrences;
+    }
+
+    private TaskTemplate findTemplate(Long id) {
+        return templateRepository.findById(id).orElseThrow(() -> new TaskTemplateNotFoundException(id));
+    }
+}
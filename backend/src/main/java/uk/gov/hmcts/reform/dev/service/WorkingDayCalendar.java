@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Counts working days, weekdays that are not bank holidays, between two dates in constant time plus a binary
+ * search, without walking the days in between.
+ * Weekdays are counted arithmetically from whole weeks, and the bank holidays falling on weekdays are held as a
+ * sorted array of epoch days. Immutable, so one calendar can be shared by any number of threads.
+ */
+public final class WorkingDayCalendar {
+
+    // 1970-01-01, epoch day 0, was a Thursday; shifting by three counts weeks from a Monday
+    private static final long MONDAY_SHIFT = 3;
+
+    private final long[] holidays;
+
+    private WorkingDayCalendar(long[] holidays) {
+        this.holidays = holidays;
+    }
+
+    /**
+     * Creates a calendar from a set of bank holidays.
+     *
+     * @param holidays the bank holiday dates; any falling on a weekend are ignored
+     * @return the calendar
+     */
+    public static WorkingDayCalendar of(Collection<LocalDate> holidays) {
+        return new WorkingDayCalendar(holidays.stream()
+            .filter(day -> day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY)
+            .mapToLong(LocalDate::toEpochDay)
+            .sorted()
+            .distinct()
+            .toArray());
+    }
+
+    /**
+     * Counts the working days after one day up to and including another, so a task due on a Friday and closed
+     * the following Monday is one working day late.
+     *
+     * @param fromEpochDay the day to count from, exclusive
+     * @param toEpochDay the day to count to, inclusive
+     * @return the number of working days, or zero if {@code toEpochDay} is not after {@code fromEpochDay}
+     */
+    public long workingDaysAfter(long fromEpochDay, long toEpochDay) {
+        if (toEpochDay <= fromEpochDay) {
+            return 0;
+        }
+        return weekdaysBefore(toEpochDay + 1) - weekdaysBefore(fromEpochDay + 1)
+            - (holidaysBefore(toEpochDay + 1) - holidaysBefore(fromEpochDay + 1));
+    }
+
+    /**
+     * Checks whether a day is a working day.
+     *
+     * @param epochDay the day
+     * @return true if the day is a weekday and not a bank holiday
+     */
+    public boolean isWorkingDay(long epochDay) {
+        return Math.floorMod(epochDay + MONDAY_SHIFT, 7) < 5 && Arrays.binarySearch(holidays, epochDay) < 0;
+    }
+
+    /**
+     * Counts the weekdays before a day, relative to a fixed Monday.
+     */
+    private static long weekdaysBefore(long epochDay) {
+        long shifted = epochDay + MONDAY_SHIFT;
+        return Math.floorDiv(shifted, 7) * 5 + Math.min(Math.floorMod(shifted, 7), 5);
+    }
+
+    private int holidaysBefore(long epochDay) {
+        int index = Arrays.binarySearch(holidays, epochDay);
+        return index < 0 ? -index - 1 : index;
+    }
+}
@@ -0,0 +1,169 @@
+package uk.gov.hmcts.reform.dev.startup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.BankHolidayService;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * Warms a freshly started instance before it is reported ready.
+ * Loads the bank holiday index, opens the connection pool's idle connections and runs the
+ * create/validate/serialize path a configurable number of times inside transactions that are
+ * always rolled back, so the JIT has compiled the hot path before real traffic arrives.
+ * Readiness is held DOWN by {@link WarmUpHealthIndicator} until this completes.
+ */
+@Component
+public class ApplicationWarmUp {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ApplicationWarmUp.class);
+
+    private final BankHolidayService bankHolidayService;
+    private final TaskRepository taskRepository;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int iterations;
+    private final int poolConnections;
+
+    private volatile boolean complete;
+
+    public ApplicationWarmUp(BankHolidayService bankHolidayService,
+                             TaskRepository taskRepository,
+                             DataSource dataSource,
+                             PlatformTransactionManager transactionManager,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             @Value("${tasks.warm-up.enabled:true}") boolean enabled,
+                             @Value("${tasks.warm-up.iterations:200}") int iterations,
+                             @Value("${tasks.warm-up.pool-connections:10}") int poolConnections) {
+        this.bankHolidayService = bankHolidayService;
+        this.taskRepository = taskRepository;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.poolConnections = poolConnections;
+    }
+
+    /**
+     * Starts the warm-up on a background thread once the application is up, so liveness is unaffected.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            complete = true;
+            return;
+        }
+        Thread thread = new Thread(this::warmUp, "warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Whether the warm-up has finished (or was disabled).
+     *
+     * @return true once the instance can take full traffic
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    void warmUp() {
+        long start = System.nanoTime();
+        try {
+            int holidays = bankHolidayService.getHolidayIndex().size();
+            LOG.info("Warm-up loaded {} bank holidays", holidays);
+
+            primeConnectionPool();
+
+            for (int i = 0; i < iterations; i++) {
+                runSyntheticCreate(i);
+            }
+        } catch (RuntimeException e) {
+            // A failed warm-up only costs latency; never keep the instance out of service because of it
+            LOG.warn("Warm-up failed, marking instance ready anyway", e);
+        } finally {
+            complete = true;
+            LOG.info("Warm-up finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private void primeConnectionPool() {
+        // The datasource may be wrapped, e.g. by the statement counting proxy
+        HikariDataSource hikari =
+            DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        int target = hikari != null ? hikari.getMinimumIdle() : poolConnections;
+        List<Connection> connections = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (SQLException e) {
+            LOG.warn("Could only open {} of {} pool connections during warm-up", connections.size(), target, e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    LOG.debug("Failed to return warm-up connection to the pool", e);
+                }
+            }
+        }
+    }
+
+    private void runSyntheticCreate(int iteration) {
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Warm-up task " + iteration)
+            .description("Synthetic task, rolled back")
+            .status(TaskStatus.PENDING)
+            .dueDate(LocalDateTime.now().plusDays(1 + iteration % 30))
+            .build();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+
+            validator.validate(request);
+            bankHolidayService.isBankHoliday(request.getDueDate());
+
+            Task saved = taskRepository.saveAndFlush(Task.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .status(request.getStatus())
+                .dueDate(request.getDueDate())
+                .build());
+
+            try {
+                objectMapper.writeValueAsBytes(TaskResponse.fromEntity(saved));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize warm-up task", e);
+            }
+        });
+    }
+}
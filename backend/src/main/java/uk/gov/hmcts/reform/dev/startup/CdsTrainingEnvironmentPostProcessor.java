@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.dev.startup;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Map;
+
+/**
+ * Points a CDS training run at throwaway storage. {@link CdsTrainingRunner} creates real tasks through the API,
+ * so whatever profile the training JVM starts with, its writes go to a private in-memory database and a temporary
+ * journal directory instead of the configured ones, and cross-instance coherence and replica routing are off.
+ * The overrides take precedence over every other property source.
+ */
+public class CdsTrainingEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE = "cdsTraining";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty("tasks.cds.training", Boolean.class, false)) {
+            return;
+        }
+        environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE, Map.of(
+            "spring.datasource.url", "jdbc:h2:mem:cds-training;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "spring.flyway.enabled", "false",
+            "spring.jpa.hibernate.ddl-auto", "create-drop",
+            "tasks.journal.directory", temporaryJournalDirectory(),
+            "tasks.coherence.enabled", "false",
+            "tasks.datasource.read-replicas.enabled", "false"
+        )));
+    }
+
+    private static String temporaryJournalDirectory() {
+        try {
+            return Files.createTempDirectory("cds-training-journal").toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
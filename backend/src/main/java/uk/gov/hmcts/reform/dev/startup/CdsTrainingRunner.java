@@ -0,0 +1,99 @@
+package uk.gov.hmcts.reform.dev.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.BankHolidayService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Drives the hot request paths during the AppCDS training run and then shuts the JVM down,
+ * so the class list dumped by {@code -XX:ArchiveClassesAtExit} covers request handling and not just startup.
+ * Activated with {@code -Dtasks.cds.training=true}; the flag is read at runtime so the same bean works
+ * in AOT mode, where profile and property conditions are fixed at build time. The tasks it creates go to throwaway
+ * storage set up by {@link CdsTrainingEnvironmentPostProcessor}, never the configured database.
+ */
+@Component
+public class CdsTrainingRunner implements ApplicationRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CdsTrainingRunner.class);
+
+    private final ConfigurableApplicationContext context;
+    private final BankHolidayService bankHolidayService;
+    private final boolean enabled;
+    private final int iterations;
+
+    public CdsTrainingRunner(ConfigurableApplicationContext context,
+                             BankHolidayService bankHolidayService,
+                             @Value("${tasks.cds.training:false}") boolean enabled,
+                             @Value("${tasks.cds.training-iterations:20}") int iterations) {
+        this.context = context;
+        this.bankHolidayService = bankHolidayService;
+        this.enabled = enabled;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String baseUrl = "http://localhost:" + port;
+        String tasksUrl = baseUrl + "/api/tasks";
+        RestTemplate client = new RestTemplate();
+        LOG.info("Running {} CDS training iterations against {}", iterations, baseUrl);
+
+        bankHolidayService.getAllBankHolidayDates();
+        for (int i = 0; i < iterations; i++) {
+            exercise(client, tasksUrl, createRequest("CDS training task " + i), MediaType.APPLICATION_JSON);
+            exercise(client, tasksUrl, createRequest(""), MediaType.APPLICATION_JSON);
+            exercise(client, tasksUrl, createRequest("CDS training task " + i), MediaType.APPLICATION_CBOR);
+            exercise(client, baseUrl + "/health/readiness", null, MediaType.APPLICATION_JSON);
+        }
+
+        LOG.info("CDS training run complete, exiting");
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    private static CreateTaskRequest createRequest(String title) {
+        return CreateTaskRequest.builder()
+            .title(title)
+            .description("Generated while recording the class-data-sharing archive")
+            .status(TaskStatus.PENDING)
+            .dueDate(LocalDateTime.now().plusDays(7))
+            .build();
+    }
+
+    private static void exercise(RestTemplate client, String url, Object body, MediaType mediaType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(mediaType);
+        headers.setAccept(List.of(mediaType));
+        try {
+            if (body == null) {
+                client.getForEntity(url, byte[].class);
+            } else {
+                client.postForEntity(url, new HttpEntity<>(body, headers), byte[].class);
+            }
+        } catch (RestClientException e) {
+            // Error responses are part of what we want to train, so only log them
+            LOG.debug("Training request to {} failed: {}", url, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.dev.startup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health indicator that stays DOWN until {@link ApplicationWarmUp} has finished.
+ * Registered as {@code warmUp} and included in the readiness group, so new pods receive
+ * traffic only once their caches are loaded and hot paths are compiled.
+ */
+@Component
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final ApplicationWarmUp warmUp;
+
+    public WarmUpHealthIndicator(ApplicationWarmUp warmUp) {
+        this.warmUp = warmUp;
+    }
+
+    @Override
+    public Health health() {
+        if (warmUp.isComplete()) {
+            return Health.up().build();
+        }
+        return Health.down().withDetail("reason", "Warm-up in progress").build();
+    }
+}
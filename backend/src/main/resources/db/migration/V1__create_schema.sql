@@ -0,0 +1,88 @@
+-- Tables, keys and constraints for every entity. Indexes live in their own migrations.
+
+create sequence tasks_seq start with 1 increment by 50;
+
+create table cases (
+    id          bigint generated by default as identity primary key,
+    case_number varchar(20)   not null,
+    title       varchar(255)  not null,
+    description varchar(1000),
+    status      varchar(20)   not null,
+    created_at  timestamp(6)  not null,
+    updated_at  timestamp(6),
+    version     bigint        not null,
+    constraint uk_cases_case_number unique (case_number)
+);
+
+create table tasks (
+    id          bigint        not null primary key,
+    title       varchar(255)  not null,
+    description varchar(1000),
+    status      varchar(20)   not null,
+    assignee    varchar(100),
+    case_id     bigint,
+    due_date    timestamp(6)  not null,
+    created_at  timestamp(6)  not null,
+    updated_at  timestamp(6),
+    version     bigint        not null,
+    constraint fk_tasks_case_id foreign key (case_id) references cases (id)
+);
+
+create table task_labels (
+    task_id bigint      not null,
+    label   varchar(50) not null,
+    constraint pk_task_labels primary key (task_id, label),
+    constraint fk_task_labels_task_id foreign key (task_id) references tasks (id)
+);
+
+create table tasks_archive (
+    id          bigint        not null primary key,
+    title       varchar(255)  not null,
+    description varchar(1000),
+    status      varchar(20)   not null,
+    assignee    varchar(100),
+    labels      varchar(1000),
+    case_id     bigint,
+    due_date    timestamp(6)  not null,
+    created_at  timestamp(6)  not null,
+    updated_at  timestamp(6),
+    archived_at timestamp(6)  not null
+);
+
+create table task_audit (
+    id          bigint generated by default as identity primary key,
+    task_id     bigint        not null,
+    change_type varchar(20)   not null,
+    actor       varchar(100)  not null,
+    old_status  varchar(20),
+    new_status  varchar(20),
+    changes     varchar(1000),
+    changed_at  timestamp(6)  not null,
+    recorded_at timestamp(6)  not null
+);
+
+create table task_templates (
+    id                   bigint generated by default as identity primary key,
+    title                varchar(255)  not null,
+    description          varchar(1000),
+    assignee             varchar(100),
+    recurrence_rule      varchar(255)  not null,
+    start_date           date          not null,
+    due_time             time          not null,
+    active               boolean       not null,
+    materialized_through date          not null,
+    last_due_date        date,
+    created_at           timestamp(6)  not null,
+    updated_at           timestamp(6),
+    version              bigint        not null
+);
+
+create table idempotency_keys (
+    scoped_key      varchar(400)  not null primary key,
+    request_hash    varchar(64)   not null,
+    response_status integer       not null,
+    content_type    varchar(100),
+    response_body   blob,
+    created_at      timestamp(6)  not null,
+    expires_at      timestamp(6)  not null
+);
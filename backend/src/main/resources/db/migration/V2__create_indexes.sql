@@ -0,0 +1,23 @@
+-- Every index the repositories rely on, named after the columns it covers. Keep in step with the @Index
+-- declarations on the entities, which create the same indexes when Hibernate generates the schema.
+
+-- Task list, due-day counts and the workload window: range and order by due date
+create index idx_tasks_due_date_id on tasks (due_date, id);
+-- Status list and claim candidates: equality on status, ordered by due date
+create index idx_tasks_status_due_date_id on tasks (status, due_date, id);
+-- Bulk transition candidates: equality on status, keyset paging on id
+create index idx_tasks_status_id on tasks (status, id);
+-- Archiving: terminal statuses last updated before the retention cutoff
+create index idx_tasks_status_updated_at on tasks (status, updated_at);
+-- Work queues
+create index idx_tasks_assignee_status_due_date on tasks (assignee, status, due_date);
+-- Case summaries
+create index idx_tasks_case_id_status on tasks (case_id, status);
+
+create index idx_task_labels_label on task_labels (label);
+
+create index idx_task_audit_task_id_changed_at on task_audit (task_id, changed_at);
+
+create index idx_task_templates_active_materialized on task_templates (active, materialized_through);
+
+create index idx_idempotency_keys_expires_at on idempotency_keys (expires_at);
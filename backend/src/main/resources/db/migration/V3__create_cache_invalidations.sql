@@ -0,0 +1,11 @@
+-- Change table tailed by every instance to keep in-process caches coherent
+
+create table cache_invalidations (
+    id         bigint generated by default as identity primary key,
+    cache_name varchar(50)  not null,
+    cache_key  varchar(100),
+    origin     varchar(36)  not null,
+    created_at timestamp(6) not null
+);
+
+create index idx_cache_invalidations_created_at on cache_invalidations (created_at);
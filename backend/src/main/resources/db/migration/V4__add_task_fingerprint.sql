@@ -0,0 +1,5 @@
+-- Duplicate task detection: a hash of the normalised title, description and due date. Unique indexes admit any
+-- number of nulls, which leaves tasks created before this migration, and duplicates let through on purpose, alone.
+alter table tasks add column fingerprint varchar(64);
+
+create unique index ux_tasks_fingerprint on tasks (fingerprint);
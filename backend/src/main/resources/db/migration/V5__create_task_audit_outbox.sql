@@ -0,0 +1,12 @@
+-- Audit records committed with their task change and not yet relayed to task_audit
+
+create table task_audit_outbox (
+    id          bigint generated by default as identity primary key,
+    task_id     bigint        not null,
+    change_type varchar(20)   not null,
+    actor       varchar(100)  not null,
+    old_status  varchar(20),
+    new_status  varchar(20),
+    changes     varchar(1000),
+    changed_at  timestamp(6)  not null
+);
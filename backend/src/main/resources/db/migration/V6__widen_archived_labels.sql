@@ -0,0 +1,3 @@
+-- Room for the longest label list a task can carry: 20 labels of 50 characters joined by commas
+
+alter table tasks_archive alter column labels set data type varchar(1019);
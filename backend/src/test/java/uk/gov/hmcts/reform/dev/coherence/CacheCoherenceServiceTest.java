@@ -0,0 +1,283 @@
+package uk.gov.hmcts.reform.dev.coherence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CacheCoherenceService Unit Tests")
+class CacheCoherenceServiceTest {
+
+    private static final String OTHER_INSTANCE = "other-instance";
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(10);
+
+    private FakeTransport transport;
+    private RecordingCache tasks;
+    private RecordingCache holidays;
+    private MutableClock clock;
+    private CacheCoherenceService service;
+
+    @BeforeEach
+    void setUp() {
+        transport = new FakeTransport();
+        tasks = new RecordingCache(CacheCoherenceService.TASKS);
+        holidays = new RecordingCache(CacheCoherenceService.BANK_HOLIDAYS);
+        clock = new MutableClock(Instant.parse("2025-06-02T09:00:00Z"));
+        service = new CacheCoherenceService(
+            transport, List.of(tasks, holidays), clock, new SimpleMeterRegistry(), Duration.ofSeconds(1),
+            MAX_STALENESS, 3);
+    }
+
+    @Test
+    @DisplayName("Should publish changed task ids after a task change")
+    void shouldPublishTaskChanges() {
+        // When
+        service.onTaskChanged(TaskChangedEvent.of(7L, null, null));
+
+        // Then
+        assertEquals(List.of(new Invalidation(CacheCoherenceService.TASKS, "7", service.origin())),
+            transport.published);
+    }
+
+    @Test
+    @DisplayName("Should publish task changes before commit through a transactional transport")
+    void shouldPublishInTransaction() {
+        // Given
+        transport.transactional = true;
+        TaskChangedEvent event = TaskChangedEvent.of(7L, null, null);
+
+        // When
+        service.onTaskChanging(event);
+        service.onTaskChanged(event);
+
+        // Then
+        assertEquals(List.of(new Invalidation(CacheCoherenceService.TASKS, "7", service.origin())),
+            transport.published);
+    }
+
+    @Test
+    @DisplayName("Should fail the change when a transactional transport cannot take its invalidations")
+    void shouldFailChangeWhenTransactionalPublishFails() {
+        // Given
+        transport.transactional = true;
+        transport.failing = true;
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> service.onTaskChanging(TaskChangedEvent.of(7L, null, null)));
+        transport.failing = false;
+        service.poll();
+        assertTrue(transport.published.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report down while the last contact is older than the staleness bound")
+    void shouldReportStaleness() {
+        // Given
+        service.poll();
+
+        // When & Then
+        clock.advance(MAX_STALENESS);
+        assertEquals(Status.UP, service.health().getStatus());
+
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(Status.DOWN, service.health().getStatus());
+
+        service.poll();
+        assertEquals(Status.UP, service.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should invalidate the whole cache when a change touches many entries")
+    void shouldInvalidateAllAboveThreshold() {
+        // When
+        service.invalidate(CacheCoherenceService.TASKS, List.of("1", "2", "3", "4"));
+
+        // Then
+        assertEquals(1, transport.published.size());
+        assertNull(transport.published.getFirst().key());
+    }
+
+    @Test
+    @DisplayName("Should apply invalidations from other instances and ignore its own")
+    void shouldApplyRemoteInvalidations() {
+        // Given
+        transport.incoming.add(new Invalidation(CacheCoherenceService.TASKS, "1", OTHER_INSTANCE));
+        transport.incoming.add(new Invalidation(CacheCoherenceService.TASKS, "2", service.origin()));
+        transport.incoming.add(new Invalidation(CacheCoherenceService.TASKS, "3", OTHER_INSTANCE));
+        transport.incoming.add(new Invalidation(CacheCoherenceService.BANK_HOLIDAYS, null, OTHER_INSTANCE));
+
+        // When
+        service.poll();
+
+        // Then
+        assertEquals(List.of(Set.of("1", "3")), tasks.evicted);
+        assertEquals(0, tasks.evictAllCount);
+        assertEquals(1, holidays.evictAllCount);
+    }
+
+    @Test
+    @DisplayName("Should not echo invalidations raised while applying remote ones")
+    void shouldNotEchoRemoteInvalidations() {
+        // Given
+        holidays.onEvictAll = () -> service.invalidateAll(CacheCoherenceService.BANK_HOLIDAYS);
+        transport.incoming.add(new Invalidation(CacheCoherenceService.BANK_HOLIDAYS, null, OTHER_INSTANCE));
+
+        // When
+        service.poll();
+
+        // Then
+        assertEquals(1, holidays.evictAllCount);
+        assertTrue(transport.published.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should retry invalidations that failed to publish")
+    void shouldRetryFailedPublishes() {
+        // Given
+        transport.failing = true;
+        service.invalidate(CacheCoherenceService.TASKS, List.of("5"));
+        transport.failing = false;
+
+        // When
+        service.poll();
+
+        // Then
+        assertEquals(List.of(new Invalidation(CacheCoherenceService.TASKS, "5", service.origin())),
+            transport.published);
+    }
+
+    @Test
+    @DisplayName("Should clear caches while out of contact for longer than the staleness bound")
+    void shouldClearCachesWhenOutOfContact() {
+        // Given
+        service.poll();
+        transport.failing = true;
+
+        // When & Then
+        clock.advance(Duration.ofSeconds(5));
+        service.poll();
+        assertEquals(0, tasks.evictAllCount);
+
+        clock.advance(Duration.ofSeconds(6));
+        service.poll();
+        assertEquals(1, tasks.evictAllCount);
+        assertEquals(1, holidays.evictAllCount);
+
+        clock.advance(Duration.ofSeconds(1));
+        service.poll();
+        assertEquals(1, tasks.evictAllCount);
+
+        clock.advance(MAX_STALENESS);
+        service.poll();
+        assertEquals(2, tasks.evictAllCount);
+
+        transport.failing = false;
+        service.poll();
+        assertEquals(3, tasks.evictAllCount);
+        assertEquals(Duration.ZERO, service.staleness());
+    }
+
+    private static final class FakeTransport implements InvalidationTransport {
+
+        private final List<Invalidation> published = new ArrayList<>();
+        private final List<Invalidation> incoming = new ArrayList<>();
+        private boolean failing;
+        private boolean transactional;
+
+        @Override
+        public void publish(List<Invalidation> invalidations) {
+            if (failing) {
+                throw new IllegalStateException("transport down");
+            }
+            published.addAll(invalidations);
+        }
+
+        @Override
+        public boolean isTransactional() {
+            return transactional;
+        }
+
+        @Override
+        public List<Invalidation> poll() {
+            if (failing) {
+                throw new IllegalStateException("transport down");
+            }
+            List<Invalidation> received = List.copyOf(incoming);
+            incoming.clear();
+            return received;
+        }
+    }
+
+    private static final class RecordingCache implements CoherentCache {
+
+        private final String name;
+        private final List<Set<String>> evicted = new ArrayList<>();
+        private int evictAllCount;
+        private Runnable onEvictAll = () -> { };
+
+        private RecordingCache(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void evict(Collection<String> keys) {
+            evicted.add(Set.copyOf(keys));
+        }
+
+        @Override
+        public void evictAll() {
+            evictAllCount++;
+            onEvictAll.run();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package uk.gov.hmcts.reform.dev.coherence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ChangeTableTransport Unit Tests")
+class ChangeTableTransportTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-02T09:00:00Z");
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private ChangeTableTransport transport;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:coherence-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table cache_invalidations ("
+            + "id bigint generated by default as identity primary key, cache_name varchar(50) not null, "
+            + "cache_key varchar(100), origin varchar(36) not null, created_at timestamp(6) not null)");
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        transport = new ChangeTableTransport(jdbcTemplate, transactionManager,
+            Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofSeconds(30), Duration.ofHours(1), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("shutdown");
+    }
+
+    @Test
+    @DisplayName("Should start from the end of the table and deliver later invalidations in order")
+    void shouldDeliverNewInvalidations() {
+        // Given
+        transport.publish(List.of(invalidation("1")));
+        transport.poll();
+
+        // When
+        transport.publish(List.of(invalidation("2"), invalidation("3"), invalidation("4")));
+        List<Invalidation> received = transport.poll();
+
+        // Then
+        assertEquals(List.of(invalidation("2"), invalidation("3"), invalidation("4")), received);
+        assertTrue(transport.poll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should deliver a row that commits after a later id was seen")
+    void shouldFillGaps() {
+        // Given
+        transport.poll();
+        insert(1, "1");
+        insert(3, "3");
+        assertEquals(List.of(invalidation("1"), invalidation("3")), transport.poll());
+        assertEquals(1, transport.openGaps());
+
+        // When
+        insert(2, "2");
+        List<Invalidation> received = transport.poll();
+
+        // Then
+        assertEquals(List.of(invalidation("2")), received);
+        assertEquals(0, transport.openGaps());
+    }
+
+    @Test
+    @DisplayName("Should publish in the caller's transaction and roll back with it")
+    void shouldPublishInCallersTransaction() {
+        // Given
+        transport.poll();
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            transport.publish(List.of(invalidation("1")));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertTrue(transport.isTransactional());
+        assertTrue(transport.poll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should delete invalidations older than the retention period")
+    void shouldPurgeOldRows() {
+        // Given
+        insert(1, "old", LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).minusHours(2));
+        insert(2, "new", LocalDateTime.ofInstant(NOW, ZoneOffset.UTC));
+
+        // When
+        transport.purge();
+
+        // Then
+        assertEquals(List.of("new"),
+            jdbcTemplate.queryForList("select cache_key from cache_invalidations", String.class));
+    }
+
+    private void insert(long id, String key) {
+        insert(id, key, LocalDateTime.ofInstant(NOW, ZoneOffset.UTC));
+    }
+
+    private void insert(long id, String key, LocalDateTime createdAt) {
+        jdbcTemplate.update("insert into cache_invalidations (id, cache_name, cache_key, origin, created_at) "
+            + "values (?, 'tasks', ?, 'origin', ?)", id, key, Timestamp.valueOf(createdAt));
+    }
+
+    private static Invalidation invalidation(String key) {
+        return new Invalidation("tasks", key, "origin");
+    }
+}
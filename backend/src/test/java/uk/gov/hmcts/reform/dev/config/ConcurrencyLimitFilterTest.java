@@ -0,0 +1,179 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import uk.gov.hmcts.reform.dev.controllers.TaskController;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.AdaptiveConcurrencyLimiter;
+import uk.gov.hmcts.reform.dev.service.AdaptiveConcurrencyLimiter.Permit;
+import uk.gov.hmcts.reform.dev.service.BulkStatusTransitionService;
+import uk.gov.hmcts.reform.dev.service.GroupCommitTaskWriter;
+import uk.gov.hmcts.reform.dev.service.TaskAuditService;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitFilter Unit Tests")
+class ConcurrencyLimitFilterTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private BulkStatusTransitionService bulkStatusTransitionService;
+
+    @Mock
+    private TaskAuditService taskAuditService;
+
+    @Mock
+    private ObjectProvider<GroupCommitTaskWriter> groupCommitTaskWriter;
+
+    private AdaptiveConcurrencyLimiter readLimiter;
+
+    private AdaptiveConcurrencyLimiter writeLimiter;
+
+    private AdaptiveConcurrencyLimiter bulkLimiter;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        readLimiter = limiter("read");
+        writeLimiter = limiter("write");
+        bulkLimiter = limiter("bulk");
+        meterRegistry = new SimpleMeterRegistry();
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+            readLimiter, writeLimiter, bulkLimiter, meterRegistry, objectMapper, Duration.ofSeconds(2));
+        TaskController controller = new TaskController(
+            taskService, bulkStatusTransitionService, taskAuditService, groupCommitTaskWriter);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .addFilters(filter)
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should pass requests through while under the limit")
+    void shouldPassRequestsUnderLimit() throws Exception {
+        // Given
+        when(taskService.getTaskById(1L)).thenReturn(response());
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(1));
+        assertEquals(0, readLimiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should refuse requests over the limit with 503 and Retry-After")
+    void shouldRefuseRequestsOverLimit() throws Exception {
+        // Given
+        Permit held = writeLimiter.tryAcquire().orElseThrow();
+        Permit alsoHeld = writeLimiter.tryAcquire().orElseThrow();
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request())))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+            .andExpect(jsonPath("$.message").value("Service overloaded"));
+        verifyNoInteractions(taskService);
+        assertEquals(1.0, meterRegistry.get("tasks.concurrency.rejected").tag("group", "write").counter().count());
+        held.success();
+        alsoHeld.success();
+    }
+
+    @Test
+    @DisplayName("Should limit each kind of request separately")
+    void shouldLimitEachKindSeparately() throws Exception {
+        // Given
+        bulkLimiter.tryAcquire().orElseThrow();
+        bulkLimiter.tryAcquire().orElseThrow();
+        when(taskService.getTaskById(1L)).thenReturn(response());
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"fromStatuses\":[\"PENDING\"],\"toStatus\":\"CANCELLED\"}"))
+            .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(get("/api/tasks/1"))
+            .andExpect(status().isOk());
+        verifyNoInteractions(bulkStatusTransitionService);
+    }
+
+    @Test
+    @DisplayName("Should cut the limit when a request fails with a server error")
+    void shouldCutLimitOnServerError() throws Exception {
+        // Given
+        when(taskService.createTask(any(CreateTaskRequest.class)))
+            .thenThrow(new IllegalStateException("Database unavailable"));
+
+        // When
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request())))
+            .andExpect(status().isInternalServerError());
+
+        // Then
+        assertEquals(1, writeLimiter.getLimit());
+        assertEquals(1.0, meterRegistry.get("tasks.concurrency.limit").tag("group", "write").gauge().value());
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(String name) {
+        return new AdaptiveConcurrencyLimiter(name, 2, 1, 10, 0.5, 2.0, Duration.ofSeconds(5));
+    }
+
+    private static CreateTaskRequest request() {
+        return CreateTaskRequest.builder()
+            .title("Review case")
+            .status(TaskStatus.PENDING)
+            .dueDate(LocalDateTime.now().plusDays(7))
+            .build();
+    }
+
+    private static TaskResponse response() {
+        return TaskResponse.builder()
+            .id(1L)
+            .title("Review case")
+            .status(TaskStatus.PENDING)
+            .dueDate(LocalDateTime.now().plusDays(7))
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,219 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
+import uk.gov.hmcts.reform.dev.controllers.TaskController;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.IdempotencyRecordRepository;
+import uk.gov.hmcts.reform.dev.service.BulkStatusTransitionService;
+import uk.gov.hmcts.reform.dev.service.GroupCommitTaskWriter;
+import uk.gov.hmcts.reform.dev.service.IdempotencyStore;
+import uk.gov.hmcts.reform.dev.service.TaskAuditService;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyFilter Unit Tests")
+class IdempotencyFilterTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private BulkStatusTransitionService bulkStatusTransitionService;
+
+    @Mock
+    private TaskAuditService taskAuditService;
+
+    @Mock
+    private ObjectProvider<GroupCommitTaskWriter> groupCommitTaskWriter;
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private MockMvc mockMvc;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        IdempotencyStore store = new IdempotencyStore(repository, Clock.systemDefaultZone(), Duration.ofHours(24), 100,
+            Duration.ofSeconds(5), Duration.ofMinutes(5), Duration.ofMillis(10));
+        TaskController controller = new TaskController(
+            taskService, bulkStatusTransitionService, taskAuditService, groupCommitTaskWriter);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .addFilters(new IdempotencyFilter(store, objectMapper, List.of("/api/tasks", "/api/tasks/bulk/status"),
+                DataSize.ofKilobytes(4)))
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should replay the first response without creating the task again")
+    void shouldReplayFirstResponse() throws Exception {
+        // Given
+        when(taskService.createTask(any(CreateTaskRequest.class))).thenReturn(response(1L));
+        String body = objectMapper.writeValueAsString(request("Review case"));
+
+        // When
+        MvcResult first = mockMvc.perform(post("/api/tasks")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated())
+            .andReturn();
+        MvcResult replay = mockMvc.perform(post("/api/tasks")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated())
+            .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+            .andReturn();
+
+        // Then
+        assertEquals(first.getResponse().getContentAsString(), replay.getResponse().getContentAsString());
+        verify(taskService, times(1)).createTask(any(CreateTaskRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different body")
+    void shouldRejectKeyReusedWithDifferentBody() throws Exception {
+        // Given
+        when(taskService.createTask(any(CreateTaskRequest.class))).thenReturn(response(1L));
+        mockMvc.perform(post("/api/tasks")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request("Review case"))))
+            .andExpect(status().isCreated());
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request("Something else"))))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.message").value("Idempotency key reused"));
+        verify(taskService, times(1)).createTask(any(CreateTaskRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should run every request without a key")
+    void shouldRunEveryRequestWithoutKey() throws Exception {
+        // Given
+        when(taskService.createTask(any(CreateTaskRequest.class))).thenReturn(response(1L));
+        String body = objectMapper.writeValueAsString(request("Review case"));
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/tasks")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                .andExpect(status().isCreated());
+        }
+
+        // Then
+        verify(taskService, times(2)).createTask(any(CreateTaskRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a key that is too long")
+    void shouldRejectKeyThatIsTooLong() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/tasks")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "k".repeat(IdempotencyFilter.MAX_KEY_LENGTH + 1))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request("Review case"))))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid idempotency key"));
+    }
+
+    @Test
+    @DisplayName("Should refuse a keyed request with a body over the limit")
+    void shouldRejectOversizedBody() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/tasks")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request("x".repeat(5000)))))
+            .andExpect(status().isPayloadTooLarge())
+            .andExpect(jsonPath("$.message").value("Request body too large"));
+        verify(taskService, never()).createTask(any(CreateTaskRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should let a request that failed with a server error be retried")
+    void shouldRetryRequestThatFailedWithServerError() throws Exception {
+        // Given
+        when(taskService.createTask(any(CreateTaskRequest.class)))
+            .thenThrow(new IllegalStateException("Database unavailable"))
+            .thenReturn(response(1L));
+        String body = objectMapper.writeValueAsString(request("Review case"));
+
+        // When
+        mockMvc.perform(post("/api/tasks")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isInternalServerError());
+        mockMvc.perform(post("/api/tasks")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").value(1));
+
+        // Then
+        verify(taskService, times(2)).createTask(any(CreateTaskRequest.class));
+    }
+
+    private static CreateTaskRequest request(String title) {
+        return CreateTaskRequest.builder()
+            .title(title)
+            .status(TaskStatus.PENDING)
+            .dueDate(LocalDateTime.now().plusDays(7))
+            .build();
+    }
+
+    private static TaskResponse response(Long id) {
+        return TaskResponse.builder()
+            .id(id)
+            .title("Review case")
+            .status(TaskStatus.PENDING)
+            .dueDate(LocalDateTime.now().plusDays(7))
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+}
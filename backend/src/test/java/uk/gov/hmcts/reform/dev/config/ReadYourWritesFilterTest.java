@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import uk.gov.hmcts.reform.dev.datasource.ReadYourWritesScope;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ReadYourWritesFilter Unit Tests")
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(2));
+
+    @Test
+    @DisplayName("Should route a request by the last write time its client sent back")
+    void shouldReadLastWriteFromCookie() throws Exception {
+        // Given
+        Instant lastWrite = Instant.parse("2026-01-05T10:00:00Z");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(lastWrite.toEpochMilli())));
+        AtomicReference<Instant> seen = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> seen.set(ReadYourWritesScope.lastWrite()));
+
+        // Then
+        assertEquals(lastWrite, seen.get());
+        assertEquals(Instant.MIN, ReadYourWritesScope.lastWrite());
+    }
+
+    @Test
+    @DisplayName("Should ignore a malformed cookie")
+    void shouldIgnoreMalformedCookie() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, "yesterday"));
+        AtomicReference<Instant> seen = new AtomicReference<>();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> seen.set(ReadYourWritesScope.lastWrite()));
+
+        // Then
+        assertEquals(Instant.MIN, seen.get());
+    }
+
+    @Test
+    @DisplayName("Should return the commit time of a write to the client")
+    void shouldSetCookieOnWrite() throws Exception {
+        // Given
+        Instant committedAt = Instant.parse("2026-01-05T10:00:00Z");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockHttpServletResponse readOnlyResponse = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/tasks"), response,
+            (req, res) -> ReadYourWritesScope.recordWrite(committedAt));
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/1"), readOnlyResponse, (req, res) -> { });
+
+        // Then
+        String cookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertTrue(cookie.startsWith(ReadYourWritesFilter.COOKIE + "=" + committedAt.toEpochMilli()));
+        assertTrue(cookie.contains("Max-Age=3"));
+        assertNull(readOnlyResponse.getHeader(HttpHeaders.SET_COOKIE));
+    }
+}
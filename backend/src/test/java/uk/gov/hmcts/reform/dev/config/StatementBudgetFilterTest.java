@@ -0,0 +1,135 @@
+package uk.gov.hmcts.reform.dev.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import uk.gov.hmcts.reform.dev.controllers.TaskController;
+import uk.gov.hmcts.reform.dev.datasource.StatementListener;
+import uk.gov.hmcts.reform.dev.datasource.StatementScope;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.BulkStatusTransitionService;
+import uk.gov.hmcts.reform.dev.service.GroupCommitTaskWriter;
+import uk.gov.hmcts.reform.dev.service.TaskAuditService;
+import uk.gov.hmcts.reform.dev.service.TaskService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatementBudgetFilter Unit Tests")
+class StatementBudgetFilterTest {
+
+    private static final int BUDGET = 2;
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private BulkStatusTransitionService bulkStatusTransitionService;
+
+    @Mock
+    private TaskAuditService taskAuditService;
+
+    @Mock
+    private ObjectProvider<GroupCommitTaskWriter> groupCommitTaskWriter;
+
+    private final StatementListener listener = new StatementListener(Duration.ofSeconds(1));
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Each lookup runs three statements, one more than the budget allows
+        when(taskService.getTaskById(1L)).thenAnswer(invocation -> {
+            for (int i = 0; i < 3; i++) {
+                List<QueryInfo> queries = List.of(new QueryInfo("select * from tasks where id=?"));
+                listener.beforeQuery(new ExecutionInfo(), queries);
+                listener.afterQuery(new ExecutionInfo(), queries);
+            }
+            return response();
+        });
+    }
+
+    @Test
+    @DisplayName("Should let a request over budget through in warn mode")
+    void shouldWarnOverBudget() throws Exception {
+        // Given
+        MockMvc mockMvc = mockMvc(StatementBudgetFilter.Mode.WARN);
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/1"))
+            .andExpect(status().isOk());
+        DistributionSummary statements = meterRegistry.get("tasks.jdbc.statements").summary();
+        assertEquals(1, statements.count());
+        assertEquals(3.0, statements.totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should fail the first statement over budget in fail mode")
+    void shouldFailOverBudget() throws Exception {
+        // Given
+        MockMvc mockMvc = mockMvc(StatementBudgetFilter.Mode.FAIL);
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/1"))
+            .andExpect(status().isInternalServerError());
+        assertEquals(2.0, meterRegistry.get("tasks.jdbc.statements").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should close the request scope after the request")
+    void shouldCloseScopeAfterRequest() throws Exception {
+        // Given
+        MockMvc mockMvc = mockMvc(StatementBudgetFilter.Mode.FAIL);
+
+        // When
+        try (StatementScope outer = StatementScope.open()) {
+            mockMvc.perform(get("/api/tasks/1"));
+            List<QueryInfo> queries = List.of(new QueryInfo("select 1"));
+            listener.beforeQuery(new ExecutionInfo(), queries);
+            listener.afterQuery(new ExecutionInfo(), queries);
+
+            // Then
+            assertEquals(3, outer.statements());
+        }
+    }
+
+    private MockMvc mockMvc(StatementBudgetFilter.Mode mode) {
+        TaskController controller = new TaskController(
+            taskService, bulkStatusTransitionService, taskAuditService, groupCommitTaskWriter);
+        return MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .addFilters(new StatementBudgetFilter(BUDGET, mode, 10, meterRegistry))
+            .build();
+    }
+
+    private static TaskResponse response() {
+        return TaskResponse.builder()
+            .id(1L)
+            .title("Review case")
+            .status(TaskStatus.PENDING)
+            .dueDate(LocalDateTime.now().plusDays(7))
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+}
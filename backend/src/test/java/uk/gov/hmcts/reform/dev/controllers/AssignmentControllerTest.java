@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.TaskAssignmentService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AssignmentController Unit Tests")
+class AssignmentControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private TaskAssignmentService taskAssignmentService;
+
+    @InjectMocks
+    private AssignmentController assignmentController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(assignmentController)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should list a caseworker's work queue")
+    void shouldListQueue() throws Exception {
+        // Given
+        TaskResponse task = TaskResponse.builder()
+            .id(3L)
+            .title("Assigned Task")
+            .status(TaskStatus.IN_PROGRESS)
+            .assignee("jane.smith")
+            .dueDate(LocalDateTime.now().plusDays(2))
+            .build();
+        when(taskAssignmentService.getQueue("jane.smith", TaskStatus.IN_PROGRESS, 0, 20)).thenReturn(List.of(task));
+
+        // When & Then
+        mockMvc.perform(get("/api/assignees/jane.smith/tasks").param("status", "IN_PROGRESS"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(3))
+            .andExpect(jsonPath("$[0].assignee").value("jane.smith"));
+    }
+
+    @Test
+    @DisplayName("Should return the claimed task")
+    void shouldClaimNextTask() throws Exception {
+        // Given
+        TaskResponse task = TaskResponse.builder()
+            .id(8L)
+            .title("Claimed Task")
+            .status(TaskStatus.PENDING)
+            .assignee("jane.smith")
+            .dueDate(LocalDateTime.now().plusDays(1))
+            .build();
+        when(taskAssignmentService.claimNext("jane.smith")).thenReturn(Optional.of(task));
+
+        // When & Then
+        mockMvc.perform(post("/api/assignees/jane.smith/claim"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(8))
+            .andExpect(jsonPath("$.assignee").value("jane.smith"));
+    }
+
+    @Test
+    @DisplayName("Should return 204 when there is nothing to claim")
+    void shouldReturn204WhenNothingToClaim() throws Exception {
+        // Given
+        when(taskAssignmentService.claimNext("jane.smith")).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(post("/api/assignees/jane.smith/claim"))
+            .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the assignee is too long")
+    void shouldReturn400WhenAssigneeTooLong() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/assignees/" + "x".repeat(101) + "/claim"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Validation failed"));
+    }
+}
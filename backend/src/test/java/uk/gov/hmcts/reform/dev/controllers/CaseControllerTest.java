@@ -0,0 +1,160 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import uk.gov.hmcts.reform.dev.dto.CaseSummary;
+import uk.gov.hmcts.reform.dev.dto.CreateCaseRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.exception.DuplicateCaseNumberException;
+import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.CaseService;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CaseController Unit Tests")
+class CaseControllerTest {
+
+    private MockMvc mockMvc;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private CaseService caseService;
+
+    @InjectMocks
+    private CaseController caseController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(caseController)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should create a case and return 201")
+    void shouldCreateCase() throws Exception {
+        // Given
+        CreateCaseRequest request = new CreateCaseRequest("ABC12345", "Smith v Jones", null);
+        when(caseService.createCase(any(CreateCaseRequest.class))).thenReturn(summary(1L, List.of()));
+
+        // When & Then
+        mockMvc.perform(post("/api/cases")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").value(1))
+            .andExpect(jsonPath("$.caseNumber").value("ABC12345"))
+            .andExpect(jsonPath("$.status").value("OPEN"));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid case number with 400")
+    void shouldRejectInvalidCaseNumber() throws Exception {
+        // Given
+        CreateCaseRequest request = new CreateCaseRequest("abc 123", "Smith v Jones", null);
+
+        // When & Then
+        mockMvc.perform(post("/api/cases")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+        verify(caseService, never()).createCase(any());
+    }
+
+    @Test
+    @DisplayName("Should return 409 for a duplicate case number")
+    void shouldReturnConflictForDuplicateCaseNumber() throws Exception {
+        // Given
+        CreateCaseRequest request = new CreateCaseRequest("ABC12345", "Smith v Jones", null);
+        when(caseService.createCase(any(CreateCaseRequest.class)))
+            .thenThrow(new DuplicateCaseNumberException("ABC12345"));
+
+        // When & Then
+        mockMvc.perform(post("/api/cases")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("Duplicate case number"));
+    }
+
+    @Test
+    @DisplayName("Should return a case summary with open tasks and counts")
+    void shouldReturnCaseSummary() throws Exception {
+        // Given
+        TaskResponse task = TaskResponse.builder().id(5L).title("Review").status(TaskStatus.PENDING).caseId(1L)
+            .build();
+        when(caseService.getCaseSummary(1L)).thenReturn(summary(1L, List.of(task)));
+
+        // When & Then
+        mockMvc.perform(get("/api/cases/1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.taskCounts.PENDING").value(1))
+            .andExpect(jsonPath("$.taskCounts.COMPLETED").value(0))
+            .andExpect(jsonPath("$.openTasks[0].id").value(5))
+            .andExpect(jsonPath("$.openTasks[0].caseId").value(1));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown case")
+    void shouldReturnNotFoundForUnknownCase() throws Exception {
+        // Given
+        when(caseService.getCaseSummary(99L)).thenThrow(new CaseNotFoundException(99L));
+
+        // When & Then
+        mockMvc.perform(get("/api/cases/99"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("Case not found"));
+    }
+
+    @Test
+    @DisplayName("Should pass paging parameters through when listing cases")
+    void shouldListCaseSummaries() throws Exception {
+        // Given
+        when(caseService.listCaseSummaries(2, 50)).thenReturn(List.of(summary(1L, List.of())));
+
+        // When & Then
+        mockMvc.perform(get("/api/cases").param("page", "2").param("size", "50"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].caseNumber").value("ABC12345"));
+    }
+
+    private static CaseSummary summary(Long id, List<TaskResponse> openTasks) {
+        return CaseSummary.builder()
+            .id(id)
+            .caseNumber("ABC12345")
+            .title("Smith v Jones")
+            .status(CaseStatus.OPEN)
+            .taskCounts(Map.of(
+                TaskStatus.PENDING, (long) openTasks.size(),
+                TaskStatus.IN_PROGRESS, 0L,
+                TaskStatus.COMPLETED, 0L,
+                TaskStatus.CANCELLED, 0L
+            ))
+            .openTasks(openTasks)
+            .build();
+    }
+}
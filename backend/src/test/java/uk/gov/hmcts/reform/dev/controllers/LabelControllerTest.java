@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import uk.gov.hmcts.reform.dev.dto.LabelFilterResult;
+import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.LabelIndex;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LabelController Unit Tests")
+class LabelControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private LabelIndex labelIndex;
+
+    @InjectMocks
+    private LabelController labelController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(labelController)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should return task counts per label")
+    void shouldReturnLabelCounts() throws Exception {
+        // Given
+        when(labelIndex.labelCounts()).thenReturn(new TreeMap<>(Map.of("urgent", 4, "welsh", 1)));
+
+        // When & Then
+        mockMvc.perform(get("/api/labels"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.urgent").value(4))
+            .andExpect(jsonPath("$.welsh").value(1));
+    }
+
+    @Test
+    @DisplayName("Should pass the label filter through to the index")
+    void shouldFilterByLabels() throws Exception {
+        // Given
+        LabelFilterResult result = LabelFilterResult.builder()
+            .total(2)
+            .byStatus(Map.of(TaskStatus.PENDING, 2L))
+            .taskIds(List.of(3L, 9L))
+            .page(0)
+            .size(20)
+            .build();
+        when(labelIndex.filter(
+            List.of("urgent"), List.of("jurisdiction:family", "jurisdiction:civil"), List.of("welsh"),
+            List.of(TaskStatus.PENDING), 0, 20
+        )).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(get("/api/labels/filter")
+                .param("all", "urgent")
+                .param("any", "jurisdiction:family", "jurisdiction:civil")
+                .param("none", "welsh")
+                .param("status", "PENDING"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(2))
+            .andExpect(jsonPath("$.byStatus.PENDING").value(2))
+            .andExpect(jsonPath("$.taskIds[1]").value(9));
+    }
+}
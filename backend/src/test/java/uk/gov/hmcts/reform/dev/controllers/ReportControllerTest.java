@@ -0,0 +1,108 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import uk.gov.hmcts.reform.dev.config.SlaReportCsvConverter;
+import uk.gov.hmcts.reform.dev.dto.SlaReport;
+import uk.gov.hmcts.reform.dev.dto.SlaReportRow;
+import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.SlaReportService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportController Unit Tests")
+class ReportControllerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private SlaReportService slaReportService;
+
+    @InjectMocks
+    private ReportController reportController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(reportController)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .setMessageConverters(new MappingJackson2HttpMessageConverter(), new SlaReportCsvConverter())
+            .build();
+        Map<String, Long> ranges = new LinkedHashMap<>();
+        ranges.put("0", 1L);
+        ranges.put("1", 0L);
+        ranges.put("2-5", 2L);
+        ranges.put("6-10", 0L);
+        ranges.put("11+", 0L);
+        SlaReportRow row = SlaReportRow.builder()
+            .weekStarting(LocalDate.of(2026, 3, 2))
+            .status(TaskStatus.COMPLETED)
+            .tasks(10)
+            .onTime(7)
+            .late(3)
+            .workingDaysLate(6)
+            .maxWorkingDaysLate(3)
+            .lateByWorkingDays(ranges)
+            .build();
+        when(slaReportService.report(FROM, TO)).thenReturn(SlaReport.builder()
+            .asOf(LocalDateTime.of(2026, 4, 1, 9, 0))
+            .from(FROM)
+            .to(TO)
+            .tasks(10)
+            .late(3)
+            .rows(List.of(row))
+            .build());
+    }
+
+    @Test
+    @DisplayName("Should return the SLA report as JSON by default")
+    void shouldReturnJsonReport() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/reports/sla").param("from", "2026-03-01").param("to", "2026-03-31"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.late").value(3))
+            .andExpect(jsonPath("$.rows[0].weekStarting").value("2026-03-02"))
+            .andExpect(jsonPath("$.rows[0].lateByWorkingDays['2-5']").value(2));
+    }
+
+    @Test
+    @DisplayName("Should return the SLA report rows as CSV when asked")
+    void shouldReturnCsvReport() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/reports/sla")
+                .param("from", "2026-03-01")
+                .param("to", "2026-03-31")
+                .accept("text/csv"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(content().string(
+                "week_starting,status,tasks,on_time,late,working_days_late,max_working_days_late,"
+                    + "late_0,late_1,late_2_5,late_6_10,late_11_plus\r\n"
+                    + "2026-03-02,COMPLETED,10,7,3,6,3,1,0,2,0,0\r\n"
+            ));
+    }
+}
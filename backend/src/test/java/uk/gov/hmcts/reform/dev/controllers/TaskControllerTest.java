@@ -1,6 +1,8 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,20 +11,38 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusTransitionRequest;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusTransitionResponse;
 import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.DueTaskPage;
+import uk.gov.hmcts.reform.dev.dto.TaskHistoryEntry;
 import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.exception.DuplicateTaskException;
 import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.exception.InvalidStatusTransitionException;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.models.AuditChangeType;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.BulkStatusTransitionService;
+import uk.gov.hmcts.reform.dev.service.GroupCommitTaskWriter;
+import uk.gov.hmcts.reform.dev.service.TaskAuditService;
 import uk.gov.hmcts.reform.dev.service.TaskService;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -35,11 +55,22 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private BulkStatusTransitionService bulkStatusTransitionService;
+
+    @Mock
+    private TaskAuditService taskAuditService;
+
+    @Mock
+    private ObjectProvider<GroupCommitTaskWriter> groupCommitTaskWriter;
+
     @InjectMocks
     private TaskController taskController;
 
     private ObjectMapper objectMapper;
 
+    private ObjectMapper cborMapper;
+
     @BeforeEach
     void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(taskController)
@@ -47,6 +78,8 @@ class TaskControllerTest {
             .build();
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
+        cborMapper = new CBORMapper();
+        cborMapper.registerModule(new JavaTimeModule());
     }
 
     @Test
@@ -84,6 +117,26 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.status").value("PENDING"));
     }
 
+    @Test
+    @DisplayName("Should return 409 for a duplicate task")
+    void shouldReturnConflictForDuplicateTask() throws Exception {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Test Task")
+            .status(TaskStatus.PENDING)
+            .dueDate(LocalDateTime.now().plusDays(7))
+            .build();
+        when(taskService.createTask(any(CreateTaskRequest.class))).thenThrow(new DuplicateTaskException(4L));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("Duplicate task"))
+            .andExpect(jsonPath("$.errors[0]").value("Task 4 has the same title, description and due date"));
+    }
+
     @Test
     @DisplayName("Should create task successfully without optional description")
     void shouldCreateTaskWithoutDescription() throws Exception {
@@ -205,4 +258,271 @@ class TaskControllerTest {
             .andExpect(status().isBadRequest())
             .andExpect(jsonPath("$.status").value(400));
     }
+
+    @Test
+    @DisplayName("Should default to JSON when client accepts any media type")
+    void shouldDefaultToJsonWhenClientAcceptsAnything() throws Exception {
+        // Given
+        LocalDateTime dueDate = LocalDateTime.now().plusDays(7);
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Test Task")
+            .status(TaskStatus.PENDING)
+            .dueDate(dueDate)
+            .build();
+
+        TaskResponse expectedResponse = TaskResponse.builder()
+            .id(1L)
+            .title("Test Task")
+            .status(TaskStatus.PENDING)
+            .dueDate(dueDate)
+            .build();
+
+        when(taskService.createTask(any(CreateTaskRequest.class))).thenReturn(expectedResponse);
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.ALL)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should accept and return CBOR when requested")
+    void shouldCreateTaskUsingCbor() throws Exception {
+        // Given
+        LocalDateTime dueDate = LocalDateTime.now().plusDays(7);
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Binary Task")
+            .status(TaskStatus.PENDING)
+            .dueDate(dueDate)
+            .build();
+
+        TaskResponse expectedResponse = TaskResponse.builder()
+            .id(3L)
+            .title("Binary Task")
+            .status(TaskStatus.PENDING)
+            .dueDate(dueDate)
+            .build();
+
+        when(taskService.createTask(any(CreateTaskRequest.class))).thenReturn(expectedResponse);
+
+        // When
+        byte[] body = mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(request)))
+            .andExpect(status().isCreated())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        // Then
+        JsonNode response = cborMapper.readTree(body);
+        assertEquals(3L, response.get("id").asLong());
+        assertEquals("Binary Task", response.get("title").asText());
+        assertEquals("PENDING", response.get("status").asText());
+    }
+
+    @Test
+    @DisplayName("Should return CBOR error response for invalid CBOR request")
+    void shouldReturnCborErrorResponse() throws Exception {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .status(TaskStatus.PENDING)
+            .dueDate(LocalDateTime.now().plusDays(7))
+            .build();
+
+        // When
+        byte[] body = mockMvc.perform(post("/api/tasks")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        // Then
+        JsonNode response = cborMapper.readTree(body);
+        assertEquals(400, response.get("status").asInt());
+        assertEquals("Validation failed", response.get("message").asText());
+    }
+
+    @Test
+    @DisplayName("Should get task by id")
+    void shouldGetTaskById() throws Exception {
+        // Given
+        TaskResponse expectedResponse = TaskResponse.builder()
+            .id(4L)
+            .title("Existing Task")
+            .status(TaskStatus.PENDING)
+            .dueDate(LocalDateTime.now().plusDays(7))
+            .build();
+        when(taskService.getTaskById(4L)).thenReturn(expectedResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/4"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(4))
+            .andExpect(jsonPath("$.title").value("Existing Task"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when task does not exist")
+    void shouldReturn404WhenTaskDoesNotExist() throws Exception {
+        // Given
+        when(taskService.getTaskById(99L)).thenThrow(new TaskNotFoundException(99L));
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/99"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.status").value(404))
+            .andExpect(jsonPath("$.message").value("Task not found"));
+    }
+
+    @Test
+    @DisplayName("Should return a task's history")
+    void shouldReturnTaskHistory() throws Exception {
+        // Given
+        LocalDateTime changedAt = LocalDateTime.of(2026, 3, 2, 9, 15, 30);
+        when(taskAuditService.getHistory(4L)).thenReturn(List.of(
+            new TaskHistoryEntry(AuditChangeType.CREATED, "anonymous", null, TaskStatus.PENDING,
+                "status: null -> PENDING", changedAt),
+            new TaskHistoryEntry(AuditChangeType.UPDATED, "jane.smith", TaskStatus.PENDING, TaskStatus.IN_PROGRESS,
+                "status: PENDING -> IN_PROGRESS", changedAt.plusMinutes(5))
+        ));
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/4/history"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].changeType").value("CREATED"))
+            .andExpect(jsonPath("$[1].actor").value("jane.smith"))
+            .andExpect(jsonPath("$[1].oldStatus").value("PENDING"))
+            .andExpect(jsonPath("$[1].newStatus").value("IN_PROGRESS"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when a task has no history")
+    void shouldReturn404WhenTaskHasNoHistory() throws Exception {
+        // Given
+        when(taskAuditService.getHistory(99L)).thenThrow(new TaskNotFoundException(99L));
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/99/history"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should list tasks filtered by status")
+    void shouldListTasksFilteredByStatus() throws Exception {
+        // Given
+        TaskResponse task = TaskResponse.builder()
+            .id(5L)
+            .title("Listed Task")
+            .status(TaskStatus.COMPLETED)
+            .dueDate(LocalDateTime.now().plusDays(7))
+            .build();
+        when(taskService.listTasks(TaskStatus.COMPLETED, 1, 10)).thenReturn(List.of(task));
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks")
+                .param("status", "COMPLETED")
+                .param("page", "1")
+                .param("size", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(5))
+            .andExpect(jsonPath("$[0].status").value("COMPLETED"));
+    }
+
+    @Test
+    @DisplayName("Should list open tasks due in a range")
+    void shouldListTasksDueBetween() throws Exception {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2026, 6, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 6, 8, 0, 0);
+        TaskResponse task = TaskResponse.builder()
+            .id(8L)
+            .title("Due Task")
+            .status(TaskStatus.PENDING)
+            .dueDate(from.plusDays(2))
+            .build();
+        when(taskService.listTasksDueBetween(from, to, 0, 20)).thenReturn(
+            DueTaskPage.builder().total(41).tasks(List.of(task)).page(0).size(20).build()
+        );
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/due")
+                .param("from", "2026-06-01T00:00:00")
+                .param("to", "2026-06-08T00:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(41))
+            .andExpect(jsonPath("$.tasks[0].id").value(8));
+    }
+
+    @Test
+    @DisplayName("Should apply a bulk status transition and return affected counts")
+    void shouldApplyBulkStatusTransition() throws Exception {
+        // Given
+        BulkStatusTransitionRequest request = BulkStatusTransitionRequest.builder()
+            .fromStatuses(Set.of(TaskStatus.PENDING))
+            .toStatus(TaskStatus.CANCELLED)
+            .dueBefore(LocalDateTime.of(2026, 1, 1, 0, 0))
+            .build();
+        when(bulkStatusTransitionService.transition(any(BulkStatusTransitionRequest.class)))
+            .thenReturn(BulkStatusTransitionResponse.builder()
+                .toStatus(TaskStatus.CANCELLED)
+                .updated(1250)
+                .updatedByFromStatus(Map.of(TaskStatus.PENDING, 1250L))
+                .build());
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.toStatus").value("CANCELLED"))
+            .andExpect(jsonPath("$.updated").value(1250))
+            .andExpect(jsonPath("$.updatedByFromStatus.PENDING").value(1250));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when no current statuses are given for a bulk transition")
+    void shouldReturn400WhenBulkTransitionHasNoFromStatuses() throws Exception {
+        // Given
+        BulkStatusTransitionRequest request = BulkStatusTransitionRequest.builder()
+            .fromStatuses(Set.of())
+            .toStatus(TaskStatus.CANCELLED)
+            .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Validation failed"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a bulk transition is not allowed")
+    void shouldReturn400WhenBulkTransitionNotAllowed() throws Exception {
+        // Given
+        BulkStatusTransitionRequest request = BulkStatusTransitionRequest.builder()
+            .fromStatuses(Set.of(TaskStatus.COMPLETED))
+            .toStatus(TaskStatus.PENDING)
+            .build();
+        when(bulkStatusTransitionService.transition(any(BulkStatusTransitionRequest.class)))
+            .thenThrow(new InvalidStatusTransitionException(TaskStatus.COMPLETED, TaskStatus.PENDING));
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid status transition"));
+    }
 }
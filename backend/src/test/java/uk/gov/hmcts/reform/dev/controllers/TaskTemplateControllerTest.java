@@ -0,0 +1,178 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskTemplateRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskTemplateResponse;
+import uk.gov.hmcts.reform.dev.dto.TemplateOccurrence;
+import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.exception.InvalidRecurrenceRuleException;
+import uk.gov.hmcts.reform.dev.exception.TaskTemplateNotFoundException;
+import uk.gov.hmcts.reform.dev.service.TaskTemplateService;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskTemplateController Unit Tests")
+class TaskTemplateControllerTest {
+
+    private MockMvc mockMvc;
+
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private TaskTemplateService taskTemplateService;
+
+    @InjectMocks
+    private TaskTemplateController taskTemplateController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(taskTemplateController)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Test
+    @DisplayName("Should create a template and return 201")
+    void shouldCreateTemplate() throws Exception {
+        // Given
+        CreateTaskTemplateRequest request = validRequest();
+        TaskTemplateResponse response = TaskTemplateResponse.builder()
+            .id(1L)
+            .title(request.getTitle())
+            .recurrenceRule(request.getRecurrenceRule())
+            .active(true)
+            .build();
+        when(taskTemplateService.createTemplate(any(CreateTaskTemplateRequest.class))).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(post("/api/templates")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").value(1))
+            .andExpect(jsonPath("$.recurrenceRule").value("FREQ=WEEKLY;BYDAY=MO"))
+            .andExpect(jsonPath("$.active").value(true));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the recurrence rule is missing")
+    void shouldRejectMissingRule() throws Exception {
+        // Given
+        CreateTaskTemplateRequest request = validRequest();
+        request.setRecurrenceRule(null);
+
+        // When & Then
+        mockMvc.perform(post("/api/templates")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Validation failed"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the recurrence rule is unsupported")
+    void shouldRejectUnsupportedRule() throws Exception {
+        // Given
+        CreateTaskTemplateRequest request = validRequest();
+        request.setRecurrenceRule("FREQ=YEARLY");
+        when(taskTemplateService.createTemplate(any(CreateTaskTemplateRequest.class)))
+            .thenThrow(new InvalidRecurrenceRuleException("FREQ=YEARLY", "FREQ must be DAILY, WEEKLY or MONTHLY"));
+
+        // When & Then
+        mockMvc.perform(post("/api/templates")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid recurrence rule"));
+    }
+
+    @Test
+    @DisplayName("Should preview occurrences for a date range")
+    void shouldPreviewOccurrences() throws Exception {
+        // Given
+        LocalDate from = LocalDate.of(2026, 4, 1);
+        LocalDate to = LocalDate.of(2026, 4, 10);
+        TemplateOccurrence moved = TemplateOccurrence.builder()
+            .ruleDate(LocalDate.of(2026, 4, 3))
+            .dueDate(LocalDate.of(2026, 4, 7).atTime(17, 0))
+            .movedFromBankHoliday("Good Friday")
+            .build();
+        when(taskTemplateService.previewOccurrences(1L, from, to)).thenReturn(List.of(moved));
+
+        // When & Then
+        mockMvc.perform(get("/api/templates/1/occurrences")
+                .param("from", "2026-04-01")
+                .param("to", "2026-04-10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].movedFromBankHoliday").value("Good Friday"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown template")
+    void shouldReturn404ForUnknownTemplate() throws Exception {
+        // Given
+        when(taskTemplateService.getTemplate(9L)).thenThrow(new TaskTemplateNotFoundException(9L));
+
+        // When & Then
+        mockMvc.perform(get("/api/templates/9"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("Task template not found"));
+    }
+
+    @Test
+    @DisplayName("Should deactivate a template and return 204")
+    void shouldDeactivateTemplate() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/api/templates/1"))
+            .andExpect(status().isNoContent());
+        verify(taskTemplateService).deactivateTemplate(1L);
+    }
+
+    @Test
+    @DisplayName("Should return 404 when deactivating an unknown template")
+    void shouldReturn404WhenDeactivatingUnknownTemplate() throws Exception {
+        // Given
+        doThrow(new TaskTemplateNotFoundException(9L)).when(taskTemplateService).deactivateTemplate(9L);
+
+        // When & Then
+        mockMvc.perform(delete("/api/templates/9"))
+            .andExpect(status().isNotFound());
+    }
+
+    private static CreateTaskTemplateRequest validRequest() {
+        return CreateTaskTemplateRequest.builder()
+            .title("Weekly review")
+            .recurrenceRule("FREQ=WEEKLY;BYDAY=MO")
+            .startDate(LocalDate.now().plusDays(1))
+            .dueTime(LocalTime.of(17, 0))
+            .build();
+    }
+}
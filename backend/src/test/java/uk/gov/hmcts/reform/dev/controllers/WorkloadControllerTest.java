@@ -0,0 +1,119 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import uk.gov.hmcts.reform.dev.dto.DailyWorkload;
+import uk.gov.hmcts.reform.dev.dto.SlotSuggestion;
+import uk.gov.hmcts.reform.dev.exception.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.exception.NoAvailableSlotException;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.service.CapacityScheduler;
+import uk.gov.hmcts.reform.dev.service.DueDateWorkloadService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkloadController Unit Tests")
+class WorkloadControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private DueDateWorkloadService dueDateWorkloadService;
+
+    @Mock
+    private CapacityScheduler capacityScheduler;
+
+    @InjectMocks
+    private WorkloadController workloadController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(workloadController)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+    }
+
+    @Test
+    @DisplayName("Should return the due-date workload for the requested range")
+    void shouldReturnDueDateWorkload() throws Exception {
+        // Given
+        LocalDate day = LocalDate.of(2026, 4, 3);
+        DailyWorkload workload = DailyWorkload.builder()
+            .date(day)
+            .total(3)
+            .byStatus(Map.of(TaskStatus.PENDING, 3))
+            .weekend(false)
+            .bankHoliday("Good Friday")
+            .build();
+        when(dueDateWorkloadService.getWorkload(day, day)).thenReturn(List.of(workload));
+
+        // When & Then
+        mockMvc.perform(get("/api/workload/due-dates")
+                .param("from", "2026-04-03")
+                .param("to", "2026-04-03"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].total").value(3))
+            .andExpect(jsonPath("$[0].byStatus.PENDING").value(3))
+            .andExpect(jsonPath("$[0].bankHoliday").value("Good Friday"));
+    }
+
+    @Test
+    @DisplayName("Should default the range when no dates are given")
+    void shouldDefaultRange() throws Exception {
+        // Given
+        when(dueDateWorkloadService.getWorkload(null, null)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/workload/due-dates"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should suggest the next available due date")
+    void shouldSuggestNextSlot() throws Exception {
+        // Given
+        LocalDateTime requested = LocalDateTime.of(2026, 4, 3, 17, 0);
+        when(capacityScheduler.suggestSlot(requested)).thenReturn(SlotSuggestion.builder()
+            .requested(requested)
+            .suggested(LocalDateTime.of(2026, 4, 7, 17, 0))
+            .openTasks(12)
+            .capacity(50)
+            .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/workload/next-slot").param("from", "2026-04-03T17:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.openTasks").value(12))
+            .andExpect(jsonPath("$.capacity").value(50));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when no slot is available")
+    void shouldReturn404WhenNoSlotAvailable() throws Exception {
+        // Given
+        LocalDateTime requested = LocalDateTime.of(2027, 4, 3, 17, 0);
+        when(capacityScheduler.suggestSlot(requested)).thenThrow(new NoAvailableSlotException(requested));
+
+        // When & Then
+        mockMvc.perform(get("/api/workload/next-slot").param("from", "2027-04-03T17:00:00"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("No available slot"));
+    }
+}
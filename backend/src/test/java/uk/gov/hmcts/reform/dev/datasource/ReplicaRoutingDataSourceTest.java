@@ -0,0 +1,192 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource Unit Tests")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replicaOne;
+
+    @Mock
+    private DataSource replicaTwo;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaOneConnection;
+
+    @Mock
+    private Connection replicaTwoConnection;
+
+    private MutableClock clock;
+
+    private ReplicaPool replicas;
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replicaOne.getConnection()).thenReturn(replicaOneConnection);
+        lenient().when(replicaTwo.getConnection()).thenReturn(replicaTwoConnection);
+
+        clock = new MutableClock(Instant.parse("2026-01-05T10:00:00Z"));
+        replicas = new ReplicaPool(List.of(replicaOne, replicaTwo), ReadReplicaProperties.Selection.ROUND_ROBIN);
+        routing = new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(2), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWritesScope.open(Instant.MIN, committedAt -> { }).close();
+    }
+
+    @Test
+    @DisplayName("Should use the primary outside a transaction")
+    void shouldUsePrimaryOutsideTransaction() throws SQLException {
+        assertSame(primaryConnection, routing.getConnection());
+    }
+
+    @Test
+    @DisplayName("Should round-robin read-only transactions across replicas")
+    void shouldRoundRobinReadOnlyTransactions() throws SQLException {
+        // Given
+        beginTransaction(true);
+
+        // When & Then
+        assertSame(replicaOneConnection, routing.getConnection());
+        assertSame(replicaTwoConnection, routing.getConnection());
+        assertSame(replicaOneConnection, routing.getConnection());
+    }
+
+    @Test
+    @DisplayName("Should keep reads on the primary within the stickiness window after a write")
+    void shouldReadYourWritesAfterCommit() throws SQLException {
+        // Given
+        beginTransaction(false);
+        assertSame(primaryConnection, routing.getConnection());
+        commit();
+
+        // When & Then
+        beginTransaction(true);
+        assertSame(primaryConnection, routing.getConnection());
+
+        clock.advance(Duration.ofSeconds(3));
+        assertSame(replicaOneConnection, routing.getConnection());
+    }
+
+    @Test
+    @DisplayName("Should keep only the writing client's reads on the primary")
+    void shouldKeepOtherClientsOnReplicas() throws SQLException {
+        // Given
+        List<Instant> returned = new ArrayList<>();
+        try (ReadYourWritesScope writer = ReadYourWritesScope.open(Instant.MIN, returned::add)) {
+            beginTransaction(false);
+            routing.getConnection();
+            commit();
+        }
+
+        // When & Then
+        try (ReadYourWritesScope otherClient = ReadYourWritesScope.open(Instant.MIN, committedAt -> { })) {
+            beginTransaction(true);
+            assertSame(replicaOneConnection, routing.getConnection());
+        }
+        try (ReadYourWritesScope sameClient = ReadYourWritesScope.open(returned.get(0), committedAt -> { })) {
+            assertSame(primaryConnection, routing.getConnection());
+        }
+        assertEquals(List.of(clock.instant()), returned);
+    }
+
+    @Test
+    @DisplayName("Should skip unhealthy replicas and fall back to the primary")
+    void shouldSkipUnhealthyReplicas() throws SQLException {
+        // Given
+        when(replicaOneConnection.isValid(anyInt())).thenReturn(false);
+        when(replicaTwoConnection.isValid(anyInt())).thenReturn(true);
+        replicas.checkHealth();
+        beginTransaction(true);
+
+        // When & Then
+        assertSame(replicaTwoConnection, routing.getConnection());
+        assertSame(replicaTwoConnection, routing.getConnection());
+
+        when(replicaTwoConnection.isValid(anyInt())).thenReturn(false);
+        replicas.checkHealth();
+        assertSame(primaryConnection, routing.getConnection());
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
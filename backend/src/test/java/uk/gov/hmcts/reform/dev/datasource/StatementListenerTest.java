@@ -0,0 +1,163 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.datasource.StatementScope.StatementType;
+import uk.gov.hmcts.reform.dev.exception.StatementBudgetExceededException;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("StatementListener Unit Tests")
+class StatementListenerTest {
+
+    private static final String SELECT_TASK = "select t.id, t.title from tasks t where t.id=?";
+    private static final String SELECT_LABELS = "select l.label from task_labels l where l.task_id=?";
+    private static final String INSERT_TASK = "insert into tasks (title, id) values (?, ?)";
+
+    private final StatementListener listener = new StatementListener(Duration.ofMillis(200));
+
+    @Test
+    @DisplayName("Should count statements by kind while a scope is open")
+    void shouldCountStatements() {
+        // Given
+        try (StatementScope scope = StatementScope.open()) {
+            // When
+            run(SELECT_TASK, 3);
+            run(SELECT_LABELS, 4);
+            run(INSERT_TASK, 5);
+
+            // Then
+            assertEquals(3, scope.statements());
+            assertEquals(2, scope.statements(StatementType.SELECT));
+            assertEquals(1, scope.statements(StatementType.INSERT));
+            assertEquals(0, scope.statements(StatementType.DELETE));
+            assertEquals(12, scope.elapsedMillis());
+        }
+    }
+
+    @Test
+    @DisplayName("Should count a statement towards every open scope")
+    void shouldCountTowardsNestedScopes() {
+        // Given
+        try (StatementScope outer = StatementScope.open()) {
+            run(SELECT_TASK, 1);
+            try (StatementScope inner = StatementScope.open()) {
+                // When
+                run(SELECT_LABELS, 1);
+
+                // Then
+                assertEquals(1, inner.statements());
+            }
+            run(SELECT_LABELS, 1);
+            assertEquals(3, outer.statements());
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore statements when no scope is open")
+    void shouldIgnoreStatementsOutsideScope() {
+        // When
+        run(SELECT_TASK, 1);
+
+        // Then
+        try (StatementScope scope = StatementScope.open()) {
+            assertEquals(0, scope.statements());
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse the statement after the limit")
+    void shouldRefuseStatementOverLimit() {
+        // Given
+        try (StatementScope scope = StatementScope.open(2)) {
+            run(SELECT_TASK, 1);
+            run(SELECT_LABELS, 1);
+
+            // When
+            StatementBudgetExceededException exception = assertThrows(StatementBudgetExceededException.class,
+                () -> listener.beforeQuery(execution(1), List.of(new QueryInfo(SELECT_TASK))));
+
+            // Then
+            assertEquals(2, exception.getBudget());
+            assertEquals(2, scope.statements());
+        }
+        assertDoesNotThrow(() -> listener.beforeQuery(execution(1), List.of(new QueryInfo(SELECT_TASK))));
+    }
+
+    @Test
+    @DisplayName("Should report statements repeated at least the threshold")
+    void shouldReportRepeatedStatements() {
+        // Given
+        try (StatementScope scope = StatementScope.open()) {
+            run(SELECT_TASK, 1);
+            for (int i = 0; i < 10; i++) {
+                run(SELECT_LABELS, 1);
+            }
+
+            // When
+            Map<String, Integer> repeated = scope.repeatedStatements(10);
+
+            // Then
+            assertEquals(Map.of(SELECT_LABELS, 10), repeated);
+            assertTrue(scope.repeatedStatements(11).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Should describe bind parameters by type in position order without their values")
+    void shouldDescribeParameterShape() throws NoSuchMethodException {
+        // Given
+        QueryInfo query = new QueryInfo("update tasks set assignee=?, title=?, version=? where id=?");
+        query.getParametersList().add(List.of(
+            new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class),
+                new Object[] {4, 42L}),
+            new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class),
+                new Object[] {1, Types.VARCHAR}),
+            new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+                new Object[] {2, "secret title"}),
+            new ParameterSetOperation(PreparedStatement.class.getMethod("setLong", int.class, long.class),
+                new Object[] {3, 7L})
+        ));
+
+        // When
+        String shape = StatementListener.parameterShape(query);
+
+        // Then
+        assertEquals("[null, String, Long, Long]", shape);
+    }
+
+    @Test
+    @DisplayName("Should classify statements by their first keyword")
+    void shouldClassifyStatements() {
+        // Then
+        assertEquals(StatementType.SELECT, StatementType.of("  with recent as (select 1) select * from recent"));
+        assertEquals(StatementType.UPDATE, StatementType.of("UPDATE tasks SET status=?"));
+        assertEquals(StatementType.DELETE, StatementType.of("delete from tasks where id=?"));
+        assertEquals(StatementType.OTHER, StatementType.of("call next value for tasks_seq"));
+    }
+
+    private void run(String sql, long elapsedMillis) {
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        listener.beforeQuery(execution(elapsedMillis), queries);
+        listener.afterQuery(execution(elapsedMillis), queries);
+    }
+
+    private static ExecutionInfo execution(long elapsedMillis) {
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setElapsedTime(elapsedMillis);
+        execution.setSuccess(true);
+        return execution;
+    }
+}
@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.dev.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("TaskResponseSerializer Tests")
+class TaskResponseSerializerTest {
+
+    private ObjectMapper reflectiveMapper;
+    private ObjectMapper fastPathMapper;
+
+    @BeforeEach
+    void setUp() {
+        reflectiveMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(TaskResponse.class, new TaskResponseSerializer());
+        fastPathMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(module)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Test
+    @DisplayName("Should produce the same JSON as the reflective serializer")
+    void shouldMatchReflectiveOutput() throws Exception {
+        // Given
+        TaskResponse response = TaskResponse.builder()
+            .id(7L)
+            .title("Review \"urgent\" documents")
+            .description("Line one\nLine two")
+            .status(TaskStatus.IN_PROGRESS)
+            .assignee("jane.smith")
+            .labels(List.of("jurisdiction:family", "urgent"))
+            .caseId(12L)
+            .dueDate(LocalDateTime.of(2026, 12, 31, 17, 0))
+            .createdAt(LocalDateTime.of(2026, 1, 2, 3, 4, 5, 120_000_000))
+            .updatedAt(LocalDateTime.of(2026, 1, 2, 3, 4, 5, 123_456_789))
+            .build();
+
+        // When & Then
+        assertEquals(reflectiveMapper.writeValueAsString(response), fastPathMapper.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("Should write nulls the same way as the reflective serializer")
+    void shouldMatchReflectiveOutputForNulls() throws Exception {
+        // Given
+        TaskResponse response = new TaskResponse();
+
+        // When & Then
+        assertEquals(reflectiveMapper.writeValueAsString(response), fastPathMapper.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("Should format timestamps like ISO_LOCAL_DATE_TIME")
+    void shouldFormatTimestampsLikeIsoLocalDateTime() {
+        // Given
+        LocalDateTime[] values = {
+            LocalDateTime.of(2026, 6, 15, 0, 0),
+            LocalDateTime.of(999, 1, 1, 23, 59, 59),
+            LocalDateTime.of(2026, 6, 15, 10, 30, 0, 1),
+            LocalDateTime.of(2026, 6, 15, 10, 30, 0, 100_000_000),
+            LocalDateTime.of(2026, 6, 15, 10, 30, 0, 999_999_999)
+        };
+        char[] buffer = new char[29];
+
+        for (LocalDateTime value : values) {
+            // When
+            int length = TaskResponseSerializer.formatIsoLocalDateTime(value, buffer);
+
+            // Then
+            assertEquals(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value), new String(buffer, 0, length));
+        }
+    }
+}
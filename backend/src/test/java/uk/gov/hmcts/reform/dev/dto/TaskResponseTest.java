@@ -2,10 +2,14 @@ package uk.gov.hmcts.reform.dev.dto;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.models.CaseFile;
 import uk.gov.hmcts.reform.dev.models.Task;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -25,6 +29,9 @@ class TaskResponseTest {
             .title("Test Task")
             .description("Test Description")
             .status(TaskStatus.PENDING)
+            .assignee("jane.smith")
+            .labels(new HashSet<>(Set.of("urgent", "jurisdiction:family")))
+            .caseFile(CaseFile.builder().id(12L).build())
             .dueDate(dueDate)
             .createdAt(now)
             .updatedAt(now)
@@ -38,6 +45,9 @@ class TaskResponseTest {
         assertEquals("Test Task", response.getTitle());
         assertEquals("Test Description", response.getDescription());
         assertEquals(TaskStatus.PENDING, response.getStatus());
+        assertEquals("jane.smith", response.getAssignee());
+        assertEquals(List.of("jurisdiction:family", "urgent"), response.getLabels());
+        assertEquals(12L, response.getCaseId());
         assertEquals(dueDate, response.getDueDate());
         assertEquals(now, response.getCreatedAt());
         assertEquals(now, response.getUpdatedAt());
@@ -62,5 +72,6 @@ class TaskResponseTest {
 
         // Then
         assertNull(response.getDescription());
+        assertNull(response.getCaseId());
     }
 }
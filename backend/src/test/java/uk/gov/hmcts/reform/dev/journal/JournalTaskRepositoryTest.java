@@ -0,0 +1,203 @@
+package uk.gov.hmcts.reform.dev.journal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import uk.gov.hmcts.reform.dev.models.CaseFile;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.CaseStatusCount;
+import uk.gov.hmcts.reform.dev.repository.DailyStatusCount;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("JournalTaskRepository Unit Tests")
+class JournalTaskRepositoryTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2026, 3, 2, 17, 0);
+
+    @TempDir
+    Path directory;
+
+    private TaskJournal journal;
+
+    private JournalTaskRepository repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        journal = TaskJournal.open(directory, 1024 * 1024, false);
+        repository = new JournalTaskRepository(journal);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("Should assign an id, version and timestamps to a new task")
+    void shouldAssignIdVersionAndTimestamps() {
+        // When
+        Task saved = repository.save(task("Review bundle", TaskStatus.PENDING, DUE));
+
+        // Then
+        assertNotNull(saved.getId());
+        assertEquals(0L, saved.getVersion());
+        assertNotNull(saved.getCreatedAt());
+        assertEquals("Review bundle", repository.findById(saved.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    @DisplayName("Should bump the version on update and reject a stale one")
+    void shouldBumpVersionAndRejectStaleUpdate() {
+        // Given
+        Task saved = repository.save(task("Review bundle", TaskStatus.PENDING, DUE));
+        Task stale = repository.findById(saved.getId()).orElseThrow();
+        Task fresh = repository.findById(saved.getId()).orElseThrow();
+
+        // When
+        fresh.setTitle("Review bundle again");
+        repository.save(fresh);
+
+        // Then
+        assertEquals(1L, repository.findById(saved.getId()).orElseThrow().getVersion());
+        stale.setTitle("Lost update");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> repository.save(stale));
+        assertEquals("Review bundle again", repository.findById(saved.getId()).orElseThrow().getTitle());
+    }
+
+    @Test
+    @DisplayName("Should let only one claim on a task win")
+    void shouldLetOnlyOneClaimWin() {
+        // Given
+        Long id = repository.save(task("Review bundle", TaskStatus.PENDING, DUE)).getId();
+
+        // When
+        int first = repository.claim(id, TaskStatus.PENDING, "caseworker-1", DUE.minusDays(1));
+        int second = repository.claim(id, TaskStatus.PENDING, "caseworker-2", DUE.minusDays(1));
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(0, second);
+        Task claimed = repository.findById(id).orElseThrow();
+        assertEquals("caseworker-1", claimed.getAssignee());
+        assertEquals(1L, claimed.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should only transition tasks still in the expected status")
+    void shouldOnlyTransitionTasksInExpectedStatus() {
+        // Given
+        Long pending = repository.save(task("Pending", TaskStatus.PENDING, DUE)).getId();
+        Long completed = repository.save(task("Completed", TaskStatus.COMPLETED, DUE)).getId();
+        LocalDateTime updatedAt = DUE.minusDays(1);
+        assertEquals(List.of(pending), repository.lockIdsInStatus(List.of(pending, completed), TaskStatus.PENDING));
+
+        // When
+        int updated = repository.transitionStatus(
+            List.of(pending, completed), TaskStatus.PENDING, TaskStatus.CANCELLED, updatedAt);
+
+        // Then
+        assertEquals(1, updated);
+        assertEquals(TaskStatus.CANCELLED, repository.findById(pending).orElseThrow().getStatus());
+        assertEquals(TaskStatus.COMPLETED, repository.findById(completed).orElseThrow().getStatus());
+        assertEquals(List.of(pending),
+            repository.findIdsTransitionedAt(List.of(pending, completed), TaskStatus.CANCELLED, updatedAt));
+    }
+
+    @Test
+    @DisplayName("Should page tasks of a status by due date")
+    void shouldPageTasksByDueDate() {
+        // Given
+        repository.save(task("Third", TaskStatus.PENDING, DUE.plusDays(2)));
+        repository.save(task("First", TaskStatus.PENDING, DUE));
+        repository.save(task("Done", TaskStatus.COMPLETED, DUE.minusDays(1)));
+        repository.save(task("Second", TaskStatus.PENDING, DUE.plusDays(1)));
+
+        // When
+        List<Task> firstPage = repository.findByStatusOrderByDueDateAscIdAsc(TaskStatus.PENDING, PageRequest.of(0, 2));
+        List<Task> secondPage = repository.findByStatusOrderByDueDateAscIdAsc(TaskStatus.PENDING, PageRequest.of(1, 2));
+
+        // Then
+        assertEquals(List.of("First", "Second"), firstPage.stream().map(Task::getTitle).toList());
+        assertEquals(List.of("Third"), secondPage.stream().map(Task::getTitle).toList());
+    }
+
+    @Test
+    @DisplayName("Should count tasks by due day and status within the window")
+    void shouldCountTasksByDueDayAndStatus() {
+        // Given
+        repository.save(task("A", TaskStatus.PENDING, DUE));
+        repository.save(task("B", TaskStatus.PENDING, DUE.plusHours(1)));
+        repository.save(task("C", TaskStatus.IN_PROGRESS, DUE));
+        repository.save(task("D", TaskStatus.PENDING, DUE.plusDays(10)));
+
+        // When
+        List<DailyStatusCount> counts = repository.countByDueDayAndStatus(
+            DUE.toLocalDate().atStartOfDay(), DUE.toLocalDate().plusDays(1).atStartOfDay());
+
+        // Then
+        LocalDate day = DUE.toLocalDate();
+        assertEquals(Set.of(
+            new DailyStatusCount(day, TaskStatus.PENDING, 2L),
+            new DailyStatusCount(day, TaskStatus.IN_PROGRESS, 1L)
+        ), Set.copyOf(counts));
+    }
+
+    @Test
+    @DisplayName("Should count tasks by case and status")
+    void shouldCountTasksByCaseAndStatus() {
+        // Given
+        Task first = task("A", TaskStatus.PENDING, DUE);
+        first.setCaseFile(CaseFile.builder().id(1L).build());
+        Task second = task("B", TaskStatus.PENDING, DUE);
+        second.setCaseFile(CaseFile.builder().id(1L).build());
+        Task other = task("C", TaskStatus.PENDING, DUE);
+        other.setCaseFile(CaseFile.builder().id(2L).build());
+        repository.saveAll(List.of(first, second, other));
+
+        // When
+        List<CaseStatusCount> counts = repository.countByCaseAndStatus(List.of(1L));
+
+        // Then
+        assertEquals(List.of(new CaseStatusCount(1L, TaskStatus.PENDING, 2L)), counts);
+    }
+
+    @Test
+    @DisplayName("Should delete tasks by id")
+    void shouldDeleteTasksById() {
+        // Given
+        Long first = repository.save(task("A", TaskStatus.COMPLETED, DUE)).getId();
+        Long second = repository.save(task("B", TaskStatus.COMPLETED, DUE)).getId();
+
+        // When
+        int deleted = repository.deleteAllByIdIn(List.of(first));
+
+        // Then
+        assertEquals(1, deleted);
+        assertTrue(repository.findById(first).isEmpty());
+        assertEquals(List.of(second), repository.findAll().stream().map(Task::getId).toList());
+    }
+
+    private static Task task(String title, TaskStatus status, LocalDateTime dueDate) {
+        return Task.builder()
+            .title(title)
+            .status(status)
+            .dueDate(dueDate)
+            .build();
+    }
+}
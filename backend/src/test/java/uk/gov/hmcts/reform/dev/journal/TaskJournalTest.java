@@ -0,0 +1,294 @@
+package uk.gov.hmcts.reform.dev.journal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.gov.hmcts.reform.dev.models.CaseFile;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TaskJournal Unit Tests")
+class TaskJournalTest {
+
+    private static final long SEGMENT_SIZE = 64 * 1024;
+    private static final LocalDateTime DUE = LocalDateTime.of(2026, 3, 2, 17, 0);
+
+    @TempDir
+    Path directory;
+
+    private TaskJournal journal;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (journal != null) {
+            journal.closeFiles();
+        }
+    }
+
+    @Test
+    @DisplayName("Should read back every field of a written task")
+    void shouldReadBackWrittenTask() throws IOException {
+        // Given
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+        Task task = task(7L, "Review bundle");
+        task.setDescription("Check the hearing bundle");
+        task.setAssignee("caseworker-1");
+        task.setLabels(Set.of("urgent", "family"));
+        task.setCaseFile(CaseFile.builder().id(3L).build());
+
+        // When
+        journal.put(List.of(task));
+
+        // Then
+        Task read = journal.get(7L).orElseThrow();
+        assertEquals("Review bundle", read.getTitle());
+        assertEquals("Check the hearing bundle", read.getDescription());
+        assertEquals(TaskStatus.PENDING, read.getStatus());
+        assertEquals("caseworker-1", read.getAssignee());
+        assertEquals(Set.of("urgent", "family"), read.getLabels());
+        assertEquals(3L, read.getCaseFile().getId());
+        assertEquals(DUE, read.getDueDate());
+        assertEquals(DUE.minusDays(7), read.getCreatedAt());
+        assertEquals(0L, read.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should recover by replaying the journal when there is no snapshot")
+    void shouldRecoverByReplayingJournal() throws IOException {
+        // Given
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+        journal.put(List.of(task(1L, "First"), task(2L, "Second"), task(3L, "Third")));
+        journal.put(List.of(task(2L, "Second, updated")));
+        journal.delete(List.of(3L));
+        journal.closeFiles();
+
+        // When
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+
+        // Then
+        assertFalse(journal.recoveryStats().fromSnapshot());
+        assertEquals(5, journal.recoveryStats().recordsReplayed());
+        assertEquals(2, journal.size());
+        assertEquals("Second, updated", journal.get(2L).orElseThrow().getTitle());
+        assertTrue(journal.get(3L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should recover from a snapshot and replay only what was written after it")
+    void shouldRecoverFromSnapshot() throws IOException {
+        // Given
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+        journal.put(List.of(task(1L, "First"), task(2L, "Second"), task(3L, "Third")));
+        journal.snapshot();
+        journal.put(List.of(task(4L, "Fourth")));
+        journal.delete(List.of(1L));
+        journal.closeFiles();
+
+        // When
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+
+        // Then
+        assertTrue(journal.recoveryStats().fromSnapshot());
+        assertEquals(2, journal.recoveryStats().recordsReplayed());
+        assertEquals(3, journal.size());
+        assertTrue(journal.get(1L).isEmpty());
+        assertEquals("Fourth", journal.get(4L).orElseThrow().getTitle());
+    }
+
+    @Test
+    @DisplayName("Should ignore a corrupt snapshot and replay the whole journal")
+    void shouldIgnoreCorruptSnapshot() throws IOException {
+        // Given
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+        journal.put(List.of(task(1L, "First"), task(2L, "Second")));
+        journal.snapshot();
+        journal.closeFiles();
+        Path snapshot = directory.resolve(TaskJournal.SNAPSHOT_FILE);
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length / 2] ^= 0x7f;
+        Files.write(snapshot, bytes);
+
+        // When
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+
+        // Then
+        assertFalse(journal.recoveryStats().fromSnapshot());
+        assertEquals(2, journal.size());
+    }
+
+    @Test
+    @DisplayName("Should cut off a torn record left at the end of the journal")
+    void shouldCutOffTornRecord() throws IOException {
+        // Given
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+        journal.put(List.of(task(1L, "First"), task(2L, "Second")));
+        journal.closeFiles();
+        Path segment = lastSegment();
+        long intactSize = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(6).putInt(500).putShort((short) 1).flip());
+        }
+
+        // When
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+
+        // Then
+        assertEquals(2, journal.size());
+        assertEquals(intactSize, Files.size(segment));
+        journal.put(List.of(task(3L, "Third")));
+        assertEquals("Third", journal.get(3L).orElseThrow().getTitle());
+    }
+
+    @Test
+    @DisplayName("Should drop a final record whose checksum does not match")
+    void shouldDropRecordWithBadChecksum() throws IOException {
+        // Given
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+        journal.put(List.of(task(1L, "First"), task(2L, "Second")));
+        journal.closeFiles();
+        Path segment = lastSegment();
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 3] ^= 0x7f;
+        Files.write(segment, bytes);
+
+        // When
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+
+        // Then
+        assertEquals(1, journal.size());
+        assertTrue(journal.get(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should roll to new segments and compact superseded records away")
+    void shouldCompactSupersededRecords() throws IOException {
+        // Given
+        journal = TaskJournal.open(directory, 1024, true);
+        for (int i = 0; i < 100; i++) {
+            journal.put(List.of(task(1L, "Revision " + i), task(2L, "Stable")));
+        }
+        int segmentsBefore = journal.segmentCount();
+
+        // When
+        int deleted = journal.compact(0.5);
+
+        // Then
+        assertTrue(segmentsBefore > 10);
+        assertEquals(segmentsBefore - 1, deleted);
+        assertTrue(journal.segmentCount() <= 2);
+        assertEquals("Revision 99", journal.get(1L).orElseThrow().getTitle());
+        assertEquals("Stable", journal.get(2L).orElseThrow().getTitle());
+    }
+
+    @Test
+    @DisplayName("Should not resurrect deleted tasks after compaction and a full replay")
+    void shouldNotResurrectDeletedTasksAfterCompaction() throws IOException {
+        // Given
+        journal = TaskJournal.open(directory, 512, true);
+        for (long id = 1; id <= 20; id++) {
+            journal.put(List.of(task(id, "Task " + id)));
+        }
+        journal.delete(List.of(5L, 6L));
+        journal.compact(0.0);
+        journal.closeFiles();
+        Files.delete(directory.resolve(TaskJournal.SNAPSHOT_FILE));
+
+        // When
+        journal = TaskJournal.open(directory, 512, true);
+
+        // Then
+        assertEquals(18, journal.size());
+        assertTrue(journal.get(5L).isEmpty());
+        assertTrue(journal.get(6L).isEmpty());
+        assertEquals("Task 20", journal.get(20L).orElseThrow().getTitle());
+    }
+
+    @Test
+    @DisplayName("Should leave sealed segments alone while most of their records are live")
+    void shouldNotCompactMostlyLiveSegments() throws IOException {
+        // Given
+        journal = TaskJournal.open(directory, 512, true);
+        for (long id = 1; id <= 20; id++) {
+            journal.put(List.of(task(id, "Task " + id)));
+        }
+        int segments = journal.segmentCount();
+
+        // When
+        int deleted = journal.compact(0.5);
+
+        // Then
+        assertEquals(0, deleted);
+        assertEquals(segments, journal.segmentCount());
+    }
+
+    @Test
+    @DisplayName("Should not hand out ids of earlier tasks after a restart")
+    void shouldNotReuseIdsAfterRestart() throws IOException {
+        // Given
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+        long id = journal.allocateId();
+        journal.put(List.of(task(id, "First")));
+        journal.put(List.of(task(41L, "Imported")));
+        journal.delete(List.of(41L));
+        journal.close();
+
+        // When
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+
+        // Then
+        assertEquals(42L, journal.allocateId());
+    }
+
+    @Test
+    @DisplayName("Should skip tasks that do not exist when deleting")
+    void shouldSkipMissingTasksWhenDeleting() throws IOException {
+        // Given
+        journal = TaskJournal.open(directory, SEGMENT_SIZE, true);
+        journal.put(List.of(task(1L, "First")));
+
+        // When
+        int deleted = journal.delete(List.of(1L, 99L));
+
+        // Then
+        assertEquals(1, deleted);
+        assertEquals(0, journal.size());
+        assertEquals(0, journal.stream().count());
+    }
+
+    private Path lastSegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> JournalSegment.parseId(file.getFileName().toString()) >= 0)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+        }
+    }
+
+    private static Task task(Long id, String title) {
+        return Task.builder()
+            .id(id)
+            .title(title)
+            .status(TaskStatus.PENDING)
+            .dueDate(DUE)
+            .createdAt(DUE.minusDays(7))
+            .updatedAt(DUE.minusDays(7))
+            .version(0L)
+            .build();
+    }
+}
@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.exception.InvalidRecurrenceRuleException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("RecurrenceRule Tests")
+class RecurrenceRuleTest {
+
+    // Monday
+    private static final LocalDate START = LocalDate.of(2026, 1, 5);
+
+    @Test
+    @DisplayName("Should parse every supported part")
+    void shouldParseRule() {
+        // When
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=WEEKLY;INTERVAL=2;BYDAY=TH,MO;UNTIL=20261231T235959Z");
+
+        // Then
+        assertEquals(RecurrenceRule.Frequency.WEEKLY, rule.frequency());
+        assertEquals(2, rule.interval());
+        assertEquals(Set.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY), rule.byDay());
+        assertEquals(LocalDate.of(2026, 12, 31), rule.until());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed and unsupported rules")
+    void shouldRejectInvalidRules() {
+        assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse(""));
+        assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("INTERVAL=2"));
+        assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("FREQ=YEARLY"));
+        assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=5"));
+        assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO"));
+        assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=0"));
+        assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("FREQ=DAILY;INTERVAL=x"));
+        assertThrows(InvalidRecurrenceRuleException.class, () -> RecurrenceRule.parse("FREQ=DAILY;FREQ=WEEKLY"));
+    }
+
+    @Test
+    @DisplayName("Should expand a daily rule from the middle of its sequence")
+    void shouldExpandDailyRule() {
+        // Given
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=3");
+
+        // When
+        List<LocalDate> dates = rule.occurrences(START, LocalDate.of(2026, 1, 10), LocalDate.of(2026, 1, 20));
+
+        // Then
+        assertEquals(List.of(LocalDate.of(2026, 1, 11), LocalDate.of(2026, 1, 14), LocalDate.of(2026, 1, 17),
+            LocalDate.of(2026, 1, 20)), dates);
+    }
+
+    @Test
+    @DisplayName("Should expand a fortnightly rule on several weekdays")
+    void shouldExpandWeeklyRule() {
+        // Given
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TH");
+
+        // When
+        List<LocalDate> dates = rule.occurrences(START, START.minusDays(1), LocalDate.of(2026, 1, 31));
+
+        // Then
+        assertEquals(List.of(LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 8), LocalDate.of(2026, 1, 19),
+            LocalDate.of(2026, 1, 22)), dates);
+    }
+
+    @Test
+    @DisplayName("Should default a weekly rule to the start date's weekday and stop at UNTIL")
+    void shouldDefaultWeeklyDayAndHonourUntil() {
+        // Given
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;UNTIL=20260119");
+
+        // When
+        List<LocalDate> dates = rule.occurrences(START, START.minusDays(1), LocalDate.of(2026, 3, 1));
+
+        // Then
+        assertEquals(List.of(LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 12), LocalDate.of(2026, 1, 19)), dates);
+    }
+
+    @Test
+    @DisplayName("Should expand monthly rules, skipping short months or using the last day")
+    void shouldExpandMonthlyRules() {
+        // Given
+        RecurrenceRule thirtyFirst = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=31");
+        RecurrenceRule lastDay = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=-1");
+        LocalDate through = LocalDate.of(2026, 4, 30);
+
+        // When & Then
+        assertEquals(List.of(LocalDate.of(2026, 1, 31), LocalDate.of(2026, 3, 31)),
+            thirtyFirst.occurrences(START, START, through));
+        assertEquals(List.of(LocalDate.of(2026, 1, 31), LocalDate.of(2026, 2, 28), LocalDate.of(2026, 3, 31),
+            LocalDate.of(2026, 4, 30)), lastDay.occurrences(START, START, through));
+    }
+}
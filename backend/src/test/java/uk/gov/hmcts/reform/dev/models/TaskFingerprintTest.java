@@ -0,0 +1,44 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@DisplayName("TaskFingerprint Unit Tests")
+class TaskFingerprintTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2026, 6, 1, 17, 0);
+
+    @Test
+    @DisplayName("Should match tasks that differ only in case, spacing or seconds")
+    void shouldIgnoreFormatting() {
+        // Given
+        String original = TaskFingerprint.of("Review Bundle", "Check the exhibits", DUE);
+
+        // When / Then
+        assertEquals(original, TaskFingerprint.of("  review\tbundle ", "CHECK THE exhibits", DUE.plusSeconds(42)));
+        assertEquals(TaskFingerprint.LENGTH, original.length());
+    }
+
+    @Test
+    @DisplayName("Should treat a missing description as blank")
+    void shouldTreatMissingDescriptionAsBlank() {
+        assertEquals(TaskFingerprint.of("Review", null, DUE), TaskFingerprint.of("Review", "  ", DUE));
+    }
+
+    @Test
+    @DisplayName("Should tell apart tasks with different content or due minute")
+    void shouldDistinguishDifferentTasks() {
+        // Given
+        String original = TaskFingerprint.of("Review", "Bundle", DUE);
+
+        // When / Then
+        assertNotEquals(original, TaskFingerprint.of("Review Bundle", null, DUE));
+        assertNotEquals(original, TaskFingerprint.of("Review", "Bundle", DUE.plusMinutes(1)));
+        assertNotEquals(original, TaskFingerprint.of("Reviews", "Bundle", DUE));
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("TaskStatus Enum Tests")
 class TaskStatusTest {
@@ -22,4 +24,26 @@ class TaskStatusTest {
     void shouldHaveFourStatusValues() {
         assertEquals(4, TaskStatus.values().length);
     }
+
+    @Test
+    @DisplayName("Should allow open tasks to move between open statuses or be closed")
+    void shouldAllowTransitionsFromOpenStatuses() {
+        assertTrue(TaskStatus.PENDING.canTransitionTo(TaskStatus.IN_PROGRESS));
+        assertTrue(TaskStatus.PENDING.canTransitionTo(TaskStatus.COMPLETED));
+        assertTrue(TaskStatus.PENDING.canTransitionTo(TaskStatus.CANCELLED));
+        assertTrue(TaskStatus.IN_PROGRESS.canTransitionTo(TaskStatus.PENDING));
+        assertTrue(TaskStatus.IN_PROGRESS.canTransitionTo(TaskStatus.COMPLETED));
+        assertTrue(TaskStatus.IN_PROGRESS.canTransitionTo(TaskStatus.CANCELLED));
+    }
+
+    @Test
+    @DisplayName("Should not allow closed tasks or no-op transitions")
+    void shouldRejectTransitionsFromClosedStatuses() {
+        for (TaskStatus target : TaskStatus.values()) {
+            assertFalse(TaskStatus.COMPLETED.canTransitionTo(target));
+            assertFalse(TaskStatus.CANCELLED.canTransitionTo(target));
+        }
+        assertFalse(TaskStatus.PENDING.canTransitionTo(TaskStatus.PENDING));
+        assertFalse(TaskStatus.IN_PROGRESS.canTransitionTo(TaskStatus.IN_PROGRESS));
+    }
 }
@@ -0,0 +1,148 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.service.AdaptiveConcurrencyLimiter.Permit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("AdaptiveConcurrencyLimiter Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter("write", 4, 1, 8, 0.5, 2.0, Duration.ofSeconds(1), now::get);
+    }
+
+    @Test
+    @DisplayName("Should refuse permits beyond the limit")
+    void shouldRefusePermitsBeyondLimit() {
+        // Given
+        List<Permit> permits = acquire(4);
+
+        // When & Then
+        assertTrue(limiter.tryAcquire().isEmpty());
+        assertEquals(4, limiter.getInFlight());
+
+        permits.get(0).success();
+        assertTrue(limiter.tryAcquire().isPresent());
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while fast requests use it")
+    void shouldGrowLimitWhileFastRequestsUseIt() {
+        // Given
+        List<Permit> permits = acquire(4);
+
+        // When
+        now.addAndGet(10 * MILLIS);
+        permits.forEach(Permit::success);
+
+        // Then
+        assertEquals(6, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should not grow the limit when most of it is unused")
+    void shouldNotGrowLimitWhenMostlyUnused() {
+        // When
+        Permit permit = limiter.tryAcquire().orElseThrow();
+        now.addAndGet(10 * MILLIS);
+        permit.success();
+
+        // Then
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should cut the limit once for a burst of slow requests")
+    void shouldCutLimitOnceForBurstOfSlowRequests() {
+        // Given
+        Permit warmUp = limiter.tryAcquire().orElseThrow();
+        now.addAndGet(10 * MILLIS);
+        warmUp.success();
+        List<Permit> permits = acquire(4);
+
+        // When
+        now.addAndGet(50 * MILLIS);
+        permits.forEach(Permit::success);
+
+        // Then
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should cut the limit again for slow requests started after the last cut")
+    void shouldCutLimitAgainForLaterSlowRequests() {
+        // Given
+        limiter.tryAcquire().orElseThrow().failure();
+        now.addAndGet(MILLIS);
+
+        // When
+        limiter.tryAcquire().orElseThrow().failure();
+
+        // Then
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should treat requests over the maximum latency as slow")
+    void shouldTreatRequestsOverMaxLatencyAsSlow() {
+        // Given
+        Permit permit = limiter.tryAcquire().orElseThrow();
+
+        // When
+        now.addAndGet(2000 * MILLIS);
+        permit.success();
+
+        // Then
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should never cut the limit below the minimum")
+    void shouldNotCutBelowMinimum() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            now.addAndGet(MILLIS);
+            limiter.tryAcquire().orElseThrow().failure();
+        }
+
+        // Then
+        assertEquals(1, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should reject releasing a permit twice")
+    void shouldRejectDoubleRelease() {
+        // Given
+        Permit permit = limiter.tryAcquire().orElseThrow();
+        permit.success();
+
+        // When & Then
+        assertThrows(IllegalStateException.class, permit::success);
+    }
+
+    private List<Permit> acquire(int count) {
+        List<Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.tryAcquire().orElseThrow());
+        }
+        return permits;
+    }
+}
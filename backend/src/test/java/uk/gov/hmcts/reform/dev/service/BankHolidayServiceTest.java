@@ -6,11 +6,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import uk.gov.hmcts.reform.dev.dto.BankHolidayResponse;
+import uk.gov.hmcts.reform.dev.events.HolidayCalendarChangedEvent;
 import uk.gov.hmcts.reform.dev.exception.BankHolidayException;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -24,6 +28,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +42,9 @@ class BankHolidayServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private BankHolidayService bankHolidayService;
 
     @BeforeEach
@@ -166,6 +176,35 @@ class BankHolidayServiceTest {
         assertTrue(dates.contains("2026-01-01")); // New Year's Day
     }
 
+    @Test
+    @DisplayName("Should treat weekends and bank holidays as non-working days")
+    void shouldIdentifyWorkingDays() {
+        // Given
+        BankHolidayResponse response = createMockBankHolidayResponse();
+        when(restTemplate.getForObject(BANK_HOLIDAYS_URL, BankHolidayResponse.class))
+            .thenReturn(response);
+
+        // When & Then
+        assertTrue(bankHolidayService.isWorkingDay(LocalDate.of(2026, 4, 7))); // Tuesday
+        assertFalse(bankHolidayService.isWorkingDay(LocalDate.of(2026, 4, 6))); // Easter Monday
+        assertFalse(bankHolidayService.isWorkingDay(LocalDate.of(2026, 4, 11))); // Saturday
+        assertFalse(bankHolidayService.isWorkingDay(LocalDate.of(2026, 4, 12))); // Sunday
+    }
+
+    @Test
+    @DisplayName("Should move to the next working day past bank holidays and weekends")
+    void shouldFindNextWorkingDay() {
+        // Given
+        BankHolidayResponse response = createMockBankHolidayResponse();
+        when(restTemplate.getForObject(BANK_HOLIDAYS_URL, BankHolidayResponse.class))
+            .thenReturn(response);
+
+        // When & Then
+        assertEquals(LocalDate.of(2026, 4, 7), bankHolidayService.nextWorkingDay(LocalDate.of(2026, 4, 3)));
+        assertEquals(LocalDate.of(2026, 4, 2), bankHolidayService.nextWorkingDay(LocalDate.of(2026, 4, 2)));
+        assertEquals(LocalDate.of(2026, 12, 29), bankHolidayService.nextWorkingDay(LocalDate.of(2026, 12, 25)));
+    }
+
     @Test
     @DisplayName("Should return empty set when API fails")
     void shouldReturnEmptySetWhenApiFails() {
@@ -202,6 +241,80 @@ class BankHolidayServiceTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    @DisplayName("Should fetch bank holidays once and serve later lookups from the index")
+    void shouldServeLookupsFromIndex() {
+        // Given
+        BankHolidayResponse response = createMockBankHolidayResponse();
+        when(restTemplate.getForObject(BANK_HOLIDAYS_URL, BankHolidayResponse.class))
+            .thenReturn(response);
+
+        // When
+        bankHolidayService.isBankHoliday(LocalDateTime.of(2026, 4, 6, 10, 0));
+        bankHolidayService.isBankHoliday(LocalDateTime.of(2026, 4, 7, 10, 0));
+        bankHolidayService.validateNotBankHoliday(LocalDateTime.of(2026, 6, 15, 10, 0));
+
+        // Then
+        verify(restTemplate, times(1)).getForObject(BANK_HOLIDAYS_URL, BankHolidayResponse.class);
+        assertEquals(8, bankHolidayService.getHolidayIndex().size());
+    }
+
+    @Test
+    @DisplayName("Should retry the API when an earlier fetch failed and the backoff has passed")
+    void shouldRetryAfterFailedFetch() {
+        // Given
+        bankHolidayService = new BankHolidayService(restTemplate, Duration.ZERO);
+        when(restTemplate.getForObject(BANK_HOLIDAYS_URL, BankHolidayResponse.class))
+            .thenThrow(new RestClientException("Connection failed"))
+            .thenReturn(createMockBankHolidayResponse());
+
+        // When
+        LocalDateTime easterMonday = LocalDateTime.of(2026, 4, 6, 10, 0);
+        Optional<BankHolidayResponse.Event> first = bankHolidayService.isBankHoliday(easterMonday);
+        Optional<BankHolidayResponse.Event> second = bankHolidayService.isBankHoliday(easterMonday);
+
+        // Then
+        assertFalse(first.isPresent());
+        assertTrue(second.isPresent());
+    }
+
+    @Test
+    @DisplayName("Should not call the API again until the retry backoff has passed")
+    void shouldBackOffAfterFailedFetch() {
+        // Given
+        when(restTemplate.getForObject(BANK_HOLIDAYS_URL, BankHolidayResponse.class))
+            .thenThrow(new RestClientException("Connection failed"));
+
+        // When
+        LocalDateTime easterMonday = LocalDateTime.of(2026, 4, 6, 10, 0);
+        bankHolidayService.isBankHoliday(easterMonday);
+        Optional<BankHolidayResponse.Event> second = bankHolidayService.isBankHoliday(easterMonday);
+
+        // Then
+        assertFalse(second.isPresent());
+        verify(restTemplate, times(1)).getForObject(BANK_HOLIDAYS_URL, BankHolidayResponse.class);
+    }
+
+    @Test
+    @DisplayName("Should publish an event only when a refresh changes the holidays")
+    void shouldPublishEventWhenCalendarChanges() {
+        // Given
+        BankHolidayResponse changed = createMockBankHolidayResponse();
+        changed.getEnglandAndWales().setEvents(List.of(createEvent("Coronation", "2026-05-08")));
+        when(restTemplate.getForObject(BANK_HOLIDAYS_URL, BankHolidayResponse.class))
+            .thenReturn(createMockBankHolidayResponse(), createMockBankHolidayResponse(), changed);
+        bankHolidayService.setApplicationEventPublisher(eventPublisher);
+
+        // When
+        bankHolidayService.refreshHolidayIndex();
+        bankHolidayService.refreshHolidayIndex();
+        bankHolidayService.refreshHolidayIndex();
+
+        // Then
+        verify(eventPublisher).publishEvent(new HolidayCalendarChangedEvent(Set.of(LocalDate.of(2026, 5, 8))));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
     /**
      * Creates a mock bank holiday response with sample 2026 holidays.
      */
@@ -0,0 +1,172 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusTransitionRequest;
+import uk.gov.hmcts.reform.dev.dto.BulkStatusTransitionResponse;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.exception.InvalidStatusTransitionException;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TransitionCandidate;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkStatusTransitionService Unit Tests")
+class BulkStatusTransitionServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+    private static final LocalDateTime DUE_BEFORE = LocalDateTime.of(2026, 7, 1, 0, 0);
+    private static final LocalDateTime DUE = LocalDateTime.of(2026, 6, 15, 9, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BulkStatusTransitionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BulkStatusTransitionService(
+            taskRepository, transactionManager, eventPublisher, CLOCK, CHUNK_SIZE
+        );
+        lenient().when(transactionManager.getTransaction(any()))
+            .thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("Should update matching tasks chunk by chunk, resuming after the last id seen")
+    void shouldTransitionInChunks() {
+        // Given
+        PageRequest chunk = PageRequest.of(0, CHUNK_SIZE);
+        when(taskRepository.findTransitionCandidates(TaskStatus.PENDING, DUE_BEFORE, 0L, chunk))
+            .thenReturn(List.of(new TransitionCandidate(3L, DUE, null), new TransitionCandidate(7L, DUE, null)));
+        when(taskRepository.findTransitionCandidates(TaskStatus.PENDING, DUE_BEFORE, 7L, chunk))
+            .thenReturn(List.of(new TransitionCandidate(9L, DUE, null)));
+        when(taskRepository.lockIdsInStatus(List.of(3L, 7L), TaskStatus.PENDING)).thenReturn(List.of(3L, 7L));
+        when(taskRepository.lockIdsInStatus(List.of(9L), TaskStatus.PENDING)).thenReturn(List.of());
+        when(taskRepository.transitionStatus(List.of(3L, 7L), TaskStatus.PENDING, TaskStatus.CANCELLED, NOW))
+            .thenReturn(2);
+
+        // When
+        BulkStatusTransitionResponse response = service.transition(request(Set.of(TaskStatus.PENDING)));
+
+        // Then
+        assertEquals(TaskStatus.CANCELLED, response.getToStatus());
+        assertEquals(2, response.getUpdated(), "a row changed concurrently should not be counted");
+        assertEquals(Map.of(TaskStatus.PENDING, 2L), response.getUpdatedByFromStatus());
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(
+            List.of(
+                new TaskChangedEvent.Change(3L, new TaskSnapshot(TaskStatus.PENDING, DUE, null, null),
+                    new TaskSnapshot(TaskStatus.CANCELLED, DUE, null, null)),
+                new TaskChangedEvent.Change(7L, new TaskSnapshot(TaskStatus.PENDING, DUE, null, null),
+                    new TaskSnapshot(TaskStatus.CANCELLED, DUE, null, null))
+            ),
+            event.getValue().changes()
+        );
+    }
+
+    @Test
+    @DisplayName("Should report counts per original status")
+    void shouldReportCountsPerFromStatus() {
+        // Given
+        when(taskRepository.findTransitionCandidates(any(), any(), anyLong(), any())).thenReturn(List.of());
+        when(taskRepository.findTransitionCandidates(
+            TaskStatus.IN_PROGRESS, DUE_BEFORE, 0L, PageRequest.of(0, CHUNK_SIZE)
+        )).thenReturn(List.of(new TransitionCandidate(5L, DUE, null)));
+        when(taskRepository.lockIdsInStatus(List.of(5L), TaskStatus.IN_PROGRESS)).thenReturn(List.of(5L));
+        when(taskRepository.transitionStatus(List.of(5L), TaskStatus.IN_PROGRESS, TaskStatus.CANCELLED, NOW))
+            .thenReturn(1);
+
+        // When
+        BulkStatusTransitionResponse response = service.transition(
+            request(Set.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS))
+        );
+
+        // Then
+        assertEquals(1, response.getUpdated());
+        assertEquals(Map.of(TaskStatus.PENDING, 0L, TaskStatus.IN_PROGRESS, 1L), response.getUpdatedByFromStatus());
+    }
+
+    @Test
+    @DisplayName("Should report only the rows really moved when a store without locks loses one")
+    void shouldReportRowsMovedWhenUpdateSkipsLockedRow() {
+        // Given
+        when(taskRepository.findTransitionCandidates(TaskStatus.PENDING, DUE_BEFORE, 0L, PageRequest.of(0, 1)))
+            .thenReturn(List.of(new TransitionCandidate(3L, DUE, null)));
+        when(taskRepository.findTransitionCandidates(TaskStatus.PENDING, DUE_BEFORE, 3L, PageRequest.of(0, 1)))
+            .thenReturn(List.of());
+        when(taskRepository.lockIdsInStatus(List.of(3L), TaskStatus.PENDING)).thenReturn(List.of(3L));
+        when(taskRepository.transitionStatus(List.of(3L), TaskStatus.PENDING, TaskStatus.CANCELLED, NOW))
+            .thenReturn(0);
+        when(taskRepository.findIdsTransitionedAt(List.of(3L), TaskStatus.CANCELLED, NOW)).thenReturn(List.of());
+        BulkStatusTransitionService singleRowChunks = new BulkStatusTransitionService(
+            taskRepository, transactionManager, eventPublisher, CLOCK, 1
+        );
+
+        // When
+        BulkStatusTransitionResponse response = singleRowChunks.transition(request(Set.of(TaskStatus.PENDING)));
+
+        // Then
+        assertEquals(0, response.getUpdated());
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a disallowed transition before updating anything")
+    void shouldRejectInvalidTransition() {
+        // Given
+        BulkStatusTransitionRequest request = request(Set.of(TaskStatus.PENDING, TaskStatus.COMPLETED));
+
+        // When & Then
+        InvalidStatusTransitionException exception = assertThrows(
+            InvalidStatusTransitionException.class,
+            () -> service.transition(request)
+        );
+        assertEquals(TaskStatus.COMPLETED, exception.getFromStatus());
+        verify(taskRepository, never()).transitionStatus(any(), any(), any(), any());
+    }
+
+    private static BulkStatusTransitionRequest request(Set<TaskStatus> fromStatuses) {
+        return BulkStatusTransitionRequest.builder()
+            .fromStatuses(fromStatuses)
+            .toStatus(TaskStatus.CANCELLED)
+            .dueBefore(DUE_BEFORE)
+            .build();
+    }
+}
@@ -0,0 +1,197 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.dev.dto.SlotSuggestion;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.exception.NoAvailableSlotException;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.DailyStatusCount;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CapacityScheduler Unit Tests")
+class CapacitySchedulerTest {
+
+    // Wednesday 1 April 2026; Good Friday is 3 April and Easter Monday 6 April
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-04-01T09:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDate TODAY = LocalDate.of(2026, 4, 1);
+    private static final LocalDate GOOD_FRIDAY = LocalDate.of(2026, 4, 3);
+    private static final LocalDate EASTER_MONDAY = LocalDate.of(2026, 4, 6);
+    private static final int CAPACITY = 2;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private BankHolidayService bankHolidayService;
+
+    private CapacityScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new CapacityScheduler(taskRepository, bankHolidayService, CLOCK, CAPACITY, 30);
+        lenient().when(bankHolidayService.isWorkingDay(any(LocalDate.class))).thenAnswer(invocation -> {
+            LocalDate day = invocation.getArgument(0);
+            return day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY
+                && !day.equals(GOOD_FRIDAY) && !day.equals(EASTER_MONDAY);
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep the requested date when it is a working day with free capacity")
+    void shouldKeepRequestedDateWhenFree() {
+        // Given
+        when(taskRepository.countByDueDayAndStatus(any(), any())).thenReturn(List.of());
+        LocalDateTime requested = TODAY.atTime(17, 0);
+
+        // When
+        SlotSuggestion suggestion = scheduler.suggestSlot(requested);
+
+        // Then
+        assertEquals(requested, suggestion.getSuggested());
+        assertEquals(0, suggestion.getOpenTasks());
+        assertEquals(CAPACITY, suggestion.getCapacity());
+    }
+
+    @Test
+    @DisplayName("Should skip full days, bank holidays and weekends")
+    void shouldSkipFullAndNonWorkingDays() {
+        // Given
+        when(taskRepository.countByDueDayAndStatus(any(), any())).thenReturn(List.of(
+            new DailyStatusCount(TODAY.plusDays(1), TaskStatus.PENDING, 1L),
+            new DailyStatusCount(TODAY.plusDays(1), TaskStatus.IN_PROGRESS, 1L),
+            new DailyStatusCount(LocalDate.of(2026, 4, 7), TaskStatus.COMPLETED, 10L)
+        ));
+
+        // When
+        SlotSuggestion suggestion = scheduler.suggestSlot(TODAY.plusDays(1).atTime(17, 0));
+
+        // Then
+        assertEquals(LocalDate.of(2026, 4, 7).atTime(17, 0), suggestion.getSuggested(),
+            "Thursday is full, then Good Friday, the weekend and Easter Monday are skipped; "
+                + "completed tasks do not use capacity");
+    }
+
+    @Test
+    @DisplayName("Should track committed task changes incrementally")
+    void shouldApplyTaskChanges() {
+        // Given
+        when(taskRepository.countByDueDayAndStatus(any(), any())).thenReturn(List.of());
+        LocalDateTime requested = TODAY.atTime(17, 0);
+        scheduler.rebuild();
+
+        // When
+        scheduler.onTaskChanged(new TaskChangedEvent(List.of(
+            new TaskChangedEvent.Change(1L, null, new TaskSnapshot(TaskStatus.PENDING, requested, null, null)),
+            new TaskChangedEvent.Change(2L, null, new TaskSnapshot(TaskStatus.PENDING, requested, null, null))
+        )));
+        LocalDateTime whenFull = scheduler.suggestSlot(requested).getSuggested();
+        scheduler.onTaskChanged(TaskChangedEvent.of(
+            2L,
+            new TaskSnapshot(TaskStatus.PENDING, requested, null, null),
+            new TaskSnapshot(TaskStatus.CANCELLED, requested, null, null)
+        ));
+        LocalDateTime afterCancel = scheduler.suggestSlot(requested).getSuggested();
+
+        // Then
+        assertEquals(TODAY.plusDays(1).atTime(17, 0), whenFull);
+        assertEquals(requested, afterCancel);
+    }
+
+    @Test
+    @DisplayName("Should leave today's capacity alone when an overdue task changes")
+    void shouldIgnoreOverdueTaskChanges() {
+        // Given
+        when(taskRepository.countByDueDayAndStatus(any(), any())).thenReturn(List.of(
+            new DailyStatusCount(TODAY, TaskStatus.PENDING, 2L)
+        ));
+        LocalDateTime requested = TODAY.atTime(17, 0);
+        LocalDateTime overdue = TODAY.minusDays(2).atTime(12, 0);
+        scheduler.rebuild();
+
+        // When
+        scheduler.onTaskChanged(TaskChangedEvent.of(
+            1L,
+            new TaskSnapshot(TaskStatus.PENDING, overdue, null, null),
+            new TaskSnapshot(TaskStatus.COMPLETED, overdue, null, null)
+        ));
+        SlotSuggestion suggestion = scheduler.suggestSlot(requested);
+
+        // Then
+        assertEquals(TODAY.plusDays(1).atTime(17, 0), suggestion.getSuggested());
+    }
+
+    @Test
+    @DisplayName("Should treat past requests as requests for now")
+    void shouldMovePastRequestsToNow() {
+        // Given
+        when(taskRepository.countByDueDayAndStatus(any(), any())).thenReturn(List.of());
+
+        // When
+        SlotSuggestion suggestion = scheduler.suggestSlot(TODAY.minusDays(3).atTime(12, 0));
+
+        // Then
+        assertEquals(LocalDateTime.now(CLOCK), suggestion.getSuggested());
+    }
+
+    @Test
+    @DisplayName("Should fail when no day within the horizon has free capacity")
+    void shouldFailBeyondHorizon() {
+        // Given
+        when(taskRepository.countByDueDayAndStatus(any(), any())).thenReturn(List.of());
+        LocalDateTime requested = TODAY.plusDays(31).atTime(9, 0);
+
+        // When & Then
+        assertThrows(NoAvailableSlotException.class, () -> scheduler.suggestSlot(requested));
+    }
+
+    @Test
+    @DisplayName("Should find the same day as a linear scan")
+    void shouldMatchLinearScan() {
+        // Given
+        Random random = new Random(42);
+        int days = 200;
+        int[] load = new int[days];
+        boolean[] working = new boolean[days];
+        for (int i = 0; i < days; i++) {
+            load[i] = random.nextInt(CAPACITY + 2);
+            working[i] = random.nextInt(5) > 0;
+        }
+        CapacityScheduler.CapacityTree tree = new CapacityScheduler.CapacityTree(
+            TODAY, load.clone(), working, CAPACITY
+        );
+
+        // When & Then
+        for (int from = 0; from < days; from++) {
+            int expected = -1;
+            for (int i = from; i < days; i++) {
+                if (working[i] && load[i] < CAPACITY) {
+                    expected = i;
+                    break;
+                }
+            }
+            assertEquals(expected, tree.firstFree(from), "first free day from offset " + from);
+        }
+    }
+}
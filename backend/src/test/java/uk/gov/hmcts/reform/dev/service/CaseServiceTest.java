@@ -0,0 +1,182 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import uk.gov.hmcts.reform.dev.dto.CaseSummary;
+import uk.gov.hmcts.reform.dev.dto.CreateCaseRequest;
+import uk.gov.hmcts.reform.dev.exception.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.exception.DuplicateCaseNumberException;
+import uk.gov.hmcts.reform.dev.models.CaseFile;
+import uk.gov.hmcts.reform.dev.models.CaseStatus;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.CaseFileRepository;
+import uk.gov.hmcts.reform.dev.repository.CaseStatusCount;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CaseService Unit Tests")
+class CaseServiceTest {
+
+    @Mock
+    private CaseFileRepository caseFileRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private CaseService caseService;
+
+    @BeforeEach
+    void setUp() {
+        caseService = new CaseService(caseFileRepository, taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should create an open case with zero task counts")
+    void shouldCreateOpenCase() {
+        // Given
+        CreateCaseRequest request = new CreateCaseRequest("ABC12345", "Smith v Jones", "Contact dispute");
+        when(caseFileRepository.existsByCaseNumber("ABC12345")).thenReturn(false);
+        when(caseFileRepository.saveAndFlush(any(CaseFile.class))).thenAnswer(invocation -> {
+            CaseFile caseFile = invocation.getArgument(0);
+            caseFile.setId(1L);
+            return caseFile;
+        });
+
+        // When
+        CaseSummary summary = caseService.createCase(request);
+
+        // Then
+        assertEquals(1L, summary.getId());
+        assertEquals(CaseStatus.OPEN, summary.getStatus());
+        assertEquals(0L, summary.getTaskCounts().get(TaskStatus.PENDING));
+        assertEquals(TaskStatus.values().length, summary.getTaskCounts().size());
+        assertTrue(summary.getOpenTasks().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject a case number that is already taken")
+    void shouldRejectDuplicateCaseNumber() {
+        // Given
+        when(caseFileRepository.existsByCaseNumber("ABC12345")).thenReturn(true);
+
+        // When / Then
+        assertThrows(DuplicateCaseNumberException.class,
+            () -> caseService.createCase(new CreateCaseRequest("ABC12345", "Smith v Jones", null)));
+        verify(caseFileRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Should report a duplicate when a concurrent create wins the unique constraint")
+    void shouldReportDuplicateOnConstraintViolation() {
+        // Given
+        when(caseFileRepository.existsByCaseNumber("ABC12345")).thenReturn(false);
+        when(caseFileRepository.saveAndFlush(any(CaseFile.class)))
+            .thenThrow(new DataIntegrityViolationException("uk_cases_case_number"));
+
+        // When / Then
+        assertThrows(DuplicateCaseNumberException.class,
+            () -> caseService.createCase(new CreateCaseRequest("ABC12345", "Smith v Jones", null)));
+    }
+
+    @Test
+    @DisplayName("Should throw when the case does not exist")
+    void shouldThrowForUnknownCase() {
+        // Given
+        when(caseFileRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(CaseNotFoundException.class, () -> caseService.getCaseSummary(99L));
+    }
+
+    @Test
+    @DisplayName("Should assemble a page of summaries from one count query and one task query")
+    void shouldAssembleSummariesFromBatchedQueries() {
+        // Given
+        CaseFile first = caseFile(1L, "AAA00001");
+        CaseFile second = caseFile(2L, "AAA00002");
+        CaseFile third = caseFile(3L, "AAA00003");
+        when(caseFileRepository.findAllByOrderByIdAsc(PageRequest.of(0, 50))).thenReturn(List.of(first, second, third));
+        when(taskRepository.countByCaseAndStatus(List.of(1L, 2L, 3L))).thenReturn(List.of(
+            new CaseStatusCount(1L, TaskStatus.PENDING, 2L),
+            new CaseStatusCount(1L, TaskStatus.COMPLETED, 4L),
+            new CaseStatusCount(2L, TaskStatus.IN_PROGRESS, 1L)
+        ));
+        when(taskRepository.findByCaseIdsAndStatusesWithLabels(List.of(1L, 2L, 3L), CaseService.OPEN_STATUSES))
+            .thenReturn(List.of(
+                task(10L, first, TaskStatus.PENDING),
+                task(11L, second, TaskStatus.IN_PROGRESS),
+                task(12L, first, TaskStatus.PENDING)
+            ));
+
+        // When
+        List<CaseSummary> summaries = caseService.listCaseSummaries(0, 500);
+
+        // Then
+        assertEquals(3, summaries.size());
+        assertEquals(2L, summaries.get(0).getTaskCounts().get(TaskStatus.PENDING));
+        assertEquals(4L, summaries.get(0).getTaskCounts().get(TaskStatus.COMPLETED));
+        assertEquals(0L, summaries.get(0).getTaskCounts().get(TaskStatus.CANCELLED));
+        assertEquals(List.of(10L, 12L), summaries.get(0).getOpenTasks().stream().map(t -> t.getId()).toList());
+        assertEquals(1L, summaries.get(0).getOpenTasks().getFirst().getCaseId());
+        assertEquals(1L, summaries.get(1).getTaskCounts().get(TaskStatus.IN_PROGRESS));
+        assertEquals(List.of(11L), summaries.get(1).getOpenTasks().stream().map(t -> t.getId()).toList());
+        assertTrue(summaries.get(2).getOpenTasks().isEmpty());
+        assertEquals(0L, summaries.get(2).getTaskCounts().get(TaskStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("Should not query tasks for an empty page")
+    void shouldNotQueryTasksForEmptyPage() {
+        // Given
+        when(caseFileRepository.findAllByOrderByIdAsc(PageRequest.of(3, 20))).thenReturn(List.of());
+
+        // When
+        List<CaseSummary> summaries = caseService.listCaseSummaries(3, 20);
+
+        // Then
+        assertTrue(summaries.isEmpty());
+        verifyNoInteractions(taskRepository);
+    }
+
+    private static CaseFile caseFile(Long id, String caseNumber) {
+        return CaseFile.builder()
+            .id(id)
+            .caseNumber(caseNumber)
+            .title("Case " + caseNumber)
+            .status(CaseStatus.OPEN)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+
+    private static Task task(Long id, CaseFile caseFile, TaskStatus status) {
+        return Task.builder()
+            .id(id)
+            .title("Task " + id)
+            .status(status)
+            .caseFile(caseFile)
+            .labels(Set.of())
+            .dueDate(LocalDateTime.now().plusDays(id))
+            .build();
+    }
+}
@@ -0,0 +1,158 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskDueDate;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DueDateIndex Unit Tests")
+class DueDateIndexTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2026, 6, 1, 9, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private DueDateIndex dueDateIndex;
+
+    @BeforeEach
+    void setUp() {
+        dueDateIndex = new DueDateIndex(taskRepository);
+        when(taskRepository.findDueDatesByStatusIn(DueDateIndex.OPEN_STATUSES)).thenReturn(List.of(
+            new TaskDueDate(5L, MONDAY.plusHours(8)),
+            new TaskDueDate(2L, MONDAY),
+            new TaskDueDate(7L, MONDAY.plusDays(1)),
+            new TaskDueDate(3L, MONDAY),
+            new TaskDueDate(9L, MONDAY.plusDays(3).plusMinutes(30)),
+            new TaskDueDate(4L, MONDAY.minusYears(60))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should count and list a range soonest first, ordering ties by id")
+    void shouldAnswerRangeInDueOrder() {
+        // When
+        long count = dueDateIndex.count(MONDAY, MONDAY.plusDays(3));
+        List<Long> ids = dueDateIndex.find(MONDAY, MONDAY.plusDays(3), 0, 20);
+
+        // Then
+        assertEquals(4, count);
+        assertEquals(List.of(2L, 3L, 5L, 7L), ids);
+    }
+
+    @Test
+    @DisplayName("Should include the start of a range and exclude its end")
+    void shouldTreatRangeAsHalfOpen() {
+        // When & Then
+        LocalDateTime afterFive = MONDAY.plusHours(8).plusMinutes(1);
+        assertEquals(List.of(7L), dueDateIndex.find(afterFive, MONDAY.plusDays(1).plusMinutes(1), 0, 20));
+        assertEquals(List.of(2L, 3L), dueDateIndex.find(MONDAY, MONDAY.plusHours(8), 0, 20));
+        assertEquals(0, dueDateIndex.count(MONDAY.plusDays(1), MONDAY));
+    }
+
+    @Test
+    @DisplayName("Should treat missing bounds as open and handle dates before the epoch")
+    void shouldSupportOpenBounds() {
+        // When & Then
+        assertEquals(6, dueDateIndex.count(null, null));
+        assertEquals(List.of(4L), dueDateIndex.find(null, MONDAY, 0, 20));
+        assertEquals(List.of(9L), dueDateIndex.find(MONDAY.plusDays(2), null, 0, 20));
+    }
+
+    @Test
+    @DisplayName("Should page across day buckets")
+    void shouldPageAcrossDays() {
+        // When & Then
+        assertEquals(List.of(4L, 2L), dueDateIndex.find(null, null, 0, 2));
+        assertEquals(List.of(3L, 5L), dueDateIndex.find(null, null, 1, 2));
+        assertEquals(List.of(7L, 9L), dueDateIndex.find(null, null, 2, 2));
+        assertEquals(List.of(), dueDateIndex.find(null, null, 3, 2));
+    }
+
+    @Test
+    @DisplayName("Should add new open tasks and drop closed or removed ones on committed changes")
+    void shouldApplyTaskChanges() {
+        // Given
+        dueDateIndex.rebuild();
+        TaskSnapshot pending = new TaskSnapshot(TaskStatus.PENDING, MONDAY, null, null);
+
+        // When
+        dueDateIndex.onTaskChanged(new TaskChangedEvent(List.of(
+            new TaskChangedEvent.Change(1L, null, pending),
+            new TaskChangedEvent.Change(3L, pending, new TaskSnapshot(TaskStatus.COMPLETED, MONDAY, null, null)),
+            new TaskChangedEvent.Change(2L, pending, new TaskSnapshot(TaskStatus.IN_PROGRESS, MONDAY, "jane", null)),
+            new TaskChangedEvent.Change(7L, new TaskSnapshot(TaskStatus.PENDING, MONDAY.plusDays(1), null, null), null)
+        )));
+
+        // Then
+        assertEquals(List.of(1L, 2L, 5L), dueDateIndex.find(MONDAY, MONDAY.plusDays(3), 0, 20));
+        assertEquals(3, dueDateIndex.count(MONDAY, MONDAY.plusDays(3)));
+        verify(taskRepository, times(1)).findDueDatesByStatusIn(DueDateIndex.OPEN_STATUSES);
+    }
+
+    @Test
+    @DisplayName("Should index task ids beyond the int range")
+    void shouldIndexLargeIds() {
+        // Given
+        dueDateIndex.rebuild();
+        long largeId = Integer.MAX_VALUE + 10L;
+        TaskSnapshot pending = new TaskSnapshot(TaskStatus.PENDING, MONDAY, null, null);
+
+        // When
+        dueDateIndex.onTaskChanged(TaskChangedEvent.of(largeId, null, pending));
+
+        // Then
+        assertEquals(List.of(2L, 3L, largeId), dueDateIndex.find(MONDAY, MONDAY.plusMinutes(1), 0, 20));
+
+        // When
+        dueDateIndex.onTaskChanged(TaskChangedEvent.of(largeId, pending, null));
+
+        // Then
+        assertEquals(List.of(2L, 3L), dueDateIndex.find(MONDAY, MONDAY.plusMinutes(1), 0, 20));
+    }
+
+    @Test
+    @DisplayName("Should keep a bucket sorted as it grows")
+    void shouldKeepBucketSorted() {
+        // Given
+        dueDateIndex.rebuild();
+        List<TaskChangedEvent.Change> created = new ArrayList<>();
+        for (long id = 100; id > 10; id--) {
+            created.add(new TaskChangedEvent.Change(
+                id, null, new TaskSnapshot(TaskStatus.PENDING, MONDAY.plusMinutes(id % 7), null, null)
+            ));
+        }
+
+        // When
+        dueDateIndex.onTaskChanged(new TaskChangedEvent(created));
+
+        // Then
+        // Starting after the first minute leaves out tasks 2 and 3 and every created id divisible by 7
+        List<Long> ids = dueDateIndex.find(MONDAY.plusMinutes(1), MONDAY.plusHours(1), 0, 100);
+        assertEquals(77, ids.size());
+        for (int i = 1; i < ids.size(); i++) {
+            long previous = ids.get(i - 1);
+            long current = ids.get(i);
+            assertTrue(previous % 7 < current % 7 || previous % 7 == current % 7 && previous < current,
+                "out of order at " + i + ": " + ids);
+        }
+    }
+}
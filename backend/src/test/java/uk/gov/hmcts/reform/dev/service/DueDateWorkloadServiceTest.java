@@ -0,0 +1,132 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.dev.dto.BankHolidayResponse;
+import uk.gov.hmcts.reform.dev.dto.DailyWorkload;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.DailyStatusCount;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DueDateWorkloadService Unit Tests")
+class DueDateWorkloadServiceTest {
+
+    // Wednesday 1 April 2026
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-04-01T09:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDate TODAY = LocalDate.of(2026, 4, 1);
+    private static final LocalDate GOOD_FRIDAY = LocalDate.of(2026, 4, 3);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private BankHolidayService bankHolidayService;
+
+    private DueDateWorkloadService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DueDateWorkloadService(taskRepository, bankHolidayService, CLOCK, 7, 30);
+        when(taskRepository.countByDueDayAndStatus(
+            TODAY.minusDays(7).atStartOfDay(), TODAY.plusDays(31).atStartOfDay()
+        )).thenReturn(List.of(
+                new DailyStatusCount(TODAY, TaskStatus.PENDING, 4L),
+                new DailyStatusCount(TODAY, TaskStatus.COMPLETED, 1L),
+                new DailyStatusCount(TODAY.plusDays(1), TaskStatus.IN_PROGRESS, 2L)
+            ));
+        BankHolidayResponse.Event goodFriday = new BankHolidayResponse.Event();
+        goodFriday.setTitle("Good Friday");
+        goodFriday.setDate(GOOD_FRIDAY.toString());
+        when(bankHolidayService.getHolidayIndex()).thenReturn(Map.of(GOOD_FRIDAY, goodFriday));
+    }
+
+    @Test
+    @DisplayName("Should serve per-day status counts from the rebuilt buckets")
+    void shouldServeCountsFromBuckets() {
+        // When
+        List<DailyWorkload> days = service.getWorkload(TODAY, TODAY.plusDays(4));
+
+        // Then
+        assertEquals(5, days.size());
+        DailyWorkload today = days.get(0);
+        assertEquals(TODAY, today.getDate());
+        assertEquals(5, today.getTotal());
+        assertEquals(4, today.getByStatus().get(TaskStatus.PENDING));
+        assertEquals(0, today.getByStatus().get(TaskStatus.CANCELLED));
+        assertEquals(2, days.get(1).getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertFalse(today.isWeekend());
+        assertNull(today.getBankHoliday());
+        assertEquals("Good Friday", days.get(2).getBankHoliday());
+        assertTrue(days.get(3).isWeekend());
+        assertTrue(days.get(4).isWeekend());
+        verify(taskRepository, times(1)).countByDueDayAndStatus(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should adjust counts incrementally for committed task changes")
+    void shouldApplyTaskChangesIncrementally() {
+        // Given
+        service.reconcile();
+
+        // When
+        service.onTaskChanged(new TaskChangedEvent(List.of(
+            new TaskChangedEvent.Change(
+                10L, null, new TaskSnapshot(TaskStatus.PENDING, TODAY.atTime(15, 0), null, null)
+            ),
+            new TaskChangedEvent.Change(
+                11L,
+                new TaskSnapshot(TaskStatus.PENDING, TODAY.atTime(9, 0), null, null),
+                new TaskSnapshot(TaskStatus.CANCELLED, TODAY.atTime(9, 0), null, null)
+            ),
+            new TaskChangedEvent.Change(
+                12L, new TaskSnapshot(TaskStatus.IN_PROGRESS, TODAY.plusDays(1).atStartOfDay(), null, null), null
+            ),
+            new TaskChangedEvent.Change(
+                13L, null, new TaskSnapshot(TaskStatus.PENDING, TODAY.plusYears(5).atStartOfDay(), null, null)
+            )
+        )));
+
+        // Then
+        DailyWorkload today = service.getWorkload(TODAY, TODAY).getFirst();
+        assertEquals(4, today.getByStatus().get(TaskStatus.PENDING));
+        assertEquals(1, today.getByStatus().get(TaskStatus.CANCELLED));
+        assertEquals(6, today.getTotal());
+        assertEquals(1, service.getWorkload(TODAY.plusDays(1), TODAY.plusDays(1)).getFirst().getTotal());
+    }
+
+    @Test
+    @DisplayName("Should default to the next 90 days, limited to the maintained window")
+    void shouldLimitRangeToWindow() {
+        // When
+        List<DailyWorkload> defaultRange = service.getWorkload(null, null);
+        List<DailyWorkload> beforeWindow = service.getWorkload(TODAY.minusYears(1), TODAY.minusMonths(6));
+
+        // Then
+        assertEquals(TODAY, defaultRange.getFirst().getDate());
+        assertEquals(TODAY.plusDays(30), defaultRange.getLast().getDate());
+        assertTrue(beforeWindow.isEmpty());
+    }
+}
@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import uk.gov.hmcts.reform.dev.models.TaskFingerprint;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DuplicateTaskDetector Unit Tests")
+class DuplicateTaskDetectorTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2026, 6, 1, 17, 0);
+    private static final String STORED = TaskFingerprint.of("Review bundle", null, DUE);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DuplicateTaskDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(i -> new SimpleTransactionStatus());
+        lenient().when(taskRepository.count()).thenReturn(1L);
+        lenient().when(taskRepository.streamFingerprints()).thenAnswer(invocation -> Stream.of(STORED));
+        detector = new DuplicateTaskDetector(
+            taskRepository, transactionManager, DuplicateTaskDetector.Policy.REJECT, 1000, 0.01
+        );
+    }
+
+    @Test
+    @DisplayName("Should answer a new fingerprint from the filter without a query")
+    void shouldSkipQueryForNewFingerprint() {
+        // When
+        Optional<Long> duplicate = detector.findDuplicate(TaskFingerprint.of("Something else", null, DUE));
+
+        // Then
+        assertTrue(duplicate.isEmpty());
+        verify(taskRepository, never()).findIdByFingerprint(any());
+    }
+
+    @Test
+    @DisplayName("Should confirm a possible duplicate against the database")
+    void shouldQueryOnFilterHit() {
+        // Given
+        when(taskRepository.findIdByFingerprint(STORED)).thenReturn(Optional.of(6L));
+
+        // When
+        Optional<Long> duplicate = detector.findDuplicate(TaskFingerprint.of("review  bundle", "", DUE));
+
+        // Then
+        assertEquals(Optional.of(6L), duplicate);
+        verify(taskRepository, times(1)).streamFingerprints();
+    }
+
+    @Test
+    @DisplayName("Should check recorded fingerprints against the database")
+    void shouldQueryForRecordedFingerprint() {
+        // Given
+        String created = TaskFingerprint.of("Created since", null, DUE);
+        detector.rebuild();
+        detector.record(created);
+        when(taskRepository.findIdByFingerprint(created)).thenReturn(Optional.empty());
+
+        // When
+        Optional<Long> duplicate = detector.findDuplicate(created);
+
+        // Then
+        assertTrue(duplicate.isEmpty());
+        verify(taskRepository).findIdByFingerprint(created);
+    }
+
+    @Test
+    @DisplayName("Should keep the false-positive rate near its target")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        // Given
+        FingerprintBloomFilter filter = FingerprintBloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add(TaskFingerprint.of("Task " + i, null, DUE)));
+
+        // When
+        long falsePositives = IntStream.range(0, 10_000)
+            .filter(i -> filter.mightContain(TaskFingerprint.of("Other " + i, null, DUE)))
+            .count();
+
+        // Then
+        assertTrue(IntStream.range(0, 10_000)
+            .allMatch(i -> filter.mightContain(TaskFingerprint.of("Task " + i, null, DUE))));
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+        assertFalse(filter.isFull());
+        filter.add(STORED);
+        assertTrue(filter.isFull());
+    }
+}
@@ -0,0 +1,332 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.exception.BankHolidayException;
+import uk.gov.hmcts.reform.dev.exception.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.models.CaseFile;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskFingerprint;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.CaseFileRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GroupCommitTaskWriter Unit Tests")
+class GroupCommitTaskWriterTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2026, 4, 8, 17, 0);
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private CaseFileRepository caseFileRepository;
+
+    @Mock
+    private BankHolidayService bankHolidayService;
+
+    @Mock
+    private DuplicateTaskDetector duplicateTaskDetector;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private GroupCommitTaskWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(i -> new SimpleTransactionStatus());
+        writer = writer(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should save a batch in one transaction and complete each caller with its own task")
+    void shouldCommitBatchTogether() {
+        // Given
+        AtomicLong ids = new AtomicLong(100);
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(ids.incrementAndGet()));
+            return tasks;
+        });
+        List<GroupCommitTaskWriter.PendingCreate> batch = List.of(pending("First"), pending("Second"));
+
+        // When
+        writer.commit(batch);
+
+        // Then
+        assertEquals(101L, batch.get(0).result().join().getId());
+        assertEquals("First", batch.get(0).result().join().getTitle());
+        assertEquals(102L, batch.get(1).result().join().getId());
+        assertEquals("Second", batch.get(1).result().join().getTitle());
+        verify(transactionManager).getTransaction(any());
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(2, event.getValue().changes().size());
+        verify(taskService, never()).createTask(any());
+    }
+
+    @Test
+    @DisplayName("Should fail only the requests that name a missing case")
+    void shouldFailRequestsForMissingCases() {
+        // Given
+        CaseFile known = CaseFile.builder().id(1L).build();
+        when(caseFileRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(known));
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        GroupCommitTaskWriter.PendingCreate good = pending("Known case", 1L);
+        GroupCommitTaskWriter.PendingCreate bad = pending("Missing case", 2L);
+
+        // When
+        writer.commit(List.of(good, bad));
+
+        // Then
+        assertEquals(1L, good.result().join().getCaseId());
+        CompletionException failure = assertThrows(CompletionException.class, () -> bad.result().join());
+        assertInstanceOf(CaseNotFoundException.class, failure.getCause());
+    }
+
+    @Test
+    @DisplayName("Should hand every request back to its caller when the batch fails")
+    void shouldHandBackWhenBatchFails() {
+        // Given
+        when(taskRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("batch failed"));
+        GroupCommitTaskWriter.PendingCreate first = pending("First");
+        GroupCommitTaskWriter.PendingCreate second = pending("Second");
+
+        // When
+        writer.commit(List.of(first, second));
+
+        // Then
+        assertNull(first.result().join());
+        assertNull(second.result().join());
+        verify(taskService, never()).createTask(any());
+    }
+
+    @Test
+    @DisplayName("Should create a handed-back request on the caller's thread")
+    void shouldCreateHandedBackRequestOnCallerThread() {
+        // Given
+        when(taskRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("batch failed"));
+        CreateTaskRequest request = request("Retried", null);
+        TaskResponse created = TaskResponse.builder().id(7L).title("Retried").build();
+        when(taskService.createTask(request)).thenReturn(created);
+
+        // When
+        TaskResponse response = writer.createTask(request);
+
+        // Then
+        assertEquals(created, response);
+    }
+
+    @Test
+    @DisplayName("Should audit each batched task as created by the actor of its own request")
+    void shouldCarryActorOnChanges() {
+        // Given
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        GroupCommitTaskWriter.PendingCreate first = new GroupCommitTaskWriter.PendingCreate(
+            request("First", null), "jane.smith", new CompletableFuture<>());
+        GroupCommitTaskWriter.PendingCreate second = new GroupCommitTaskWriter.PendingCreate(
+            request("Second", null), "anonymous", new CompletableFuture<>());
+
+        // When
+        writer.commit(List.of(first, second));
+
+        // Then
+        ArgumentCaptor<TaskChangedEvent> event = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of("jane.smith", "anonymous"),
+            event.getValue().changes().stream().map(TaskChangedEvent.Change::actor).toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Should leave duplicates to be created one by one after the batch commits")
+    void shouldCreateDuplicatesIndividually() {
+        // Given
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(11L));
+            return tasks;
+        });
+        GroupCommitTaskWriter.PendingCreate first = pending("Review bundle");
+        GroupCommitTaskWriter.PendingCreate sameInBatch = pending("review  BUNDLE");
+        GroupCommitTaskWriter.PendingCreate alreadyStored = pending("Stored");
+        String storedFingerprint = TaskFingerprint.of("Stored", null, DUE);
+        when(duplicateTaskDetector.findDuplicate(anyString())).thenAnswer(invocation ->
+            storedFingerprint.equals(invocation.getArgument(0)) ? Optional.of(3L) : Optional.empty());
+
+        // When
+        writer.commit(List.of(first, sameInBatch, alreadyStored));
+
+        // Then
+        ArgumentCaptor<List<Task>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository).saveAll(saved.capture());
+        assertEquals(1, saved.getValue().size());
+        assertEquals(TaskFingerprint.of("Review bundle", null, DUE), saved.getValue().getFirst().getFingerprint());
+        verify(duplicateTaskDetector).record(saved.getValue().getFirst().getFingerprint());
+        assertEquals(11L, first.result().join().getId());
+        assertNull(sameInBatch.result().join());
+        assertNull(alreadyStored.result().join());
+    }
+
+    @Test
+    @DisplayName("Should reject a bank holiday due date before queueing")
+    void shouldValidateBeforeQueueing() {
+        // Given
+        CreateTaskRequest request = request("Holiday", null);
+        doThrow(new BankHolidayException("Easter Monday", "2026-04-08"))
+            .when(bankHolidayService).validateNotBankHoliday(DUE);
+
+        // When / Then
+        assertThrows(BankHolidayException.class, () -> writer.createTask(request));
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should create through the queue and return the caller's task")
+    void shouldCreateThroughQueue() {
+        // Given
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(42L));
+            return tasks;
+        });
+
+        // When
+        TaskResponse response = writer.createTask(request("Queued", null));
+
+        // Then
+        assertEquals(42L, response.getId());
+        assertEquals(TaskStatus.PENDING, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should hand back queued creates and stop batching when the writer dies from an Error")
+    void shouldHandBackWhenWriterDies() {
+        // Given
+        when(taskRepository.saveAll(anyList())).thenThrow(new LinkageError("writer broken"));
+        CreateTaskRequest first = request("First", null);
+        CreateTaskRequest second = request("Second", null);
+        when(taskService.createTask(any())).thenAnswer(invocation -> TaskResponse.builder()
+            .title(invocation.<CreateTaskRequest>getArgument(0).getTitle())
+            .build());
+
+        // When
+        TaskResponse handedBack = writer.createTask(first);
+        TaskResponse direct = writer.createTask(second);
+
+        // Then
+        assertEquals("First", handedBack.getTitle());
+        assertEquals("Second", direct.getTitle());
+        verify(taskRepository).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should create directly once the writer has shut down")
+    void shouldCreateDirectlyAfterShutdown() throws InterruptedException {
+        // Given
+        writer.shutdown();
+        CreateTaskRequest request = request("Late", null);
+        TaskResponse created = TaskResponse.builder().id(8L).title("Late").build();
+        when(taskService.createTask(request)).thenReturn(created);
+
+        // When
+        TaskResponse response = writer.createTask(request);
+
+        // Then
+        assertEquals(created, response);
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for a batch the writer does not finish in time")
+    void shouldTimeOutWaitingForStalledBatch() throws InterruptedException {
+        // Given
+        writer.shutdown();
+        writer = writer(Duration.ofMillis(200));
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        CreateTaskRequest request = request("Stalled", null);
+
+        // When / Then
+        try {
+            assertThrows(IllegalStateException.class, () -> writer.createTask(request));
+        } finally {
+            release.countDown();
+        }
+        verify(taskService, never()).createTask(any());
+    }
+
+    private GroupCommitTaskWriter writer(Duration resultTimeout) {
+        return new GroupCommitTaskWriter(taskService, taskRepository, caseFileRepository, bankHolidayService,
+            duplicateTaskDetector, eventPublisher, transactionManager, 8, Duration.ofMillis(1), 16, resultTimeout);
+    }
+
+    private static GroupCommitTaskWriter.PendingCreate pending(String title) {
+        return pending(title, null);
+    }
+
+    private static GroupCommitTaskWriter.PendingCreate pending(String title, Long caseId) {
+        return new GroupCommitTaskWriter.PendingCreate(request(title, caseId), "system", new CompletableFuture<>());
+    }
+
+    private static CreateTaskRequest request(String title, Long caseId) {
+        return CreateTaskRequest.builder()
+            .title(title)
+            .status(TaskStatus.PENDING)
+            .caseId(caseId)
+            .dueDate(DUE)
+            .build();
+    }
+}
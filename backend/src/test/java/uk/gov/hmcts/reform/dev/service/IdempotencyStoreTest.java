@@ -0,0 +1,319 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import uk.gov.hmcts.reform.dev.models.IdempotencyRecord;
+import uk.gov.hmcts.reform.dev.repository.IdempotencyRecordRepository;
+import uk.gov.hmcts.reform.dev.service.IdempotencyStore.Claim;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyStore Unit Tests")
+class IdempotencyStoreTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-02T09:15:30Z"), ZoneOffset.UTC);
+    private static final String KEY = "POST /api/tasks abc-123";
+    private static final byte[] BODY = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private IdempotencyStore store;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        store = newStore(Duration.ofHours(24), 100, Duration.ofSeconds(5));
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should replay a completed response from memory without reading the table again")
+    void shouldReplayCompletedResponseFromMemory() {
+        // Given
+        assertInstanceOf(Claim.Acquired.class, store.claim(KEY, "hash"));
+        store.complete(KEY, "hash", 201, "application/json", BODY);
+
+        // When
+        Claim claim = store.claim(KEY, "hash");
+
+        // Then
+        Claim.Replay replay = assertInstanceOf(Claim.Replay.class, claim);
+        assertEquals(201, replay.response().status());
+        assertEquals("application/json", replay.response().contentType());
+        assertArrayEquals(BODY, replay.response().body());
+        verify(repository, times(1)).findById(KEY);
+        verify(repository).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request")
+    void shouldRejectKeyReusedForDifferentRequest() {
+        // Given
+        store.claim(KEY, "hash");
+        store.complete(KEY, "hash", 201, "application/json", BODY);
+
+        // When & Then
+        assertInstanceOf(Claim.Mismatch.class, store.claim(KEY, "other-hash"));
+    }
+
+    @Test
+    @DisplayName("Should let a released key be claimed again")
+    void shouldLetReleasedKeyBeClaimedAgain() {
+        // Given
+        store.claim(KEY, "hash");
+
+        // When
+        store.release(KEY);
+
+        // Then
+        assertInstanceOf(Claim.Acquired.class, store.claim(KEY, "hash"));
+    }
+
+    @Test
+    @DisplayName("Should make a concurrent duplicate wait for the first response")
+    void shouldMakeConcurrentDuplicateWaitForFirstResponse() throws Exception {
+        // Given
+        store.claim(KEY, "hash");
+        Future<Claim> duplicate = executor.submit(() -> store.claim(KEY, "hash"));
+        Thread.sleep(50);
+        assertFalse(duplicate.isDone());
+
+        // When
+        store.complete(KEY, "hash", 201, "application/json", BODY);
+
+        // Then
+        Claim.Replay replay = assertInstanceOf(Claim.Replay.class, duplicate.get(5, TimeUnit.SECONDS));
+        assertArrayEquals(BODY, replay.response().body());
+    }
+
+    @Test
+    @DisplayName("Should hand the key to a waiting duplicate when the first request is released")
+    void shouldHandKeyToWaitingDuplicateOnRelease() throws Exception {
+        // Given
+        store.claim(KEY, "hash");
+        Future<Claim> duplicate = executor.submit(() -> store.claim(KEY, "hash"));
+        Thread.sleep(50);
+
+        // When
+        store.release(KEY);
+
+        // Then
+        assertInstanceOf(Claim.Acquired.class, duplicate.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should report a key still in progress after the wait timeout")
+    void shouldReportKeyInProgressAfterWaitTimeout() {
+        // Given
+        store = newStore(Duration.ofHours(24), 100, Duration.ofMillis(20));
+        store.claim(KEY, "hash");
+
+        // When & Then
+        assertInstanceOf(Claim.InProgress.class, store.claim(KEY, "hash"));
+    }
+
+    @Test
+    @DisplayName("Should replay a persisted response that is not in memory")
+    void shouldReplayPersistedResponse() {
+        // Given
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        when(repository.findById(KEY)).thenReturn(Optional.of(IdempotencyRecord.builder()
+            .scopedKey(KEY)
+            .requestHash("hash")
+            .responseStatus(200)
+            .contentType("application/json")
+            .responseBody(BODY)
+            .createdAt(now.minusHours(1))
+            .expiresAt(now.plusHours(1))
+            .build()));
+
+        // When
+        Claim claim = store.claim(KEY, "hash");
+
+        // Then
+        Claim.Replay replay = assertInstanceOf(Claim.Replay.class, claim);
+        assertEquals(200, replay.response().status());
+        assertEquals(1, store.cachedEntries());
+    }
+
+    @Test
+    @DisplayName("Should claim a key in the table with a placeholder row")
+    void shouldClaimKeyWithPlaceholder() {
+        // When
+        Claim claim = store.claim(KEY, "hash");
+
+        // Then
+        assertInstanceOf(Claim.Acquired.class, claim);
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        verify(repository).insertPlaceholder(KEY, "hash", now, now.plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should poll a key held by another instance and replay its response")
+    void shouldPollKeyHeldByAnotherInstance() {
+        // Given
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        IdempotencyRecord placeholder = IdempotencyRecord.builder()
+            .scopedKey(KEY)
+            .requestHash("hash")
+            .responseStatus(IdempotencyRecord.PLACEHOLDER_STATUS)
+            .createdAt(now)
+            .expiresAt(now.plusMinutes(5))
+            .build();
+        IdempotencyRecord completed = IdempotencyRecord.builder()
+            .scopedKey(KEY)
+            .requestHash("hash")
+            .responseStatus(201)
+            .contentType("application/json")
+            .responseBody(BODY)
+            .createdAt(now)
+            .expiresAt(now.plusHours(24))
+            .build();
+        when(repository.findById(KEY)).thenReturn(Optional.empty(), Optional.of(placeholder), Optional.of(completed));
+        when(repository.insertPlaceholder(any(), any(), any(), any()))
+            .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When
+        Claim claim = store.claim(KEY, "hash");
+
+        // Then
+        Claim.Replay replay = assertInstanceOf(Claim.Replay.class, claim);
+        assertEquals(201, replay.response().status());
+        verify(repository, times(3)).findById(KEY);
+    }
+
+    @Test
+    @DisplayName("Should report a key another instance holds for too long as in progress")
+    void shouldReportKeyHeldElsewhereInProgress() {
+        // Given
+        store = newStore(Duration.ofHours(24), 100, Duration.ofMillis(20));
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        when(repository.findById(KEY)).thenReturn(Optional.of(IdempotencyRecord.builder()
+            .scopedKey(KEY)
+            .requestHash("hash")
+            .responseStatus(IdempotencyRecord.PLACEHOLDER_STATUS)
+            .createdAt(now)
+            .expiresAt(now.plusMinutes(5))
+            .build()));
+
+        // When & Then
+        assertInstanceOf(Claim.InProgress.class, store.claim(KEY, "hash"));
+        verify(repository, never()).insertPlaceholder(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should delete the placeholder when a claimed key is released")
+    void shouldDeletePlaceholderOnRelease() {
+        // Given
+        store.claim(KEY, "hash");
+
+        // When
+        store.release(KEY);
+
+        // Then
+        verify(repository).deletePlaceholder(KEY);
+    }
+
+    @Test
+    @DisplayName("Should ignore an expired persisted response")
+    void shouldIgnoreExpiredPersistedResponse() {
+        // Given
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        when(repository.findById(KEY)).thenReturn(Optional.of(IdempotencyRecord.builder()
+            .scopedKey(KEY)
+            .requestHash("hash")
+            .responseStatus(200)
+            .responseBody(BODY)
+            .createdAt(now.minusHours(25))
+            .expiresAt(now.minusHours(1))
+            .build()));
+
+        // When & Then
+        assertInstanceOf(Claim.Acquired.class, store.claim(KEY, "hash"));
+    }
+
+    @Test
+    @DisplayName("Should not replay a response once its time to live has passed")
+    void shouldNotReplayExpiredResponse() {
+        // Given
+        store = newStore(Duration.ZERO, 100, Duration.ofSeconds(5));
+        store.claim(KEY, "hash");
+        store.complete(KEY, "hash", 201, "application/json", BODY);
+
+        // When & Then
+        assertInstanceOf(Claim.Acquired.class, store.claim(KEY, "hash"));
+    }
+
+    @Test
+    @DisplayName("Should purge expired responses from memory and the table")
+    void shouldPurgeExpiredResponses() {
+        // Given
+        store = newStore(Duration.ZERO, 100, Duration.ofSeconds(5));
+        store.claim(KEY, "hash");
+        store.complete(KEY, "hash", 201, "application/json", BODY);
+        when(repository.deleteExpired(LocalDateTime.now(CLOCK))).thenReturn(3);
+
+        // When
+        int deleted = store.purgeExpired();
+
+        // Then
+        assertEquals(3, deleted);
+        assertEquals(0, store.cachedEntries());
+    }
+
+    @Test
+    @DisplayName("Should keep at most the configured number of responses in memory")
+    void shouldBoundInMemoryEntries() {
+        // Given
+        store = newStore(Duration.ofHours(24), 2, Duration.ofSeconds(5));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            String key = KEY + i;
+            store.claim(key, "hash");
+            store.complete(key, "hash", 201, "application/json", BODY);
+        }
+
+        // Then
+        assertEquals(2, store.cachedEntries());
+    }
+
+    private IdempotencyStore newStore(Duration ttl, int maxEntries, Duration waitTimeout) {
+        return new IdempotencyStore(repository, CLOCK, ttl, maxEntries, waitTimeout, Duration.ofMinutes(5),
+            Duration.ofMillis(10));
+    }
+}
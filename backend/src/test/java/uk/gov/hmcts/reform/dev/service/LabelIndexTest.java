@@ -0,0 +1,166 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.dev.dto.LabelFilterResult;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskIdStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskLabel;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LabelIndex Unit Tests")
+class LabelIndexTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2026, 5, 1, 9, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private LabelIndex labelIndex;
+
+    @BeforeEach
+    void setUp() {
+        labelIndex = new LabelIndex(taskRepository);
+        when(taskRepository.findAllIdsAndStatuses()).thenReturn(List.of(
+            new TaskIdStatus(1L, TaskStatus.PENDING),
+            new TaskIdStatus(2L, TaskStatus.PENDING),
+            new TaskIdStatus(3L, TaskStatus.IN_PROGRESS),
+            new TaskIdStatus(4L, TaskStatus.COMPLETED)
+        ));
+        when(taskRepository.findAllLabels()).thenReturn(List.of(
+            new TaskLabel(1L, "urgent"),
+            new TaskLabel(1L, "family"),
+            new TaskLabel(2L, "family"),
+            new TaskLabel(3L, "urgent"),
+            new TaskLabel(3L, "civil"),
+            new TaskLabel(4L, "urgent")
+        ));
+    }
+
+    @Test
+    @DisplayName("Should intersect required labels and count matches by status")
+    void shouldMatchAllLabels() {
+        // When
+        LabelFilterResult result = labelIndex.filter(List.of("Urgent"), null, null, null, 0, 20);
+
+        // Then
+        assertEquals(3, result.getTotal());
+        assertEquals(List.of(1L, 3L, 4L), result.getTaskIds());
+        assertEquals(1L, result.getByStatus().get(TaskStatus.PENDING));
+        assertEquals(1L, result.getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(1L, result.getByStatus().get(TaskStatus.COMPLETED));
+        assertEquals(0L, result.getByStatus().get(TaskStatus.CANCELLED));
+    }
+
+    @Test
+    @DisplayName("Should combine any-of, none-of and status filters")
+    void shouldCombineFilters() {
+        // When
+        LabelFilterResult result = labelIndex.filter(
+            null, List.of("family", "civil"), List.of("urgent"), List.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS),
+            0, 20
+        );
+
+        // Then
+        assertEquals(List.of(2L), result.getTaskIds());
+    }
+
+    @Test
+    @DisplayName("Should match nothing when a required label is unknown")
+    void shouldMatchNothingForUnknownLabel() {
+        // When
+        LabelFilterResult result = labelIndex.filter(List.of("urgent", "welsh"), null, null, null, 0, 20);
+
+        // Then
+        assertEquals(0, result.getTotal());
+        assertEquals(List.of(), result.getTaskIds());
+    }
+
+    @Test
+    @DisplayName("Should page through matching ids in ascending order")
+    void shouldPageMatchingIds() {
+        // When
+        LabelFilterResult second = labelIndex.filter(null, null, null, null, 1, 3);
+        LabelFilterResult beyond = labelIndex.filter(null, null, null, null, 2, 3);
+
+        // Then
+        assertEquals(4, second.getTotal());
+        assertEquals(List.of(4L), second.getTaskIds());
+        assertEquals(List.of(), beyond.getTaskIds());
+    }
+
+    @Test
+    @DisplayName("Should apply created, relabelled, updated and archived tasks")
+    void shouldApplyTaskChanges() {
+        // Given
+        labelIndex.rebuild();
+
+        // When
+        labelIndex.onTaskChanged(new TaskChangedEvent(List.of(
+            new TaskChangedEvent.Change(5L, null, new TaskSnapshot(TaskStatus.PENDING, DUE, null, Set.of("welsh"))),
+            new TaskChangedEvent.Change(
+                2L,
+                new TaskSnapshot(TaskStatus.PENDING, DUE, null, Set.of("family")),
+                new TaskSnapshot(TaskStatus.PENDING, DUE, null, Set.of("civil"))
+            ),
+            new TaskChangedEvent.Change(
+                3L,
+                new TaskSnapshot(TaskStatus.IN_PROGRESS, DUE, null, null),
+                new TaskSnapshot(TaskStatus.COMPLETED, DUE, null, null)
+            ),
+            new TaskChangedEvent.Change(4L, new TaskSnapshot(TaskStatus.COMPLETED, DUE, null, Set.of("urgent")), null)
+        )));
+
+        // Then
+        assertEquals(Map.of("urgent", 2, "family", 1, "civil", 2, "welsh", 1), labelIndex.labelCounts());
+        assertEquals(List.of(3L), labelIndex.filter(List.of("urgent"), null, null,
+            List.of(TaskStatus.COMPLETED), 0, 20).getTaskIds());
+        assertEquals(4, labelIndex.filter(null, null, null, null, 0, 20).getTotal());
+    }
+
+    @Test
+    @DisplayName("Should index task ids beyond the int range")
+    void shouldIndexLargeIds() {
+        // Given
+        labelIndex.rebuild();
+        long largeId = Integer.MAX_VALUE + 10L;
+
+        // When
+        labelIndex.onTaskChanged(TaskChangedEvent.of(
+            largeId, null, new TaskSnapshot(TaskStatus.PENDING, DUE, null, Set.of("urgent"))));
+
+        // Then
+        LabelFilterResult result = labelIndex.filter(List.of("urgent"), null, null, null, 1, 2);
+        assertEquals(4, result.getTotal());
+        assertEquals(List.of(4L, largeId), result.getTaskIds());
+        assertEquals(2L, result.getByStatus().get(TaskStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("Should build once on first use")
+    void shouldBuildLazilyOnce() {
+        // When
+        labelIndex.labelCounts();
+        labelIndex.labelCounts();
+
+        // Then
+        verify(taskRepository, times(1)).findAllIdsAndStatuses();
+    }
+}
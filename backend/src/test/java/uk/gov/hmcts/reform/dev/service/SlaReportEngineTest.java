@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.dto.SlaReportRow;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskSlaRow;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("SlaReportEngine Unit Tests")
+class SlaReportEngineTest {
+
+    // Monday 2 March 2026
+    private static final LocalDateTime WEEK = LocalDateTime.of(2026, 3, 2, 17, 0);
+    private static final LocalDateTime AS_OF = WEEK.plusDays(9);
+    private static final WorkingDayCalendar CALENDAR = WorkingDayCalendar.of(Set.of());
+
+    private final List<SlaReportEngine> engines = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        engines.forEach(SlaReportEngine::close);
+    }
+
+    @Test
+    @DisplayName("Should count lateness in working days by due week and status")
+    void shouldCountLatenessByWeekAndStatus() {
+        // Given
+        LocalDateTime friday = WEEK.plusDays(4);
+        List<TaskSlaRow> rows = List.of(
+            new TaskSlaRow(TaskStatus.COMPLETED, WEEK, WEEK.minusHours(2)),
+            // Late on the due day itself, then late over a weekend to Tuesday
+            new TaskSlaRow(TaskStatus.COMPLETED, WEEK, WEEK.plusHours(3)),
+            new TaskSlaRow(TaskStatus.COMPLETED, friday, friday.plusDays(4)),
+            // Open past its due date: Monday 2nd to Wednesday 11th is seven working days
+            new TaskSlaRow(TaskStatus.PENDING, WEEK, null),
+            new TaskSlaRow(TaskStatus.PENDING, AS_OF.plusDays(1), null),
+            new TaskSlaRow(TaskStatus.CANCELLED, WEEK, AS_OF)
+        );
+
+        // When
+        List<SlaReportRow> report = run(engine(2, 1024), rows);
+
+        // Then
+        assertEquals(4, report.size());
+        SlaReportRow pending = report.get(0);
+        assertEquals(LocalDate.of(2026, 3, 2), pending.getWeekStarting());
+        assertEquals(TaskStatus.PENDING, pending.getStatus());
+        assertEquals(1, pending.getLate());
+        assertEquals(7, pending.getMaxWorkingDaysLate());
+        assertEquals(1L, pending.getLateByWorkingDays().get("6-10"));
+
+        SlaReportRow completed = report.get(1);
+        assertEquals(LocalDate.of(2026, 3, 2), completed.getWeekStarting());
+        assertEquals(TaskStatus.COMPLETED, completed.getStatus());
+        assertEquals(3, completed.getTasks());
+        assertEquals(1, completed.getOnTime());
+        assertEquals(2, completed.getLate());
+        assertEquals(2, completed.getWorkingDaysLate());
+        assertEquals(2, completed.getMaxWorkingDaysLate());
+        assertEquals(Map.of("0", 1L, "1", 0L, "2-5", 1L, "6-10", 0L, "11+", 0L), completed.getLateByWorkingDays());
+
+        SlaReportRow cancelled = report.get(2);
+        assertEquals(TaskStatus.CANCELLED, cancelled.getStatus());
+        assertEquals(0, cancelled.getLate());
+
+        SlaReportRow nextWeek = report.get(3);
+        assertEquals(LocalDate.of(2026, 3, 9), nextWeek.getWeekStarting());
+        assertEquals(TaskStatus.PENDING, nextWeek.getStatus());
+        assertEquals(1, nextWeek.getOnTime());
+    }
+
+    @Test
+    @DisplayName("Should produce the same report whatever the parallelism and chunking")
+    void shouldMatchSingleThreadedReport() {
+        // Given
+        Random random = new Random(42);
+        TaskStatus[] statuses = TaskStatus.values();
+        List<TaskSlaRow> rows = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            // Mostly recent due dates, with some spread over fifteen years so leaves take the sparse path too
+            int daysBack = i % 10 == 0 ? random.nextInt(15 * 365) : random.nextInt(120);
+            LocalDateTime due = AS_OF.minusDays(daysBack).plusMinutes(random.nextInt(24 * 60));
+            LocalDateTime updated = due.plusHours(random.nextInt(500) - 100);
+            rows.add(new TaskSlaRow(statuses[random.nextInt(statuses.length)], due, updated));
+        }
+
+        // When
+        List<String> expected = describe(run(engine(1, 1_000_000), rows));
+        List<String> parallel = describe(run(engine(4, 1024), rows));
+
+        // Then
+        assertEquals(expected, parallel);
+        assertEquals(rows.size(), run(engine(3, 5000), rows).stream().mapToLong(SlaReportRow::getTasks).sum());
+    }
+
+    private SlaReportEngine engine(int parallelism, int chunkSize) {
+        SlaReportEngine engine = new SlaReportEngine(parallelism, chunkSize);
+        engines.add(engine);
+        return engine;
+    }
+
+    private static List<SlaReportRow> run(SlaReportEngine engine, List<TaskSlaRow> rows) {
+        SlaReportEngine.Run run = engine.start(CALENDAR, AS_OF);
+        rows.forEach(run);
+        return run.finish();
+    }
+
+    private static List<String> describe(List<SlaReportRow> rows) {
+        return rows.stream()
+            .map(row -> row.getWeekStarting() + " " + row.getStatus() + " " + row.getTasks() + " " + row.getLate()
+                + " " + row.getWorkingDaysLate() + " " + row.getMaxWorkingDaysLate() + " " + row.getLateByWorkingDays())
+            .toList();
+    }
+}
@@ -0,0 +1,126 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.models.ArchivedTask;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskArchiver Unit Tests")
+class TaskArchiverTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 3, 3, 12, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = new TaskArchiver(
+            taskRepository, entityManager, transactionManager, eventPublisher, CLOCK,
+            Duration.ofDays(90), CHUNK_SIZE, 10, Duration.ZERO
+        );
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("Should copy and delete closed tasks chunk by chunk until a partial chunk")
+    void shouldArchiveInChunks() {
+        // Given
+        when(taskRepository.findIdsByStatusUpdatedBefore(
+            TaskArchiver.CLOSED_STATUSES, CUTOFF, PageRequest.of(0, CHUNK_SIZE)
+        )).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(taskRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(closedTask(1L), closedTask(2L)));
+        when(taskRepository.findAllById(List.of(3L))).thenReturn(List.of(closedTask(3L)));
+
+        // When
+        int archived = archiver.archiveClosedTasks();
+
+        // Then
+        assertEquals(3, archived);
+        ArgumentCaptor<ArchivedTask> copies = ArgumentCaptor.forClass(ArchivedTask.class);
+        verify(entityManager, times(3)).persist(copies.capture());
+        assertEquals(List.of(1L, 2L, 3L), copies.getAllValues().stream().map(ArchivedTask::getId).toList());
+        assertEquals("civil,urgent", copies.getValue().getLabels());
+        verify(taskRepository).deleteAllByIdIn(List.of(1L, 2L));
+        verify(taskRepository).deleteAllByIdIn(List.of(3L));
+        verify(transactionManager, times(2)).commit(any());
+        ArgumentCaptor<TaskChangedEvent> events = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        TaskChangedEvent.Change removed = events.getAllValues().get(1).changes().getFirst();
+        assertEquals(3L, removed.taskId());
+        assertEquals(TaskStatus.COMPLETED, removed.before().status());
+        assertEquals(Set.of("urgent", "civil"), removed.before().labels());
+        assertNull(removed.after());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no tasks are eligible")
+    void shouldDoNothingWhenNothingEligible() {
+        // Given
+        when(taskRepository.findIdsByStatusUpdatedBefore(any(), eq(CUTOFF), any())).thenReturn(List.of());
+
+        // When
+        int archived = archiver.archiveClosedTasks();
+
+        // Then
+        assertEquals(0, archived);
+        verify(taskRepository, never()).deleteAllByIdIn(any());
+    }
+
+    private static Task closedTask(Long id) {
+        return Task.builder()
+            .id(id)
+            .title("Closed task " + id)
+            .status(TaskStatus.COMPLETED)
+            .labels(new HashSet<>(Set.of("urgent", "civil")))
+            .dueDate(CUTOFF.minusDays(10))
+            .createdAt(CUTOFF.minusDays(20))
+            .updatedAt(CUTOFF.minusDays(5))
+            .build();
+    }
+}
@@ -0,0 +1,144 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskAssignmentService Unit Tests")
+class TaskAssignmentServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-06-01T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+    private static final LocalDateTime DUE = NOW.plusDays(3);
+    private static final String ASSIGNEE = "jane.smith";
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskAssignmentService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskAssignmentService(taskRepository, transactionManager, eventPublisher, CLOCK, 1);
+        lenient().when(transactionManager.getTransaction(any()))
+            .thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @Test
+    @DisplayName("Should claim the most urgent unassigned task and publish the assignment")
+    void shouldClaimNextTask() {
+        // Given
+        when(taskRepository.findClaimCandidates(TaskStatus.PENDING, PageRequest.of(0, 1))).thenReturn(List.of(4L));
+        when(taskRepository.claim(4L, TaskStatus.PENDING, ASSIGNEE, NOW)).thenReturn(1);
+        when(taskRepository.findById(4L)).thenReturn(Optional.of(task(4L, ASSIGNEE)));
+
+        // When
+        Optional<TaskResponse> claimed = service.claimNext(ASSIGNEE);
+
+        // Then
+        assertTrue(claimed.isPresent());
+        assertEquals(4L, claimed.get().getId());
+        assertEquals(ASSIGNEE, claimed.get().getAssignee());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.of(
+            4L,
+            new TaskSnapshot(TaskStatus.PENDING, DUE, null, null),
+            new TaskSnapshot(TaskStatus.PENDING, DUE, ASSIGNEE, null)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should move on to the next candidate when another caseworker wins the claim")
+    void shouldRetryWhenClaimLost() {
+        // Given
+        when(taskRepository.findClaimCandidates(TaskStatus.PENDING, PageRequest.of(0, 1)))
+            .thenReturn(List.of(4L), List.of(5L));
+        when(taskRepository.claim(4L, TaskStatus.PENDING, ASSIGNEE, NOW)).thenReturn(0);
+        when(taskRepository.claim(5L, TaskStatus.PENDING, ASSIGNEE, NOW)).thenReturn(1);
+        when(taskRepository.findById(5L)).thenReturn(Optional.of(task(5L, ASSIGNEE)));
+
+        // When
+        Optional<TaskResponse> claimed = service.claimNext(ASSIGNEE);
+
+        // Then
+        assertEquals(5L, claimed.orElseThrow().getId());
+        verify(taskRepository, never()).findById(4L);
+    }
+
+    @Test
+    @DisplayName("Should return empty when no unassigned tasks are left")
+    void shouldReturnEmptyWhenNothingToClaim() {
+        // Given
+        when(taskRepository.findClaimCandidates(TaskStatus.PENDING, PageRequest.of(0, 1))).thenReturn(List.of());
+
+        // When
+        Optional<TaskResponse> claimed = service.claimNext(ASSIGNEE);
+
+        // Then
+        assertTrue(claimed.isEmpty());
+        verify(taskRepository, never()).claim(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should list a caseworker's queue filtered by status")
+    void shouldListQueue() {
+        // Given
+        when(taskRepository.findByAssigneeAndStatusOrderByDueDateAscIdAsc(
+            eq(ASSIGNEE), eq(TaskStatus.PENDING), eq(PageRequest.of(0, TaskService.MAX_PAGE_SIZE))
+        )).thenReturn(List.of(task(1L, ASSIGNEE)));
+
+        // When
+        List<TaskResponse> queue = service.getQueue(ASSIGNEE, TaskStatus.PENDING, 0, 500);
+
+        // Then
+        assertEquals(1, queue.size());
+        assertEquals(ASSIGNEE, queue.getFirst().getAssignee());
+    }
+
+    private static Task task(Long id, String assignee) {
+        return Task.builder()
+            .id(id)
+            .title("Task " + id)
+            .status(TaskStatus.PENDING)
+            .assignee(assignee)
+            .dueDate(DUE)
+            .createdAt(NOW)
+            .updatedAt(NOW)
+            .build();
+    }
+}
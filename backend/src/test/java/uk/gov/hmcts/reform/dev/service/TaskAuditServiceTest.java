@@ -0,0 +1,285 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import uk.gov.hmcts.reform.dev.dto.TaskHistoryEntry;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.models.AuditChangeType;
+import uk.gov.hmcts.reform.dev.models.TaskAudit;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.TaskAuditRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskAuditService Unit Tests")
+class TaskAuditServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-02T09:15:30Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+    private static final LocalDateTime DUE = NOW.plusDays(7);
+
+    @Mock
+    private TaskAuditWriter writer;
+
+    @Mock
+    private TaskAuditRepository taskAuditRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskAuditService taskAuditService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(i -> new SimpleTransactionStatus());
+        taskAuditService = new TaskAuditService(writer, taskAuditRepository, transactionManager, CLOCK, true, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should describe only the fields that changed")
+    void shouldDescribeChangedFields() {
+        // Given
+        TaskChangedEvent event = TaskChangedEvent.of(
+            4L,
+            new TaskSnapshot(TaskStatus.PENDING, DUE, null, Set.of("urgent")),
+            new TaskSnapshot(TaskStatus.IN_PROGRESS, DUE, "jane.smith", Set.of("urgent", "welsh"))
+        );
+
+        // When
+        List<TaskAudit> records = TaskAuditService.toRecords(event, "jane.smith", NOW);
+
+        // Then
+        assertEquals(1, records.size());
+        TaskAudit audit = records.getFirst();
+        assertEquals(AuditChangeType.UPDATED, audit.getChangeType());
+        assertEquals(TaskStatus.PENDING, audit.getOldStatus());
+        assertEquals(TaskStatus.IN_PROGRESS, audit.getNewStatus());
+        assertEquals(
+            "status: PENDING -> IN_PROGRESS; assignee: null -> jane.smith; labels: [urgent] -> [urgent, welsh]",
+            audit.getChanges()
+        );
+        assertEquals(NOW, audit.getChangedAt());
+    }
+
+    @Test
+    @DisplayName("Should record creations and removals and skip writes that changed nothing")
+    void shouldClassifyChanges() {
+        // Given
+        TaskSnapshot pending = new TaskSnapshot(TaskStatus.PENDING, DUE, null, null);
+        TaskChangedEvent event = new TaskChangedEvent(List.of(
+            new TaskChangedEvent.Change(1L, null, new TaskSnapshot(TaskStatus.PENDING, DUE, null, Set.of())),
+            new TaskChangedEvent.Change(2L, pending, pending),
+            new TaskChangedEvent.Change(3L, new TaskSnapshot(TaskStatus.COMPLETED, DUE, null, null), null)
+        ));
+
+        // When
+        List<TaskAudit> records = TaskAuditService.toRecords(event, "system", NOW);
+
+        // Then
+        assertEquals(2, records.size());
+        assertEquals(AuditChangeType.CREATED, records.get(0).getChangeType());
+        assertEquals("status: null -> PENDING; dueDate: null -> " + DUE, records.get(0).getChanges());
+        assertEquals(AuditChangeType.REMOVED, records.get(1).getChangeType());
+        assertEquals(TaskStatus.COMPLETED, records.get(1).getOldStatus());
+        assertNull(records.get(1).getChanges());
+    }
+
+    @Test
+    @DisplayName("Should queue records for the background writer when there is room")
+    void shouldQueueRecords() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(TaskAuditService.ACTOR_HEADER, " jane.smith ");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        when(writer.hasRoomFor(1)).thenReturn(true);
+        when(writer.offer(any(TaskAudit.class))).thenReturn(true);
+
+        // When
+        taskAuditService.onTaskChanged(created(5L));
+
+        // Then
+        ArgumentCaptor<TaskAudit> captor = ArgumentCaptor.forClass(TaskAudit.class);
+        verify(writer).offer(captor.capture());
+        assertEquals("jane.smith", captor.getValue().getActor());
+        verify(writer, never()).stage(any());
+        verify(writer, never()).insert(any());
+    }
+
+    @Test
+    @DisplayName("Should record background changes as made by the system")
+    void shouldRecordSystemActor() {
+        // Given
+        when(writer.hasRoomFor(1)).thenReturn(true);
+        when(writer.offer(any(TaskAudit.class))).thenReturn(true);
+
+        // When
+        taskAuditService.onTaskChanged(created(5L));
+
+        // Then
+        ArgumentCaptor<TaskAudit> captor = ArgumentCaptor.forClass(TaskAudit.class);
+        verify(writer).offer(captor.capture());
+        assertEquals(TaskAuditService.SYSTEM_ACTOR, captor.getValue().getActor());
+    }
+
+    @Test
+    @DisplayName("Should record the actor a change carries over the current thread's")
+    void shouldPreferActorOnChange() {
+        // Given
+        when(writer.hasRoomFor(1)).thenReturn(true);
+        when(writer.offer(any(TaskAudit.class))).thenReturn(true);
+        TaskChangedEvent event = new TaskChangedEvent(List.of(new TaskChangedEvent.Change(
+            5L, null, new TaskSnapshot(TaskStatus.PENDING, DUE, null, Set.of()), "jane.smith")));
+
+        // When
+        taskAuditService.onTaskChanged(event);
+
+        // Then
+        ArgumentCaptor<TaskAudit> captor = ArgumentCaptor.forClass(TaskAudit.class);
+        verify(writer).offer(captor.capture());
+        assertEquals("jane.smith", captor.getValue().getActor());
+    }
+
+    @Test
+    @DisplayName("Should stage records in the outbox when the buffer is full")
+    @SuppressWarnings("unchecked")
+    void shouldStageWhenBufferFull() {
+        // Given
+        when(writer.hasRoomFor(anyInt())).thenReturn(false);
+
+        // When
+        taskAuditService.onTaskChanged(created(5L));
+
+        // Then
+        ArgumentCaptor<List<TaskAudit>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer).stage(captor.capture());
+        assertEquals(5L, captor.getValue().getFirst().getTaskId());
+        verify(writer, never()).offer(any());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should stage records that lose the race for the last slots in a new transaction")
+    @SuppressWarnings("unchecked")
+    void shouldStageRejectedRecords() {
+        // Given
+        when(writer.hasRoomFor(2)).thenReturn(true);
+        when(writer.offer(any(TaskAudit.class))).thenReturn(true, false);
+        TaskChangedEvent event = new TaskChangedEvent(List.of(
+            created(5L).changes().getFirst(),
+            created(6L).changes().getFirst()
+        ));
+
+        // When
+        taskAuditService.onTaskChanged(event);
+
+        // Then
+        ArgumentCaptor<List<TaskAudit>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer, times(2)).offer(any());
+        verify(writer).stage(captor.capture());
+        assertEquals(List.of(6L), captor.getValue().stream().map(TaskAudit::getTaskId).toList());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should stage every record in the writing transaction when durable")
+    void shouldStageEveryRecordWhenDurable() {
+        // Given
+        TaskAuditService durable = new TaskAuditService(writer, taskAuditRepository, transactionManager, CLOCK,
+            true, true);
+
+        // When
+        durable.onTaskChanged(created(5L));
+
+        // Then
+        verify(writer).stage(any());
+        verify(writer, never()).offer(any());
+    }
+
+    @Test
+    @DisplayName("Should insert every record into the audit table when write-behind is off")
+    void shouldInsertDirectlyWhenWriteBehindDisabled() {
+        // Given
+        TaskAuditService synchronous = new TaskAuditService(writer, taskAuditRepository, transactionManager, CLOCK,
+            false, false);
+
+        // When
+        synchronous.onTaskChanged(created(5L));
+
+        // Then
+        verify(writer).insert(any());
+        verify(writer, never()).stage(any());
+        verify(writer, never()).offer(any());
+    }
+
+    @Test
+    @DisplayName("Should read history without waiting on the background writer")
+    void shouldReadCommittedHistory() {
+        // Given
+        TaskAudit audit = TaskAudit.builder()
+            .taskId(5L)
+            .changeType(AuditChangeType.CREATED)
+            .actor("anonymous")
+            .newStatus(TaskStatus.PENDING)
+            .changedAt(NOW)
+            .build();
+        when(taskAuditRepository.findByTaskIdOrderByChangedAtAscIdAsc(5L)).thenReturn(List.of(audit));
+
+        // When
+        List<TaskHistoryEntry> history = taskAuditService.getHistory(5L);
+
+        // Then
+        assertEquals(1, history.size());
+        assertEquals(AuditChangeType.CREATED, history.getFirst().getChangeType());
+        verifyNoInteractions(writer);
+    }
+
+    @Test
+    @DisplayName("Should throw when a task has no history")
+    void shouldThrowWhenNoHistory() {
+        // Given
+        when(taskAuditRepository.findByTaskIdOrderByChangedAtAscIdAsc(99L)).thenReturn(List.of());
+
+        // When / Then
+        assertThrows(TaskNotFoundException.class, () -> taskAuditService.getHistory(99L));
+    }
+
+    private static TaskChangedEvent created(Long taskId) {
+        return TaskChangedEvent.of(taskId, null, new TaskSnapshot(TaskStatus.PENDING, DUE, null, Set.of()));
+    }
+}
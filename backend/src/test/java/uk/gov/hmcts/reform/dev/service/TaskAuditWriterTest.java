@@ -0,0 +1,247 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import uk.gov.hmcts.reform.dev.models.AuditChangeType;
+import uk.gov.hmcts.reform.dev.models.TaskAudit;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskAuditWriter Unit Tests")
+class TaskAuditWriterTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-02T09:15:30Z"), ZoneOffset.UTC);
+    private static final int BATCH_SIZE = 3;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskAuditWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(i -> new SimpleTransactionStatus());
+        writer = new TaskAuditWriter(jdbcTemplate, transactionManager, CLOCK, 16, BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should write queued records in batches")
+    void shouldWriteQueuedRecordsInBatches() {
+        // Given
+        List<Collection<TaskAudit>> batches = captureInserts();
+        for (long i = 1; i <= 7; i++) {
+            assertTrue(writer.offer(audit(i)));
+        }
+
+        // When
+        int written = writer.flush();
+
+        // Then
+        assertEquals(7, written);
+        assertEquals(List.of(3, 3, 1), batches.stream().map(Collection::size).toList());
+        assertEquals(0, writer.pending());
+    }
+
+    @Test
+    @DisplayName("Should keep a failed batch, refuse new records and retry on the next flush")
+    void shouldRetryFailedBatch() {
+        // Given
+        List<Collection<TaskAudit>> batches = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(eq(TaskAuditWriter.INSERT_SQL), anyCollection(), anyInt(), any()))
+            .thenThrow(new DataAccessResourceFailureException("database unavailable"))
+            .thenAnswer(invocation -> {
+                batches.add(invocation.getArgument(1));
+                return new int[0][];
+            });
+        writer.offer(audit(1L));
+        writer.offer(audit(2L));
+
+        // When
+        int firstAttempt = writer.flush();
+
+        // Then
+        assertEquals(0, firstAttempt);
+        assertEquals(2, writer.pending());
+        assertFalse(writer.offer(audit(3L)), "new records should take the outbox while a batch is failing");
+        assertFalse(writer.hasRoomFor(1));
+
+        // When
+        int secondAttempt = writer.flush();
+
+        // Then
+        assertEquals(2, secondAttempt);
+        assertEquals(1, batches.size());
+        assertTrue(writer.offer(audit(3L)));
+    }
+
+    @Test
+    @DisplayName("Should stage records it cannot write on shutdown in the outbox")
+    @SuppressWarnings("unchecked")
+    void shouldStageUnwrittenRecordsOnShutdown() {
+        // Given
+        when(jdbcTemplate.batchUpdate(eq(TaskAuditWriter.INSERT_SQL), anyCollection(), anyInt(), any()))
+            .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+        writer.offer(audit(1L));
+        writer.offer(audit(2L));
+
+        // When
+        writer.shutdown();
+
+        // Then
+        ArgumentCaptor<Collection<TaskAudit>> records = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(
+            eq(TaskAuditWriter.STAGE_SQL), records.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class)
+        );
+        assertEquals(List.of(1L, 2L), records.getValue().stream().map(TaskAudit::getTaskId).toList());
+        assertEquals(0, writer.pending());
+    }
+
+    @Test
+    @DisplayName("Should stage records in the outbox")
+    @SuppressWarnings("unchecked")
+    void shouldStageRecords() {
+        // When
+        writer.stage(List.of(audit(1L), audit(2L)));
+
+        // Then
+        ArgumentCaptor<Collection<TaskAudit>> records = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(
+            eq(TaskAuditWriter.STAGE_SQL), records.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class)
+        );
+        assertEquals(2, records.getValue().size());
+        verify(jdbcTemplate, never()).batchUpdate(eq(TaskAuditWriter.INSERT_SQL), anyCollection(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Should relay staged records in batches until the outbox is empty")
+    @SuppressWarnings("unchecked")
+    void shouldRelayStagedRecordsInBatches() {
+        // Given
+        when(jdbcTemplate.query(eq(TaskAuditWriter.SELECT_STAGED_SQL), any(RowMapper.class), eq(BATCH_SIZE)))
+            .thenReturn(List.of(staged(1L), staged(2L), staged(3L)), List.of(staged(4L)));
+        when(jdbcTemplate.batchUpdate(eq(TaskAuditWriter.CLAIM_SQL), anyCollection(), anyInt(), any()))
+            .thenReturn(new int[][] {{1, 1, 1}}, new int[][] {{1}});
+        List<Collection<TaskAudit>> batches = captureInserts();
+
+        // When
+        int relayed = writer.flush();
+
+        // Then
+        assertEquals(4, relayed);
+        assertEquals(List.of(3, 1), batches.stream().map(Collection::size).toList());
+    }
+
+    @Test
+    @DisplayName("Should copy only the records this relay claimed")
+    @SuppressWarnings("unchecked")
+    void shouldSkipRecordsClaimedElsewhere() {
+        // Given
+        when(jdbcTemplate.query(eq(TaskAuditWriter.SELECT_STAGED_SQL), any(RowMapper.class), eq(BATCH_SIZE)))
+            .thenReturn(List.of(staged(1L), staged(2L)));
+        when(jdbcTemplate.batchUpdate(eq(TaskAuditWriter.CLAIM_SQL), anyCollection(), anyInt(), any()))
+            .thenReturn(new int[][] {{0, 1}});
+        List<Collection<TaskAudit>> batches = captureInserts();
+
+        // When
+        int relayed = writer.flush();
+
+        // Then
+        assertEquals(1, relayed);
+        assertEquals(2L, batches.getFirst().iterator().next().getTaskId());
+    }
+
+    @Test
+    @DisplayName("Should leave staged records in the outbox when the relay fails")
+    @SuppressWarnings("unchecked")
+    void shouldRetryFailedRelay() {
+        // Given
+        when(jdbcTemplate.query(eq(TaskAuditWriter.SELECT_STAGED_SQL), any(RowMapper.class), eq(BATCH_SIZE)))
+            .thenThrow(new DataAccessResourceFailureException("database unavailable"))
+            .thenReturn(List.of(staged(1L)));
+        when(jdbcTemplate.batchUpdate(eq(TaskAuditWriter.CLAIM_SQL), anyCollection(), anyInt(), any()))
+            .thenReturn(new int[][] {{1}});
+        captureInserts();
+
+        // When
+        int firstAttempt = writer.flush();
+        int secondAttempt = writer.flush();
+
+        // Then
+        assertEquals(0, firstAttempt);
+        assertEquals(1, secondAttempt);
+    }
+
+    @Test
+    @DisplayName("Should insert records directly with the recorded-at time")
+    @SuppressWarnings("unchecked")
+    void shouldInsertDirectly() {
+        // When
+        writer.insert(List.of(audit(1L), audit(2L)));
+
+        // Then
+        ArgumentCaptor<Collection<TaskAudit>> records = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(
+            eq(TaskAuditWriter.INSERT_SQL), records.capture(), eq(2), any(ParameterizedPreparedStatementSetter.class)
+        );
+        assertEquals(2, records.getValue().size());
+    }
+
+    private List<Collection<TaskAudit>> captureInserts() {
+        List<Collection<TaskAudit>> batches = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(eq(TaskAuditWriter.INSERT_SQL), anyCollection(), anyInt(), any()))
+            .thenAnswer(invocation -> {
+                batches.add(invocation.getArgument(1));
+                return new int[0][];
+            });
+        return batches;
+    }
+
+    private static TaskAuditWriter.StagedAudit staged(Long id) {
+        return new TaskAuditWriter.StagedAudit(id, audit(id));
+    }
+
+    private static TaskAudit audit(Long taskId) {
+        return TaskAudit.builder()
+            .taskId(taskId)
+            .changeType(AuditChangeType.CREATED)
+            .actor("system")
+            .newStatus(TaskStatus.PENDING)
+            .changedAt(LocalDateTime.now(CLOCK))
+            .build();
+    }
+}
@@ -7,23 +7,46 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 import uk.gov.hmcts.reform.dev.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.dto.DueTaskPage;
 import uk.gov.hmcts.reform.dev.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
 import uk.gov.hmcts.reform.dev.exception.BankHolidayException;
+import uk.gov.hmcts.reform.dev.exception.CaseNotFoundException;
+import uk.gov.hmcts.reform.dev.exception.DuplicateTaskException;
+import uk.gov.hmcts.reform.dev.exception.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.models.ArchivedTask;
+import uk.gov.hmcts.reform.dev.models.CaseFile;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskFingerprint;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repository.ArchivedTaskRepository;
+import uk.gov.hmcts.reform.dev.repository.CaseFileRepository;
 import uk.gov.hmcts.reform.dev.repository.TaskRepository;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,16 +57,38 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Mock
+    private CaseFileRepository caseFileRepository;
+
     @Mock
     private BankHolidayService bankHolidayService;
 
+    @Mock
+    private DueDateIndex dueDateIndex;
+
+    @Mock
+    private DuplicateTaskDetector duplicateTaskDetector;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private TaskService taskService;
 
     private LocalDateTime futureDate;
 
     @BeforeEach
     void setUp() {
-        taskService = new TaskService(taskRepository, bankHolidayService);
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(i -> new SimpleTransactionStatus());
+        taskService = new TaskService(
+            taskRepository, archivedTaskRepository, caseFileRepository, bankHolidayService, dueDateIndex,
+            duplicateTaskDetector, eventPublisher, transactionManager
+        );
         futureDate = LocalDateTime.now().plusDays(7);
     }
 
@@ -82,6 +127,9 @@ class TaskServiceTest {
         assertEquals(TaskStatus.PENDING, response.getStatus());
         assertEquals(futureDate, response.getDueDate());
         verify(bankHolidayService).validateNotBankHoliday(futureDate);
+        verify(eventPublisher).publishEvent(
+            TaskChangedEvent.of(1L, null, new TaskSnapshot(TaskStatus.PENDING, futureDate, null, Set.of()))
+        );
     }
 
     @Test
@@ -212,4 +260,447 @@ class TaskServiceTest {
         assertEquals("2026-04-06", exception.getHolidayDate());
         verify(taskRepository, never()).save(any(Task.class));
     }
+
+    @Test
+    @DisplayName("Should store and record the fingerprint of a new task")
+    void shouldStoreFingerprint() {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Review Bundle")
+            .status(TaskStatus.PENDING)
+            .dueDate(futureDate)
+            .build();
+        String fingerprint = TaskFingerprint.of("Review Bundle", null, futureDate);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        taskService.createTask(request);
+
+        // Then
+        ArgumentCaptor<Task> saved = ArgumentCaptor.forClass(Task.class);
+        verify(taskRepository).save(saved.capture());
+        assertEquals(fingerprint, saved.getValue().getFingerprint());
+        verify(duplicateTaskDetector).findDuplicate(fingerprint);
+        verify(duplicateTaskDetector).record(fingerprint);
+    }
+
+    @Test
+    @DisplayName("Should reject a duplicate task under the reject policy")
+    void shouldRejectDuplicate() {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Review Bundle")
+            .status(TaskStatus.PENDING)
+            .dueDate(futureDate)
+            .build();
+        when(duplicateTaskDetector.findDuplicate(any())).thenReturn(Optional.of(8L));
+        when(duplicateTaskDetector.policy()).thenReturn(DuplicateTaskDetector.Policy.REJECT);
+
+        // When / Then
+        DuplicateTaskException exception = assertThrows(
+            DuplicateTaskException.class, () -> taskService.createTask(request)
+        );
+        assertEquals(8L, exception.getExistingTaskId());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("Should create a duplicate without a fingerprint under the warn policy")
+    void shouldCreateDuplicateUnderWarnPolicy() {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Review Bundle")
+            .status(TaskStatus.PENDING)
+            .dueDate(futureDate)
+            .build();
+        when(duplicateTaskDetector.findDuplicate(any())).thenReturn(Optional.of(8L));
+        when(duplicateTaskDetector.policy()).thenReturn(DuplicateTaskDetector.Policy.WARN);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(9L);
+            return task;
+        });
+
+        // When
+        TaskResponse response = taskService.createTask(request);
+
+        // Then
+        assertEquals(9L, response.getId());
+        ArgumentCaptor<Task> saved = ArgumentCaptor.forClass(Task.class);
+        verify(taskRepository).save(saved.capture());
+        assertNull(saved.getValue().getFingerprint());
+        verify(duplicateTaskDetector, never()).record(any());
+    }
+
+    @Test
+    @DisplayName("Should add the labels to the existing task under the merge policy")
+    void shouldMergeDuplicate() {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Review Bundle")
+            .status(TaskStatus.PENDING)
+            .labels(Set.of("Family"))
+            .dueDate(futureDate)
+            .build();
+        Task existing = Task.builder()
+            .id(8L)
+            .title("Review bundle")
+            .status(TaskStatus.IN_PROGRESS)
+            .labels(new HashSet<>(Set.of("urgent")))
+            .dueDate(futureDate)
+            .build();
+        when(duplicateTaskDetector.findDuplicate(any())).thenReturn(Optional.of(8L));
+        when(duplicateTaskDetector.policy()).thenReturn(DuplicateTaskDetector.Policy.MERGE);
+        when(taskRepository.findById(8L)).thenReturn(Optional.of(existing));
+
+        // When
+        TaskResponse response = taskService.createTask(request);
+
+        // Then
+        assertEquals(8L, response.getId());
+        assertEquals(List.of("family", "urgent"), response.getLabels());
+        verify(taskRepository).save(existing);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.of(
+            8L,
+            new TaskSnapshot(TaskStatus.IN_PROGRESS, futureDate, null, Set.of("urgent")),
+            new TaskSnapshot(TaskStatus.IN_PROGRESS, futureDate, null, Set.of("urgent", "family"))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should refuse a merge that would take the existing task over the label limit")
+    void shouldRejectMergeOverLabelLimit() {
+        // Given
+        Set<String> existingLabels = new HashSet<>();
+        for (int i = 0; i < Task.MAX_LABELS; i++) {
+            existingLabels.add("label-" + i);
+        }
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Review Bundle")
+            .status(TaskStatus.PENDING)
+            .labels(Set.of("family"))
+            .dueDate(futureDate)
+            .build();
+        Task existing = Task.builder()
+            .id(8L)
+            .title("Review bundle")
+            .status(TaskStatus.IN_PROGRESS)
+            .labels(existingLabels)
+            .dueDate(futureDate)
+            .build();
+        when(duplicateTaskDetector.findDuplicate(any())).thenReturn(Optional.of(8L));
+        when(duplicateTaskDetector.policy()).thenReturn(DuplicateTaskDetector.Policy.MERGE);
+        when(taskRepository.findById(8L)).thenReturn(Optional.of(existing));
+
+        // When / Then
+        DuplicateTaskException exception = assertThrows(
+            DuplicateTaskException.class, () -> taskService.createTask(request)
+        );
+        assertEquals(8L, exception.getExistingTaskId());
+        assertEquals(Task.MAX_LABELS, existing.getLabels().size());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should reject the task that won a race caught only by the unique index")
+    void shouldRejectDuplicateCaughtByIndex() {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Review Bundle")
+            .status(TaskStatus.PENDING)
+            .dueDate(futureDate)
+            .build();
+        String fingerprint = TaskFingerprint.of("Review Bundle", null, futureDate);
+        when(duplicateTaskDetector.findDuplicate(fingerprint)).thenReturn(Optional.empty(), Optional.of(8L));
+        when(duplicateTaskDetector.policy()).thenReturn(DuplicateTaskDetector.Policy.REJECT);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("ux_tasks_fingerprint")).when(taskRepository).flush();
+
+        // When / Then
+        DuplicateTaskException exception = assertThrows(
+            DuplicateTaskException.class, () -> taskService.createTask(request)
+        );
+        assertEquals(8L, exception.getExistingTaskId());
+        verify(duplicateTaskDetector).record(fingerprint);
+        verify(transactionManager, times(2)).rollback(any());
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should create the task without a fingerprint after losing a race under the warn policy")
+    void shouldCreateAfterLosingRaceUnderWarnPolicy() {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Review Bundle")
+            .status(TaskStatus.PENDING)
+            .dueDate(futureDate)
+            .build();
+        String fingerprint = TaskFingerprint.of("Review Bundle", null, futureDate);
+        when(duplicateTaskDetector.findDuplicate(fingerprint)).thenReturn(Optional.empty(), Optional.of(8L));
+        when(duplicateTaskDetector.policy()).thenReturn(DuplicateTaskDetector.Policy.WARN);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(9L);
+            return task;
+        });
+        doThrow(new DataIntegrityViolationException("ux_tasks_fingerprint")).doNothing().when(taskRepository).flush();
+
+        // When
+        TaskResponse response = taskService.createTask(request);
+
+        // Then
+        assertEquals(9L, response.getId());
+        ArgumentCaptor<Task> saved = ArgumentCaptor.forClass(Task.class);
+        verify(taskRepository, times(2)).save(saved.capture());
+        assertNull(saved.getAllValues().get(1).getFingerprint());
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should merge into the task that won a race under the merge policy")
+    void shouldMergeAfterLosingRaceUnderMergePolicy() {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Review Bundle")
+            .status(TaskStatus.PENDING)
+            .labels(Set.of("family"))
+            .dueDate(futureDate)
+            .build();
+        Task winner = Task.builder()
+            .id(8L)
+            .title("Review bundle")
+            .status(TaskStatus.PENDING)
+            .labels(new HashSet<>())
+            .dueDate(futureDate)
+            .build();
+        String fingerprint = TaskFingerprint.of("Review Bundle", null, futureDate);
+        when(duplicateTaskDetector.findDuplicate(fingerprint)).thenReturn(Optional.empty(), Optional.of(8L));
+        when(duplicateTaskDetector.policy()).thenReturn(DuplicateTaskDetector.Policy.MERGE);
+        when(taskRepository.findById(8L)).thenReturn(Optional.of(winner));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("ux_tasks_fingerprint")).doNothing().when(taskRepository).flush();
+
+        // When
+        TaskResponse response = taskService.createTask(request);
+
+        // Then
+        assertEquals(8L, response.getId());
+        assertEquals(List.of("family"), response.getLabels());
+        verify(taskRepository).save(winner);
+    }
+
+    @Test
+    @DisplayName("Should report a duplicate when the retry still cannot see the task that won")
+    void shouldRejectWhenRetryLosesAgain() {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Review Bundle")
+            .status(TaskStatus.PENDING)
+            .dueDate(futureDate)
+            .build();
+        String fingerprint = TaskFingerprint.of("Review Bundle", null, futureDate);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("ux_tasks_fingerprint")).when(taskRepository).flush();
+
+        // When / Then
+        DuplicateTaskException exception = assertThrows(
+            DuplicateTaskException.class, () -> taskService.createTask(request)
+        );
+        assertNull(exception.getExistingTaskId());
+        verify(duplicateTaskDetector, times(2)).record(fingerprint);
+    }
+
+    @Test
+    @DisplayName("Should rethrow integrity violations of constraints other than the fingerprint index")
+    void shouldRethrowOtherIntegrityViolations() {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Review Bundle")
+            .status(TaskStatus.PENDING)
+            .dueDate(futureDate)
+            .build();
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("fk_tasks_case_id")).when(taskRepository).flush();
+
+        // When / Then
+        assertThrows(DataIntegrityViolationException.class, () -> taskService.createTask(request));
+        verify(duplicateTaskDetector, never()).record(anyString());
+        verify(eventPublisher, never()).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should get task by id")
+    void shouldGetTaskById() {
+        // Given
+        Task task = Task.builder()
+            .id(5L)
+            .title("Existing Task")
+            .status(TaskStatus.PENDING)
+            .dueDate(futureDate)
+            .build();
+        when(taskRepository.findById(5L)).thenReturn(Optional.of(task));
+
+        // When
+        TaskResponse response = taskService.getTaskById(5L);
+
+        // Then
+        assertEquals(5L, response.getId());
+        assertEquals("Existing Task", response.getTitle());
+    }
+
+    @Test
+    @DisplayName("Should throw TaskNotFoundException for unknown id")
+    void shouldThrowTaskNotFoundExceptionForUnknownId() {
+        // Given
+        when(taskRepository.findById(99L)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        TaskNotFoundException exception = assertThrows(TaskNotFoundException.class, () -> {
+            taskService.getTaskById(99L);
+        });
+        assertEquals(99L, exception.getTaskId());
+    }
+
+    @Test
+    @DisplayName("Should store labels trimmed, lower-cased and de-duplicated")
+    void shouldNormalizeLabels() {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Labelled Task")
+            .status(TaskStatus.PENDING)
+            .labels(Set.of("Urgent", " urgent ", "Jurisdiction:Family"))
+            .dueDate(futureDate)
+            .build();
+        doNothing().when(bankHolidayService).validateNotBankHoliday(futureDate);
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(4L);
+            return task;
+        });
+
+        // When
+        TaskResponse response = taskService.createTask(request);
+
+        // Then
+        assertEquals(List.of("jurisdiction:family", "urgent"), response.getLabels());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.of(
+            4L, null, new TaskSnapshot(TaskStatus.PENDING, futureDate, null, Set.of("urgent", "jurisdiction:family"))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should attach the task to an existing case")
+    void shouldAttachTaskToCase() {
+        // Given
+        CaseFile caseFile = CaseFile.builder().id(12L).caseNumber("ABC12345").title("Smith v Jones").build();
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Case Task")
+            .status(TaskStatus.PENDING)
+            .caseId(12L)
+            .dueDate(futureDate)
+            .build();
+        doNothing().when(bankHolidayService).validateNotBankHoliday(futureDate);
+        when(caseFileRepository.findById(12L)).thenReturn(Optional.of(caseFile));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(5L);
+            return task;
+        });
+
+        // When
+        TaskResponse response = taskService.createTask(request);
+
+        // Then
+        assertEquals(12L, response.getCaseId());
+    }
+
+    @Test
+    @DisplayName("Should reject a task for a case that does not exist")
+    void shouldRejectTaskForUnknownCase() {
+        // Given
+        CreateTaskRequest request = CreateTaskRequest.builder()
+            .title("Case Task")
+            .status(TaskStatus.PENDING)
+            .caseId(99L)
+            .dueDate(futureDate)
+            .build();
+        doNothing().when(bankHolidayService).validateNotBankHoliday(futureDate);
+        when(caseFileRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThrows(CaseNotFoundException.class, () -> taskService.createTask(request));
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the archive for archived tasks")
+    void shouldFallBackToArchiveForArchivedTasks() {
+        // Given
+        ArchivedTask archived = ArchivedTask.builder()
+            .id(7L)
+            .title("Archived Task")
+            .status(TaskStatus.COMPLETED)
+            .labels("jurisdiction:family,urgent")
+            .dueDate(futureDate)
+            .archivedAt(LocalDateTime.now())
+            .build();
+        when(taskRepository.findById(7L)).thenReturn(Optional.empty());
+        when(archivedTaskRepository.findById(7L)).thenReturn(Optional.of(archived));
+
+        // When
+        TaskResponse response = taskService.getTaskById(7L);
+
+        // Then
+        assertEquals(7L, response.getId());
+        assertEquals(TaskStatus.COMPLETED, response.getStatus());
+        assertEquals(List.of("jurisdiction:family", "urgent"), response.getLabels());
+    }
+
+    @Test
+    @DisplayName("Should list tasks by status with a capped page size")
+    void shouldListTasksByStatusWithCappedPageSize() {
+        // Given
+        Task task = Task.builder()
+            .id(6L)
+            .title("Listed Task")
+            .status(TaskStatus.IN_PROGRESS)
+            .dueDate(futureDate)
+            .build();
+        when(taskRepository.findByStatusOrderByDueDateAscIdAsc(
+            TaskStatus.IN_PROGRESS, PageRequest.of(0, TaskService.MAX_PAGE_SIZE)
+        )).thenReturn(List.of(task));
+
+        // When
+        List<TaskResponse> responses = taskService.listTasks(TaskStatus.IN_PROGRESS, 0, 10_000);
+
+        // Then
+        assertEquals(1, responses.size());
+        assertEquals(6L, responses.get(0).getId());
+        verify(taskRepository, never()).findAllByOrderByDueDateAscIdAsc(any());
+    }
+
+    @Test
+    @DisplayName("Should load the indexed page of due tasks in index order")
+    void shouldListTasksDueBetweenInIndexOrder() {
+        // Given
+        LocalDateTime from = futureDate.minusDays(1);
+        LocalDateTime to = futureDate.plusDays(1);
+        Task first = Task.builder().id(9L).title("First").status(TaskStatus.PENDING).dueDate(futureDate).build();
+        Task second = Task.builder().id(4L).title("Second").status(TaskStatus.PENDING).dueDate(futureDate).build();
+        when(dueDateIndex.find(from, to, 1, 3)).thenReturn(List.of(9L, 5L, 4L));
+        when(dueDateIndex.count(from, to)).thenReturn(6L);
+        // Task 5 was closed and archived after the index was read
+        when(taskRepository.findAllWithLabelsByIdIn(List.of(9L, 5L, 4L))).thenReturn(List.of(second, first));
+
+        // When
+        DueTaskPage result = taskService.listTasksDueBetween(from, to, 1, 3);
+
+        // Then
+        assertEquals(6L, result.getTotal());
+        assertEquals(List.of(9L, 4L), result.getTasks().stream().map(TaskResponse::getId).toList());
+        assertEquals(1, result.getPage());
+        assertEquals(3, result.getSize());
+    }
 }
@@ -0,0 +1,199 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskFingerprint;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.TaskTemplate;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.repository.TaskTemplateRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskTemplateMaterializer Unit Tests")
+class TaskTemplateMaterializerTest {
+
+    // Wednesday 1 April 2026 at 09:00
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-04-01T09:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDate TODAY = LocalDate.of(2026, 4, 1);
+    private static final int HORIZON_DAYS = 14;
+    private static final LocalDate HORIZON = TODAY.plusDays(HORIZON_DAYS);
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private TaskTemplateRepository templateRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private BankHolidayService bankHolidayService;
+
+    @Mock
+    private DuplicateTaskDetector duplicateTaskDetector;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskTemplateMaterializer materializer;
+
+    @BeforeEach
+    void setUp() {
+        TaskTemplateService templateService = new TaskTemplateService(templateRepository, bankHolidayService, CLOCK);
+        materializer = new TaskTemplateMaterializer(
+            templateRepository, taskRepository, templateService, duplicateTaskDetector, transactionManager,
+            eventPublisher, CLOCK, HORIZON_DAYS, BATCH_SIZE, Duration.ZERO
+        );
+        lenient().when(transactionManager.getTransaction(any()))
+            .thenAnswer(invocation -> new SimpleTransactionStatus());
+        lenient().when(bankHolidayService.getHolidayIndex()).thenReturn(Map.of());
+        AtomicLong ids = new AtomicLong();
+        lenient().when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = new ArrayList<>(invocation.<List<Task>>getArgument(0));
+            tasks.forEach(task -> task.setId(ids.incrementAndGet()));
+            return tasks;
+        });
+    }
+
+    @Test
+    @DisplayName("Should generate tasks up to the horizon in batches and advance each template")
+    void shouldMaterializeInBatches() {
+        // Given
+        TaskTemplate weekly = template(1L, "FREQ=WEEKLY;BYDAY=MO", TODAY.minusDays(1));
+        TaskTemplate daily = template(2L, "FREQ=DAILY;INTERVAL=7", TODAY.minusDays(1));
+        TaskTemplate ending = template(3L, "FREQ=WEEKLY;BYDAY=TH;UNTIL=20260403", TODAY.minusDays(1));
+        when(templateRepository.findDueForMaterialization(HORIZON, 0L, PageRequest.of(0, BATCH_SIZE)))
+            .thenReturn(List.of(weekly, daily));
+        when(templateRepository.findDueForMaterialization(HORIZON, 2L, PageRequest.of(0, BATCH_SIZE)))
+            .thenReturn(List.of(ending));
+
+        // When
+        int created = materializer.materialize();
+
+        // Then
+        // Mondays 6 and 13 April, Wednesdays 1, 8 and 15 April and Thursday 2 April
+        assertEquals(6, created);
+        assertEquals(HORIZON, weekly.getMaterializedThrough());
+        assertEquals(LocalDate.of(2026, 4, 13), weekly.getLastDueDate());
+        assertEquals(LocalDate.of(2026, 4, 15), daily.getLastDueDate());
+        assertFalse(ending.isActive());
+        ArgumentCaptor<TaskChangedEvent> events = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(5, events.getAllValues().getFirst().changes().size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Should skip occurrences already due and not backfill missed days")
+    void shouldSkipPastOccurrences() {
+        // Given
+        TaskTemplate template = template(1L, "FREQ=DAILY", TODAY.minusDays(30));
+        template.setDueTime(LocalTime.of(8, 0));
+        when(templateRepository.findDueForMaterialization(HORIZON, 0L, PageRequest.of(0, BATCH_SIZE)))
+            .thenReturn(List.of(template));
+
+        // When
+        materializer.materialize();
+
+        // Then
+        ArgumentCaptor<List<Task>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository).saveAll(saved.capture());
+        assertEquals(HORIZON_DAYS, saved.getValue().size());
+        Task first = saved.getValue().getFirst();
+        assertEquals(LocalDateTime.of(2026, 4, 2, 8, 0), first.getDueDate());
+        assertEquals(TaskStatus.PENDING, first.getStatus());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Should not create tasks that duplicate existing tasks or each other")
+    void shouldSkipDuplicates() {
+        // Given
+        TaskTemplate first = template(1L, "FREQ=WEEKLY;BYDAY=MO", TODAY.minusDays(1));
+        TaskTemplate copy = template(2L, "FREQ=WEEKLY;BYDAY=MO", TODAY.minusDays(1));
+        copy.setTitle("  template 1 ");
+        String stored = TaskFingerprint.of("Template 1", null, LocalDateTime.of(2026, 4, 13, 17, 0));
+        when(templateRepository.findDueForMaterialization(HORIZON, 0L, PageRequest.of(0, BATCH_SIZE)))
+            .thenReturn(List.of(first, copy));
+        when(duplicateTaskDetector.findDuplicate(anyString())).thenAnswer(invocation ->
+            stored.equals(invocation.getArgument(0)) ? Optional.of(40L) : Optional.empty());
+        when(duplicateTaskDetector.policy()).thenReturn(DuplicateTaskDetector.Policy.REJECT);
+
+        // When
+        int created = materializer.materialize();
+
+        // Then
+        assertEquals(1, created);
+        ArgumentCaptor<List<Task>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository).saveAll(saved.capture());
+        Task task = saved.getValue().getFirst();
+        assertEquals(LocalDateTime.of(2026, 4, 6, 17, 0), task.getDueDate());
+        assertEquals(TaskFingerprint.of(task), task.getFingerprint());
+        verify(duplicateTaskDetector).record(task.getFingerprint());
+        assertEquals(LocalDate.of(2026, 4, 13), copy.getLastDueDate());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when every template is expanded up to the horizon")
+    void shouldDoNothingWhenUpToDate() {
+        // Given
+        when(templateRepository.findDueForMaterialization(HORIZON, 0L, PageRequest.of(0, BATCH_SIZE)))
+            .thenReturn(List.of());
+
+        // When
+        int created = materializer.materialize();
+
+        // Then
+        assertEquals(0, created);
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    private static TaskTemplate template(Long id, String rule, LocalDate materializedThrough) {
+        return TaskTemplate.builder()
+            .id(id)
+            .title("Template " + id)
+            .recurrenceRule(rule)
+            .startDate(materializedThrough.plusDays(1))
+            .dueTime(LocalTime.of(17, 0))
+            .active(true)
+            .materializedThrough(materializedThrough)
+            .build();
+    }
+}
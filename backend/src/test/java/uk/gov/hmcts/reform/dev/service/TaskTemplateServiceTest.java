@@ -0,0 +1,226 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.dev.dto.BankHolidayResponse;
+import uk.gov.hmcts.reform.dev.dto.CreateTaskTemplateRequest;
+import uk.gov.hmcts.reform.dev.dto.TemplateOccurrence;
+import uk.gov.hmcts.reform.dev.exception.InvalidRecurrenceRuleException;
+import uk.gov.hmcts.reform.dev.exception.TaskTemplateNotFoundException;
+import uk.gov.hmcts.reform.dev.models.TaskTemplate;
+import uk.gov.hmcts.reform.dev.repository.TaskTemplateRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskTemplateService Unit Tests")
+class TaskTemplateServiceTest {
+
+    // Wednesday 1 April 2026; Good Friday is 3 April and Easter Monday 6 April
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-04-01T09:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDate TODAY = LocalDate.of(2026, 4, 1);
+    private static final LocalDate GOOD_FRIDAY = LocalDate.of(2026, 4, 3);
+    private static final LocalDate EASTER_MONDAY = LocalDate.of(2026, 4, 6);
+    private static final LocalTime DUE_TIME = LocalTime.of(17, 0);
+
+    @Mock
+    private TaskTemplateRepository templateRepository;
+
+    @Mock
+    private BankHolidayService bankHolidayService;
+
+    private TaskTemplateService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskTemplateService(templateRepository, bankHolidayService, CLOCK);
+        lenient().when(bankHolidayService.getHolidayIndex()).thenReturn(Map.of(
+            GOOD_FRIDAY, holiday("Good Friday"),
+            EASTER_MONDAY, holiday("Easter Monday")
+        ));
+        lenient().when(bankHolidayService.nextWorkingDay(GOOD_FRIDAY)).thenReturn(LocalDate.of(2026, 4, 7));
+        lenient().when(bankHolidayService.nextWorkingDay(EASTER_MONDAY)).thenReturn(LocalDate.of(2026, 4, 7));
+    }
+
+    @Test
+    @DisplayName("Should create an active template that has not been expanded yet")
+    void shouldCreateTemplate() {
+        // Given
+        CreateTaskTemplateRequest request = CreateTaskTemplateRequest.builder()
+            .title("Weekly review")
+            .recurrenceRule(" FREQ=WEEKLY;BYDAY=MO ")
+            .startDate(TODAY)
+            .dueTime(DUE_TIME)
+            .build();
+        when(templateRepository.save(any(TaskTemplate.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        service.createTemplate(request);
+
+        // Then
+        ArgumentCaptor<TaskTemplate> saved = ArgumentCaptor.forClass(TaskTemplate.class);
+        verify(templateRepository).save(saved.capture());
+        assertTrue(saved.getValue().isActive());
+        assertEquals("FREQ=WEEKLY;BYDAY=MO", saved.getValue().getRecurrenceRule());
+        assertEquals(TODAY.minusDays(1), saved.getValue().getMaterializedThrough());
+    }
+
+    @Test
+    @DisplayName("Should reject a template with an unsupported rule without saving it")
+    void shouldRejectInvalidRule() {
+        // Given
+        CreateTaskTemplateRequest request = CreateTaskTemplateRequest.builder()
+            .title("Yearly audit")
+            .recurrenceRule("FREQ=YEARLY")
+            .startDate(TODAY)
+            .dueTime(DUE_TIME)
+            .build();
+
+        // When & Then
+        assertThrows(InvalidRecurrenceRuleException.class, () -> service.createTemplate(request));
+        verify(templateRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should move bank holiday occurrences to the next working day")
+    void shouldMoveOccurrencesOffBankHolidays() {
+        // Given
+        TaskTemplate template = template("FREQ=WEEKLY;BYDAY=FR");
+
+        // When
+        List<TemplateOccurrence> occurrences = service.expand(template, TODAY, TODAY.plusDays(9), null);
+
+        // Then
+        assertEquals(2, occurrences.size());
+        assertEquals(GOOD_FRIDAY, occurrences.get(0).getRuleDate());
+        assertEquals(LocalDate.of(2026, 4, 7).atTime(DUE_TIME), occurrences.get(0).getDueDate());
+        assertEquals("Good Friday", occurrences.get(0).getMovedFromBankHoliday());
+        assertEquals(LocalDate.of(2026, 4, 10).atTime(DUE_TIME), occurrences.get(1).getDueDate());
+        assertNull(occurrences.get(1).getMovedFromBankHoliday());
+    }
+
+    @Test
+    @DisplayName("Should drop a moved occurrence that lands on a day the rule already falls on")
+    void shouldDropOccurrencesMovedOntoRuleDays() {
+        // Given
+        TaskTemplate template = template("FREQ=DAILY");
+
+        // When
+        List<LocalDate> dueDays = service.expand(template, GOOD_FRIDAY.minusDays(1), LocalDate.of(2026, 4, 8), null)
+            .stream().map(occurrence -> occurrence.getDueDate().toLocalDate()).toList();
+
+        // Then
+        assertEquals(List.of(LocalDate.of(2026, 4, 4), LocalDate.of(2026, 4, 5), LocalDate.of(2026, 4, 7),
+            LocalDate.of(2026, 4, 8)), dueDays);
+    }
+
+    @Test
+    @DisplayName("Should generate one occurrence when two holidays move onto the same day")
+    void shouldMergeOccurrencesMovedOntoTheSameDay() {
+        // Given
+        TaskTemplate template = template("FREQ=WEEKLY;BYDAY=MO,FR");
+
+        // When
+        List<TemplateOccurrence> occurrences = service.expand(template, TODAY, EASTER_MONDAY, null);
+
+        // Then
+        assertEquals(1, occurrences.size());
+        assertEquals(LocalDate.of(2026, 4, 7).atTime(DUE_TIME), occurrences.getFirst().getDueDate());
+    }
+
+    @Test
+    @DisplayName("Should skip occurrences on or before the last generated due date")
+    void shouldSkipAlreadyGeneratedDays() {
+        // Given
+        TaskTemplate template = template("FREQ=DAILY");
+
+        // When
+        List<TemplateOccurrence> occurrences = service.expand(
+            template, EASTER_MONDAY.minusDays(1), LocalDate.of(2026, 4, 8), LocalDate.of(2026, 4, 7)
+        );
+
+        // Then
+        assertEquals(1, occurrences.size());
+        assertEquals(LocalDate.of(2026, 4, 8), occurrences.getFirst().getRuleDate());
+    }
+
+    @Test
+    @DisplayName("Should preview 28 days of occurrences from today by default")
+    void shouldPreviewDefaultRange() {
+        // Given
+        when(templateRepository.findById(1L)).thenReturn(Optional.of(template("FREQ=WEEKLY;BYDAY=WE")));
+
+        // When
+        List<TemplateOccurrence> occurrences = service.previewOccurrences(1L, null, null);
+
+        // Then
+        assertEquals(4, occurrences.size());
+        assertEquals(TODAY, occurrences.getFirst().getRuleDate());
+        assertEquals(LocalDate.of(2026, 4, 22), occurrences.getLast().getRuleDate());
+    }
+
+    @Test
+    @DisplayName("Should deactivate a template")
+    void shouldDeactivateTemplate() {
+        // Given
+        TaskTemplate template = template("FREQ=DAILY");
+        when(templateRepository.findById(1L)).thenReturn(Optional.of(template));
+
+        // When
+        service.deactivateTemplate(1L);
+
+        // Then
+        assertFalse(template.isActive());
+    }
+
+    @Test
+    @DisplayName("Should throw when the template does not exist")
+    void shouldThrowForUnknownTemplate() {
+        // Given
+        when(templateRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(TaskTemplateNotFoundException.class, () -> service.getTemplate(9L));
+    }
+
+    private static TaskTemplate template(String rule) {
+        return TaskTemplate.builder()
+            .id(1L)
+            .title("Recurring review")
+            .recurrenceRule(rule)
+            .startDate(TODAY)
+            .dueTime(DUE_TIME)
+            .active(true)
+            .materializedThrough(TODAY.minusDays(1))
+            .build();
+    }
+
+    private static BankHolidayResponse.Event holiday(String title) {
+        BankHolidayResponse.Event event = new BankHolidayResponse.Event();
+        event.setTitle(title);
+        return event;
+    }
+}
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.dev.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("WorkingDayCalendar Unit Tests")
+class WorkingDayCalendarTest {
+
+    // Good Friday and Easter Monday 2026, plus a Saturday that must be ignored
+    private static final Set<LocalDate> HOLIDAYS = Set.of(
+        LocalDate.of(2026, 4, 3), LocalDate.of(2026, 4, 6), LocalDate.of(2026, 4, 11)
+    );
+
+    private final WorkingDayCalendar calendar = WorkingDayCalendar.of(HOLIDAYS);
+
+    @Test
+    @DisplayName("Should count a Friday to the following Monday as one working day")
+    void shouldSkipWeekend() {
+        // When & Then
+        assertEquals(1, calendar.workingDaysAfter(day(2026, 3, 6), day(2026, 3, 9)));
+        assertEquals(0, calendar.workingDaysAfter(day(2026, 3, 6), day(2026, 3, 8)));
+        assertEquals(0, calendar.workingDaysAfter(day(2026, 3, 9), day(2026, 3, 9)));
+        assertEquals(0, calendar.workingDaysAfter(day(2026, 3, 9), day(2026, 3, 2)));
+    }
+
+    @Test
+    @DisplayName("Should skip bank holidays")
+    void shouldSkipBankHolidays() {
+        // When & Then
+        // Thursday 2 April to Tuesday 7 April 2026 crosses Good Friday, the weekend and Easter Monday
+        assertEquals(1, calendar.workingDaysAfter(day(2026, 4, 2), day(2026, 4, 7)));
+        assertFalse(calendar.isWorkingDay(day(2026, 4, 3)));
+        assertFalse(calendar.isWorkingDay(day(2026, 4, 11)));
+        assertTrue(calendar.isWorkingDay(day(2026, 4, 7)));
+    }
+
+    @Test
+    @DisplayName("Should match a day-by-day count over long and pre-epoch ranges")
+    void shouldMatchDayByDayCount() {
+        // Given
+        List<LocalDate> starts = List.of(
+            LocalDate.of(1969, 12, 20), LocalDate.of(2025, 12, 29), LocalDate.of(2026, 3, 30)
+        );
+        for (LocalDate start : starts) {
+            for (int length = 0; length < 40; length++) {
+                LocalDate end = start.plusDays(length);
+                long expected = start.plusDays(1).datesUntil(end.plusDays(1))
+                    .filter(date -> date.getDayOfWeek() != DayOfWeek.SATURDAY)
+                    .filter(date -> date.getDayOfWeek() != DayOfWeek.SUNDAY)
+                    .filter(date -> !HOLIDAYS.contains(date))
+                    .count();
+
+                // When & Then
+                assertEquals(expected, calendar.workingDaysAfter(start.toEpochDay(), end.toEpochDay()),
+                    start + " to " + end);
+            }
+        }
+    }
+
+    private static long day(int year, int month, int dayOfMonth) {
+        return LocalDate.of(year, month, dayOfMonth).toEpochDay();
+    }
+}
@@ -0,0 +1,154 @@
+package uk.gov.hmcts.reform.dev.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.repository.TaskRepository;
+import uk.gov.hmcts.reform.dev.service.BankHolidayService;
+
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApplicationWarmUp Unit Tests")
+class ApplicationWarmUpTest {
+
+    private static final int ITERATIONS = 5;
+    private static final int POOL_CONNECTIONS = 3;
+
+    @Mock
+    private BankHolidayService bankHolidayService;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ApplicationWarmUp warmUp;
+
+    private WarmUpHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        warmUp = new ApplicationWarmUp(
+            bankHolidayService,
+            taskRepository,
+            dataSource,
+            transactionManager,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            objectMapper,
+            true,
+            ITERATIONS,
+            POOL_CONNECTIONS
+        );
+        healthIndicator = new WarmUpHealthIndicator(warmUp);
+    }
+
+    @Test
+    @DisplayName("Should report DOWN until warm-up has completed")
+    void shouldReportDownUntilWarmUpCompletes() throws Exception {
+        // Given
+        when(bankHolidayService.getHolidayIndex()).thenReturn(Map.of());
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(taskRepository.saveAndFlush(any(Task.class)))
+            .thenAnswer(invocation -> savedCopy(invocation.getArgument(0)));
+
+        // When & Then
+        assertEquals(Status.DOWN, healthIndicator.health().getStatus());
+        warmUp.warmUp();
+        assertEquals(Status.UP, healthIndicator.health().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should preload holidays, prime the pool and roll back every synthetic create")
+    void shouldRunSyntheticIterationsAndRollBack() throws Exception {
+        // Given
+        when(bankHolidayService.getHolidayIndex()).thenReturn(Map.of());
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(taskRepository.saveAndFlush(any(Task.class)))
+            .thenAnswer(invocation -> savedCopy(invocation.getArgument(0)));
+
+        // When
+        warmUp.warmUp();
+
+        // Then
+        verify(bankHolidayService).getHolidayIndex();
+        verify(dataSource, times(POOL_CONNECTIONS)).getConnection();
+        verify(connection, times(POOL_CONNECTIONS)).close();
+        verify(taskRepository, times(ITERATIONS)).saveAndFlush(any(Task.class));
+
+        ArgumentCaptor<TransactionStatus> statuses = ArgumentCaptor.forClass(TransactionStatus.class);
+        verify(transactionManager, times(ITERATIONS)).commit(statuses.capture());
+        statuses.getAllValues().forEach(status -> assertTrue(status.isRollbackOnly()));
+    }
+
+    @Test
+    @DisplayName("Should mark instance ready even when warm-up fails")
+    void shouldCompleteWhenWarmUpFails() {
+        // Given
+        when(bankHolidayService.getHolidayIndex()).thenThrow(new IllegalStateException("boom"));
+
+        // When
+        warmUp.warmUp();
+
+        // Then
+        assertTrue(warmUp.isComplete());
+    }
+
+    @Test
+    @DisplayName("Should be complete immediately when disabled")
+    void shouldBeCompleteWhenDisabled() {
+        // Given
+        ApplicationWarmUp disabled = new ApplicationWarmUp(
+            bankHolidayService, taskRepository, dataSource, transactionManager,
+            Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), false, ITERATIONS, 1
+        );
+        assertFalse(disabled.isComplete());
+
+        // When
+        disabled.onApplicationReady();
+
+        // Then
+        assertTrue(disabled.isComplete());
+    }
+
+    private static Task savedCopy(Task task) {
+        task.setId(1L);
+        task.setCreatedAt(LocalDateTime.now());
+        task.setUpdatedAt(LocalDateTime.now());
+        return task;
+    }
+}
@@ -0,0 +1,48 @@
+package uk.gov.hmcts.reform.dev.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CdsTrainingEnvironmentPostProcessor Unit Tests")
+class CdsTrainingEnvironmentPostProcessorTest {
+
+    private static final String FILE_URL = "jdbc:h2:file:./data/taskdb";
+
+    @Test
+    @DisplayName("Should send a training run's writes to an in-memory database")
+    void shouldUseThrowawayDatabaseWhenTraining() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("tasks.cds.training", "true")
+            .withProperty("spring.datasource.url", FILE_URL)
+            .withProperty("spring.flyway.enabled", "true");
+
+        // When
+        new CdsTrainingEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+
+        // Then
+        assertTrue(environment.getProperty("spring.datasource.url").startsWith("jdbc:h2:mem:"));
+        assertEquals("false", environment.getProperty("spring.flyway.enabled"));
+        assertEquals("create-drop", environment.getProperty("spring.jpa.hibernate.ddl-auto"));
+    }
+
+    @Test
+    @DisplayName("Should leave the environment alone outside a training run")
+    void shouldDoNothingWhenNotTraining() {
+        // Given
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.datasource.url", FILE_URL);
+
+        // When
+        new CdsTrainingEnvironmentPostProcessor().postProcessEnvironment(environment, new SpringApplication());
+
+        // Then
+        assertEquals(FILE_URL, environment.getProperty("spring.datasource.url"));
+        assertFalse(environment.getPropertySources().contains(CdsTrainingEnvironmentPostProcessor.PROPERTY_SOURCE));
+    }
+}